@@ -2,6 +2,7 @@ package io.github.notaphplover.catan.core.agent;
 
 import io.github.notaphplover.catan.core.command.ICommand;
 import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.delta.IGameDelta;
 import io.github.notaphplover.catan.core.request.IRequest;
 import java.util.Collection;
 
@@ -9,6 +10,8 @@ public abstract class Agent implements IAgent {
 
   private ICatanGame innerGame;
 
+  private boolean deltaSynced;
+
   public Agent(ICatanGame innerGame) {
     this.innerGame = innerGame;
   }
@@ -16,7 +19,22 @@ public abstract class Agent implements IAgent {
   @Override
   public void handle(ICommand command) {
 
-    registerPendingRequests(command.getDestinatary().getMissing());
+    if (!deltaSynced) {
+      registerPendingRequests(command.getDestinatary().getMissing());
+    }
+  }
+
+  /**
+   * Applies a delta of the authoritative game to the inner game.
+   *
+   * <p>Once an agent receives deltas, it no longer replays the missing requests of its player. The
+   * agent is expected to be registered as a delta listener of the authoritative game.
+   *
+   * @param delta Delta to apply.
+   */
+  public void sync(IGameDelta delta) {
+    deltaSynced = true;
+    innerGame.sync(delta);
   }
 
   protected ICatanGame getInnerGame() {
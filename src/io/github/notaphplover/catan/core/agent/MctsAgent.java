@@ -0,0 +1,48 @@
+package io.github.notaphplover.catan.core.agent;
+
+import io.github.notaphplover.catan.core.agent.search.IMoveSearch;
+import io.github.notaphplover.catan.core.command.ICommand;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.move.Move;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.IRequest;
+import java.util.function.Consumer;
+
+/**
+ * Agent choosing its moves with a move search, usually a Monte Carlo tree search.
+ *
+ * <p>Like {@link RandomAgent}, it reads the game it plays, so it is intended to run in the game
+ * thread. Every decision blocks that thread for the time budget of the search.
+ */
+public class MctsAgent implements IAgent {
+
+  private ICatanGame game;
+
+  private IPlayer player;
+
+  private Consumer<IRequest> requestSink;
+
+  private IMoveSearch search;
+
+  public MctsAgent(
+      IPlayer player, ICatanGame game, Consumer<IRequest> requestSink, IMoveSearch search) {
+    this.game = game;
+    this.player = player;
+    this.requestSink = requestSink;
+    this.search = search;
+  }
+
+  @Override
+  public void handle(ICommand command) {
+
+    if (!player.equals(command.getDestinatary())) {
+      return;
+    }
+
+    int move = search.search(game, player);
+
+    if (move != IMoveSearch.NO_MOVE) {
+      requestSink.accept(Move.toRequest(player, move));
+    }
+  }
+}
@@ -0,0 +1,88 @@
+package io.github.notaphplover.catan.core.agent;
+
+import io.github.notaphplover.catan.core.command.ICommand;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.move.IMoveBuffer;
+import io.github.notaphplover.catan.core.game.move.Move;
+import io.github.notaphplover.catan.core.game.move.MoveBuffer;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.request.RequestType;
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Agent choosing random legal moves.
+ *
+ * <p>Build moves are preferred over turn moves, so the agent keeps building while it can afford it.
+ * The agent reads the game it plays instead of keeping a replica, so it is intended to run in the
+ * game thread.
+ */
+public class RandomAgent implements IAgent {
+
+  private IMoveBuffer buffer;
+
+  private ICatanGame game;
+
+  private IPlayer player;
+
+  private SplittableRandom random;
+
+  private Consumer<IRequest> requestSink;
+
+  public RandomAgent(IPlayer player, ICatanGame game, Consumer<IRequest> requestSink, long seed) {
+    this.buffer = new MoveBuffer();
+    this.game = game;
+    this.player = player;
+    this.random = new SplittableRandom(seed);
+    this.requestSink = requestSink;
+  }
+
+  @Override
+  public void handle(ICommand command) {
+
+    if (!player.equals(command.getDestinatary())) {
+      return;
+    }
+
+    buffer.clear();
+    game.generateMoves(player, buffer);
+
+    if (buffer.size() == 0) {
+      return;
+    }
+
+    int buildMoves = 0;
+    for (int i = 0; i < buffer.size(); ++i) {
+      if (isBuildMove(buffer.get(i))) {
+        ++buildMoves;
+      }
+    }
+
+    int move;
+
+    if (buildMoves == 0) {
+      move = buffer.get(random.nextInt(buffer.size()));
+    } else {
+      move = getBuildMove(random.nextInt(buildMoves));
+    }
+
+    requestSink.accept(Move.toRequest(player, move));
+  }
+
+  private int getBuildMove(int buildMoveIndex) {
+    for (int i = 0; i < buffer.size(); ++i) {
+      if (isBuildMove(buffer.get(i)) && buildMoveIndex-- == 0) {
+        return buffer.get(i);
+      }
+    }
+
+    throw new IndexOutOfBoundsException(buildMoveIndex);
+  }
+
+  private boolean isBuildMove(int move) {
+    RequestType type = Move.getType(move);
+
+    return type != RequestType.START_TURN && type != RequestType.END_TURN;
+  }
+}
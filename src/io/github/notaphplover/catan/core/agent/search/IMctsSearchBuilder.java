@@ -0,0 +1,34 @@
+package io.github.notaphplover.catan.core.agent.search;
+
+import java.util.concurrent.ForkJoinPool;
+
+public interface IMctsSearchBuilder {
+
+  double getExplorationConstant();
+
+  int getMaxIterations();
+
+  int getMaxRolloutRequests();
+
+  int getParallelism();
+
+  ForkJoinPool getPool();
+
+  long getSeed();
+
+  long getTimeBudgetNanos();
+
+  IMctsSearchBuilder setExplorationConstant(double explorationConstant);
+
+  IMctsSearchBuilder setMaxIterations(int maxIterations);
+
+  IMctsSearchBuilder setMaxRolloutRequests(int maxRolloutRequests);
+
+  IMctsSearchBuilder setParallelism(int parallelism);
+
+  IMctsSearchBuilder setPool(ForkJoinPool pool);
+
+  IMctsSearchBuilder setSeed(long seed);
+
+  IMctsSearchBuilder setTimeBudgetNanos(long timeBudgetNanos);
+}
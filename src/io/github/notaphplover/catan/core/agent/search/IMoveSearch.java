@@ -0,0 +1,22 @@
+package io.github.notaphplover.catan.core.agent.search;
+
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.player.IPlayer;
+
+/** Searches the move a player should perform. */
+public interface IMoveSearch {
+
+  /** Value returned when the player has no legal move. */
+  int NO_MOVE = -1;
+
+  /**
+   * Searches the best move of a player.
+   *
+   * <p>The game provided is not modified.
+   *
+   * @param game Game to search.
+   * @param player Player whose move is searched.
+   * @return Encoded move or {@link #NO_MOVE} if the player has no legal move.
+   */
+  int search(ICatanGame game, IPlayer player);
+}
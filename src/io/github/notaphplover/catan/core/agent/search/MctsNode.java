@@ -0,0 +1,84 @@
+package io.github.notaphplover.catan.core.agent.search;
+
+import java.util.Arrays;
+
+/**
+ * Node of an open loop search tree.
+ *
+ * <p>Nodes represent move sequences instead of game states, since production numbers make the
+ * outcome of a move random. Children are kept sorted by move.
+ */
+class MctsNode {
+
+  private static final int DEFAULT_CAPACITY = 8;
+
+  private int childrenSize;
+
+  private int[] childrenMoves;
+
+  private MctsNode[] children;
+
+  private final int move;
+
+  private final int mover;
+
+  private double reward;
+
+  private int visits;
+
+  MctsNode(int move, int mover) {
+    this.move = move;
+    this.mover = mover;
+
+    childrenSize = 0;
+    childrenMoves = new int[DEFAULT_CAPACITY];
+    children = new MctsNode[DEFAULT_CAPACITY];
+  }
+
+  MctsNode addChild(int move, int mover) {
+    int position = -Arrays.binarySearch(childrenMoves, 0, childrenSize, move) - 1;
+
+    if (childrenSize == children.length) {
+      childrenMoves = Arrays.copyOf(childrenMoves, childrenSize << 1);
+      children = Arrays.copyOf(children, childrenSize << 1);
+    }
+
+    System.arraycopy(childrenMoves, position, childrenMoves, position + 1, childrenSize - position);
+    System.arraycopy(children, position, children, position + 1, childrenSize - position);
+
+    MctsNode child = new MctsNode(move, mover);
+
+    childrenMoves[position] = move;
+    children[position] = child;
+    ++childrenSize;
+
+    return child;
+  }
+
+  MctsNode getChild(int move) {
+    int position = Arrays.binarySearch(childrenMoves, 0, childrenSize, move);
+
+    return position < 0 ? null : children[position];
+  }
+
+  int getMove() {
+    return move;
+  }
+
+  int getMover() {
+    return mover;
+  }
+
+  double getReward() {
+    return reward;
+  }
+
+  int getVisits() {
+    return visits;
+  }
+
+  void update(double reward) {
+    this.reward += reward;
+    ++visits;
+  }
+}
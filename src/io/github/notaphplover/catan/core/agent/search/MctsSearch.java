@@ -0,0 +1,363 @@
+package io.github.notaphplover.catan.core.agent.search;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.UnexpectedException;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.generator.CatanSplittableGenerator;
+import io.github.notaphplover.catan.core.game.move.IMoveBuffer;
+import io.github.notaphplover.catan.core.game.move.Move;
+import io.github.notaphplover.catan.core.game.move.MoveBuffer;
+import io.github.notaphplover.catan.core.hash.ZobristKeys;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.RequestType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Root parallel Monte Carlo tree search.
+ *
+ * <p>Every worker searches its own fork of the game with its own tree, walking it with {@link
+ * ICatanGame#apply(io.github.notaphplover.catan.core.request.IRequest)} and {@link
+ * ICatanGame#undo(int)}. Rollouts choose random legal moves, preferring build moves. Root visits of
+ * every worker are summed and the most visited move is chosen.
+ *
+ * <p>A search instance must not be used by several threads at the same time.
+ */
+public class MctsSearch implements IMoveSearch {
+
+  private static final int NO_TOKEN = -1;
+
+  private double explorationConstant;
+
+  private int lastIterations;
+
+  private int maxIterations;
+
+  private int maxRolloutRequests;
+
+  private int parallelism;
+
+  private ForkJoinPool pool;
+
+  private SplittableRandom random;
+
+  private long timeBudgetNanos;
+
+  public MctsSearch(IMctsSearchBuilder builder) throws NonNullInputException {
+
+    if (builder.getPool() == null) {
+      throw new NonNullInputException();
+    }
+
+    explorationConstant = builder.getExplorationConstant();
+    maxIterations = Math.max(1, builder.getMaxIterations());
+    maxRolloutRequests = Math.max(0, builder.getMaxRolloutRequests());
+    parallelism = Math.max(1, builder.getParallelism());
+    pool = builder.getPool();
+    random = new SplittableRandom(builder.getSeed());
+    timeBudgetNanos = builder.getTimeBudgetNanos();
+  }
+
+  /**
+   * Gets the amount of iterations performed by the last search.
+   *
+   * @return Iterations performed by the last search.
+   */
+  public int getLastIterations() {
+    return lastIterations;
+  }
+
+  @Override
+  public int search(ICatanGame game, IPlayer player) {
+
+    IMoveBuffer rootMoves = new MoveBuffer();
+    game.generateMoves(player, rootMoves);
+
+    lastIterations = 0;
+
+    if (rootMoves.size() == 0) {
+      return NO_MOVE;
+    }
+
+    if (rootMoves.size() == 1) {
+      return rootMoves.get(0);
+    }
+
+    MctsNode[] roots = runWorkers(game, System.nanoTime());
+
+    int bestMove = NO_MOVE;
+    long bestVisits = -1L;
+
+    for (int i = 0; i < rootMoves.size(); ++i) {
+      int move = rootMoves.get(i);
+      long visits = 0L;
+
+      for (MctsNode root : roots) {
+        MctsNode child = root.getChild(move);
+
+        if (child != null) {
+          visits += child.getVisits();
+        }
+      }
+
+      if (visits > bestVisits) {
+        bestMove = move;
+        bestVisits = visits;
+      }
+    }
+
+    for (MctsNode root : roots) {
+      lastIterations += root.getVisits();
+    }
+
+    return bestMove;
+  }
+
+  private int apply(ICatanGame game, IPlayer player, int move, int token) {
+    int moveToken = game.apply(Move.toRequest(player, move));
+
+    return token == NO_TOKEN ? moveToken : token;
+  }
+
+  private int chooseRolloutMove(IMoveBuffer buffer, SplittableRandom random) {
+
+    int buildMoves = 0;
+
+    for (int i = 0; i < buffer.size(); ++i) {
+      if (isBuildMove(buffer.get(i))) {
+        ++buildMoves;
+      }
+    }
+
+    if (buildMoves == 0) {
+      return buffer.get(random.nextInt(buffer.size()));
+    }
+
+    int buildMoveIndex = random.nextInt(buildMoves);
+
+    for (int i = 0; i < buffer.size(); ++i) {
+      if (isBuildMove(buffer.get(i)) && buildMoveIndex-- == 0) {
+        return buffer.get(i);
+      }
+    }
+
+    throw new IndexOutOfBoundsException(buildMoveIndex);
+  }
+
+  private int chooseUntriedMove(MctsNode node, IMoveBuffer buffer, SplittableRandom random) {
+
+    int untriedMoves = 0;
+
+    for (int i = 0; i < buffer.size(); ++i) {
+      if (node.getChild(buffer.get(i)) == null) {
+        ++untriedMoves;
+      }
+    }
+
+    if (untriedMoves == 0) {
+      return NO_MOVE;
+    }
+
+    int untriedMoveIndex = random.nextInt(untriedMoves);
+
+    for (int i = 0; i < buffer.size(); ++i) {
+      if (node.getChild(buffer.get(i)) == null && untriedMoveIndex-- == 0) {
+        return buffer.get(i);
+      }
+    }
+
+    throw new IndexOutOfBoundsException(untriedMoveIndex);
+  }
+
+  private MctsNode chooseVisitedChild(MctsNode node, IMoveBuffer buffer) {
+
+    double logVisits = Math.log(Math.max(1, node.getVisits()));
+
+    MctsNode bestChild = null;
+    double bestValue = Double.NEGATIVE_INFINITY;
+
+    for (int i = 0; i < buffer.size(); ++i) {
+      MctsNode child = node.getChild(buffer.get(i));
+
+      double value =
+          child.getReward() / child.getVisits()
+              + explorationConstant * Math.sqrt(logVisits / child.getVisits());
+
+      if (value > bestValue) {
+        bestChild = child;
+        bestValue = value;
+      }
+    }
+
+    return bestChild;
+  }
+
+  private void computeRewards(ICatanGame game, IPlayer[] players, double[] rewards) {
+
+    if (game.getState() == GameState.ENDED) {
+      IPlayer winner = game.getActivePlayer();
+
+      for (int i = 0; i < players.length; ++i) {
+        rewards[i] = players[i].equals(winner) ? 1d : 0d;
+      }
+
+      return;
+    }
+
+    Map<IPlayer, Integer> points = game.getPoints();
+    double pointsToWin = Math.max(1, game.getPointsToWin());
+
+    for (int i = 0; i < players.length; ++i) {
+      Integer playerPoints = points.get(players[i]);
+
+      rewards[i] = playerPoints == null ? 0d : Math.min(1d, playerPoints / pointsToWin) / 2d;
+    }
+  }
+
+  private int indexOf(IPlayer[] players, IPlayer player) {
+    for (int i = 0; i < players.length; ++i) {
+      if (players[i].equals(player)) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  private boolean isBuildMove(int move) {
+    RequestType type = Move.getType(move);
+
+    return type != RequestType.START_TURN && type != RequestType.END_TURN;
+  }
+
+  private MctsNode runWorker(ICatanGame game, long seed, int iterations, long start) {
+
+    SplittableRandom random = new SplittableRandom(seed);
+    IPlayer[] players = game.getPlayers();
+
+    IMoveBuffer buffer = new MoveBuffer();
+    MctsNode[] path = new MctsNode[16];
+    double[] rewards = new double[players.length];
+
+    MctsNode root = new MctsNode(NO_MOVE, -1);
+
+    for (int iteration = 0;
+        iteration < iterations && System.nanoTime() - start < timeBudgetNanos;
+        ++iteration) {
+
+      MctsNode node = root;
+      int pathSize = 0;
+      int token = NO_TOKEN;
+      boolean expanded = false;
+
+      while (!expanded && game.getState() != GameState.ENDED) {
+        IPlayer activePlayer = game.getActivePlayer();
+
+        buffer.clear();
+        game.generateMoves(activePlayer, buffer);
+
+        if (buffer.size() == 0) {
+          break;
+        }
+
+        int move = chooseUntriedMove(node, buffer, random);
+
+        if (move == NO_MOVE) {
+          node = chooseVisitedChild(node, buffer);
+        } else {
+          node = node.addChild(move, indexOf(players, activePlayer));
+          expanded = true;
+        }
+
+        token = apply(game, activePlayer, node.getMove(), token);
+
+        if (pathSize == path.length) {
+          path = Arrays.copyOf(path, pathSize << 1);
+        }
+
+        path[pathSize++] = node;
+      }
+
+      for (int request = 0;
+          request < maxRolloutRequests && game.getState() != GameState.ENDED;
+          ++request) {
+        IPlayer activePlayer = game.getActivePlayer();
+
+        buffer.clear();
+        game.generateMoves(activePlayer, buffer);
+
+        if (buffer.size() == 0) {
+          break;
+        }
+
+        token = apply(game, activePlayer, chooseRolloutMove(buffer, random), token);
+      }
+
+      computeRewards(game, players, rewards);
+
+      root.update(0d);
+
+      for (int i = 0; i < pathSize; ++i) {
+        int mover = path[i].getMover();
+
+        path[i].update(mover < 0 ? 0d : rewards[mover]);
+      }
+
+      if (token != NO_TOKEN) {
+        game.undo(token);
+      }
+    }
+
+    return root;
+  }
+
+  private MctsNode[] runWorkers(ICatanGame game, long start) {
+
+    List<Callable<MctsNode>> workers = new ArrayList<Callable<MctsNode>>(parallelism);
+
+    for (int i = 0; i < parallelism; ++i) {
+      long workerSeed = random.nextLong();
+      int workerIterations =
+          maxIterations / parallelism + (i < maxIterations % parallelism ? 1 : 0);
+
+      ICatanGame fork =
+          game.fork(
+              (command) -> {},
+              (request) -> {},
+              new CatanSplittableGenerator(ZobristKeys.mix(workerSeed)));
+
+      workers.add(() -> runWorker(fork, workerSeed, workerIterations, start));
+    }
+
+    MctsNode[] roots = new MctsNode[parallelism];
+
+    try {
+      if (parallelism == 1) {
+        roots[0] = workers.get(0).call();
+      } else {
+        List<Future<MctsNode>> results = pool.invokeAll(workers);
+
+        for (int i = 0; i < parallelism; ++i) {
+          roots[i] = results.get(i).get();
+        }
+      }
+    } catch (ExecutionException e) {
+      throw new UnexpectedException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UnexpectedException(e);
+    } catch (Exception e) {
+      throw new UnexpectedException(e);
+    }
+
+    return roots;
+  }
+}
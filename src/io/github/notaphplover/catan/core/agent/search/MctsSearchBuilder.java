@@ -0,0 +1,107 @@
+package io.github.notaphplover.catan.core.agent.search;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class MctsSearchBuilder implements IMctsSearchBuilder {
+
+  private static final double DEFAULT_EXPLORATION_CONSTANT = Math.sqrt(2d);
+
+  private static final int DEFAULT_MAX_ROLLOUT_REQUESTS = 500;
+
+  private static final long DEFAULT_TIME_BUDGET_NANOS = 100000000L;
+
+  private double explorationConstant;
+  private int maxIterations;
+  private int maxRolloutRequests;
+  private int parallelism;
+  private ForkJoinPool pool;
+  private long seed;
+  private long timeBudgetNanos;
+
+  public MctsSearchBuilder() {
+    explorationConstant = DEFAULT_EXPLORATION_CONSTANT;
+    maxIterations = Integer.MAX_VALUE;
+    maxRolloutRequests = DEFAULT_MAX_ROLLOUT_REQUESTS;
+    parallelism = Runtime.getRuntime().availableProcessors();
+    pool = ForkJoinPool.commonPool();
+    seed = 0L;
+    timeBudgetNanos = DEFAULT_TIME_BUDGET_NANOS;
+  }
+
+  @Override
+  public double getExplorationConstant() {
+    return explorationConstant;
+  }
+
+  @Override
+  public IMctsSearchBuilder setExplorationConstant(double explorationConstant) {
+    this.explorationConstant = explorationConstant;
+    return this;
+  }
+
+  @Override
+  public int getMaxIterations() {
+    return maxIterations;
+  }
+
+  @Override
+  public IMctsSearchBuilder setMaxIterations(int maxIterations) {
+    this.maxIterations = maxIterations;
+    return this;
+  }
+
+  @Override
+  public int getMaxRolloutRequests() {
+    return maxRolloutRequests;
+  }
+
+  @Override
+  public IMctsSearchBuilder setMaxRolloutRequests(int maxRolloutRequests) {
+    this.maxRolloutRequests = maxRolloutRequests;
+    return this;
+  }
+
+  @Override
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  @Override
+  public IMctsSearchBuilder setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  @Override
+  public ForkJoinPool getPool() {
+    return pool;
+  }
+
+  @Override
+  public IMctsSearchBuilder setPool(ForkJoinPool pool) {
+    this.pool = pool;
+    return this;
+  }
+
+  @Override
+  public long getSeed() {
+    return seed;
+  }
+
+  @Override
+  public IMctsSearchBuilder setSeed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+  @Override
+  public long getTimeBudgetNanos() {
+    return timeBudgetNanos;
+  }
+
+  @Override
+  public IMctsSearchBuilder setTimeBudgetNanos(long timeBudgetNanos) {
+    this.timeBudgetNanos = timeBudgetNanos;
+    return this;
+  }
+}
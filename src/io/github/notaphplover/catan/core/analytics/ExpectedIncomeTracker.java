@@ -0,0 +1,113 @@
+package io.github.notaphplover.catan.core.analytics;
+
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.production.IBoardProductionListener;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.PlayerSlots;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import java.util.Arrays;
+
+/**
+ * Expected income tracker fed by the production of a board.
+ *
+ * <p>The production table of the board is weighted by the probability distribution of a number
+ * generator. Every build, upgrade or restore of the board updates the expected income of the
+ * affected player, so queries never traverse the production table. Incomes are stored by player
+ * slot.
+ */
+public class ExpectedIncomeTracker implements IBoardProductionListener, IExpectedIncomeTracker {
+
+  private static final double[][] NO_INCOMES = new double[0][];
+
+  private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+  private static final int TOTAL_INDEX = RESOURCE_TYPES.length;
+
+  private ICatanBoard board;
+
+  private double[][] incomes;
+
+  private PlayerSlots players;
+
+  private double[] probabilities;
+
+  public ExpectedIncomeTracker(ICatanBoard board, INumberGenerator numberGenerator)
+      throws NonNullInputException {
+
+    if (board == null || numberGenerator == null) {
+      throw new NonNullInputException();
+    }
+
+    this.board = board;
+
+    incomes = NO_INCOMES;
+    players = new PlayerSlots();
+    probabilities = ProductionProbabilities.build(numberGenerator.getProbabilityDistribution());
+
+    board.addProductionListener(this);
+  }
+
+  @Override
+  public void detach() {
+    board.removeProductionListener(this);
+  }
+
+  @Override
+  public double getExpectedIncome(IPlayer player) {
+    int slot = players.indexOf(player);
+
+    return slot == IPlayer.NO_INDEX ? 0d : incomes[slot][TOTAL_INDEX];
+  }
+
+  @Override
+  public double getExpectedIncome(IPlayer player, ResourceType type) {
+    int slot = players.indexOf(player);
+
+    return slot == IPlayer.NO_INDEX ? 0d : incomes[slot][type.ordinal()];
+  }
+
+  @Override
+  public void onProductionAdded(IPlayer player, int productionNumber, IResourceStorage production) {
+    updateIncome(player, productionNumber, production, 1d);
+  }
+
+  @Override
+  public void onProductionRemoved(
+      IPlayer player, int productionNumber, IResourceStorage production) {
+    updateIncome(player, productionNumber, production, -1d);
+  }
+
+  private void updateIncome(
+      IPlayer player, int productionNumber, IResourceStorage production, double sign) {
+
+    double weight = sign * ProductionProbabilities.get(probabilities, productionNumber);
+
+    if (weight == 0d) {
+      return;
+    }
+
+    int slot = players.claim(player);
+
+    if (slot >= incomes.length) {
+      int oldLength = incomes.length;
+
+      incomes = Arrays.copyOf(incomes, players.size());
+
+      for (int i = oldLength; i < incomes.length; ++i) {
+        incomes[i] = new double[TOTAL_INDEX + 1];
+      }
+    }
+
+    double[] income = incomes[slot];
+
+    for (ResourceType type : RESOURCE_TYPES) {
+      double diff = weight * production.getResource(type);
+
+      income[type.ordinal()] += diff;
+      income[TOTAL_INDEX] += diff;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package io.github.notaphplover.catan.core.analytics;
+
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+
+/** Keeps track of the resources each player is expected to receive per production. */
+public interface IExpectedIncomeTracker {
+
+  /** Stops tracking the board. Expected incomes are no longer updated. */
+  void detach();
+
+  /**
+   * Gets the expected amount of resources of every type a player receives per production.
+   *
+   * @param player Player.
+   * @return Expected income of the player.
+   */
+  double getExpectedIncome(IPlayer player);
+
+  /**
+   * Gets the expected amount of resources of a type a player receives per production.
+   *
+   * @param player Player.
+   * @param type Resource type.
+   * @return Expected income of the player.
+   */
+  double getExpectedIncome(IPlayer player, ResourceType type);
+}
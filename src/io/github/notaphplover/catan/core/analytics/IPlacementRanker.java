@@ -0,0 +1,61 @@
+package io.github.notaphplover.catan.core.analytics;
+
+/**
+ * Ranks the structure points where a settlement can be founded.
+ *
+ * <p>Ranks go from zero, the best available spot, to the amount of available spots minus one.
+ */
+public interface IPlacementRanker {
+
+  /** Stops tracking the board. Available spots are no longer updated. */
+  void detach();
+
+  /**
+   * Gets the amount of spots available to found a settlement.
+   *
+   * @return Amount of available spots.
+   */
+  int getAvailableSpots();
+
+  /**
+   * Gets the score of an available spot.
+   *
+   * @param rank Rank of the spot.
+   * @return Score of the spot.
+   */
+  double getScore(int rank);
+
+  /**
+   * Gets the score of a structure point, whether it is available or not.
+   *
+   * @param x X coordinate of the structure point.
+   * @param y Y coordinate of the structure point.
+   * @return Score of the structure point or zero if a settlement can never be founded on it.
+   */
+  double getScore(int x, int y);
+
+  /**
+   * Gets the X coordinate of an available spot.
+   *
+   * @param rank Rank of the spot.
+   * @return X coordinate of the spot.
+   */
+  int getX(int rank);
+
+  /**
+   * Gets the Y coordinate of an available spot.
+   *
+   * @param rank Rank of the spot.
+   * @return Y coordinate of the spot.
+   */
+  int getY(int rank);
+
+  /**
+   * Determines if a settlement can be founded on a structure point.
+   *
+   * @param x X coordinate of the structure point.
+   * @param y Y coordinate of the structure point.
+   * @return true if the structure point is available.
+   */
+  boolean isAvailable(int x, int y);
+}
@@ -0,0 +1,266 @@
+package io.github.notaphplover.catan.core.analytics;
+
+import io.github.notaphplover.catan.core.board.BoardElementType;
+import io.github.notaphplover.catan.core.board.IBoardListener;
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.board.group.StructureTerrainTypesPair;
+import io.github.notaphplover.catan.core.board.structure.IBoardStructure;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.board.terrain.IBoardTerrain;
+import io.github.notaphplover.catan.core.board.terrain.TerrainType;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import io.github.notaphplover.catan.core.resource.provider.ITerrainProductionProvider;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Placement ranker precomputing the score of every structure point of a board.
+ *
+ * <p>The score of a structure point is the expected amount of resources a settlement on it
+ * produces, plus a bonus of {@link #DIVERSITY_BONUS} per distinct resource type. Terrains never
+ * change, so scores are computed once. Builds and restores of the board only update the
+ * availability of the spots.
+ */
+public class PlacementRanker implements IBoardListener, IPlacementRanker {
+
+  /** Score granted per distinct resource type produced. It is worth one pip of two dice. */
+  public static final double DIVERSITY_BONUS = 1d / 36d;
+
+  private static final int NO_SPOT = -1;
+
+  private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+  private int availableSize;
+
+  private int[] availableSpots;
+
+  private ICatanBoard board;
+
+  private int[] cellSpots;
+
+  private double[] scores;
+
+  private int[] spotsX;
+
+  private int[] spotsY;
+
+  public PlacementRanker(
+      ICatanBoard board,
+      INumberGenerator numberGenerator,
+      ITerrainProductionProvider terrainProductionProvider)
+      throws NonNullInputException {
+
+    if (board == null || numberGenerator == null || terrainProductionProvider == null) {
+      throw new NonNullInputException();
+    }
+
+    this.board = board;
+
+    buildSpots(
+        ProductionProbabilities.build(numberGenerator.getProbabilityDistribution()),
+        terrainProductionProvider);
+
+    board.addListener(this);
+  }
+
+  @Override
+  public void detach() {
+    board.removeListener(this);
+  }
+
+  @Override
+  public int getAvailableSpots() {
+    return availableSize;
+  }
+
+  @Override
+  public double getScore(int rank) {
+    return scores[getSpot(rank)];
+  }
+
+  @Override
+  public double getScore(int x, int y) {
+    int spot = getCellSpot(x, y);
+
+    return spot == NO_SPOT ? 0d : scores[spot];
+  }
+
+  @Override
+  public int getX(int rank) {
+    return spotsX[getSpot(rank)];
+  }
+
+  @Override
+  public int getY(int rank) {
+    return spotsY[getSpot(rank)];
+  }
+
+  @Override
+  public boolean isAvailable(int x, int y) {
+    int spot = getCellSpot(x, y);
+
+    return spot != NO_SPOT && Arrays.binarySearch(availableSpots, 0, availableSize, spot) >= 0;
+  }
+
+  @Override
+  public void onElementReplaced(int x, int y, IBoardElement oldElement, IBoardElement newElement) {
+
+    int spot = getCellSpot(x, y);
+
+    if (spot == NO_SPOT) {
+      return;
+    }
+
+    int position = Arrays.binarySearch(availableSpots, 0, availableSize, spot);
+
+    if (isVoidStructure(newElement)) {
+      if (position < 0) {
+        position = -position - 1;
+        System.arraycopy(
+            availableSpots, position, availableSpots, position + 1, availableSize - position);
+        availableSpots[position] = spot;
+        ++availableSize;
+      }
+    } else if (position >= 0) {
+      System.arraycopy(
+          availableSpots, position + 1, availableSpots, position, availableSize - position - 1);
+      --availableSize;
+    }
+  }
+
+  private void buildSpots(
+      double[] probabilities, ITerrainProductionProvider terrainProductionProvider) {
+
+    int width = board.getWidth();
+    int height = board.getHeight();
+
+    int maxSpots = ((width + 1) / 2) * ((height + 1) / 2);
+
+    Integer[] spotCells = new Integer[maxSpots];
+    double[] cellScores = new double[width * height];
+    int spotsSize = 0;
+
+    for (int x = 0; x < width; x += 2) {
+      for (int y = 0; y < height; y += 2) {
+        if (board.get(x, y).getElementType() == BoardElementType.STRUCTURE
+            && isNonVoidTerrainCloseTo(x, y)) {
+          cellScores[x * height + y] = computeScore(probabilities, terrainProductionProvider, x, y);
+          spotCells[spotsSize++] = x * height + y;
+        }
+      }
+    }
+
+    Arrays.sort(
+        spotCells,
+        0,
+        spotsSize,
+        Comparator.comparingDouble((Integer cell) -> -cellScores[cell])
+            .thenComparingInt(cell -> cell));
+
+    availableSpots = new int[spotsSize];
+    cellSpots = new int[width * height];
+    scores = new double[spotsSize];
+    spotsX = new int[spotsSize];
+    spotsY = new int[spotsSize];
+
+    Arrays.fill(cellSpots, NO_SPOT);
+
+    for (int spot = 0; spot < spotsSize; ++spot) {
+      int cell = spotCells[spot];
+
+      cellSpots[cell] = spot;
+      scores[spot] = cellScores[cell];
+      spotsX[spot] = cell / height;
+      spotsY[spot] = cell % height;
+
+      if (isVoidStructure(board.get(spotsX[spot], spotsY[spot]))) {
+        availableSpots[availableSize++] = spot;
+      }
+    }
+  }
+
+  private double computeScore(
+      double[] probabilities, ITerrainProductionProvider terrainProductionProvider, int x, int y) {
+
+    double[] yields = new double[RESOURCE_TYPES.length];
+
+    addTerrainYield(yields, probabilities, terrainProductionProvider, x - 1, y - 1);
+    addTerrainYield(yields, probabilities, terrainProductionProvider, x + 1, y - 1);
+    addTerrainYield(yields, probabilities, terrainProductionProvider, x - 1, y + 1);
+    addTerrainYield(yields, probabilities, terrainProductionProvider, x + 1, y + 1);
+
+    double score = 0d;
+
+    for (double yield : yields) {
+      if (yield > 0d) {
+        score += yield + DIVERSITY_BONUS;
+      }
+    }
+
+    return score;
+  }
+
+  private void addTerrainYield(
+      double[] yields,
+      double[] probabilities,
+      ITerrainProductionProvider terrainProductionProvider,
+      int x,
+      int y) {
+
+    IBoardTerrain terrain = getTerrain(x, y);
+
+    if (terrain == null) {
+      return;
+    }
+
+    double probability = ProductionProbabilities.get(probabilities, terrain.getProductionNumber());
+
+    IResourceStorage production =
+        terrainProductionProvider.getResourceManager(
+            new StructureTerrainTypesPair(StructureType.SETTLEMENT, terrain.getType()));
+
+    for (ResourceType type : RESOURCE_TYPES) {
+      yields[type.ordinal()] += probability * production.getResource(type);
+    }
+  }
+
+  private int getCellSpot(int x, int y) {
+    return x < 0 || y < 0 || x >= board.getWidth() || y >= board.getHeight()
+        ? NO_SPOT
+        : cellSpots[x * board.getHeight() + y];
+  }
+
+  private int getSpot(int rank) {
+    if (rank < 0 || rank >= availableSize) {
+      throw new IndexOutOfBoundsException(rank);
+    }
+
+    return availableSpots[rank];
+  }
+
+  private IBoardTerrain getTerrain(int x, int y) {
+    if (x < 0 || y < 0 || x >= board.getWidth() || y >= board.getHeight()) {
+      return null;
+    }
+
+    IBoardTerrain terrain = (IBoardTerrain) board.get(x, y);
+
+    return terrain.getType() == TerrainType.NONE ? null : terrain;
+  }
+
+  private boolean isNonVoidTerrainCloseTo(int x, int y) {
+    return getTerrain(x - 1, y - 1) != null
+        || getTerrain(x + 1, y - 1) != null
+        || getTerrain(x - 1, y + 1) != null
+        || getTerrain(x + 1, y + 1) != null;
+  }
+
+  private boolean isVoidStructure(IBoardElement element) {
+    return element.getElementType() == BoardElementType.STRUCTURE
+        && ((IBoardStructure) element).getType() == StructureType.NONE;
+  }
+}
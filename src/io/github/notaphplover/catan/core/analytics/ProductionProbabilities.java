@@ -0,0 +1,42 @@
+package io.github.notaphplover.catan.core.analytics;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+final class ProductionProbabilities {
+
+  private ProductionProbabilities() {}
+
+  /**
+   * Builds a table of probabilities indexed by production number.
+   *
+   * <p>Negative production numbers are ignored.
+   *
+   * @param distribution Discrete probability distribution.
+   * @return Probability of every production number.
+   */
+  static double[] build(Map<Integer, Float> distribution) {
+
+    int maxProductionNumber = -1;
+
+    for (Integer productionNumber : distribution.keySet()) {
+      maxProductionNumber = Math.max(maxProductionNumber, productionNumber);
+    }
+
+    double[] probabilities = new double[maxProductionNumber + 1];
+
+    for (Entry<Integer, Float> entry : distribution.entrySet()) {
+      if (entry.getKey() >= 0) {
+        probabilities[entry.getKey()] = entry.getValue();
+      }
+    }
+
+    return probabilities;
+  }
+
+  static double get(double[] probabilities, int productionNumber) {
+    return productionNumber < 0 || productionNumber >= probabilities.length
+        ? 0d
+        : probabilities[productionNumber];
+  }
+}
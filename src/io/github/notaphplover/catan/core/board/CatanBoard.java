@@ -9,17 +9,23 @@ import io.github.notaphplover.catan.core.board.element.OwnedElement;
 import io.github.notaphplover.catan.core.board.exception.InvalidBoardDimensionsException;
 import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
 import io.github.notaphplover.catan.core.board.production.BoardProductionManager;
+import io.github.notaphplover.catan.core.board.production.IBoardProductionListener;
 import io.github.notaphplover.catan.core.board.production.IBoardProductionManager;
 import io.github.notaphplover.catan.core.board.structure.IBoardStructure;
 import io.github.notaphplover.catan.core.board.structure.StructureType;
 import io.github.notaphplover.catan.core.board.terrain.IBoardTerrain;
 import io.github.notaphplover.catan.core.board.terrain.TerrainType;
+import io.github.notaphplover.catan.core.hash.ZobristKeys;
 import io.github.notaphplover.catan.core.player.IPlayer;
 import io.github.notaphplover.catan.core.resource.production.IResourceProduction;
 import io.github.notaphplover.catan.core.resource.provider.ITerrainProductionProvider;
+import java.util.Arrays;
+import java.util.Objects;
 
 public class CatanBoard implements ICatanBoard {
 
+  private static final IBoardListener[] NO_LISTENERS = new IBoardListener[0];
+
   protected int width;
 
   protected int height;
@@ -28,6 +34,10 @@ public class CatanBoard implements ICatanBoard {
 
   protected IBoardProductionManager productionManager;
 
+  private long hash;
+
+  private IBoardListener[] listeners;
+
   public CatanBoard(
       int width,
       int height,
@@ -39,6 +49,34 @@ public class CatanBoard implements ICatanBoard {
     setElements(elements);
 
     productionManager = new BoardProductionManager(this, terrainProductionProvider);
+    listeners = NO_LISTENERS;
+  }
+
+  public CatanBoard(CatanBoard other) {
+
+    width = other.width;
+    height = other.height;
+    hash = other.hash;
+
+    elements = new IBoardElement[width][];
+
+    for (int i = 0; i < width; ++i) {
+      elements[i] = other.elements[i].clone();
+    }
+
+    productionManager = other.productionManager.copy(this);
+    listeners = NO_LISTENERS;
+  }
+
+  @Override
+  public void addListener(IBoardListener listener) {
+    listeners = Arrays.copyOf(listeners, listeners.length + 1);
+    listeners[listeners.length - 1] = listener;
+  }
+
+  @Override
+  public void addProductionListener(IBoardProductionListener listener) {
+    productionManager.addListener(listener);
   }
 
   @Override
@@ -56,9 +94,21 @@ public class CatanBoard implements ICatanBoard {
       throw new InvalidBoardElementException(element.getElementType());
     }
 
-    this.elements[x][y] = element;
+    replaceElement(element, x, y);
+
+    if (element.getElementType() == BoardElementType.STRUCTURE) {
+      productionManager.syncProductionOnStructureBuilt(x, y);
+    }
+  }
+
+  @Override
+  public ICatanBoard copy() {
+    return new CatanBoard(this);
+  }
 
-    productionManager.syncProductionOnStructureBuilt(x, y);
+  @Override
+  public int countListeners() {
+    return listeners.length + productionManager.countListeners();
   }
 
   @Override
@@ -75,6 +125,11 @@ public class CatanBoard implements ICatanBoard {
     return y % 2 == 0 ? ConnectionDirection.HORIZONTAL : ConnectionDirection.VERTICAL;
   }
 
+  @Override
+  public long getHash() {
+    return hash;
+  }
+
   @Override
   public int getHeight() {
     return height;
@@ -86,6 +141,11 @@ public class CatanBoard implements ICatanBoard {
     return productionManager.getProduction(productionNumber);
   }
 
+  @Override
+  public ITerrainProductionProvider getTerrainProductionProvider() {
+    return productionManager.getTerrainProductionProvider();
+  }
+
   @Override
   public int getWidth() {
     return width;
@@ -115,10 +175,47 @@ public class CatanBoard implements ICatanBoard {
             || (x + 1 < getWidth()
                 && isStructureConnectedCheckConnection(player, (IOwnedElement) get(x + 1, y)))
             || (y > 0 && isStructureConnectedCheckConnection(player, (IOwnedElement) get(x, y - 1)))
-            || (y + 1 > getHeight()
+            || (y + 1 < getHeight()
                 && isStructureConnectedCheckConnection(player, (IOwnedElement) get(x, y + 1))));
   }
 
+  @Override
+  public void removeListener(IBoardListener listener) {
+    for (int i = 0; i < listeners.length; ++i) {
+      if (listeners[i] == listener) {
+        IBoardListener[] newListeners = new IBoardListener[listeners.length - 1];
+        System.arraycopy(listeners, 0, newListeners, 0, i);
+        System.arraycopy(listeners, i + 1, newListeners, i, newListeners.length - i);
+        listeners = newListeners;
+
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void removeProductionListener(IBoardProductionListener listener) {
+    productionManager.removeListener(listener);
+  }
+
+  @Override
+  public void restore(IBoardElement element, int x, int y) throws InvalidBoardElementException {
+
+    if (null == element) {
+      throw new InvalidBoardElementException(null);
+    }
+
+    if (!checkElementType(element.getElementType(), x, y)) {
+      throw new InvalidBoardElementException(element.getElementType());
+    }
+
+    IBoardElement oldElement = replaceElement(element, x, y);
+
+    if (element.getElementType() == BoardElementType.STRUCTURE) {
+      productionManager.syncProductionOnStructureReplaced((IBoardStructure) oldElement, x, y);
+    }
+  }
+
   @Override
   public void upgrade(IBoardElement element, int x, int y) throws InvalidBoardElementException {
 
@@ -134,9 +231,7 @@ public class CatanBoard implements ICatanBoard {
       throw new InvalidBoardElementException(element.getElementType());
     }
 
-    IBoardStructure oldElement = (IBoardStructure) elements[x][y];
-
-    elements[x][y] = element;
+    IBoardStructure oldElement = (IBoardStructure) replaceElement(element, x, y);
 
     productionManager.syncProductionOnStructureUpgrade(oldElement, x, y);
   }
@@ -204,7 +299,8 @@ public class CatanBoard implements ICatanBoard {
         && ((IBoardStructure) oldElement).getType() == StructureType.SETTLEMENT
         && element.getElementType() == BoardElementType.STRUCTURE
         && ((IBoardStructure) element).getType() == StructureType.CITY
-        && ((OwnedElement) oldElement).getOwner() == ((OwnedElement) element).getOwner();
+        && Objects.equals(
+            ((OwnedElement) oldElement).getOwner(), ((OwnedElement) element).getOwner());
   }
 
   private boolean isVerticalConnectionConnected(IPlayer player, int x, int y) {
@@ -226,6 +322,19 @@ public class CatanBoard implements ICatanBoard {
     }
   }
 
+  private IBoardElement replaceElement(IBoardElement element, int x, int y) {
+    IBoardElement oldElement = elements[x][y];
+
+    elements[x][y] = element;
+    hash ^= ZobristKeys.cell(x, y, oldElement) ^ ZobristKeys.cell(x, y, element);
+
+    for (IBoardListener listener : listeners) {
+      listener.onElementReplaced(x, y, oldElement, element);
+    }
+
+    return oldElement;
+  }
+
   private void setDimensions(int width, int height) throws InvalidBoardDimensionsException {
     if (width % 2 == 0 || height % 2 == 0) {
       throw new InvalidBoardDimensionsException();
@@ -242,6 +351,7 @@ public class CatanBoard implements ICatanBoard {
     }
 
     this.elements = new IBoardElement[width][height];
+    this.hash = 0L;
 
     for (int i = 0; i < width; ++i) {
       if (elements[i].length != height) {
@@ -254,6 +364,7 @@ public class CatanBoard implements ICatanBoard {
               null == elements[i][j] ? null : elements[i][j].getElementType());
         }
         this.elements[i][j] = elements[i][j];
+        this.hash ^= ZobristKeys.cell(i, j, elements[i][j]);
       }
     }
   }
@@ -0,0 +1,17 @@
+package io.github.notaphplover.catan.core.board;
+
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+
+/** Listens to changes of the cells of a board. */
+public interface IBoardListener {
+
+  /**
+   * Called once an element of the board is replaced by a build, an upgrade or a restore.
+   *
+   * @param x X coordinate of the element.
+   * @param y Y coordinate of the element.
+   * @param oldElement Element previously placed.
+   * @param newElement Element placed.
+   */
+  void onElementReplaced(int x, int y, IBoardElement oldElement, IBoardElement newElement);
+}
@@ -3,21 +3,71 @@ package io.github.notaphplover.catan.core.board;
 import io.github.notaphplover.catan.core.board.connection.ConnectionDirection;
 import io.github.notaphplover.catan.core.board.element.IBoardElement;
 import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.board.production.IBoardProductionListener;
 import io.github.notaphplover.catan.core.player.IPlayer;
 import io.github.notaphplover.catan.core.resource.production.IResourceProduction;
+import io.github.notaphplover.catan.core.resource.provider.ITerrainProductionProvider;
 
 public interface ICatanBoard {
 
+  /**
+   * Registers a listener of the cells of the board.
+   *
+   * <p>Listeners are not copied by {@link #copy()}.
+   *
+   * @param listener Listener to register.
+   */
+  void addListener(IBoardListener listener);
+
+  /**
+   * Registers a listener of the production of the board.
+   *
+   * <p>Listeners are not copied by {@link #copy()}.
+   *
+   * @param listener Listener to register.
+   */
+  void addProductionListener(IBoardProductionListener listener);
+
   void build(IBoardElement element, int x, int y) throws InvalidBoardElementException;
 
+  /**
+   * Creates an independent copy of the board.
+   *
+   * <p>Board elements are immutable, so they are shared with the copy.
+   *
+   * @return Board copy.
+   */
+  ICatanBoard copy();
+
+  /**
+   * Counts the cell and production listeners registered.
+   *
+   * @return Number of listeners.
+   */
+  int countListeners();
+
   IBoardElement get(int x, int y);
 
   ConnectionDirection getConnectionDirection(int x, int y);
 
+  /**
+   * Gets the Zobrist hash of the board cells.
+   *
+   * @return Hash of the board cells.
+   */
+  long getHash();
+
   int getHeight();
 
   IResourceProduction getProduction(int productionNumber);
 
+  /**
+   * Gets the provider of the production of the terrains of the board.
+   *
+   * @return Terrain production provider.
+   */
+  ITerrainProductionProvider getTerrainProductionProvider();
+
   int getWidth();
 
   /**
@@ -40,5 +90,32 @@ public interface ICatanBoard {
    */
   boolean isStructurePointConnected(IPlayer player, int x, int y);
 
+  /**
+   * Unregisters a listener of the cells of the board.
+   *
+   * @param listener Listener to unregister.
+   */
+  void removeListener(IBoardListener listener);
+
+  /**
+   * Unregisters a listener of the production of the board.
+   *
+   * @param listener Listener to unregister.
+   */
+  void removeProductionListener(IBoardProductionListener listener);
+
+  /**
+   * Replaces an element without any build rule check.
+   *
+   * <p>This is intended to revert previous builds or upgrades. The production of the board is kept
+   * in sync.
+   *
+   * @param element Element to place.
+   * @param x X coordinate of the element.
+   * @param y Y coordinate of the element.
+   * @throws InvalidBoardElementException if the element can not be placed at the coordinates.
+   */
+  void restore(IBoardElement element, int x, int y) throws InvalidBoardElementException;
+
   void upgrade(IBoardElement element, int x, int y) throws InvalidBoardElementException;
 }
@@ -0,0 +1,100 @@
+package io.github.notaphplover.catan.core.board.element;
+
+import io.github.notaphplover.catan.core.board.connection.BoardConnection;
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.connection.IBoardConnection;
+import io.github.notaphplover.catan.core.board.structure.BoardStructure;
+import io.github.notaphplover.catan.core.board.structure.IBoardStructure;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.PlayerSlots;
+import io.github.notaphplover.catan.core.resource.provider.IResourceManagerProvider;
+
+/**
+ * Board element cache of the players of a game.
+ *
+ * <p>Elements are created when the cache is built and stored in arrays indexed by the position of
+ * their owner and the ordinal of their type. The last row holds the elements without owner.
+ */
+public class BoardElementCache implements IBoardElementCache {
+
+  private static final ConnectionType[] CONNECTION_TYPES = ConnectionType.values();
+
+  private static final StructureType[] STRUCTURE_TYPES = StructureType.values();
+
+  private IResourceManagerProvider<ConnectionType> connectionCostProvider;
+
+  private IBoardConnection[][] connections;
+
+  private IPlayer[] players;
+
+  private IResourceManagerProvider<StructureType> structureCostProvider;
+
+  private IBoardStructure[][] structures;
+
+  public BoardElementCache(
+      IPlayer[] players,
+      IResourceManagerProvider<StructureType> structureCostProvider,
+      IResourceManagerProvider<ConnectionType> connectionCostProvider) {
+
+    this.connectionCostProvider = connectionCostProvider;
+    this.players = players.clone();
+    this.structureCostProvider = structureCostProvider;
+
+    connections = new IBoardConnection[players.length + 1][CONNECTION_TYPES.length];
+    structures = new IBoardStructure[players.length + 1][STRUCTURE_TYPES.length];
+
+    for (int i = 0; i <= players.length; ++i) {
+      IPlayer owner = i == players.length ? null : players[i];
+
+      for (ConnectionType type : CONNECTION_TYPES) {
+        connections[i][type.ordinal()] = buildConnection(owner, type);
+      }
+
+      for (StructureType type : STRUCTURE_TYPES) {
+        structures[i][type.ordinal()] = buildStructure(owner, type);
+      }
+    }
+  }
+
+  @Override
+  public IBoardConnection getConnection(IPlayer owner, ConnectionType type) {
+
+    int ownerIndex = getOwnerIndex(owner);
+
+    if (ownerIndex < 0) {
+      return buildConnection(owner, type);
+    }
+
+    return connections[ownerIndex][type.ordinal()];
+  }
+
+  @Override
+  public IBoardStructure getStructure(IPlayer owner, StructureType type) {
+
+    int ownerIndex = getOwnerIndex(owner);
+
+    if (ownerIndex < 0) {
+      return buildStructure(owner, type);
+    }
+
+    return structures[ownerIndex][type.ordinal()];
+  }
+
+  private IBoardConnection buildConnection(IPlayer owner, ConnectionType type) {
+    return new BoardConnection(owner, connectionCostProvider.getResourceManager(type), type);
+  }
+
+  private IBoardStructure buildStructure(IPlayer owner, StructureType type) {
+    return new BoardStructure(owner, structureCostProvider.getResourceManager(type), type);
+  }
+
+  private int getOwnerIndex(IPlayer owner) {
+
+    if (owner == null) {
+      return players.length;
+    }
+
+    return PlayerSlots.indexOf(players, owner);
+  }
+}
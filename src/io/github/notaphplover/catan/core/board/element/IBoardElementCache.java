@@ -0,0 +1,34 @@
+package io.github.notaphplover.catan.core.board.element;
+
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.connection.IBoardConnection;
+import io.github.notaphplover.catan.core.board.structure.IBoardStructure;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.player.IPlayer;
+
+/**
+ * Provides canonical board elements.
+ *
+ * <p>Board elements are immutable, so a single instance per owner and type can be shared by every
+ * cell of a board.
+ */
+public interface IBoardElementCache {
+
+  /**
+   * Gets the connection of an owner and type.
+   *
+   * @param owner Owner of the connection or null for a connection without owner.
+   * @param type Connection type.
+   * @return Canonical connection. A new connection is provided if the owner is unknown.
+   */
+  IBoardConnection getConnection(IPlayer owner, ConnectionType type);
+
+  /**
+   * Gets the structure of an owner and type.
+   *
+   * @param owner Owner of the structure or null for a structure without owner.
+   * @param type Structure type.
+   * @return Canonical structure. A new structure is provided if the owner is unknown.
+   */
+  IBoardStructure getStructure(IPlayer owner, StructureType type);
+}
@@ -9,6 +9,7 @@ import io.github.notaphplover.catan.core.board.structure.IBoardStructure;
 import io.github.notaphplover.catan.core.board.terrain.IBoardTerrain;
 import io.github.notaphplover.catan.core.board.terrain.TerrainType;
 import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.PlayerSlots;
 import io.github.notaphplover.catan.core.resource.IResourceManager;
 import io.github.notaphplover.catan.core.resource.IResourceStorage;
 import io.github.notaphplover.catan.core.resource.ResourceManager;
@@ -16,15 +17,24 @@ import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesE
 import io.github.notaphplover.catan.core.resource.production.IResourceProduction;
 import io.github.notaphplover.catan.core.resource.production.ResourceProduction;
 import io.github.notaphplover.catan.core.resource.provider.ITerrainProductionProvider;
+import java.util.Arrays;
 import java.util.Map.Entry;
 import java.util.TreeMap;
 import java.util.function.BiConsumer;
 
 public class BoardProductionManager implements IBoardProductionManager {
 
+  private static final IBoardProductionListener[] NO_LISTENERS = new IBoardProductionListener[0];
+
+  private static final IResourceManager[] NO_PRODUCTION = new IResourceManager[0];
+
   private ICatanBoard board;
 
-  private TreeMap<Integer, TreeMap<IPlayer, IResourceManager>> productionDictionary;
+  private IBoardProductionListener[] listeners;
+
+  private PlayerSlots owners;
+
+  private TreeMap<Integer, IResourceManager[]> productionDictionary;
 
   private ITerrainProductionProvider terrainProductionProvider;
 
@@ -33,6 +43,58 @@ public class BoardProductionManager implements IBoardProductionManager {
 
     this.board = board;
     this.terrainProductionProvider = terrainProductionProvider;
+
+    listeners = NO_LISTENERS;
+  }
+
+  public BoardProductionManager(BoardProductionManager other, ICatanBoard board) {
+
+    this(board, other.terrainProductionProvider);
+
+    if (other.isInitialized()) {
+      owners = new PlayerSlots(other.owners);
+      productionDictionary = new TreeMap<Integer, IResourceManager[]>();
+
+      for (Entry<Integer, IResourceManager[]> numberEntry : other.productionDictionary.entrySet()) {
+        IResourceManager[] numberProduction = new IResourceManager[numberEntry.getValue().length];
+
+        for (int i = 0; i < numberProduction.length; ++i) {
+          if (numberEntry.getValue()[i] != null) {
+            numberProduction[i] = new ResourceManager(numberEntry.getValue()[i]);
+          }
+        }
+
+        productionDictionary.put(numberEntry.getKey(), numberProduction);
+      }
+    }
+  }
+
+  public void addListener(IBoardProductionListener listener) {
+
+    if (!isInitialized()) {
+      buildProductionDictionary();
+    }
+
+    listeners = Arrays.copyOf(listeners, listeners.length + 1);
+    listeners[listeners.length - 1] = listener;
+
+    for (Entry<Integer, IResourceManager[]> numberEntry : productionDictionary.entrySet()) {
+      IResourceManager[] numberProduction = numberEntry.getValue();
+
+      for (int i = 0; i < numberProduction.length; ++i) {
+        if (numberProduction[i] != null) {
+          listener.onProductionAdded(owners.get(i), numberEntry.getKey(), numberProduction[i]);
+        }
+      }
+    }
+  }
+
+  public IBoardProductionManager copy(ICatanBoard board) {
+    return new BoardProductionManager(this, board);
+  }
+
+  public int countListeners() {
+    return listeners.length;
   }
 
   public IResourceProduction getProduction(int productionNumber) {
@@ -41,14 +103,32 @@ public class BoardProductionManager implements IBoardProductionManager {
       buildProductionDictionary();
     }
 
-    TreeMap<IPlayer, IResourceManager> numberProduction =
-        productionDictionary.get(productionNumber);
+    IResourceManager[] numberProduction = productionDictionary.get(productionNumber);
 
     if (numberProduction == null) {
-      numberProduction = new TreeMap<IPlayer, IResourceManager>();
+      numberProduction = NO_PRODUCTION;
     }
 
-    return new ResourceProduction(productionNumber, numberProduction);
+    return new ResourceProduction(productionNumber, owners.toArray(), numberProduction);
+  }
+
+  public ITerrainProductionProvider getTerrainProductionProvider() {
+    return terrainProductionProvider;
+  }
+
+  public void removeListener(IBoardProductionListener listener) {
+
+    for (int i = 0; i < listeners.length; ++i) {
+      if (listeners[i] == listener) {
+        IBoardProductionListener[] newListeners =
+            new IBoardProductionListener[listeners.length - 1];
+        System.arraycopy(listeners, 0, newListeners, 0, i);
+        System.arraycopy(listeners, i + 1, newListeners, i, newListeners.length - i);
+        listeners = newListeners;
+
+        return;
+      }
+    }
   }
 
   public void syncProductionOnStructureBuilt(int x, int y) throws InvalidBoardElementException {
@@ -67,6 +147,29 @@ public class BoardProductionManager implements IBoardProductionManager {
     addProductionOfPlayer(structure.getOwner(), production);
   }
 
+  public void syncProductionOnStructureReplaced(IBoardStructure oldStructure, int x, int y)
+      throws InvalidBoardElementException {
+
+    if (!isInitialized()) {
+      return;
+    }
+
+    IBoardElement element = board.get(x, y);
+    if (element.getElementType() != BoardElementType.STRUCTURE) {
+      throw new InvalidBoardElementException(element.getElementType());
+    }
+    IBoardStructure structure = (IBoardStructure) element;
+
+    if (structure.getOwner() != null) {
+      addProductionOfPlayer(structure.getOwner(), getProductionOfStructure(structure, x, y));
+    }
+
+    if (oldStructure.getOwner() != null) {
+      removeProductionOfPlayer(
+          oldStructure.getOwner(), getProductionOfStructure(oldStructure, x, y));
+    }
+  }
+
   public void syncProductionOnStructureUpgrade(IBoardStructure oldStructure, int x, int y)
       throws InvalidBoardElementException {
 
@@ -109,10 +212,16 @@ public class BoardProductionManager implements IBoardProductionManager {
       IPlayer player, TreeMap<Integer, IResourceManager> production) {
 
     transformProductionOfPlayer(player, production, (total, diff) -> total.add(diff));
+
+    for (IBoardProductionListener listener : listeners) {
+      for (Entry<Integer, IResourceManager> productionEntry : production.entrySet()) {
+        listener.onProductionAdded(player, productionEntry.getKey(), productionEntry.getValue());
+      }
+    }
   }
 
   private void analyzeStructureProduction(
-      TreeMap<Integer, TreeMap<IPlayer, IResourceManager>> innerMap,
+      TreeMap<Integer, IResourceManager[]> innerMap,
       IBoardTerrain terrain,
       IBoardStructure structure) {
 
@@ -127,7 +236,7 @@ public class BoardProductionManager implements IBoardProductionManager {
   }
 
   private void analyzeTerrainProduction(
-      TreeMap<Integer, TreeMap<IPlayer, IResourceManager>> innerMap, int x, int y) {
+      TreeMap<Integer, IResourceManager[]> innerMap, int x, int y) {
 
     IBoardElement element = board.get(x, y);
 
@@ -148,8 +257,8 @@ public class BoardProductionManager implements IBoardProductionManager {
 
   private void buildProductionDictionary() {
 
-    TreeMap<Integer, TreeMap<IPlayer, IResourceManager>> innerMap =
-        new TreeMap<Integer, TreeMap<IPlayer, IResourceManager>>();
+    TreeMap<Integer, IResourceManager[]> innerMap = new TreeMap<Integer, IResourceManager[]>();
+    owners = new PlayerSlots();
 
     for (int i = 0; i < board.getWidth(); ++i) {
       for (int j = 0; j < board.getHeight(); ++j) {
@@ -207,27 +316,38 @@ public class BoardProductionManager implements IBoardProductionManager {
     return (x > 0 && y + 1 < board.getHeight()) ? (IBoardTerrain) board.get(x - 1, y + 1) : null;
   }
 
-  private void insertProduction(
-      TreeMap<Integer, TreeMap<IPlayer, IResourceManager>> innerMap,
-      int productionNumber,
-      IResourceStorage production,
-      IPlayer player) {
+  private IResourceManager getPlayerProduction(
+      TreeMap<Integer, IResourceManager[]> innerMap, int productionNumber, IPlayer player) {
+
+    int slot = owners.claim(player);
 
-    TreeMap<IPlayer, IResourceManager> productionMap = innerMap.get(productionNumber);
+    IResourceManager[] numberProduction = innerMap.get(productionNumber);
 
-    if (productionMap == null) {
-      productionMap = new TreeMap<IPlayer, IResourceManager>();
-      innerMap.put(productionNumber, productionMap);
+    if (numberProduction == null || numberProduction.length <= slot) {
+      numberProduction =
+          numberProduction == null
+              ? new IResourceManager[owners.size()]
+              : Arrays.copyOf(numberProduction, owners.size());
+      innerMap.put(productionNumber, numberProduction);
     }
 
-    IResourceManager playerProduction = productionMap.get(player);
+    IResourceManager playerProduction = numberProduction[slot];
 
     if (playerProduction == null) {
       playerProduction = new ResourceManager();
-      productionMap.put(player, playerProduction);
+      numberProduction[slot] = playerProduction;
     }
 
-    playerProduction.add(production);
+    return playerProduction;
+  }
+
+  private void insertProduction(
+      TreeMap<Integer, IResourceManager[]> innerMap,
+      int productionNumber,
+      IResourceStorage production,
+      IPlayer player) {
+
+    getPlayerProduction(innerMap, productionNumber, player).add(production);
   }
 
   private boolean isInitialized() {
@@ -247,6 +367,12 @@ public class BoardProductionManager implements IBoardProductionManager {
             e.printStackTrace();
           }
         });
+
+    for (IBoardProductionListener listener : listeners) {
+      for (Entry<Integer, IResourceManager> productionEntry : production.entrySet()) {
+        listener.onProductionRemoved(player, productionEntry.getKey(), productionEntry.getValue());
+      }
+    }
   }
 
   private void transformProductionOfPlayer(
@@ -255,23 +381,10 @@ public class BoardProductionManager implements IBoardProductionManager {
       BiConsumer<IResourceManager, IResourceManager> operation) {
 
     for (Entry<Integer, IResourceManager> productionEntry : production.entrySet()) {
-      int productionNumber = productionEntry.getKey();
-
-      TreeMap<IPlayer, IResourceManager> numberProduction =
-          productionDictionary.get(productionNumber);
-      if (numberProduction == null) {
-        numberProduction = new TreeMap<IPlayer, IResourceManager>();
-        productionDictionary.put(productionNumber, numberProduction);
-      }
-
-      IResourceManager playerProduction = numberProduction.get(player);
-      if (playerProduction == null) {
-        playerProduction = new ResourceManager();
-        numberProduction.put(player, playerProduction);
-      }
+      IResourceManager playerProduction =
+          getPlayerProduction(productionDictionary, productionEntry.getKey(), player);
 
-      IResourceManager productionAtNumber = productionEntry.getValue();
-      operation.accept(playerProduction, productionAtNumber);
+      operation.accept(playerProduction, productionEntry.getValue());
     }
   }
 }
@@ -0,0 +1,26 @@
+package io.github.notaphplover.catan.core.board.production;
+
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+
+/** Listens to changes of the production of a board. */
+public interface IBoardProductionListener {
+
+  /**
+   * Called once a player produces additional resources at a production number.
+   *
+   * @param player Player whose production is increased.
+   * @param productionNumber Production number.
+   * @param production Resources added to the production of the player.
+   */
+  void onProductionAdded(IPlayer player, int productionNumber, IResourceStorage production);
+
+  /**
+   * Called once a player stops producing resources at a production number.
+   *
+   * @param player Player whose production is decreased.
+   * @param productionNumber Production number.
+   * @param production Resources removed from the production of the player.
+   */
+  void onProductionRemoved(IPlayer player, int productionNumber, IResourceStorage production);
+}
@@ -1,15 +1,54 @@
 package io.github.notaphplover.catan.core.board.production;
 
+import io.github.notaphplover.catan.core.board.ICatanBoard;
 import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
 import io.github.notaphplover.catan.core.board.structure.IBoardStructure;
 import io.github.notaphplover.catan.core.resource.production.IResourceProduction;
+import io.github.notaphplover.catan.core.resource.provider.ITerrainProductionProvider;
 
 public interface IBoardProductionManager {
 
+  /**
+   * Registers a production listener.
+   *
+   * <p>The listener is notified of the current production of every player before this method
+   * returns, so it starts in sync with the board.
+   *
+   * @param listener Listener to register.
+   */
+  void addListener(IBoardProductionListener listener);
+
+  /**
+   * Creates an independent copy of the production manager.
+   *
+   * @param board Board the copy is attached to.
+   * @return Production manager copy.
+   */
+  IBoardProductionManager copy(ICatanBoard board);
+
+  /**
+   * Counts the production listeners registered.
+   *
+   * @return Number of listeners.
+   */
+  int countListeners();
+
   IResourceProduction getProduction(int productionNumber);
 
+  ITerrainProductionProvider getTerrainProductionProvider();
+
+  /**
+   * Unregisters a production listener.
+   *
+   * @param listener Listener to unregister.
+   */
+  void removeListener(IBoardProductionListener listener);
+
   void syncProductionOnStructureBuilt(int x, int y) throws InvalidBoardElementException;
 
+  void syncProductionOnStructureReplaced(IBoardStructure oldStructure, int x, int y)
+      throws InvalidBoardElementException;
+
   void syncProductionOnStructureUpgrade(IBoardStructure oldStructure, int x, int y)
       throws InvalidBoardElementException;
 }
@@ -0,0 +1,142 @@
+package io.github.notaphplover.catan.core.collection;
+
+import java.util.Arrays;
+
+/** Open addressing hash map of primitive long keys to primitive int values. */
+public class LongIntHashMap {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private long[] keys;
+
+  private int missingValue;
+
+  private boolean[] occupied;
+
+  private int size;
+
+  private int[] values;
+
+  public LongIntHashMap(int missingValue) {
+    this(missingValue, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a map.
+   *
+   * @param missingValue Value returned for missing keys.
+   * @param expectedSize Number of entries the map holds without growing.
+   */
+  public LongIntHashMap(int missingValue, int expectedSize) {
+    this.missingValue = missingValue;
+
+    int capacity = DEFAULT_CAPACITY;
+    while (capacity < 2 * expectedSize) {
+      capacity <<= 1;
+    }
+
+    allocate(capacity);
+  }
+
+  public LongIntHashMap(LongIntHashMap other) {
+    keys = other.keys.clone();
+    missingValue = other.missingValue;
+    occupied = other.occupied.clone();
+    size = other.size;
+    values = other.values.clone();
+  }
+
+  public void clear() {
+    Arrays.fill(occupied, false);
+    size = 0;
+  }
+
+  public boolean containsKey(long key) {
+    return occupied[findSlot(key)];
+  }
+
+  public int get(long key) {
+    int slot = findSlot(key);
+
+    return occupied[slot] ? values[slot] : missingValue;
+  }
+
+  public int getMissingValue() {
+    return missingValue;
+  }
+
+  /**
+   * Associates a value with a key.
+   *
+   * @param key Key.
+   * @param value Value.
+   * @return Previous value of the key or the missing value if there was none.
+   */
+  public int put(long key, int value) {
+    int slot = findSlot(key);
+
+    if (occupied[slot]) {
+      int previous = values[slot];
+      values[slot] = value;
+
+      return previous;
+    }
+
+    keys[slot] = key;
+    occupied[slot] = true;
+    values[slot] = value;
+
+    if (++size * 2 > keys.length) {
+      grow();
+    }
+
+    return missingValue;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    occupied = new boolean[capacity];
+    values = new int[capacity];
+  }
+
+  private int findSlot(long key) {
+    int mask = keys.length - 1;
+    int slot = mix(key) & mask;
+
+    while (occupied[slot] && keys[slot] != key) {
+      slot = (slot + 1) & mask;
+    }
+
+    return slot;
+  }
+
+  private void grow() {
+    long[] oldKeys = keys;
+    boolean[] oldOccupied = occupied;
+    int[] oldValues = values;
+
+    allocate(oldKeys.length << 1);
+
+    for (int i = 0; i < oldKeys.length; ++i) {
+      if (oldOccupied[i]) {
+        int slot = findSlot(oldKeys[i]);
+
+        keys[slot] = oldKeys[i];
+        occupied[slot] = true;
+        values[slot] = oldValues[i];
+      }
+    }
+  }
+
+  private static int mix(long key) {
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+
+    return (int) key;
+  }
+}
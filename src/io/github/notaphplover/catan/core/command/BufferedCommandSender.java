@@ -0,0 +1,142 @@
+package io.github.notaphplover.catan.core.command;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Command sender queuing commands until it is flushed.
+ *
+ * <p>Plain {@link Command} instances sent twice to the same player in the same batch are coalesced,
+ * keeping the first one. Commands carrying additional data are never coalesced.
+ *
+ * <p>Batches are delivered to the target sender through {@link ICommandSender#sendAll(List)},
+ * either in the flushing thread or in an executor. Batches delivered through an executor keep their
+ * order and are never delivered concurrently, so a slow target does not block the game thread. A
+ * batch whose delivery fails is dropped, and the batches still pending are delivered on the next
+ * flush.
+ *
+ * <p>Commands are delivered after the request that sent them is processed. Games empty the missing
+ * requests of the notified players once their sender is flushed, so batches delivered in the
+ * flushing thread still see them. Agents receiving batches through an executor should keep their
+ * replicas in sync through game deltas instead.
+ */
+public class BufferedCommandSender implements ICommandSender {
+
+  private static final int DEFAULT_CAPACITY = 8;
+
+  private ArrayList<ICommand> batch;
+
+  private AtomicBoolean delivering;
+
+  private Executor executor;
+
+  private Queue<List<ICommand>> pendingBatches;
+
+  private ICommandSender target;
+
+  public BufferedCommandSender(ICommandSender target) throws NonNullInputException {
+    this(target, null);
+  }
+
+  /**
+   * Creates a buffered command sender.
+   *
+   * @param target Sender batches are delivered to.
+   * @param executor Executor delivering batches or null to deliver them in the flushing thread.
+   * @throws NonNullInputException if the target is null.
+   */
+  public BufferedCommandSender(ICommandSender target, Executor executor)
+      throws NonNullInputException {
+
+    if (target == null) {
+      throw new NonNullInputException();
+    }
+
+    this.target = target;
+    this.executor = executor;
+
+    batch = new ArrayList<ICommand>(DEFAULT_CAPACITY);
+    delivering = new AtomicBoolean(false);
+    pendingBatches = new ConcurrentLinkedQueue<List<ICommand>>();
+  }
+
+  @Override
+  public void flush() {
+
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    List<ICommand> commands = batch;
+    batch = new ArrayList<ICommand>(DEFAULT_CAPACITY);
+
+    if (executor == null) {
+      target.sendAll(commands);
+      return;
+    }
+
+    pendingBatches.add(commands);
+
+    if (delivering.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::deliverPendingBatches);
+      } catch (RejectedExecutionException e) {
+        delivering.set(false);
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public void send(ICommand command) {
+
+    if (!isCoalesced(command)) {
+      batch.add(command);
+    }
+  }
+
+  @Override
+  public void sendAll(List<ICommand> commands) {
+    for (ICommand command : commands) {
+      send(command);
+    }
+  }
+
+  private void deliverPendingBatches() {
+
+    do {
+      try {
+        List<ICommand> commands;
+
+        while ((commands = pendingBatches.poll()) != null) {
+          target.sendAll(commands);
+        }
+      } finally {
+        delivering.set(false);
+      }
+    } while (!pendingBatches.isEmpty() && delivering.compareAndSet(false, true));
+  }
+
+  private boolean isCoalesced(ICommand command) {
+
+    if (command.getClass() != Command.class) {
+      return false;
+    }
+
+    for (ICommand queuedCommand : batch) {
+      if (queuedCommand.getClass() == Command.class
+          && queuedCommand.getType() == command.getType()
+          && queuedCommand.getDestinatary().equals(command.getDestinatary())) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
@@ -1,6 +1,27 @@
 package io.github.notaphplover.catan.core.command;
 
+import java.util.List;
+
 public interface ICommandSender {
 
+  /**
+   * Delivers the commands sent but not delivered yet.
+   *
+   * <p>Games flush their command sender once each request is processed. Senders delivering commands
+   * as soon as they are sent do not need to override this method.
+   */
+  default void flush() {}
+
   void send(ICommand command);
+
+  /**
+   * Sends a batch of commands, in order.
+   *
+   * @param commands Commands to send.
+   */
+  default void sendAll(List<ICommand> commands) {
+    for (ICommand command : commands) {
+      send(command);
+    }
+  }
 }
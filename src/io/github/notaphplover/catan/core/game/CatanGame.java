@@ -1,8 +1,19 @@
 package io.github.notaphplover.catan.core.game;
 
 import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.element.BoardElementCache;
+import io.github.notaphplover.catan.core.board.element.IBoardElementCache;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.command.ICommandSender;
 import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.UnexpectedException;
+import io.github.notaphplover.catan.core.game.codec.GameStateCodec;
+import io.github.notaphplover.catan.core.game.codec.IGameStateCodec;
+import io.github.notaphplover.catan.core.game.delta.GameDeltaRecorder;
+import io.github.notaphplover.catan.core.game.delta.IGameDelta;
 import io.github.notaphplover.catan.core.game.exception.InvalidLogException;
+import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
+import io.github.notaphplover.catan.core.game.generator.ISplittableNumberGenerator;
 import io.github.notaphplover.catan.core.game.handler.GameEngineHandlersMap;
 import io.github.notaphplover.catan.core.game.handler.IGameEngineHandlersMap;
 import io.github.notaphplover.catan.core.game.handler.IRequestHandler;
@@ -11,6 +22,8 @@ import io.github.notaphplover.catan.core.game.handler.element.connection.BuildCo
 import io.github.notaphplover.catan.core.game.handler.element.structure.BuildStructureRequestAtFoundationPhaseHandler;
 import io.github.notaphplover.catan.core.game.handler.element.structure.BuildStructureRequestAtNormalPhaseHandler;
 import io.github.notaphplover.catan.core.game.handler.element.structure.UpgradeStructureRequestAtNormalPhaseHandler;
+import io.github.notaphplover.catan.core.game.handler.trade.OrderCancelRequestHandler;
+import io.github.notaphplover.catan.core.game.handler.trade.OrderRequestHandler;
 import io.github.notaphplover.catan.core.game.handler.trade.TradeAgreementRequestHandler;
 import io.github.notaphplover.catan.core.game.handler.trade.TradeConfirmationRequestHandler;
 import io.github.notaphplover.catan.core.game.handler.trade.TradeDiscardRequestHandler;
@@ -21,11 +34,22 @@ import io.github.notaphplover.catan.core.game.hearth.CatanGameHearth;
 import io.github.notaphplover.catan.core.game.hearth.CatanGameHearthBuilder;
 import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
 import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearthBuilder;
+import io.github.notaphplover.catan.core.game.hibernation.IStateArena;
+import io.github.notaphplover.catan.core.game.journal.GameJournal;
+import io.github.notaphplover.catan.core.game.journal.IGameJournal;
 import io.github.notaphplover.catan.core.game.log.IGameLog;
 import io.github.notaphplover.catan.core.game.log.ILogEntry;
+import io.github.notaphplover.catan.core.game.log.LogEntry;
+import io.github.notaphplover.catan.core.game.move.IMoveBuffer;
+import io.github.notaphplover.catan.core.game.move.IMoveGenerator;
+import io.github.notaphplover.catan.core.game.move.MoveGenerator;
+import io.github.notaphplover.catan.core.game.player.PlayerManager;
 import io.github.notaphplover.catan.core.game.point.PointsCalculator;
+import io.github.notaphplover.catan.core.game.trade.ITradeAgreementCollector;
 import io.github.notaphplover.catan.core.game.trade.TradeManager;
+import io.github.notaphplover.catan.core.hash.ZobristKeys;
 import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
 import io.github.notaphplover.catan.core.request.IBuildConnectionRequest;
 import io.github.notaphplover.catan.core.request.IBuildStructureRequest;
 import io.github.notaphplover.catan.core.request.IEndTurnRequest;
@@ -33,28 +57,84 @@ import io.github.notaphplover.catan.core.request.IRequest;
 import io.github.notaphplover.catan.core.request.IStartTurnRequest;
 import io.github.notaphplover.catan.core.request.IUpgradeStructureRequest;
 import io.github.notaphplover.catan.core.request.RequestType;
+import io.github.notaphplover.catan.core.request.trade.IOrderCancelRequest;
+import io.github.notaphplover.catan.core.request.trade.IOrderRequest;
 import io.github.notaphplover.catan.core.request.trade.ITradeAgreementRequest;
 import io.github.notaphplover.catan.core.request.trade.ITradeConfirmationRequest;
 import io.github.notaphplover.catan.core.request.trade.ITradeDiscardRequest;
 import io.github.notaphplover.catan.core.request.trade.ITradeRequest;
-import io.github.notaphplover.catan.core.resource.provider.DefaultConnectionCostProvider;
-import io.github.notaphplover.catan.core.resource.provider.DefaultStructureCostProvider;
+import io.github.notaphplover.catan.core.request.trade.TradeAgreementRequest;
+import io.github.notaphplover.catan.core.resource.provider.ITerrainProductionProvider;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
 public class CatanGame implements ICatanGame {
 
+  private static final IRequestHandler<IBuildConnectionRequest> BUILD_CONNECTION_HANDLER =
+      new BuildConnectionRequestAtNormalPhaseHandler();
+
+  private static final IRequestHandler<IBuildConnectionRequest> BUILD_INITIAL_CONNECTION_HANDLER =
+      new BuildConnectionRequestAtFoundationPhaseHandler();
+
+  private static final IRequestHandler<IBuildStructureRequest> BUILD_INITIAL_STRUCTURE_HANDLER =
+      new BuildStructureRequestAtFoundationPhaseHandler();
+
+  private static final IRequestHandler<IBuildStructureRequest> BUILD_STRUCTURE_HANDLER =
+      new BuildStructureRequestAtNormalPhaseHandler();
+
+  private static final IRequestHandler<IEndTurnRequest> END_TURN_HANDLER =
+      new EndTurnRequestHandler();
+
+  private static final IMoveGenerator MOVE_GENERATOR = new MoveGenerator();
+
+  private static final IRequestHandler<IOrderRequest> ORDER_HANDLER = new OrderRequestHandler();
+
+  private static final IRequestHandler<IOrderCancelRequest> ORDER_CANCEL_HANDLER =
+      new OrderCancelRequestHandler();
+
+  private static final IRequestHandler<IStartTurnRequest> START_TURN_HANDLER =
+      new StartTurnRequestHandler();
+
+  private static final IRequestHandler<ITradeRequest> TRADE_HANDLER = new TradeRequestHandler();
+
+  private static final IRequestHandler<ITradeAgreementRequest> TRADE_AGREEMENT_HANDLER =
+      new TradeAgreementRequestHandler();
+
+  private static final IRequestHandler<ITradeConfirmationRequest> TRADE_CONFIRMATION_HANDLER =
+      new TradeConfirmationRequestHandler();
+
+  private static final IRequestHandler<ITradeDiscardRequest> TRADE_DISCARD_HANDLER =
+      new TradeDiscardRequestHandler();
+
+  private static final IRequestHandler<IUpgradeStructureRequest> UPGRADE_STRUCTURE_HANDLER =
+      new UpgradeStructureRequestAtNormalPhaseHandler();
+
+  private List<Consumer<IGameDelta>> deltaListeners;
+
+  private GameDeltaRecorder deltaRecorder;
+
   private IGameEngineHandlersMap handlersMap;
 
   private ICatanGameHearth hearth;
 
+  private IStateArena hibernationArena;
+
+  private ByteBuffer hibernatedState;
+
+  private IGameJournal journal;
+
+  private ITerrainProductionProvider terrainProductionProvider;
+
   public CatanGame(ICatanGameBuilder builder) throws NonNullInputException, InvalidLogException {
 
     ICatanGameHearthBuilder hearthBuilder =
         new CatanGameHearthBuilder()
             .setBoard(builder.getBoard())
             .setCommandSender(builder.getCommandSender())
-            .setConnectionCostProvider(new DefaultConnectionCostProvider())
+            .setConnectionCostProvider(builder.getConnectionCostProvider())
             .setErrorHandler(builder.getErrorHandler())
             .setGameLog(builder.getGameLog())
             .setNumberGenerator(builder.getNumberGenerator())
@@ -62,16 +142,187 @@ public class CatanGame implements ICatanGame {
             .setPointsCalculator(new PointsCalculator(this))
             .setPointsToWin(builder.getPointsToWin())
             .setState(builder.getState())
-            .setStructureCostProvider(new DefaultStructureCostProvider())
+            .setStructureCostProvider(builder.getStructureCostProvider())
             .setTradeManager(new TradeManager());
 
+    hearthBuilder.setElementCache(buildElementCache(hearthBuilder));
+
     hearth = new CatanGameHearth(hearthBuilder);
 
     checkBoard(hearth.getBoard());
     checkState(hearth.getState());
     checkLog(hearth.getGameLog());
 
-    handlersMap = new GameEngineHandlersMap(generateMap());
+    deltaListeners = new ArrayList<Consumer<IGameDelta>>();
+    handlersMap = generateMap();
+  }
+
+  /**
+   * Creates a game from an encoded state.
+   *
+   * <p>Only the command sender, the cost providers, the error handler, the number generator and the
+   * player manager of the builder are used. Players must be provided in the order used to encode
+   * the state.
+   *
+   * @param builder Builder providing the parts of the game not included in the state.
+   * @param codec Codec used to decode the state.
+   * @param state Encoded state.
+   * @throws NonNullInputException if the player manager is not provided.
+   */
+  public CatanGame(ICatanGameBuilder builder, IGameStateCodec codec, ByteBuffer state)
+      throws NonNullInputException {
+
+    if (builder.getPlayerManager() == null) {
+      throw new NonNullInputException();
+    }
+
+    ICatanGameHearthBuilder hearthBuilder =
+        new CatanGameHearthBuilder()
+            .setCommandSender(builder.getCommandSender())
+            .setConnectionCostProvider(builder.getConnectionCostProvider())
+            .setErrorHandler(builder.getErrorHandler())
+            .setNumberGenerator(builder.getNumberGenerator())
+            .setPlayerManager(builder.getPlayerManager())
+            .setPointsCalculator(new PointsCalculator(this))
+            .setStructureCostProvider(builder.getStructureCostProvider());
+
+    hearthBuilder.setElementCache(buildElementCache(hearthBuilder));
+
+    codec.decode(state, hearthBuilder);
+
+    hearth = new CatanGameHearth(hearthBuilder);
+    deltaListeners = new ArrayList<Consumer<IGameDelta>>();
+    handlersMap = generateMap();
+  }
+
+  private CatanGame(
+      CatanGame other,
+      ICommandSender commandSender,
+      Consumer<IRequest> errorHandler,
+      INumberGenerator numberGenerator) {
+
+    ICatanGameHearth otherHearth = other.hearth;
+    IPlayer[] otherPlayers = otherHearth.getPlayerManager().getPlayers();
+    IPlayer[] players = new IPlayer[otherPlayers.length];
+
+    for (int i = 0; i < otherPlayers.length; ++i) {
+      players[i] = new Player(otherPlayers[i].getId(), otherPlayers[i].getResourceManager());
+    }
+
+    ICatanGameHearthBuilder hearthBuilder =
+        new CatanGameHearthBuilder()
+            .setBoard(otherHearth.getBoard().copy())
+            .setCommandSender(commandSender)
+            .setConnectionCostProvider(otherHearth.getConnectionCostProvider())
+            .setErrorHandler(errorHandler)
+            .setGameLog(otherHearth.getGameLog().copy())
+            .setNumberGenerator(numberGenerator)
+            .setPlayerManager(new PlayerManager(otherHearth.getPlayerManager(), players))
+            .setPointsCalculator(new PointsCalculator(this))
+            .setPointsToWin(otherHearth.getPointsToWin())
+            .setState(otherHearth.getState())
+            .setStructureCostProvider(otherHearth.getStructureCostProvider())
+            .setTradeManager(
+                otherHearth.getTradeManager().copy((player) -> findPlayer(players, player)))
+            .setElementCache(otherHearth.getElementCache());
+
+    hearth = new CatanGameHearth(hearthBuilder);
+    deltaListeners = new ArrayList<Consumer<IGameDelta>>();
+    handlersMap = generateMap();
+  }
+
+  @Override
+  public void addDeltaListener(Consumer<IGameDelta> listener) {
+    wake();
+
+    if (deltaRecorder == null) {
+      deltaRecorder = new GameDeltaRecorder(hearth);
+    }
+
+    deltaListeners.add(listener);
+  }
+
+  @Override
+  public int apply(IRequest request) {
+    wake();
+
+    if (journal == null) {
+      journal = new GameJournal();
+    }
+
+    int token = journal.record(hearth, request);
+
+    hearth.setHeadless(true);
+
+    try {
+      processTurnRequest(request);
+    } finally {
+      hearth.setHeadless(false);
+    }
+
+    return token;
+  }
+
+  @Override
+  public boolean canHibernate() {
+    return hibernatedState == null
+        && hearth.getBoard().countListeners() == (deltaRecorder == null ? 0 : 1)
+        && (journal == null || journal.size() == 0)
+        && hearth.getTradeManager().getAgreementCollector() == null;
+  }
+
+  @Override
+  public void collectAgreements() {
+    wake();
+
+    ITradeAgreementCollector collector = hearth.getTradeManager().getAgreementCollector();
+
+    if (collector != null) {
+      collector.drainTo(
+          (seller, agreement) -> processRequest(new TradeAgreementRequest(seller, agreement)));
+    }
+  }
+
+  @Override
+  public void commit() {
+    if (journal != null) {
+      journal.clear();
+    }
+  }
+
+  @Override
+  public ByteBuffer encode(IGameStateCodec codec) {
+    wake();
+
+    return codec.encode(hearth);
+  }
+
+  @Override
+  public CatanGame fork() {
+    INumberGenerator numberGenerator = hearth.getNumberGenerator();
+
+    if (numberGenerator instanceof ISplittableNumberGenerator) {
+      numberGenerator = ((ISplittableNumberGenerator) numberGenerator).split();
+    }
+
+    return fork((command) -> {}, (request) -> {}, numberGenerator);
+  }
+
+  @Override
+  public CatanGame fork(
+      ICommandSender commandSender,
+      Consumer<IRequest> errorHandler,
+      INumberGenerator numberGenerator) {
+    wake();
+
+    return new CatanGame(this, commandSender, errorHandler, numberGenerator);
+  }
+
+  @Override
+  public void generateMoves(IPlayer player, IMoveBuffer buffer) {
+    wake();
+
+    MOVE_GENERATOR.generate(hearth, player, buffer);
   }
 
   @Override
@@ -79,13 +330,40 @@ public class CatanGame implements ICatanGame {
     return hearth.getPlayerManager().getActivePlayer();
   }
 
+  @Override
+  public ITradeAgreementCollector getAgreementCollector() {
+    wake();
+
+    return hearth.getTradeManager().getAgreementCollector();
+  }
+
   @Override
   public ICatanBoard getBoard() {
+    wake();
+
     return hearth.getBoard();
   }
 
+  @Override
+  public long getHash() {
+    wake();
+
+    long hash =
+        hearth.getBoard().getHash()
+            ^ hearth.getPlayerManager().getHash()
+            ^ ZobristKeys.state(hearth.getState());
+
+    for (IPlayer player : hearth.getPlayerManager().getPlayers()) {
+      hash ^= ZobristKeys.player(player.getId(), player.getResourceManager().getHash());
+    }
+
+    return hash;
+  }
+
   @Override
   public ILogEntry getLog(int turn) {
+    wake();
+
     return hearth.getGameLog().get(turn);
   }
 
@@ -101,6 +379,8 @@ public class CatanGame implements ICatanGame {
 
   @Override
   public Map<IPlayer, Integer> getPoints() {
+    wake();
+
     return hearth.getPointsCalculator().getPoints();
   }
 
@@ -114,6 +394,32 @@ public class CatanGame implements ICatanGame {
     return hearth.getPlayerManager().getTurnNumber();
   }
 
+  @Override
+  public void hibernate(IStateArena arena) {
+
+    if (!canHibernate()) {
+      return;
+    }
+
+    terrainProductionProvider = hearth.getBoard().getTerrainProductionProvider();
+    hibernatedState = arena.store(new GameStateCodec(terrainProductionProvider).encode(hearth));
+    hibernationArena = arena;
+
+    hearth =
+        new CatanGameHearth(
+            buildRetainedHearthBuilder()
+                .setPointsToWin(hearth.getPointsToWin())
+                .setState(hearth.getState()));
+
+    deltaRecorder = null;
+    journal = null;
+  }
+
+  @Override
+  public boolean isHibernated() {
+    return hibernatedState != null;
+  }
+
   @Override
   public boolean isTurnStarted() {
     return hearth.getPlayerManager().isTurnStarted();
@@ -121,7 +427,104 @@ public class CatanGame implements ICatanGame {
 
   @Override
   public void processRequest(IRequest request) {
-    processTurnRequest(request);
+    wake();
+
+    if (deltaListeners.isEmpty()) {
+      processTurnRequest(request);
+    } else {
+      deltaRecorder.begin();
+
+      processTurnRequest(request);
+
+      IGameDelta delta = deltaRecorder.end(request, getHash());
+
+      if (delta != null) {
+        notifyDelta(delta);
+      }
+    }
+
+    hearth.getCommandSender().flush();
+    hearth.getPlayerManager().emptyDeferredMissing();
+  }
+
+  @Override
+  public void removeDeltaListener(Consumer<IGameDelta> listener) {
+    deltaListeners.remove(listener);
+  }
+
+  @Override
+  public void sync(IGameDelta delta) {
+    wake();
+
+    try {
+      for (int i = 0; i < delta.getCellsChanged(); ++i) {
+        hearth.getBoard().restore(delta.getCellElement(i), delta.getCellX(i), delta.getCellY(i));
+      }
+    } catch (InvalidBoardElementException e) {
+      throw new UnexpectedException(e);
+    }
+
+    IPlayer[] players = hearth.getPlayerManager().getPlayers();
+
+    for (int i = 0; i < delta.getResourcesChanged(); ++i) {
+      findPlayer(players, delta.getResourcePlayerId(i))
+          .getResourceManager()
+          .set(delta.getResourceType(i), delta.getResourceValue(i));
+    }
+
+    if (delta.isLogEntryCreated()) {
+      hearth
+          .getGameLog()
+          .set(
+              delta.getLogTurn(),
+              new LogEntry(delta.getProductionNumber(), new ArrayList<IRequest>()));
+    }
+
+    hearth.getGameLog().get(delta.getLogTurn()).add(delta.getRequest());
+    hearth.getPlayerManager().setTurn(delta.getTurnNumber(), delta.isTurnStarted());
+    hearth.setState(delta.getState());
+
+    if (delta.getTradeManager() != null) {
+      hearth
+          .getTradeManager()
+          .restore(delta.getTradeManager().copy((player) -> findPlayer(players, player)));
+    }
+
+    notifyDelta(delta);
+  }
+
+  @Override
+  public void undo(int token) {
+    if (journal == null) {
+      throw new IndexOutOfBoundsException(token);
+    }
+
+    wake();
+    journal.rollback(hearth, token);
+  }
+
+  private static IBoardElementCache buildElementCache(ICatanGameHearthBuilder hearthBuilder) {
+
+    if (hearthBuilder.getPlayerManager() == null) {
+      return null;
+    }
+
+    return new BoardElementCache(
+        hearthBuilder.getPlayerManager().getPlayers(),
+        hearthBuilder.getStructureCostProvider(),
+        hearthBuilder.getConnectionCostProvider());
+  }
+
+  private ICatanGameHearthBuilder buildRetainedHearthBuilder() {
+    return new CatanGameHearthBuilder()
+        .setCommandSender(hearth.getCommandSender())
+        .setConnectionCostProvider(hearth.getConnectionCostProvider())
+        .setElementCache(hearth.getElementCache())
+        .setErrorHandler(hearth.getErrorHandler())
+        .setNumberGenerator(hearth.getNumberGenerator())
+        .setPlayerManager(hearth.getPlayerManager())
+        .setPointsCalculator(hearth.getPointsCalculator())
+        .setStructureCostProvider(hearth.getStructureCostProvider());
   }
 
   private void checkLog(IGameLog log) throws InvalidLogException {
@@ -150,63 +553,76 @@ public class CatanGame implements ICatanGame {
     consumer.accept((T) request);
   }
 
+  private static IPlayer findPlayer(IPlayer[] players, IPlayer player) {
+    for (IPlayer candidate : players) {
+      if (candidate.equals(player)) {
+        return candidate;
+      }
+    }
+
+    return player;
+  }
+
+  private static IPlayer findPlayer(IPlayer[] players, int id) {
+    for (IPlayer candidate : players) {
+      if (candidate.getId() == id) {
+        return candidate;
+      }
+    }
+
+    throw new IllegalArgumentException("Unexpected player " + id);
+  }
+
   private IGameEngineHandlersMap generateMap() {
     IGameEngineHandlersMap map = new GameEngineHandlersMap();
 
-    final IRequestHandler<IBuildConnectionRequest> buildConnectionHandler =
-        new BuildConnectionRequestAtNormalPhaseHandler();
-    final IRequestHandler<IBuildConnectionRequest> buildInitialConnectionHandler =
-        new BuildConnectionRequestAtFoundationPhaseHandler();
-    final IRequestHandler<IBuildStructureRequest> buildInitialStructureHandler =
-        new BuildStructureRequestAtFoundationPhaseHandler();
-    final IRequestHandler<IBuildStructureRequest> buildStructureHandler =
-        new BuildStructureRequestAtNormalPhaseHandler();
-    final IRequestHandler<IEndTurnRequest> endTurnHandler = new EndTurnRequestHandler();
-    final IRequestHandler<IStartTurnRequest> startTurnHandler = new StartTurnRequestHandler();
-    final IRequestHandler<ITradeRequest> tradeHandler = new TradeRequestHandler();
-    final IRequestHandler<ITradeAgreementRequest> tradeAgreementHandler =
-        new TradeAgreementRequestHandler();
-    final IRequestHandler<ITradeConfirmationRequest> tradeConfirmationHandler =
-        new TradeConfirmationRequestHandler();
-    final IRequestHandler<ITradeDiscardRequest> tradeDiscardHandler =
-        new TradeDiscardRequestHandler();
-    final IRequestHandler<IUpgradeStructureRequest> upgradeStructureHandler =
-        new UpgradeStructureRequestAtNormalPhaseHandler();
-
     map.put(
         RequestType.BUILD_CONNECTION,
-        (IBuildConnectionRequest request) -> buildConnectionHandler.handle(hearth, request));
+        (IBuildConnectionRequest request) -> BUILD_CONNECTION_HANDLER.handle(hearth, request));
     map.put(
         RequestType.BUILD_INITIAL_CONNECTION,
-        (IBuildConnectionRequest request) -> buildInitialConnectionHandler.handle(hearth, request));
+        (IBuildConnectionRequest request) ->
+            BUILD_INITIAL_CONNECTION_HANDLER.handle(hearth, request));
     map.put(
         RequestType.BUILD_INITIAL_STRUCTURE,
-        (IBuildStructureRequest request) -> buildInitialStructureHandler.handle(hearth, request));
+        (IBuildStructureRequest request) ->
+            BUILD_INITIAL_STRUCTURE_HANDLER.handle(hearth, request));
     map.put(
         RequestType.BUILD_STRUCTURE,
-        (IBuildStructureRequest request) -> buildStructureHandler.handle(hearth, request));
+        (IBuildStructureRequest request) -> BUILD_STRUCTURE_HANDLER.handle(hearth, request));
+    map.put(
+        RequestType.END_TURN,
+        (IEndTurnRequest request) -> END_TURN_HANDLER.handle(hearth, request));
+    map.put(RequestType.ORDER, (IOrderRequest request) -> ORDER_HANDLER.handle(hearth, request));
     map.put(
-        RequestType.END_TURN, (IEndTurnRequest request) -> endTurnHandler.handle(hearth, request));
+        RequestType.ORDER_CANCEL,
+        (IOrderCancelRequest request) -> ORDER_CANCEL_HANDLER.handle(hearth, request));
     map.put(
         RequestType.START_TURN,
-        (IStartTurnRequest request) -> startTurnHandler.handle(hearth, request));
-    map.put(RequestType.TRADE, (ITradeRequest request) -> tradeHandler.handle(hearth, request));
+        (IStartTurnRequest request) -> START_TURN_HANDLER.handle(hearth, request));
+    map.put(RequestType.TRADE, (ITradeRequest request) -> TRADE_HANDLER.handle(hearth, request));
     map.put(
         RequestType.TRADE_AGREEMENT,
-        (ITradeAgreementRequest request) -> tradeAgreementHandler.handle(hearth, request));
+        (ITradeAgreementRequest request) -> TRADE_AGREEMENT_HANDLER.handle(hearth, request));
     map.put(
         RequestType.TRADE_CONFIRMATION,
-        (ITradeConfirmationRequest request) -> tradeConfirmationHandler.handle(hearth, request));
+        (ITradeConfirmationRequest request) -> TRADE_CONFIRMATION_HANDLER.handle(hearth, request));
     map.put(
         RequestType.TRADE_DISCARD,
-        (ITradeDiscardRequest request) -> tradeDiscardHandler.handle(hearth, request));
+        (ITradeDiscardRequest request) -> TRADE_DISCARD_HANDLER.handle(hearth, request));
     map.put(
         RequestType.UPGRADE_STRUCTURE,
-        (IUpgradeStructureRequest request) -> upgradeStructureHandler.handle(hearth, request));
+        (IUpgradeStructureRequest request) -> UPGRADE_STRUCTURE_HANDLER.handle(hearth, request));
 
     return map;
   }
 
+  private void notifyDelta(IGameDelta delta) {
+    for (Consumer<IGameDelta> listener : deltaListeners) {
+      listener.accept(delta);
+    }
+  }
+
   private void processTurnRequest(IRequest request) {
 
     Consumer<? extends IRequest> consumer = handlersMap.get(request.getType());
@@ -214,4 +630,27 @@ public class CatanGame implements ICatanGame {
       consumeRequest(consumer, request);
     }
   }
+
+  private void wake() {
+
+    if (hibernatedState == null) {
+      return;
+    }
+
+    ICatanGameHearthBuilder hearthBuilder = buildRetainedHearthBuilder();
+
+    new GameStateCodec(terrainProductionProvider)
+        .decode(hibernatedState.duplicate(), hearthBuilder);
+
+    hearth = new CatanGameHearth(hearthBuilder);
+
+    hibernationArena.release(hibernatedState);
+    hibernatedState = null;
+    hibernationArena = null;
+    terrainProductionProvider = null;
+
+    if (!deltaListeners.isEmpty()) {
+      deltaRecorder = new GameDeltaRecorder(hearth);
+    }
+  }
 }
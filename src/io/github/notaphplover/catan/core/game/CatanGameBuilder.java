@@ -1,23 +1,35 @@
 package io.github.notaphplover.catan.core.game;
 
 import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
 import io.github.notaphplover.catan.core.command.ICommandSender;
 import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
 import io.github.notaphplover.catan.core.game.log.IGameLog;
 import io.github.notaphplover.catan.core.game.player.IPlayerManager;
 import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.resource.provider.DefaultConnectionCostProvider;
+import io.github.notaphplover.catan.core.resource.provider.DefaultStructureCostProvider;
+import io.github.notaphplover.catan.core.resource.provider.IResourceManagerProvider;
 import java.util.function.Consumer;
 
 public class CatanGameBuilder implements ICatanGameBuilder {
 
   private ICatanBoard board;
   private ICommandSender commandSender;
+  private IResourceManagerProvider<ConnectionType> connectionCostProvider;
   private Consumer<IRequest> errorHandler;
   private IGameLog gameLog;
   private INumberGenerator numberGenerator;
   private IPlayerManager playerManager;
   private int pointsToWin;
   private GameState state;
+  private IResourceManagerProvider<StructureType> structureCostProvider;
+
+  public CatanGameBuilder() {
+    connectionCostProvider = new DefaultConnectionCostProvider();
+    structureCostProvider = new DefaultStructureCostProvider();
+  }
 
   @Override
   public ICatanBoard getBoard() {
@@ -41,6 +53,18 @@ public class CatanGameBuilder implements ICatanGameBuilder {
     return this;
   }
 
+  @Override
+  public IResourceManagerProvider<ConnectionType> getConnectionCostProvider() {
+    return connectionCostProvider;
+  }
+
+  @Override
+  public ICatanGameBuilder setConnectionCostProvider(
+      IResourceManagerProvider<ConnectionType> connectionCostProvider) {
+    this.connectionCostProvider = connectionCostProvider;
+    return this;
+  }
+
   @Override
   public Consumer<IRequest> getErrorHandler() {
     return errorHandler;
@@ -106,4 +130,16 @@ public class CatanGameBuilder implements ICatanGameBuilder {
     this.state = state;
     return this;
   }
+
+  @Override
+  public IResourceManagerProvider<StructureType> getStructureCostProvider() {
+    return structureCostProvider;
+  }
+
+  @Override
+  public ICatanGameBuilder setStructureCostProvider(
+      IResourceManagerProvider<StructureType> structureCostProvider) {
+    this.structureCostProvider = structureCostProvider;
+    return this;
+  }
 }
@@ -1,17 +1,134 @@
 package io.github.notaphplover.catan.core.game;
 
 import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.command.ICommandSender;
+import io.github.notaphplover.catan.core.game.codec.IGameStateCodec;
+import io.github.notaphplover.catan.core.game.delta.IGameDelta;
+import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
+import io.github.notaphplover.catan.core.game.hibernation.IStateArena;
 import io.github.notaphplover.catan.core.game.log.ILogEntry;
+import io.github.notaphplover.catan.core.game.move.IMoveBuffer;
+import io.github.notaphplover.catan.core.game.trade.ITradeAgreementCollector;
 import io.github.notaphplover.catan.core.player.IPlayer;
 import io.github.notaphplover.catan.core.request.IRequest;
+import java.nio.ByteBuffer;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface ICatanGame {
 
+  /**
+   * Registers a listener of the deltas of the requests accepted by the game.
+   *
+   * <p>Deltas are provided in the game thread once each request is processed. Neither requests
+   * processed by {@link #apply(IRequest)} nor their reversion by {@link #undo(int)} are streamed.
+   *
+   * @param listener Listener to register.
+   */
+  void addDeltaListener(Consumer<IGameDelta> listener);
+
+  /**
+   * Processes a request recording the state required to revert it.
+   *
+   * <p>The request is processed headless: no command is sent, a rejection is not reported to the
+   * error handler and the missing requests of the players are left untouched. It is not streamed to
+   * the delta listeners either, so listeners only match the game again once it is undone.
+   *
+   * @param request Request to process.
+   * @return Token to be provided to {@link #undo(int)}.
+   */
+  int apply(IRequest request);
+
+  /**
+   * Determines if the game can be hibernated.
+   *
+   * <p>Hibernation rebuilds the board, so games whose board is observed by listeners other than the
+   * delta listeners of the game, like analytics trackers, are never hibernated. Neither are games
+   * with outstanding undo tokens or an open agreement collector, since neither the journal nor the
+   * collector would survive hibernation.
+   *
+   * @return True if the game is awake, has no outstanding undo tokens nor open agreement collector
+   *     and its board has no external listeners.
+   */
+  boolean canHibernate();
+
+  /**
+   * Processes the agreements offered to the collector of the current trade as agreement requests,
+   * by arrival. It must be called in the game thread.
+   */
+  void collectAgreements();
+
+  /**
+   * Discards the state recorded by {@link #apply(IRequest)}, keeping the requests applied. Tokens
+   * returned before must not be undone afterwards.
+   */
+  void commit();
+
+  /**
+   * Creates an independent copy of the game.
+   *
+   * <p>The copy does not send commands and ignores rejected requests. If the number generator of
+   * this game is splittable, the copy gets a split of it. Otherwise the generator is shared.
+   *
+   * @return Game copy.
+   */
+  ICatanGame fork();
+
+  /**
+   * Creates an independent copy of the game.
+   *
+   * <p>Immutable parts such as board elements, cost providers and request handlers are shared.
+   *
+   * @param commandSender Command sender of the copy.
+   * @param errorHandler Error handler of the copy.
+   * @param numberGenerator Number generator of the copy.
+   * @return Game copy.
+   */
+  ICatanGame fork(
+      ICommandSender commandSender,
+      Consumer<IRequest> errorHandler,
+      INumberGenerator numberGenerator);
+
+  /**
+   * Encodes the state of the game.
+   *
+   * <p>The resources of the players are not part of the encoded state.
+   *
+   * @param codec Codec used to encode the state.
+   * @return Buffer returned by the codec.
+   */
+  ByteBuffer encode(IGameStateCodec codec);
+
+  /**
+   * Appends the legal moves of a player to a buffer.
+   *
+   * @param player Player whose moves are generated.
+   * @param buffer Buffer to fill.
+   */
+  void generateMoves(IPlayer player, IMoveBuffer buffer);
+
   IPlayer getActivePlayer();
 
+  /**
+   * Gets the intake of agreements of the current trade. Offers may come from any thread, but they
+   * are only processed by {@link #collectAgreements()}.
+   *
+   * @return Agreement collector or null if there is no trade accepting offers.
+   */
+  ITradeAgreementCollector getAgreementCollector();
+
   ICatanBoard getBoard();
 
+  /**
+   * Gets the Zobrist hash of the game state.
+   *
+   * <p>The hash covers board cells, player resources, the active player, the turn started flag and
+   * the game state. Two replicas of the same game must have the same hash.
+   *
+   * @return Hash of the game state.
+   */
+  long getHash();
+
   ILogEntry getLog(int turn);
 
   IPlayer[] getPlayers();
@@ -24,7 +141,48 @@ public interface ICatanGame {
 
   int getTurnNumber();
 
+  /**
+   * Moves the board, the log and the trade state of the game to an arena.
+   *
+   * <p>The game is rehydrated as soon as any of them is accessed again. Players, turn and game
+   * state stay on the heap. Nothing is done if the game {@link #canHibernate() cannot be
+   * hibernated}.
+   *
+   * @param arena Arena to store the game state.
+   */
+  void hibernate(IStateArena arena);
+
+  /**
+   * Determines if the game state is stored in an arena.
+   *
+   * @return True if the game is hibernated.
+   */
+  boolean isHibernated();
+
   boolean isTurnStarted();
 
   void processRequest(IRequest requests);
+
+  /**
+   * Unregisters a listener of the deltas of the requests accepted by the game.
+   *
+   * @param listener Listener to unregister.
+   */
+  void removeDeltaListener(Consumer<IGameDelta> listener);
+
+  /**
+   * Applies a delta of a replica of this game without validating it.
+   *
+   * <p>The delta is streamed to the delta listeners of this game afterwards.
+   *
+   * @param delta Delta to apply.
+   */
+  void sync(IGameDelta delta);
+
+  /**
+   * Reverts every request applied since the one represented by the token, including it.
+   *
+   * @param token Token returned by {@link #apply(IRequest)}.
+   */
+  void undo(int token);
 }
@@ -1,11 +1,14 @@
 package io.github.notaphplover.catan.core.game;
 
 import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
 import io.github.notaphplover.catan.core.command.ICommandSender;
 import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
 import io.github.notaphplover.catan.core.game.log.IGameLog;
 import io.github.notaphplover.catan.core.game.player.IPlayerManager;
 import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.resource.provider.IResourceManagerProvider;
 import java.util.function.Consumer;
 
 public interface ICatanGameBuilder {
@@ -14,6 +17,8 @@ public interface ICatanGameBuilder {
 
   ICommandSender getCommandSender();
 
+  IResourceManagerProvider<ConnectionType> getConnectionCostProvider();
+
   Consumer<IRequest> getErrorHandler();
 
   IGameLog getGameLog();
@@ -26,10 +31,15 @@ public interface ICatanGameBuilder {
 
   GameState getState();
 
+  IResourceManagerProvider<StructureType> getStructureCostProvider();
+
   ICatanGameBuilder setBoard(ICatanBoard board);
 
   ICatanGameBuilder setCommandSender(ICommandSender commandSender);
 
+  ICatanGameBuilder setConnectionCostProvider(
+      IResourceManagerProvider<ConnectionType> connectionCostProvider);
+
   ICatanGameBuilder setErrorHandler(Consumer<IRequest> errorHandler);
 
   ICatanGameBuilder setGameLog(IGameLog gameLog);
@@ -41,4 +51,7 @@ public interface ICatanGameBuilder {
   ICatanGameBuilder setPointsToWin(int pointsToWin);
 
   ICatanGameBuilder setState(GameState state);
+
+  ICatanGameBuilder setStructureCostProvider(
+      IResourceManagerProvider<StructureType> structureCostProvider);
 }
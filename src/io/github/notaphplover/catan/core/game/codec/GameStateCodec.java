@@ -0,0 +1,668 @@
+package io.github.notaphplover.catan.core.game.codec;
+
+import io.github.notaphplover.catan.core.board.BoardElementType;
+import io.github.notaphplover.catan.core.board.CatanBoard;
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.connection.IBoardConnection;
+import io.github.notaphplover.catan.core.board.element.BoardElementCache;
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.board.element.IBoardElementCache;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardDimensionsException;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.board.structure.IBoardStructure;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.board.terrain.BoardTerrain;
+import io.github.notaphplover.catan.core.board.terrain.IBoardTerrain;
+import io.github.notaphplover.catan.core.board.terrain.TerrainType;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.UnexpectedException;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.exception.NoCurrentTradeException;
+import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
+import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearthBuilder;
+import io.github.notaphplover.catan.core.game.log.IGameLog;
+import io.github.notaphplover.catan.core.game.log.ILogEntry;
+import io.github.notaphplover.catan.core.game.log.LinearGameLog;
+import io.github.notaphplover.catan.core.game.log.LogEntry;
+import io.github.notaphplover.catan.core.game.trade.IReference;
+import io.github.notaphplover.catan.core.game.trade.ITrade;
+import io.github.notaphplover.catan.core.game.trade.ITradeAgreement;
+import io.github.notaphplover.catan.core.game.trade.ITradeConfirmation;
+import io.github.notaphplover.catan.core.game.trade.ITradeDiscard;
+import io.github.notaphplover.catan.core.game.trade.ITradeManager;
+import io.github.notaphplover.catan.core.game.trade.Reference;
+import io.github.notaphplover.catan.core.game.trade.Trade;
+import io.github.notaphplover.catan.core.game.trade.TradeAgreement;
+import io.github.notaphplover.catan.core.game.trade.TradeConfirmation;
+import io.github.notaphplover.catan.core.game.trade.TradeDiscard;
+import io.github.notaphplover.catan.core.game.trade.TradeManager;
+import io.github.notaphplover.catan.core.game.trade.order.IOpenOrder;
+import io.github.notaphplover.catan.core.game.trade.order.IOrder;
+import io.github.notaphplover.catan.core.game.trade.order.IOrderBook;
+import io.github.notaphplover.catan.core.game.trade.order.IOrderCancel;
+import io.github.notaphplover.catan.core.game.trade.order.Order;
+import io.github.notaphplover.catan.core.game.trade.order.OrderCancel;
+import io.github.notaphplover.catan.core.game.trade.order.OrderSide;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.AgnosticBuildConnectionRequest;
+import io.github.notaphplover.catan.core.request.AgnosticBuildStructureRequest;
+import io.github.notaphplover.catan.core.request.EndTurnRequest;
+import io.github.notaphplover.catan.core.request.IBuildConnectionRequest;
+import io.github.notaphplover.catan.core.request.IBuildElementRequest;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.request.IStructureRelatedRequest;
+import io.github.notaphplover.catan.core.request.RequestType;
+import io.github.notaphplover.catan.core.request.StartTurnRequest;
+import io.github.notaphplover.catan.core.request.UpgradeStructureRequest;
+import io.github.notaphplover.catan.core.request.trade.IOrderCancelRequest;
+import io.github.notaphplover.catan.core.request.trade.IOrderRequest;
+import io.github.notaphplover.catan.core.request.trade.ITradeAgreementRequest;
+import io.github.notaphplover.catan.core.request.trade.ITradeConfirmationRequest;
+import io.github.notaphplover.catan.core.request.trade.ITradeDiscardRequest;
+import io.github.notaphplover.catan.core.request.trade.ITradeRequest;
+import io.github.notaphplover.catan.core.request.trade.OrderCancelRequest;
+import io.github.notaphplover.catan.core.request.trade.OrderRequest;
+import io.github.notaphplover.catan.core.request.trade.TradeAgreementRequest;
+import io.github.notaphplover.catan.core.request.trade.TradeConfirmationRequest;
+import io.github.notaphplover.catan.core.request.trade.TradeDiscardRequest;
+import io.github.notaphplover.catan.core.request.trade.TradeRequest;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import io.github.notaphplover.catan.core.resource.provider.DefaultTerrainProductionProvider;
+import io.github.notaphplover.catan.core.resource.provider.ITerrainProductionProvider;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Game state codec based on a reusable heap buffer.
+ *
+ * <p>Cells are stored as one byte for the subtype and one byte for either the production number of
+ * terrains or the position of the owner of structures and connections. Element types are implied by
+ * the board layout. Instances are not thread safe.
+ */
+public class GameStateCodec implements IGameStateCodec {
+
+  private static final int DEFAULT_CAPACITY = 1024;
+
+  private static final byte NO_PLAYER = -1;
+
+  private static final ConnectionType[] CONNECTION_TYPES = ConnectionType.values();
+
+  private static final RequestType[] REQUEST_TYPES = RequestType.values();
+
+  private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+  private static final OrderSide[] ORDER_SIDES = OrderSide.values();
+
+  private static final GameState[] STATES = GameState.values();
+
+  private static final StructureType[] STRUCTURE_TYPES = StructureType.values();
+
+  private static final TerrainType[] TERRAIN_TYPES = TerrainType.values();
+
+  private ByteBuffer buffer;
+
+  private ITerrainProductionProvider terrainProductionProvider;
+
+  public GameStateCodec() {
+    this(new DefaultTerrainProductionProvider());
+  }
+
+  /**
+   * Creates a game state codec.
+   *
+   * @param terrainProductionProvider Terrain production provider of the decoded boards.
+   */
+  public GameStateCodec(ITerrainProductionProvider terrainProductionProvider) {
+    this.terrainProductionProvider = terrainProductionProvider;
+
+    buffer = ByteBuffer.allocate(DEFAULT_CAPACITY);
+  }
+
+  @Override
+  public void decode(ByteBuffer state, ICatanGameHearthBuilder builder) {
+
+    IPlayer[] players = builder.getPlayerManager().getPlayers();
+
+    int pointsToWin = state.getInt();
+    GameState gameState = STATES[state.get()];
+    int turnNumber = state.getInt();
+    boolean turnStarted = state.get() != 0;
+
+    builder
+        .setBoard(decodeBoard(state, builder, players))
+        .setGameLog(decodeLog(state, players))
+        .setTradeManager(decodeTradeManager(state, players))
+        .setPointsToWin(pointsToWin)
+        .setState(gameState);
+
+    builder.getPlayerManager().setTurn(turnNumber, turnStarted);
+  }
+
+  @Override
+  public IRequest decodeRequest(ByteBuffer state, IPlayer[] players) {
+    return readRequest(state, players);
+  }
+
+  @Override
+  public ByteBuffer encode(ICatanGameHearth hearth) {
+
+    IPlayer[] players = hearth.getPlayerManager().getPlayers();
+
+    buffer.clear();
+
+    ensureCapacity(10);
+    buffer.putInt(hearth.getPointsToWin());
+    buffer.put((byte) hearth.getState().ordinal());
+    buffer.putInt(hearth.getPlayerManager().getTurnNumber());
+    buffer.put((byte) (hearth.getPlayerManager().isTurnStarted() ? 1 : 0));
+
+    encodeBoard(hearth.getBoard(), players);
+    encodeLog(hearth.getGameLog(), players);
+    encodeTradeManager(hearth.getTradeManager(), players);
+
+    buffer.flip();
+
+    return buffer;
+  }
+
+  @Override
+  public ByteBuffer encodeRequest(IRequest request, IPlayer[] players) {
+
+    buffer.clear();
+
+    putRequest(request, players);
+
+    buffer.flip();
+
+    return buffer;
+  }
+
+  private ICatanBoard decodeBoard(
+      ByteBuffer state, ICatanGameHearthBuilder builder, IPlayer[] players) {
+
+    int width = state.getShort();
+    int height = state.getShort();
+
+    IBoardElementCache elementCache = builder.getElementCache();
+
+    if (elementCache == null) {
+      elementCache =
+          new BoardElementCache(
+              players, builder.getStructureCostProvider(), builder.getConnectionCostProvider());
+    }
+
+    IBoardElement[][] elements = new IBoardElement[width][height];
+
+    for (int x = 0; x < width; ++x) {
+      for (int y = 0; y < height; ++y) {
+        int subtype = state.get();
+        int value = state.get();
+
+        if (1 == (x + y) % 2) {
+          elements[x][y] =
+              elementCache.getConnection(getPlayer(players, value), CONNECTION_TYPES[subtype]);
+        } else if (x % 2 == 0) {
+          elements[x][y] =
+              elementCache.getStructure(getPlayer(players, value), STRUCTURE_TYPES[subtype]);
+        } else {
+          elements[x][y] = new BoardTerrain(value, TERRAIN_TYPES[subtype]);
+        }
+      }
+    }
+
+    try {
+      return new CatanBoard(width, height, elements, terrainProductionProvider);
+    } catch (InvalidBoardDimensionsException | InvalidBoardElementException e) {
+      throw new UnexpectedException(e);
+    }
+  }
+
+  private IGameLog decodeLog(ByteBuffer state, IPlayer[] players) {
+
+    int entries = state.getInt();
+    List<ILogEntry> logEntries = new ArrayList<ILogEntry>(entries);
+
+    for (int i = 0; i < entries; ++i) {
+      int productionNumber = state.getInt();
+      int requests = state.getInt();
+      List<IRequest> entryRequests = new ArrayList<IRequest>(requests);
+
+      for (int j = 0; j < requests; ++j) {
+        entryRequests.add(readRequest(state, players));
+      }
+
+      logEntries.add(new LogEntry(productionNumber, entryRequests));
+    }
+
+    try {
+      return new LinearGameLog(logEntries);
+    } catch (NonNullInputException e) {
+      throw new UnexpectedException(e);
+    }
+  }
+
+  private static UUID decodeId(ByteBuffer state) {
+    return new UUID(state.getLong(), state.getLong());
+  }
+
+  private static IOrder decodeOrder(ByteBuffer state) {
+
+    if (state.get() == 0) {
+      return null;
+    }
+
+    return new Order(
+        decodeId(state),
+        ORDER_SIDES[state.get()],
+        RESOURCE_TYPES[state.get()],
+        RESOURCE_TYPES[state.get()],
+        state.getInt(),
+        state.getInt());
+  }
+
+  private static void decodeOrderBook(
+      ByteBuffer state, IPlayer[] players, ITradeManager tradeManager) {
+
+    int orders = state.getInt();
+
+    for (int i = 0; i < orders; ++i) {
+      IPlayer owner = getPlayer(players, state.get());
+      IOrder order = decodeOrder(state);
+
+      tradeManager.getOrderBook().restoreOrder(owner, order, state.getInt());
+    }
+  }
+
+  private static IReference decodeReference(ByteBuffer state) {
+    return state.get() == 0 ? null : new Reference(decodeId(state));
+  }
+
+  private static IRequest readRequest(ByteBuffer state, IPlayer[] players) {
+
+    RequestType type = REQUEST_TYPES[state.get()];
+    IPlayer player = getPlayer(players, state.get());
+
+    switch (type) {
+      case BUILD_CONNECTION:
+      case BUILD_INITIAL_CONNECTION:
+        return new AgnosticBuildConnectionRequest(
+            player, type, CONNECTION_TYPES[state.get()], state.getShort(), state.getShort());
+      case BUILD_INITIAL_STRUCTURE:
+      case BUILD_STRUCTURE:
+        return new AgnosticBuildStructureRequest(
+            player, type, STRUCTURE_TYPES[state.get()], state.getShort(), state.getShort());
+      case END_TURN:
+        return new EndTurnRequest(player);
+      case ORDER:
+        return new OrderRequest(player, decodeOrder(state));
+      case ORDER_CANCEL:
+        return new OrderCancelRequest(
+            player,
+            state.get() == 0 ? null : new OrderCancel(decodeId(state), decodeReference(state)));
+      case START_TURN:
+        return new StartTurnRequest(player);
+      case TRADE:
+        return new TradeRequest(player, decodeTrade(state));
+      case TRADE_AGREEMENT:
+        return new TradeAgreementRequest(player, decodeTradeAgreement(state));
+      case TRADE_CONFIRMATION:
+        return new TradeConfirmationRequest(
+            player,
+            state.get() == 0
+                ? null
+                : new TradeConfirmation(decodeId(state), decodeReference(state)));
+      case TRADE_DISCARD:
+        return new TradeDiscardRequest(
+            player,
+            state.get() == 0 ? null : new TradeDiscard(decodeId(state), decodeReference(state)));
+      case UPGRADE_STRUCTURE:
+        return new UpgradeStructureRequest(
+            player, STRUCTURE_TYPES[state.get()], state.getShort(), state.getShort());
+      default:
+        throw new IllegalArgumentException("Unsupported request type: " + type);
+    }
+  }
+
+  private static IResourceStorage decodeStorage(ByteBuffer state) {
+
+    Map<ResourceType, Integer> resources = new TreeMap<ResourceType, Integer>();
+
+    for (ResourceType resourceType : RESOURCE_TYPES) {
+      resources.put(resourceType, state.getInt());
+    }
+
+    return new ResourceStorage(resources);
+  }
+
+  private static ITrade decodeTrade(ByteBuffer state) {
+
+    if (state.get() == 0) {
+      return null;
+    }
+
+    UUID id = decodeId(state);
+    IResourceStorage requestedResources = decodeStorage(state);
+    int exchanges = state.getInt();
+    Collection<IResourceStorage> acceptableExchanges = null;
+
+    if (exchanges >= 0) {
+      acceptableExchanges = new ArrayList<IResourceStorage>(exchanges);
+
+      for (int i = 0; i < exchanges; ++i) {
+        acceptableExchanges.add(decodeStorage(state));
+      }
+    }
+
+    return new Trade(id, acceptableExchanges, requestedResources);
+  }
+
+  private static ITradeAgreement decodeTradeAgreement(ByteBuffer state) {
+
+    if (state.get() == 0) {
+      return null;
+    }
+
+    return new TradeAgreement(decodeId(state), decodeStorage(state), decodeReference(state));
+  }
+
+  private static ITradeManager decodeTradeManager(ByteBuffer state, IPlayer[] players) {
+
+    ITradeManager tradeManager = new TradeManager();
+
+    IPlayer buyer = getPlayer(players, state.get());
+    tradeManager.restoreNextAgreementNumber(state.getLong());
+    decodeOrderBook(state, players, tradeManager);
+    ITrade trade = decodeTrade(state);
+
+    if (trade != null) {
+      tradeManager.restore(buyer, trade);
+
+      int agreements = state.getInt();
+
+      for (int i = 0; i < agreements; ++i) {
+        IPlayer seller = getPlayer(players, state.get());
+        tradeManager.restoreAgreement(seller, decodeTradeAgreement(state));
+      }
+    }
+
+    return tradeManager;
+  }
+
+  private void encodeBoard(ICatanBoard board, IPlayer[] players) {
+
+    int width = board.getWidth();
+    int height = board.getHeight();
+
+    ensureCapacity(4 + 2 * width * height);
+    buffer.putShort((short) width);
+    buffer.putShort((short) height);
+
+    for (int x = 0; x < width; ++x) {
+      for (int y = 0; y < height; ++y) {
+        IBoardElement element = board.get(x, y);
+
+        if (element.getElementType() == BoardElementType.TERRAIN) {
+          IBoardTerrain terrain = (IBoardTerrain) element;
+          buffer.put((byte) terrain.getType().ordinal());
+          buffer.put((byte) terrain.getProductionNumber());
+        } else if (element.getElementType() == BoardElementType.STRUCTURE) {
+          IBoardStructure structure = (IBoardStructure) element;
+          buffer.put((byte) structure.getType().ordinal());
+          buffer.put(getPlayerIndex(players, structure.getOwner()));
+        } else {
+          IBoardConnection connection = (IBoardConnection) element;
+          buffer.put((byte) connection.getType().ordinal());
+          buffer.put(getPlayerIndex(players, connection.getOwner()));
+        }
+      }
+    }
+  }
+
+  private void encodeId(UUID id) {
+    ensureCapacity(16);
+    buffer.putLong(id.getMostSignificantBits());
+    buffer.putLong(id.getLeastSignificantBits());
+  }
+
+  private void encodeLog(IGameLog log, IPlayer[] players) {
+
+    ensureCapacity(4);
+    buffer.putInt(log.size());
+
+    for (int i = 0; i < log.size(); ++i) {
+      ILogEntry entry = log.get(i);
+
+      ensureCapacity(8);
+      buffer.putInt(entry.getProductionNumber());
+      buffer.putInt(entry.size());
+
+      for (IRequest request : entry.getRequests()) {
+        putRequest(request, players);
+      }
+    }
+  }
+
+  private void encodeOrder(IOrder order) {
+
+    encodeReference(order);
+
+    if (order == null) {
+      return;
+    }
+
+    ensureCapacity(11);
+    buffer.put((byte) order.getSide().ordinal());
+    buffer.put((byte) order.getBase().ordinal());
+    buffer.put((byte) order.getQuote().ordinal());
+    buffer.putInt(order.getQuantity());
+    buffer.putInt(order.getPrice());
+  }
+
+  private void encodeOrderBook(IOrderBook orderBook, IPlayer[] players) {
+
+    List<IOpenOrder> orders = orderBook.getOpenOrders();
+
+    ensureCapacity(4);
+    buffer.putInt(orders.size());
+
+    for (IOpenOrder order : orders) {
+      ensureCapacity(1);
+      buffer.put(getPlayerIndex(players, order.getOwner()));
+      encodeOrder(order.getOrder());
+      ensureCapacity(4);
+      buffer.putInt(order.getRemaining());
+    }
+  }
+
+  private void encodePresence(Object object) {
+    ensureCapacity(1);
+    buffer.put((byte) (object == null ? 0 : 1));
+  }
+
+  private void encodeReference(IReference reference) {
+    encodePresence(reference);
+
+    if (reference != null) {
+      encodeId(reference.getId());
+    }
+  }
+
+  private void putRequest(IRequest request, IPlayer[] players) {
+
+    ensureCapacity(7);
+    buffer.put((byte) request.getType().ordinal());
+    buffer.put(getPlayerIndex(players, request.getPlayer()));
+
+    switch (request.getType()) {
+      case BUILD_CONNECTION:
+      case BUILD_INITIAL_CONNECTION:
+        buffer.put((byte) ((IBuildConnectionRequest) request).getConnectionType().ordinal());
+        encodeCoordinates((IBuildElementRequest) request);
+        break;
+      case BUILD_INITIAL_STRUCTURE:
+      case BUILD_STRUCTURE:
+      case UPGRADE_STRUCTURE:
+        buffer.put((byte) ((IStructureRelatedRequest) request).getStructureType().ordinal());
+        encodeCoordinates((IBuildElementRequest) request);
+        break;
+      case ORDER:
+        encodeOrder(((IOrderRequest) request).getOrder());
+        break;
+      case ORDER_CANCEL:
+        IOrderCancel cancel = ((IOrderCancelRequest) request).getCancel();
+        encodeReference(cancel);
+        if (cancel != null) {
+          encodeReference(cancel.getOrder());
+        }
+        break;
+      case TRADE:
+        encodeTrade(((ITradeRequest) request).getTrade());
+        break;
+      case TRADE_AGREEMENT:
+        encodeTradeAgreement(((ITradeAgreementRequest) request).getTradeAgreement());
+        break;
+      case TRADE_CONFIRMATION:
+        ITradeConfirmation confirmation = ((ITradeConfirmationRequest) request).getConfirmation();
+        encodeReference(confirmation);
+        if (confirmation != null) {
+          encodeReference(confirmation.getAgreement());
+        }
+        break;
+      case TRADE_DISCARD:
+        ITradeDiscard discard = ((ITradeDiscardRequest) request).getDiscard();
+        encodeReference(discard);
+        if (discard != null) {
+          encodeReference(discard.getTrade());
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
+  private void encodeCoordinates(IBuildElementRequest request) {
+    buffer.putShort((short) request.getX());
+    buffer.putShort((short) request.getY());
+  }
+
+  private void encodeStorage(IResourceStorage storage) {
+    ensureCapacity(4 * RESOURCE_TYPES.length);
+
+    for (ResourceType resourceType : RESOURCE_TYPES) {
+      buffer.putInt(storage.getResource(resourceType));
+    }
+  }
+
+  private void encodeTrade(ITrade trade) {
+
+    encodeReference(trade);
+
+    if (trade == null) {
+      return;
+    }
+
+    encodeStorage(trade.getRequestedResources());
+
+    Collection<IResourceStorage> acceptableExchanges = trade.getAcceptableExchanges();
+
+    ensureCapacity(4);
+
+    if (acceptableExchanges == null) {
+      buffer.putInt(-1);
+      return;
+    }
+
+    buffer.putInt(acceptableExchanges.size());
+
+    for (IResourceStorage exchange : acceptableExchanges) {
+      encodeStorage(exchange);
+    }
+  }
+
+  private void encodeTradeAgreement(ITradeAgreement agreement) {
+
+    encodeReference(agreement);
+
+    if (agreement != null) {
+      encodeStorage(agreement.getExchange());
+      encodeReference(agreement.getTrade());
+    }
+  }
+
+  private void encodeTradeManager(ITradeManager tradeManager, IPlayer[] players) {
+
+    ITrade trade = tradeManager.getTrade();
+
+    Collection<ITradeAgreement> agreements = new ArrayList<ITradeAgreement>();
+
+    if (trade != null) {
+      try {
+        agreements.addAll(tradeManager.getAgreements());
+      } catch (NoCurrentTradeException e) {
+        throw new UnexpectedException(e);
+      }
+    }
+
+    ensureCapacity(9);
+    buffer.put(getPlayerIndex(players, tradeManager.getBuyer()));
+    buffer.putLong(tradeManager.getNextAgreementNumber() - agreements.size());
+
+    encodeOrderBook(tradeManager.getOrderBook(), players);
+
+    encodeTrade(trade);
+
+    if (trade == null) {
+      return;
+    }
+
+    ensureCapacity(4);
+    buffer.putInt(agreements.size());
+
+    for (ITradeAgreement agreement : agreements) {
+      ensureCapacity(1);
+      buffer.put(getPlayerIndex(players, tradeManager.getSeller(agreement)));
+      encodeTradeAgreement(agreement);
+    }
+  }
+
+  private void ensureCapacity(int bytes) {
+
+    if (buffer.remaining() >= bytes) {
+      return;
+    }
+
+    ByteBuffer newBuffer =
+        ByteBuffer.allocate(Math.max(buffer.capacity() << 1, buffer.position() + bytes));
+
+    buffer.flip();
+    newBuffer.put(buffer);
+    buffer = newBuffer;
+  }
+
+  private static IPlayer getPlayer(IPlayer[] players, int index) {
+    return index == NO_PLAYER ? null : players[index];
+  }
+
+  private static byte getPlayerIndex(IPlayer[] players, IPlayer player) {
+
+    if (player == null) {
+      return NO_PLAYER;
+    }
+
+    for (int i = 0; i < players.length; ++i) {
+      if (players[i].equals(player)) {
+        return (byte) i;
+      }
+    }
+
+    throw new IllegalArgumentException("Unexpected player " + player.getId());
+  }
+}
@@ -0,0 +1,55 @@
+package io.github.notaphplover.catan.core.game.codec;
+
+import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
+import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearthBuilder;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.IRequest;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes the state of a game into a compact binary form.
+ *
+ * <p>The encoded state covers the board cells, the game log, the current trade, the turn, the game
+ * state and the points to win. Players are referenced by their position, so they are expected to be
+ * provided in the same order when the state is decoded.
+ */
+public interface IGameStateCodec {
+
+  /**
+   * Decodes a game state.
+   *
+   * <p>The builder must provide the player manager and the cost providers of the game. The board,
+   * the game log, the trade manager, the points to win and the state of the builder are set, and
+   * the turn of the player manager is updated.
+   *
+   * @param state Encoded state. Its position is moved to the end of the encoded state.
+   * @param builder Builder to fill.
+   */
+  void decode(ByteBuffer state, ICatanGameHearthBuilder builder);
+
+  /**
+   * Decodes a single request.
+   *
+   * @param state Encoded request. Its position is moved to the end of the encoded request.
+   * @param players Players of the game, in the order used to encode the request.
+   * @return Decoded request.
+   */
+  IRequest decodeRequest(ByteBuffer state, IPlayer[] players);
+
+  /**
+   * Encodes a game state.
+   *
+   * @param hearth Game hearth to encode.
+   * @return Buffer ready to be read. It is reused by the next call to this method.
+   */
+  ByteBuffer encode(ICatanGameHearth hearth);
+
+  /**
+   * Encodes a single request.
+   *
+   * @param request Request to encode.
+   * @param players Players of the game.
+   * @return Buffer ready to be read. It is reused by the next call to any encode method.
+   */
+  ByteBuffer encodeRequest(IRequest request, IPlayer[] players);
+}
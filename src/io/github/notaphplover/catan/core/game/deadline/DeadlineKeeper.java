@@ -0,0 +1,70 @@
+package io.github.notaphplover.catan.core.game.deadline;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.timer.ITimerService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Deadline keeper scheduling the deadlines of every game in a single timer.
+ *
+ * <p>Deadlines are rescheduled from the deltas of the games, so watched games notify their deltas
+ * to the keeper. Only games at the normal phase are given turn deadlines, foundation turns are not
+ * ended automatically.
+ */
+public class DeadlineKeeper implements IDeadlineKeeper {
+
+  private BiConsumer<ICatanGame, Runnable> dispatcher;
+
+  private ConcurrentHashMap<ICatanGame, GameDeadlines> games;
+
+  private ITimerService timer;
+
+  private long tradeTimeout;
+
+  private long turnTimeout;
+
+  public DeadlineKeeper(IDeadlineKeeperBuilder builder) throws NonNullInputException {
+
+    if (builder.getDispatcher() == null || builder.getTimer() == null) {
+      throw new NonNullInputException();
+    }
+
+    if (builder.getTradeTimeout() < 0 || builder.getTurnTimeout() < 0) {
+      throw new IllegalArgumentException("Timeouts must not be negative");
+    }
+
+    dispatcher = builder.getDispatcher();
+    timer = builder.getTimer();
+    tradeTimeout = builder.getTradeTimeout();
+    turnTimeout = builder.getTurnTimeout();
+
+    games = new ConcurrentHashMap<ICatanGame, GameDeadlines>();
+  }
+
+  @Override
+  public int getWatchedGames() {
+    return games.size();
+  }
+
+  @Override
+  public void watch(ICatanGame game) {
+
+    GameDeadlines deadlines = new GameDeadlines(game, dispatcher, timer, tradeTimeout, turnTimeout);
+
+    if (games.putIfAbsent(game, deadlines) == null) {
+      deadlines.start();
+    }
+  }
+
+  @Override
+  public void unwatch(ICatanGame game) {
+
+    GameDeadlines deadlines = games.remove(game);
+
+    if (deadlines != null) {
+      deadlines.stop();
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package io.github.notaphplover.catan.core.game.deadline;
+
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.timer.ITimerService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+public class DeadlineKeeperBuilder implements IDeadlineKeeperBuilder {
+
+  private static final long DEFAULT_TRADE_TIMEOUT = TimeUnit.SECONDS.toNanos(30);
+
+  private static final long DEFAULT_TURN_TIMEOUT = TimeUnit.MINUTES.toNanos(2);
+
+  private BiConsumer<ICatanGame, Runnable> dispatcher;
+
+  private ITimerService timer;
+
+  private long tradeTimeout;
+
+  private long turnTimeout;
+
+  public DeadlineKeeperBuilder() {
+    dispatcher = (ICatanGame game, Runnable action) -> action.run();
+    timer = null;
+    tradeTimeout = DEFAULT_TRADE_TIMEOUT;
+    turnTimeout = DEFAULT_TURN_TIMEOUT;
+  }
+
+  @Override
+  public BiConsumer<ICatanGame, Runnable> getDispatcher() {
+    return dispatcher;
+  }
+
+  @Override
+  public ITimerService getTimer() {
+    return timer;
+  }
+
+  @Override
+  public long getTradeTimeout() {
+    return tradeTimeout;
+  }
+
+  @Override
+  public long getTurnTimeout() {
+    return turnTimeout;
+  }
+
+  @Override
+  public IDeadlineKeeperBuilder setDispatcher(BiConsumer<ICatanGame, Runnable> dispatcher) {
+    this.dispatcher = dispatcher;
+    return this;
+  }
+
+  @Override
+  public IDeadlineKeeperBuilder setTimer(ITimerService timer) {
+    this.timer = timer;
+    return this;
+  }
+
+  @Override
+  public IDeadlineKeeperBuilder setTradeTimeout(long tradeTimeout) {
+    this.tradeTimeout = tradeTimeout;
+    return this;
+  }
+
+  @Override
+  public IDeadlineKeeperBuilder setTurnTimeout(long turnTimeout) {
+    this.turnTimeout = turnTimeout;
+    return this;
+  }
+}
@@ -0,0 +1,169 @@
+package io.github.notaphplover.catan.core.game.deadline;
+
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.delta.IGameDelta;
+import io.github.notaphplover.catan.core.game.trade.ITrade;
+import io.github.notaphplover.catan.core.game.trade.ITradeManager;
+import io.github.notaphplover.catan.core.game.trade.TradeDiscard;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.EndTurnRequest;
+import io.github.notaphplover.catan.core.request.StartTurnRequest;
+import io.github.notaphplover.catan.core.request.trade.TradeDiscardRequest;
+import io.github.notaphplover.catan.core.timer.ITimeout;
+import io.github.notaphplover.catan.core.timer.ITimerService;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/** Deadlines of a single game. */
+class GameDeadlines implements Consumer<IGameDelta> {
+
+  private BiConsumer<ICatanGame, Runnable> dispatcher;
+
+  private ICatanGame game;
+
+  private ITimerService timer;
+
+  private volatile IPlayer tradeBuyer;
+
+  private volatile ITrade trade;
+
+  private volatile ITimeout tradeDeadline;
+
+  private long tradeTimeout;
+
+  private volatile int turn;
+
+  private volatile ITimeout turnDeadline;
+
+  private long turnTimeout;
+
+  GameDeadlines(
+      ICatanGame game,
+      BiConsumer<ICatanGame, Runnable> dispatcher,
+      ITimerService timer,
+      long tradeTimeout,
+      long turnTimeout) {
+    this.dispatcher = dispatcher;
+    this.game = game;
+    this.timer = timer;
+    this.tradeTimeout = tradeTimeout;
+    this.turnTimeout = turnTimeout;
+  }
+
+  @Override
+  public void accept(IGameDelta delta) {
+
+    if (delta.getState() != GameState.NORMAL) {
+      cancelTrade();
+      cancelTurn();
+      return;
+    }
+
+    if (delta.getTurnNumber() != turn || turnDeadline == null) {
+      cancelTrade();
+      scheduleTurn(delta.getTurnNumber());
+    }
+
+    ITradeManager tradeManager = delta.getTradeManager();
+
+    if (tradeManager != null) {
+      ITrade currentTrade = tradeManager.getTrade();
+
+      if (currentTrade == null) {
+        cancelTrade();
+      } else if (trade == null || !trade.getId().equals(currentTrade.getId())) {
+        scheduleTrade(tradeManager.getBuyer(), currentTrade);
+      }
+    }
+  }
+
+  void start() {
+    game.addDeltaListener(this);
+
+    if (game.getState() == GameState.NORMAL) {
+      scheduleTurn(game.getTurnNumber());
+    }
+  }
+
+  void stop() {
+    game.removeDeltaListener(this);
+
+    cancelTrade();
+    cancelTurn();
+  }
+
+  private void cancelTrade() {
+    ITimeout deadline = tradeDeadline;
+
+    if (deadline != null) {
+      deadline.cancel();
+    }
+
+    trade = null;
+    tradeBuyer = null;
+    tradeDeadline = null;
+  }
+
+  private void cancelTurn() {
+    ITimeout deadline = turnDeadline;
+
+    if (deadline != null) {
+      deadline.cancel();
+    }
+
+    turnDeadline = null;
+  }
+
+  private void discardTrade(ITrade expiredTrade) {
+    if (trade != expiredTrade || game.getState() != GameState.NORMAL) {
+      return;
+    }
+
+    game.processRequest(
+        new TradeDiscardRequest(tradeBuyer, new TradeDiscard(UUID.randomUUID(), expiredTrade)));
+  }
+
+  private void endTurn(int expiredTurn) {
+    if (game.getState() != GameState.NORMAL || game.getTurnNumber() != expiredTurn) {
+      return;
+    }
+
+    IPlayer activePlayer = game.getActivePlayer();
+
+    if (trade != null) {
+      discardTrade(trade);
+    }
+
+    if (!game.isTurnStarted()) {
+      game.processRequest(new StartTurnRequest(activePlayer));
+    }
+
+    game.processRequest(new EndTurnRequest(activePlayer));
+  }
+
+  private void scheduleTrade(IPlayer buyer, ITrade newTrade) {
+    cancelTrade();
+
+    trade = newTrade;
+    tradeBuyer = buyer;
+    tradeDeadline =
+        timer.schedule(
+            () -> dispatcher.accept(game, () -> discardTrade(newTrade)),
+            tradeTimeout,
+            TimeUnit.NANOSECONDS);
+  }
+
+  private void scheduleTurn(int turnNumber) {
+    cancelTurn();
+
+    turn = turnNumber;
+    turnDeadline =
+        timer.schedule(
+            () -> dispatcher.accept(game, () -> endTurn(turnNumber)),
+            turnTimeout,
+            TimeUnit.NANOSECONDS);
+  }
+}
@@ -0,0 +1,22 @@
+package io.github.notaphplover.catan.core.game.deadline;
+
+import io.github.notaphplover.catan.core.game.ICatanGame;
+
+public interface IDeadlineKeeper {
+
+  int getWatchedGames();
+
+  /**
+   * Ends the turns and discards the trades of a game once their deadlines expire.
+   *
+   * @param game Game to watch.
+   */
+  void watch(ICatanGame game);
+
+  /**
+   * Stops watching a game, cancelling its deadlines.
+   *
+   * @param game Game to stop watching.
+   */
+  void unwatch(ICatanGame game);
+}
@@ -0,0 +1,45 @@
+package io.github.notaphplover.catan.core.game.deadline;
+
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.timer.ITimerService;
+import java.util.function.BiConsumer;
+
+public interface IDeadlineKeeperBuilder {
+
+  BiConsumer<ICatanGame, Runnable> getDispatcher();
+
+  ITimerService getTimer();
+
+  long getTradeTimeout();
+
+  long getTurnTimeout();
+
+  /**
+   * Sets the dispatcher running the actions of expired deadlines.
+   *
+   * <p>Actions process requests on the game, so the dispatcher must run them in the thread owning
+   * the game. The default dispatcher runs them in the timer thread.
+   *
+   * @param dispatcher Dispatcher of expired deadline actions.
+   * @return This builder.
+   */
+  IDeadlineKeeperBuilder setDispatcher(BiConsumer<ICatanGame, Runnable> dispatcher);
+
+  IDeadlineKeeperBuilder setTimer(ITimerService timer);
+
+  /**
+   * Sets the time a trade can be pending before it is discarded.
+   *
+   * @param tradeTimeout Trade timeout in nanoseconds.
+   * @return This builder.
+   */
+  IDeadlineKeeperBuilder setTradeTimeout(long tradeTimeout);
+
+  /**
+   * Sets the time a player can hold a turn before it is ended.
+   *
+   * @param turnTimeout Turn timeout in nanoseconds.
+   * @return This builder.
+   */
+  IDeadlineKeeperBuilder setTurnTimeout(long turnTimeout);
+}
@@ -0,0 +1,146 @@
+package io.github.notaphplover.catan.core.game.delta;
+
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.trade.ITradeManager;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+
+/** Game delta built by a {@link GameDeltaRecorder}. */
+public final class GameDelta implements IGameDelta {
+
+  private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+  IBoardElement[] cellElements;
+
+  int cellsChanged;
+
+  int[] cellsX;
+
+  int[] cellsY;
+
+  long hash;
+
+  boolean logEntryCreated;
+
+  int logTurn;
+
+  int productionNumber;
+
+  IRequest request;
+
+  int[] resourcePlayerIds;
+
+  int resourcesChanged;
+
+  int[] resourceTypes;
+
+  int[] resourceValues;
+
+  GameState state;
+
+  ITradeManager tradeManager;
+
+  int turnNumber;
+
+  boolean turnStarted;
+
+  GameDelta() {}
+
+  @Override
+  public IBoardElement getCellElement(int index) {
+    checkIndex(index, cellsChanged);
+    return cellElements[index];
+  }
+
+  @Override
+  public int getCellsChanged() {
+    return cellsChanged;
+  }
+
+  @Override
+  public int getCellX(int index) {
+    checkIndex(index, cellsChanged);
+    return cellsX[index];
+  }
+
+  @Override
+  public int getCellY(int index) {
+    checkIndex(index, cellsChanged);
+    return cellsY[index];
+  }
+
+  @Override
+  public long getHash() {
+    return hash;
+  }
+
+  @Override
+  public int getLogTurn() {
+    return logTurn;
+  }
+
+  @Override
+  public int getProductionNumber() {
+    return productionNumber;
+  }
+
+  @Override
+  public IRequest getRequest() {
+    return request;
+  }
+
+  @Override
+  public int getResourcesChanged() {
+    return resourcesChanged;
+  }
+
+  @Override
+  public int getResourcePlayerId(int index) {
+    checkIndex(index, resourcesChanged);
+    return resourcePlayerIds[index];
+  }
+
+  @Override
+  public ResourceType getResourceType(int index) {
+    checkIndex(index, resourcesChanged);
+    return RESOURCE_TYPES[resourceTypes[index]];
+  }
+
+  @Override
+  public int getResourceValue(int index) {
+    checkIndex(index, resourcesChanged);
+    return resourceValues[index];
+  }
+
+  @Override
+  public GameState getState() {
+    return state;
+  }
+
+  @Override
+  public ITradeManager getTradeManager() {
+    return tradeManager;
+  }
+
+  @Override
+  public int getTurnNumber() {
+    return turnNumber;
+  }
+
+  @Override
+  public boolean isLogEntryCreated() {
+    return logEntryCreated;
+  }
+
+  @Override
+  public boolean isTurnStarted() {
+    return turnStarted;
+  }
+
+  private static void checkIndex(int index, int size) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package io.github.notaphplover.catan.core.game.delta;
+
+import io.github.notaphplover.catan.core.board.IBoardListener;
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
+import io.github.notaphplover.catan.core.game.log.IGameLog;
+import io.github.notaphplover.catan.core.game.player.IPlayerManager;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.request.RequestType;
+import io.github.notaphplover.catan.core.resource.IResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import java.util.Arrays;
+
+/**
+ * Records the changes a request performs on a game hearth.
+ *
+ * <p>Board changes are captured listening to the board. Resources, turn, state and log are compared
+ * with the values captured before the request is processed.
+ */
+public class GameDeltaRecorder implements IBoardListener {
+
+  private static final int DEFAULT_CAPACITY = 4;
+
+  private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+  private IBoardElement[] cellElements;
+
+  private int cellsChanged;
+
+  private int[] cellsX;
+
+  private int[] cellsY;
+
+  private ICatanGameHearth hearth;
+
+  private int logEntrySize;
+
+  private int logSize;
+
+  private boolean recording;
+
+  private int[] resources;
+
+  public GameDeltaRecorder(ICatanGameHearth hearth) {
+    this.hearth = hearth;
+
+    cellElements = new IBoardElement[DEFAULT_CAPACITY];
+    cellsX = new int[DEFAULT_CAPACITY];
+    cellsY = new int[DEFAULT_CAPACITY];
+    resources = new int[hearth.getPlayerManager().getPlayers().length * RESOURCE_TYPES.length];
+
+    hearth.getBoard().addListener(this);
+  }
+
+  /** Captures the state of the game before a request is processed. */
+  public void begin() {
+
+    IGameLog log = hearth.getGameLog();
+
+    cellsChanged = 0;
+    logSize = log.size();
+    logEntrySize = logSize == 0 ? 0 : log.get(logSize - 1).size();
+    recording = true;
+
+    IPlayer[] players = hearth.getPlayerManager().getPlayers();
+
+    for (int i = 0; i < players.length; ++i) {
+      IResourceManager resourceManager = players[i].getResourceManager();
+
+      for (ResourceType type : RESOURCE_TYPES) {
+        resources[i * RESOURCE_TYPES.length + type.ordinal()] = resourceManager.getResource(type);
+      }
+    }
+  }
+
+  /**
+   * Builds the delta of the request processed since {@link #begin()}.
+   *
+   * @param request Request processed.
+   * @param hash Hash of the game once the request is processed.
+   * @return Delta of the request or null if the request was rejected.
+   */
+  public IGameDelta end(IRequest request, long hash) {
+
+    recording = false;
+
+    IGameLog log = hearth.getGameLog();
+
+    boolean logEntryCreated = log.size() > logSize;
+
+    if (!logEntryCreated && (logSize == 0 || log.get(logSize - 1).size() == logEntrySize)) {
+      return null;
+    }
+
+    IPlayerManager playerManager = hearth.getPlayerManager();
+    GameDelta delta = new GameDelta();
+
+    delta.cellElements = Arrays.copyOf(cellElements, cellsChanged);
+    delta.cellsChanged = cellsChanged;
+    delta.cellsX = Arrays.copyOf(cellsX, cellsChanged);
+    delta.cellsY = Arrays.copyOf(cellsY, cellsChanged);
+    delta.hash = hash;
+    delta.logEntryCreated = logEntryCreated;
+    delta.logTurn = log.size() - 1;
+    delta.productionNumber = logEntryCreated ? log.get(log.size() - 1).getProductionNumber() : 0;
+    delta.request = request;
+    delta.state = hearth.getState();
+    delta.tradeManager = isTradeRequest(request) ? hearth.getTradeManager().copy() : null;
+    delta.turnNumber = playerManager.getTurnNumber();
+    delta.turnStarted = playerManager.isTurnStarted();
+
+    recordResources(delta, playerManager.getPlayers());
+
+    return delta;
+  }
+
+  @Override
+  public void onElementReplaced(int x, int y, IBoardElement oldElement, IBoardElement newElement) {
+
+    if (!recording) {
+      return;
+    }
+
+    if (cellsChanged == cellsX.length) {
+      cellElements = Arrays.copyOf(cellElements, cellsChanged << 1);
+      cellsX = Arrays.copyOf(cellsX, cellsChanged << 1);
+      cellsY = Arrays.copyOf(cellsY, cellsChanged << 1);
+    }
+
+    cellElements[cellsChanged] = newElement;
+    cellsX[cellsChanged] = x;
+    cellsY[cellsChanged] = y;
+    ++cellsChanged;
+  }
+
+  private boolean isTradeRequest(IRequest request) {
+    RequestType type = request.getType();
+
+    return type == RequestType.ORDER
+        || type == RequestType.ORDER_CANCEL
+        || type == RequestType.TRADE
+        || type == RequestType.TRADE_AGREEMENT
+        || type == RequestType.TRADE_CONFIRMATION
+        || type == RequestType.TRADE_DISCARD;
+  }
+
+  private void recordResources(GameDelta delta, IPlayer[] players) {
+
+    int[] playerIds = new int[resources.length];
+    int[] types = new int[resources.length];
+    int[] values = new int[resources.length];
+    int changed = 0;
+
+    for (int i = 0; i < players.length; ++i) {
+      IResourceManager resourceManager = players[i].getResourceManager();
+
+      for (ResourceType type : RESOURCE_TYPES) {
+        int value = resourceManager.getResource(type);
+
+        if (value != resources[i * RESOURCE_TYPES.length + type.ordinal()]) {
+          playerIds[changed] = players[i].getId();
+          types[changed] = type.ordinal();
+          values[changed] = value;
+          ++changed;
+        }
+      }
+    }
+
+    delta.resourcePlayerIds = Arrays.copyOf(playerIds, changed);
+    delta.resourcesChanged = changed;
+    delta.resourceTypes = Arrays.copyOf(types, changed);
+    delta.resourceValues = Arrays.copyOf(values, changed);
+  }
+}
@@ -0,0 +1,96 @@
+package io.github.notaphplover.catan.core.game.delta;
+
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.trade.ITradeManager;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+
+/**
+ * Represents the changes an accepted request performs on a game.
+ *
+ * <p>Board cells and resources are provided as their values once the request is processed, so
+ * applying a delta twice is harmless.
+ */
+public interface IGameDelta {
+
+  /**
+   * Gets the element placed at a changed cell.
+   *
+   * @param index Index of the changed cell.
+   * @return Element placed.
+   */
+  IBoardElement getCellElement(int index);
+
+  /**
+   * Gets the amount of board cells changed.
+   *
+   * @return Amount of board cells changed.
+   */
+  int getCellsChanged();
+
+  int getCellX(int index);
+
+  int getCellY(int index);
+
+  /**
+   * Gets the Zobrist hash of the game once the request is processed.
+   *
+   * @return Hash of the game.
+   */
+  long getHash();
+
+  /**
+   * Gets the turn of the log entry the request is appended to.
+   *
+   * @return Turn of the log entry.
+   */
+  int getLogTurn();
+
+  /**
+   * Gets the production number of the log entry created by the request.
+   *
+   * @return Production number. It is meaningless if no log entry is created.
+   */
+  int getProductionNumber();
+
+  /**
+   * Gets the request accepted.
+   *
+   * @return Request accepted.
+   */
+  IRequest getRequest();
+
+  /**
+   * Gets the amount of resource quantities changed.
+   *
+   * @return Amount of resource quantities changed.
+   */
+  int getResourcesChanged();
+
+  int getResourcePlayerId(int index);
+
+  ResourceType getResourceType(int index);
+
+  int getResourceValue(int index);
+
+  GameState getState();
+
+  /**
+   * Gets the trade state once the request is processed.
+   *
+   * @return Trade manager snapshot or null if the request is not a trade request.
+   */
+  ITradeManager getTradeManager();
+
+  int getTurnNumber();
+
+  /**
+   * Determines if the request creates the log entry of a new turn.
+   *
+   * @return true if a log entry is created.
+   */
+  boolean isLogEntryCreated();
+
+  boolean isTurnStarted();
+}
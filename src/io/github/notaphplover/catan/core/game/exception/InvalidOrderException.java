@@ -0,0 +1,16 @@
+package io.github.notaphplover.catan.core.game.exception;
+
+import io.github.notaphplover.catan.core.game.trade.order.IOrder;
+
+public class InvalidOrderException extends Exception {
+
+  private static final long serialVersionUID = 4160396272849562145L;
+
+  public InvalidOrderException(IOrder order) {
+    super(composeMessage(order));
+  }
+
+  private static String composeMessage(IOrder order) {
+    return String.format("Order %s is not valid", order.getId().toString());
+  }
+}
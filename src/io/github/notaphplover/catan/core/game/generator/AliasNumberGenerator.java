@@ -0,0 +1,191 @@
+package io.github.notaphplover.catan.core.game.generator;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.resource.exception.NegativeNumberException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+
+/**
+ * Generator sampling an arbitrary production number distribution.
+ *
+ * <p>A Vose alias table is built once, so every production number is sampled in constant time.
+ * Splits share the table, which is never modified after construction.
+ */
+public class AliasNumberGenerator implements ISplittableNumberGenerator {
+
+  private int[] aliases;
+
+  private Map<Integer, Float> distribution;
+
+  private double[] probabilities;
+
+  private int[] productionNumbers;
+
+  private SplittableRandom random;
+
+  public AliasNumberGenerator(Map<Integer, Float> distribution, long seed)
+      throws NonNullInputException, NonVoidCollectionException {
+
+    this(distribution, new SplittableRandom(seed));
+  }
+
+  public AliasNumberGenerator(Map<Integer, Float> distribution, SplittableRandom random)
+      throws NonNullInputException, NonVoidCollectionException {
+
+    if (distribution == null || random == null) {
+      throw new NonNullInputException();
+    }
+
+    this.random = random;
+
+    buildTable(distribution);
+  }
+
+  private AliasNumberGenerator(AliasNumberGenerator other, SplittableRandom random) {
+    this.aliases = other.aliases;
+    this.distribution = other.distribution;
+    this.probabilities = other.probabilities;
+    this.productionNumbers = other.productionNumbers;
+    this.random = random;
+  }
+
+  @Override
+  public int getNextProductionNumber() {
+    int column = random.nextInt(productionNumbers.length);
+
+    return random.nextDouble() < probabilities[column]
+        ? productionNumbers[column]
+        : productionNumbers[aliases[column]];
+  }
+
+  @Override
+  public void getNextProductionNumbers(int[] buffer, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, buffer.length);
+
+    int[] aliases = this.aliases;
+    double[] probabilities = this.probabilities;
+    int[] productionNumbers = this.productionNumbers;
+    SplittableRandom random = this.random;
+
+    for (int i = offset; i < offset + length; ++i) {
+      int column = random.nextInt(productionNumbers.length);
+
+      buffer[i] =
+          random.nextDouble() < probabilities[column]
+              ? productionNumbers[column]
+              : productionNumbers[aliases[column]];
+    }
+  }
+
+  /**
+   * Returns the normalized distribution sampled by this generator.
+   *
+   * @return Unmodifiable discrete probability distribution.
+   */
+  @Override
+  public Map<Integer, Float> getProbabilityDistribution() {
+    return distribution;
+  }
+
+  @Override
+  public ISplittableNumberGenerator split() {
+    return new AliasNumberGenerator(this, random.split());
+  }
+
+  private void buildTable(Map<Integer, Float> weights)
+      throws NonNullInputException, NonVoidCollectionException {
+
+    double totalWeight = 0d;
+
+    for (Entry<Integer, Float> entry : weights.entrySet()) {
+      if (entry.getKey() == null || entry.getValue() == null) {
+        throw new NonNullInputException();
+      }
+
+      if (!Float.isFinite(entry.getValue())) {
+        throw new IllegalArgumentException("Weight of " + entry.getKey() + " must be finite");
+      }
+
+      if (entry.getValue() < 0f) {
+        throw new NegativeNumberException(entry.getKey().toString());
+      }
+
+      totalWeight += entry.getValue();
+    }
+
+    if (totalWeight <= 0d) {
+      throw new NonVoidCollectionException();
+    }
+
+    TreeMap<Integer, Float> normalizedDistribution = new TreeMap<Integer, Float>();
+
+    for (Entry<Integer, Float> entry : weights.entrySet()) {
+      if (entry.getValue() > 0f) {
+        normalizedDistribution.put(entry.getKey(), (float) (entry.getValue() / totalWeight));
+      }
+    }
+
+    int size = normalizedDistribution.size();
+
+    aliases = new int[size];
+    probabilities = new double[size];
+    productionNumbers = new int[size];
+
+    double[] scaledProbabilities = new double[size];
+    int[] small = new int[size];
+    int[] large = new int[size];
+    int smallSize = 0;
+    int largeSize = 0;
+
+    int index = 0;
+    for (Entry<Integer, Float> entry : weights.entrySet()) {
+      if (entry.getValue() > 0f) {
+        productionNumbers[index] = entry.getKey();
+        scaledProbabilities[index] = entry.getValue() / totalWeight * size;
+
+        if (scaledProbabilities[index] < 1d) {
+          small[smallSize++] = index;
+        } else {
+          large[largeSize++] = index;
+        }
+
+        ++index;
+      }
+    }
+
+    while (smallSize > 0 && largeSize > 0) {
+      int smallColumn = small[--smallSize];
+      int largeColumn = large[--largeSize];
+
+      probabilities[smallColumn] = scaledProbabilities[smallColumn];
+      aliases[smallColumn] = largeColumn;
+
+      scaledProbabilities[largeColumn] += scaledProbabilities[smallColumn] - 1d;
+
+      if (scaledProbabilities[largeColumn] < 1d) {
+        small[smallSize++] = largeColumn;
+      } else {
+        large[largeSize++] = largeColumn;
+      }
+    }
+
+    while (largeSize > 0) {
+      int column = large[--largeSize];
+      probabilities[column] = 1d;
+      aliases[column] = column;
+    }
+
+    while (smallSize > 0) {
+      int column = small[--smallSize];
+      probabilities[column] = 1d;
+      aliases[column] = column;
+    }
+
+    distribution = Collections.unmodifiableMap(normalizedDistribution);
+  }
+}
@@ -1,33 +1,36 @@
 package io.github.notaphplover.catan.core.game.generator;
 
-import java.util.Random;
-
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/**
+ * Generator providing a shuffled sequence of every outcome of two six-sided dice.
+ *
+ * <p>The sequence contains each one of the thirty six outcomes exactly once and it is repeated once
+ * exhausted.
+ */
 public class CatanDeterministicGenerator extends CatanGenerator
-    implements IDeterministicNumberGenerator {
-
-  private static final int N_0 = 0;
-  private static final int N_1 = 0;
-  private static final int N_2 = 1;
-  private static final int N_3 = 2;
-  private static final int N_4 = 3;
-  private static final int N_5 = 4;
-  private static final int N_6 = 5;
-  private static final int N_7 = 6;
-  private static final int N_8 = 5;
-  private static final int N_9 = 4;
-  private static final int N_10 = 3;
-  private static final int N_11 = 2;
-  private static final int N_12 = 1;
-
-  private static final int[] NUMBER_SET = {
-    N_0, N_1, N_2, N_3, N_4, N_5, N_6, N_7, N_8, N_9, N_10, N_11, N_12
-  };
+    implements IDeterministicNumberGenerator, ISplittableNumberGenerator {
+
+  private static final int DIE_FACES = 6;
 
   private int innerOffset;
 
   private int[] productionSequence;
 
+  private SplittableRandom random;
+
   public CatanDeterministicGenerator() {
+    this(new SplittableRandom());
+  }
+
+  public CatanDeterministicGenerator(long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  private CatanDeterministicGenerator(SplittableRandom random) {
+
+    this.random = random;
 
     innerOffset = 0;
     productionSequence = generateSequence();
@@ -43,6 +46,19 @@ public class CatanDeterministicGenerator extends CatanGenerator
     return productionNumber;
   }
 
+  @Override
+  public void getNextProductionNumbers(int[] buffer, int offset, int length) {
+
+    getProductionNumbers(0, buffer, offset, length);
+
+    innerOffset = (int) ((innerOffset + (long) length) % productionSequence.length);
+  }
+
+  @Override
+  public int getPeriod() {
+    return productionSequence.length;
+  }
+
   @Override
   public int getProductionNumber(int offset) {
 
@@ -54,48 +70,52 @@ public class CatanDeterministicGenerator extends CatanGenerator
     return productionSequence[index];
   }
 
-  private int[] generateSequence(int[] remainingNumbersSet) {
-
-    int sum = 0;
+  @Override
+  public void getProductionNumbers(int offset, int[] buffer, int bufferOffset, int length) {
+    Objects.checkFromIndexSize(bufferOffset, length, buffer.length);
 
-    for (int numberAmount : remainingNumbersSet) {
-      sum += numberAmount;
+    int index = offset % productionSequence.length + innerOffset;
+    if (index < 0) {
+      index += productionSequence.length;
     }
+    index %= productionSequence.length;
 
-    int[] sequence = new int[sum];
-
-    Random random = new Random(System.currentTimeMillis());
-
-    int sequenceIndex = sum;
+    int copied = 0;
 
-    while (sequenceIndex > 0) {
-      int nextNumber = random.nextInt(sequenceIndex) + 1;
-      int setIndex = getIndexOfSet(remainingNumbersSet, nextNumber);
+    while (copied < length) {
+      int chunkLength = Math.min(length - copied, productionSequence.length - index);
 
-      --sequenceIndex;
+      System.arraycopy(productionSequence, index, buffer, bufferOffset + copied, chunkLength);
 
-      sequence[sequenceIndex] = remainingNumbersSet[setIndex];
-
-      --remainingNumbersSet[setIndex];
+      copied += chunkLength;
+      index = 0;
     }
+  }
 
-    return sequence;
+  @Override
+  public ISplittableNumberGenerator split() {
+    return new CatanDeterministicGenerator(random.split());
   }
 
   private int[] generateSequence() {
 
-    return generateSequence(NUMBER_SET);
-  }
+    int[] sequence = new int[DIE_FACES * DIE_FACES];
 
-  private int getIndexOfSet(int[] set, int number) {
+    int sequenceIndex = 0;
 
-    int setIndex = 0;
+    for (int firstDie = 1; firstDie <= DIE_FACES; ++firstDie) {
+      for (int secondDie = 1; secondDie <= DIE_FACES; ++secondDie) {
+        sequence[sequenceIndex++] = firstDie + secondDie;
+      }
+    }
 
-    while (number > 0 && setIndex < set.length) {
-      number -= set[setIndex];
-      ++setIndex;
+    for (int i = sequence.length - 1; i > 0; --i) {
+      int j = random.nextInt(i + 1);
+      int swap = sequence[i];
+      sequence[i] = sequence[j];
+      sequence[j] = swap;
     }
 
-    return setIndex;
+    return sequence;
   }
 }
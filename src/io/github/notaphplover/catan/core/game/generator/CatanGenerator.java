@@ -17,22 +17,25 @@ public abstract class CatanGenerator implements INumberGenerator {
   private static final float P_11 = 2f / 36f;
   private static final float P_12 = 1f / 36f;
 
+  private static final Map<Integer, Float> PROBABILITY_DISTRIBUTION =
+      Map.ofEntries(
+          new AbstractMap.SimpleEntry<Integer, Float>(2, P_2),
+          new AbstractMap.SimpleEntry<Integer, Float>(3, P_3),
+          new AbstractMap.SimpleEntry<Integer, Float>(4, P_4),
+          new AbstractMap.SimpleEntry<Integer, Float>(5, P_5),
+          new AbstractMap.SimpleEntry<Integer, Float>(6, P_6),
+          new AbstractMap.SimpleEntry<Integer, Float>(7, P_7),
+          new AbstractMap.SimpleEntry<Integer, Float>(8, P_8),
+          new AbstractMap.SimpleEntry<Integer, Float>(9, P_9),
+          new AbstractMap.SimpleEntry<Integer, Float>(10, P_10),
+          new AbstractMap.SimpleEntry<Integer, Float>(11, P_11),
+          new AbstractMap.SimpleEntry<Integer, Float>(12, P_12));
+
   @Override
   public abstract int getNextProductionNumber();
 
   @Override
   public Map<Integer, Float> getProbabilityDistribution() {
-    return Map.ofEntries(
-        new AbstractMap.SimpleEntry<Integer, Float>(2, P_2),
-        new AbstractMap.SimpleEntry<Integer, Float>(3, P_3),
-        new AbstractMap.SimpleEntry<Integer, Float>(4, P_4),
-        new AbstractMap.SimpleEntry<Integer, Float>(5, P_5),
-        new AbstractMap.SimpleEntry<Integer, Float>(6, P_6),
-        new AbstractMap.SimpleEntry<Integer, Float>(7, P_7),
-        new AbstractMap.SimpleEntry<Integer, Float>(8, P_8),
-        new AbstractMap.SimpleEntry<Integer, Float>(9, P_9),
-        new AbstractMap.SimpleEntry<Integer, Float>(10, P_10),
-        new AbstractMap.SimpleEntry<Integer, Float>(11, P_11),
-        new AbstractMap.SimpleEntry<Integer, Float>(12, P_12));
+    return PROBABILITY_DISTRIBUTION;
   }
 }
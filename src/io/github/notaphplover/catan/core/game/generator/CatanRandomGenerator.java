@@ -12,7 +12,11 @@ public class CatanRandomGenerator extends CatanGenerator {
   private Random randomGenerator;
 
   public CatanRandomGenerator() {
-    randomGenerator = new Random(System.currentTimeMillis());
+    randomGenerator = new Random();
+  }
+
+  public CatanRandomGenerator(long seed) {
+    randomGenerator = new Random(seed);
   }
 
   @Override
@@ -0,0 +1,45 @@
+package io.github.notaphplover.catan.core.game.generator;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+
+/** Seedable and splittable generator simulating two six-sided dice. */
+public class CatanSplittableGenerator extends CatanGenerator implements ISplittableNumberGenerator {
+
+  private static final int DIE_FACES = 6;
+
+  private SplittableRandom random;
+
+  public CatanSplittableGenerator() {
+    this(new SplittableRandom());
+  }
+
+  public CatanSplittableGenerator(long seed) {
+    this(new SplittableRandom(seed));
+  }
+
+  private CatanSplittableGenerator(SplittableRandom random) {
+    this.random = random;
+  }
+
+  @Override
+  public int getNextProductionNumber() {
+    return 2 + random.nextInt(DIE_FACES) + random.nextInt(DIE_FACES);
+  }
+
+  @Override
+  public void getNextProductionNumbers(int[] buffer, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, buffer.length);
+
+    SplittableRandom random = this.random;
+
+    for (int i = offset; i < offset + length; ++i) {
+      buffer[i] = 2 + random.nextInt(DIE_FACES) + random.nextInt(DIE_FACES);
+    }
+  }
+
+  @Override
+  public ISplittableNumberGenerator split() {
+    return new CatanSplittableGenerator(random.split());
+  }
+}
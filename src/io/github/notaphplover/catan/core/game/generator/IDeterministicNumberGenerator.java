@@ -1,5 +1,7 @@
 package io.github.notaphplover.catan.core.game.generator;
 
+import java.util.Objects;
+
 /** Represents a deterministic production number generator. */
 public interface IDeterministicNumberGenerator extends INumberGenerator {
   /**
@@ -13,4 +15,33 @@ public interface IDeterministicNumberGenerator extends INumberGenerator {
    * @return Production number obtained.
    */
   public int getProductionNumber(int offset);
+
+  /**
+   * Copies production numbers into a buffer without consuming them.
+   *
+   * <p>The first copied production number is the one obtained by {@link #getProductionNumber(int)}
+   * with the offset provided.
+   *
+   * @param offset Request offset of the first production number.
+   * @param buffer Buffer to fill.
+   * @param bufferOffset Index of the first buffer position to fill.
+   * @param length Amount of production numbers to copy.
+   */
+  public default void getProductionNumbers(int offset, int[] buffer, int bufferOffset, int length) {
+    Objects.checkFromIndexSize(bufferOffset, length, buffer.length);
+
+    for (int i = 0; i < length; ++i) {
+      buffer[bufferOffset + i] = getProductionNumber(offset + i);
+    }
+  }
+
+  /**
+   * Gets the period of the generator.
+   *
+   * <p>Production numbers are repeated every period, so a window of this length contains every
+   * production number the generator provides.
+   *
+   * @return Period of the generator.
+   */
+  public int getPeriod();
 }
@@ -1,6 +1,7 @@
 package io.github.notaphplover.catan.core.game.generator;
 
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Represents a production number generator.
@@ -16,6 +17,24 @@ public interface INumberGenerator {
    */
   int getNextProductionNumber();
 
+  /**
+   * Fills a buffer with the next production numbers.
+   *
+   * <p>This is equivalent to call {@link #getNextProductionNumber()} once per buffer position, in
+   * order.
+   *
+   * @param buffer Buffer to fill.
+   * @param offset Index of the first buffer position to fill.
+   * @param length Amount of production numbers to generate.
+   */
+  default void getNextProductionNumbers(int[] buffer, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, buffer.length);
+
+    for (int i = offset; i < offset + length; ++i) {
+      buffer[i] = getNextProductionNumber();
+    }
+  }
+
   /**
    * Returns the discrete probability distribution.
    *
@@ -0,0 +1,20 @@
+package io.github.notaphplover.catan.core.game.generator;
+
+/**
+ * Represents a production number generator able to split itself.
+ *
+ * <p>Splitting provides an independent generator without shared state, so parallel simulations get
+ * independent and reproducible streams.
+ */
+public interface ISplittableNumberGenerator extends INumberGenerator {
+
+  /**
+   * Creates a new generator whose stream is independent from this one.
+   *
+   * <p>The new generator is derived from the current state of this generator, so splitting is
+   * reproducible for generators built with the same seed.
+   *
+   * @return Generator created.
+   */
+  ISplittableNumberGenerator split();
+}
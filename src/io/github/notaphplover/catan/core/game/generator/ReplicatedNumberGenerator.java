@@ -0,0 +1,75 @@
+package io.github.notaphplover.catan.core.game.generator;
+
+import java.util.Map;
+
+/**
+ * Number generator replaying the production numbers of another game.
+ *
+ * <p>Offered production numbers are returned first, in order. Once every offered number is
+ * consumed, production numbers are taken from the fallback generator, so a replica can keep playing
+ * on its own after it takes over the original game.
+ */
+public class ReplicatedNumberGenerator implements INumberGenerator {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private INumberGenerator fallback;
+
+  private int head;
+
+  private int[] numbers;
+
+  private int size;
+
+  public ReplicatedNumberGenerator(INumberGenerator fallback) {
+    this.fallback = fallback;
+
+    head = 0;
+    numbers = new int[DEFAULT_CAPACITY];
+    size = 0;
+  }
+
+  @Override
+  public int getNextProductionNumber() {
+    if (size == 0) {
+      return fallback.getNextProductionNumber();
+    }
+
+    int productionNumber = numbers[head];
+
+    head = (head + 1) % numbers.length;
+    --size;
+
+    return productionNumber;
+  }
+
+  public int getPendingProductionNumbers() {
+    return size;
+  }
+
+  @Override
+  public Map<Integer, Float> getProbabilityDistribution() {
+    return fallback.getProbabilityDistribution();
+  }
+
+  /**
+   * Offers a production number to be returned by the next calls.
+   *
+   * @param productionNumber Production number.
+   */
+  public void offer(int productionNumber) {
+    if (size == numbers.length) {
+      int[] newNumbers = new int[numbers.length << 1];
+
+      for (int i = 0; i < size; ++i) {
+        newNumbers[i] = numbers[(head + i) % numbers.length];
+      }
+
+      head = 0;
+      numbers = newNumbers;
+    }
+
+    numbers[(head + size) % numbers.length] = productionNumber;
+    ++size;
+  }
+}
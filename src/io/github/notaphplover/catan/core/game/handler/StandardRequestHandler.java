@@ -2,7 +2,6 @@ package io.github.notaphplover.catan.core.game.handler;
 
 import io.github.notaphplover.catan.core.game.GameState;
 import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
-import io.github.notaphplover.catan.core.player.IPlayer;
 import io.github.notaphplover.catan.core.request.IRequest;
 import java.util.LinkedList;
 import java.util.function.BiConsumer;
@@ -18,8 +17,8 @@ public abstract class StandardRequestHandler<R extends IRequest> extends Request
       BiConsumer<ICatanGameHearth, R> buildHandleRequestNotificationAction() {
 
     return (ICatanGameHearth hearth, R request) -> {
-      for (IPlayer player : hearth.getPlayerManager().getPlayers()) {
-        player.registerMiss(request);
+      if (!hearth.isHeadless()) {
+        hearth.getPlayerManager().getEventJournal().append(request);
       }
     };
   }
@@ -30,6 +29,32 @@ public abstract class StandardRequestHandler<R extends IRequest> extends Request
     };
   }
 
+  /**
+   * Wraps the actions provided by a handler, which notify the players of the outcome of a request,
+   * so they are skipped while the hearth is headless.
+   */
+  private static <R extends IRequest>
+      LinkedList<BiConsumer<ICatanGameHearth, R>> buildNotificationActions(
+          LinkedList<BiConsumer<ICatanGameHearth, R>> actions) {
+
+    LinkedList<BiConsumer<ICatanGameHearth, R>> notificationActions = new LinkedList<>();
+
+    if (actions == null) {
+      return notificationActions;
+    }
+
+    for (BiConsumer<ICatanGameHearth, R> action : actions) {
+      notificationActions.add(
+          (ICatanGameHearth hearth, R request) -> {
+            if (!hearth.isHeadless()) {
+              action.accept(hearth, request);
+            }
+          });
+    }
+
+    return notificationActions;
+  }
+
   private static <R extends IRequest>
       BiFunction<ICatanGameHearth, R, Boolean> buildOnlyActivePlayerAllowedPrecondition() {
     return (ICatanGameHearth hearth, R request) -> {
@@ -84,11 +109,8 @@ public abstract class StandardRequestHandler<R extends IRequest> extends Request
       StandardRequestHandlerBuilder<R, ?> processBuilderAfterFailureActions(
           StandardRequestHandlerBuilder<R, ?> builder) {
 
-    LinkedList<BiConsumer<ICatanGameHearth, R>> failureActions = builder.getAfterFailureActions();
-
-    if (failureActions == null) {
-      failureActions = new LinkedList<>();
-    }
+    LinkedList<BiConsumer<ICatanGameHearth, R>> failureActions =
+        buildNotificationActions(builder.getAfterFailureActions());
 
     builder.setAfterFailureActions(failureActions);
 
@@ -99,11 +121,8 @@ public abstract class StandardRequestHandler<R extends IRequest> extends Request
       StandardRequestHandlerBuilder<R, ?> processBuilderAfterSuccessActions(
           StandardRequestHandlerBuilder<R, ?> builder) {
 
-    LinkedList<BiConsumer<ICatanGameHearth, R>> successActions = builder.getAfterSuccessActions();
-
-    if (successActions == null) {
-      successActions = new LinkedList<>();
-    }
+    LinkedList<BiConsumer<ICatanGameHearth, R>> successActions =
+        buildNotificationActions(builder.getAfterSuccessActions());
 
     if (builder.isNotifyToPlayers()) {
       successActions.addFirst(buildHandleRequestNotificationAction());
@@ -165,7 +184,9 @@ public abstract class StandardRequestHandler<R extends IRequest> extends Request
 
     builder.setPreconditionRejectedAction(
         (ICatanGameHearth hearth, R request) -> {
-          hearth.getErrorHandler().accept(request);
+          if (!hearth.isHeadless()) {
+            hearth.getErrorHandler().accept(request);
+          }
         });
 
     return builder;
@@ -24,6 +24,17 @@ public abstract class BuildElementRequestHandler<R extends IBuildElementRequest>
     hearth.getBoard().build(element, request.getX(), request.getY());
   }
 
+  private static void baseCheckResources(ICatanGameHearth hearth, IOwnedElement element)
+      throws NotEnoughtResourcesException {
+    if (!hearth
+        .getPlayerManager()
+        .getActivePlayer()
+        .getResourceManager()
+        .canSubstract(element.getCost())) {
+      throw new NotEnoughtResourcesException();
+    }
+  }
+
   private static void baseSubstractResources(ICatanGameHearth hearth, IOwnedElement element)
       throws NotEnoughtResourcesException {
     hearth.getPlayerManager().getActivePlayer().getResourceManager().substract(element.getCost());
@@ -64,8 +75,9 @@ public abstract class BuildElementRequestHandler<R extends IBuildElementRequest>
       IOwnedElement element = elementBuilder.apply(hearth, request);
 
       try {
-        baseSubstractResources(hearth, element);
+        baseCheckResources(hearth, element);
         baseBuildAction(hearth, request, element);
+        baseSubstractResources(hearth, element);
         return true;
       } catch (InvalidBoardElementException | NotEnoughtResourcesException e) {
         if (builder.getPreconditionRejectedAction() != null) {
@@ -107,8 +119,9 @@ public abstract class BuildElementRequestHandler<R extends IBuildElementRequest>
       IOwnedElement element = elementBuilder.apply(hearth, request);
 
       try {
-        baseSubstractResources(hearth, element);
+        baseCheckResources(hearth, element);
         baseUpgradeAction(hearth, request, element);
+        baseSubstractResources(hearth, element);
         return true;
       } catch (InvalidBoardElementException | NotEnoughtResourcesException e) {
         if (builder.getPreconditionRejectedAction() != null) {
@@ -42,7 +42,7 @@ public class BuildConnectionRequestAtFoundationPhaseHandler extends BuildConnect
               .getCommandSender()
               .send(new Command(request.getPlayer(), CommandType.SEND_FOUNDATION_REQUEST));
 
-          request.getPlayer().emptyMissing();
+          hearth.getPlayerManager().deferEmptyMissing(request.getPlayer());
         });
 
     return new BuildConnectionRequestHandlerBuilder()
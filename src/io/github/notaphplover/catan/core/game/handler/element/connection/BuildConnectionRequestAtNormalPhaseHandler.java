@@ -34,7 +34,7 @@ public class BuildConnectionRequestAtNormalPhaseHandler extends BuildConnectionR
               .getCommandSender()
               .send(new Command(request.getPlayer(), CommandType.SEND_NORMAL_REQUEST));
 
-          request.getPlayer().emptyMissing();
+          hearth.getPlayerManager().deferEmptyMissing(request.getPlayer());
         });
 
     return new BuildConnectionRequestHandlerBuilder()
@@ -16,10 +16,17 @@ public class BuildConnectionRequestHandler
 
   private static BiFunction<ICatanGameHearth, IBuildConnectionRequest, IOwnedElement>
       getElementBuilder() {
-    return (ICatanGameHearth hearth, IBuildConnectionRequest request) ->
-        new BoardConnection(
-            request.getPlayer(),
-            hearth.getConnectionCostProvider().getResourceManager(request.getConnectionType()),
-            request.getConnectionType());
+    return (ICatanGameHearth hearth, IBuildConnectionRequest request) -> {
+      if (hearth.getElementCache() != null) {
+        return hearth
+            .getElementCache()
+            .getConnection(request.getPlayer(), request.getConnectionType());
+      }
+
+      return new BoardConnection(
+          request.getPlayer(),
+          hearth.getConnectionCostProvider().getResourceManager(request.getConnectionType()),
+          request.getConnectionType());
+    };
   }
 }
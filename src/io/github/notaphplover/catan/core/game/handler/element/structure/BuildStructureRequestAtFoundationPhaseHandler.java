@@ -43,7 +43,7 @@ public class BuildStructureRequestAtFoundationPhaseHandler
               .getCommandSender()
               .send(new Command(request.getPlayer(), CommandType.SEND_FOUNDATION_REQUEST));
 
-          request.getPlayer().emptyMissing();
+          hearth.getPlayerManager().deferEmptyMissing(request.getPlayer());
         });
 
     return new BuildStructureRequestHandlerBuilder()
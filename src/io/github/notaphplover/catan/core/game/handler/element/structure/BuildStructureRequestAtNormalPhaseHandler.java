@@ -36,7 +36,7 @@ public class BuildStructureRequestAtNormalPhaseHandler
               .getCommandSender()
               .send(new Command(request.getPlayer(), CommandType.SEND_NORMAL_REQUEST));
 
-          request.getPlayer().emptyMissing();
+          hearth.getPlayerManager().deferEmptyMissing(request.getPlayer());
         });
 
     return new BuildStructureRequestHandlerBuilder()
@@ -16,10 +16,17 @@ public class StructureRelatedRequestHandler<R extends IStructureRelatedRequest>
 
   private static <R extends IStructureRelatedRequest>
       BiFunction<ICatanGameHearth, R, IOwnedElement> getElementBuilder() {
-    return (ICatanGameHearth hearth, R request) ->
-        new BoardStructure(
-            request.getPlayer(),
-            hearth.getStructureCostProvider().getResourceManager(request.getStructureType()),
-            request.getStructureType());
+    return (ICatanGameHearth hearth, R request) -> {
+      if (hearth.getElementCache() != null) {
+        return hearth
+            .getElementCache()
+            .getStructure(request.getPlayer(), request.getStructureType());
+      }
+
+      return new BoardStructure(
+          request.getPlayer(),
+          hearth.getStructureCostProvider().getResourceManager(request.getStructureType()),
+          request.getStructureType());
+    };
   }
 }
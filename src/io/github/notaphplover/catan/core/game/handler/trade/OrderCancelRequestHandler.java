@@ -0,0 +1,58 @@
+package io.github.notaphplover.catan.core.game.handler.trade;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.exception.InvalidReferenceException;
+import io.github.notaphplover.catan.core.game.handler.StandardRequestHandler;
+import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
+import io.github.notaphplover.catan.core.request.trade.IOrderCancelRequest;
+import java.util.LinkedList;
+import java.util.function.BiFunction;
+
+public class OrderCancelRequestHandler extends StandardRequestHandler<IOrderCancelRequest> {
+
+  public OrderCancelRequestHandler() {
+    super(getBuilder());
+  }
+
+  public static OrderCancelRequestHandlerBuilder getBuilder() {
+
+    OrderCancelRequestHandlerBuilder builder =
+        new OrderCancelRequestHandlerBuilder()
+            .setAfterFailureActions(new LinkedList<>())
+            .setAfterSuccessActions(new LinkedList<>())
+            .setLogRequestAfterAction(true)
+            .setNotifyToPlayers(true)
+            .setPreconditionRejectedAction(null)
+            .setPreconditionsList(new LinkedList<>())
+            .setRejectActivePlayer(false)
+            .setRejectIfTurnNotStarted(true)
+            .setRejectIfTurnStarted(false)
+            .setRejectUnactivePlayers(false)
+            .setStateAllowed(GameState.NORMAL);
+
+    BiFunction<ICatanGameHearth, IOrderCancelRequest, Boolean> preconditionsFullfilledAction =
+        (ICatanGameHearth hearth, IOrderCancelRequest request) -> {
+          try {
+            if (request.getCancel() == null) {
+              throw new NonNullInputException();
+            }
+
+            hearth
+                .getTradeManager()
+                .getOrderBook()
+                .cancel(request.getPlayer(), request.getCancel().getOrder());
+            return true;
+          } catch (InvalidReferenceException | NonNullInputException e) {
+            if (builder.getPreconditionRejectedAction() != null) {
+              builder.getPreconditionRejectedAction().accept(hearth, request);
+            }
+            return false;
+          }
+        };
+
+    builder.setPreconditionFullfilledAction(preconditionsFullfilledAction);
+
+    return builder;
+  }
+}
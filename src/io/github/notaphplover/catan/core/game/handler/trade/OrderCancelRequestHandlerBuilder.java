@@ -0,0 +1,7 @@
+package io.github.notaphplover.catan.core.game.handler.trade;
+
+import io.github.notaphplover.catan.core.game.handler.StandardRequestHandlerBuilder;
+import io.github.notaphplover.catan.core.request.trade.IOrderCancelRequest;
+
+public class OrderCancelRequestHandlerBuilder
+    extends StandardRequestHandlerBuilder<IOrderCancelRequest, OrderCancelRequestHandlerBuilder> {}
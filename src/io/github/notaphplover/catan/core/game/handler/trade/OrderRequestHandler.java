@@ -0,0 +1,60 @@
+package io.github.notaphplover.catan.core.game.handler.trade;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.exception.InvalidOrderException;
+import io.github.notaphplover.catan.core.game.handler.StandardRequestHandler;
+import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
+import io.github.notaphplover.catan.core.request.trade.IOrderRequest;
+import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesException;
+import java.util.LinkedList;
+import java.util.function.BiFunction;
+
+public class OrderRequestHandler extends StandardRequestHandler<IOrderRequest> {
+
+  public OrderRequestHandler() {
+    super(getBuilder());
+  }
+
+  public static OrderRequestHandlerBuilder getBuilder() {
+
+    LinkedList<BiFunction<ICatanGameHearth, IOrderRequest, Boolean>> preconditions =
+        new LinkedList<>();
+
+    // Escrowed resources could leave a pending trade without enough resources to be confirmed.
+    preconditions.add(
+        (ICatanGameHearth hearth, IOrderRequest request) ->
+            hearth.getTradeManager().getTrade() == null);
+
+    OrderRequestHandlerBuilder builder =
+        new OrderRequestHandlerBuilder()
+            .setAfterFailureActions(new LinkedList<>())
+            .setAfterSuccessActions(new LinkedList<>())
+            .setLogRequestAfterAction(true)
+            .setNotifyToPlayers(true)
+            .setPreconditionRejectedAction(null)
+            .setPreconditionsList(preconditions)
+            .setRejectActivePlayer(false)
+            .setRejectIfTurnNotStarted(true)
+            .setRejectIfTurnStarted(false)
+            .setRejectUnactivePlayers(false)
+            .setStateAllowed(GameState.NORMAL);
+
+    BiFunction<ICatanGameHearth, IOrderRequest, Boolean> preconditionsFullfilledAction =
+        (ICatanGameHearth hearth, IOrderRequest request) -> {
+          try {
+            hearth.getTradeManager().getOrderBook().post(request.getPlayer(), request.getOrder());
+            return true;
+          } catch (InvalidOrderException | NonNullInputException | NotEnoughtResourcesException e) {
+            if (builder.getPreconditionRejectedAction() != null) {
+              builder.getPreconditionRejectedAction().accept(hearth, request);
+            }
+            return false;
+          }
+        };
+
+    builder.setPreconditionFullfilledAction(preconditionsFullfilledAction);
+
+    return builder;
+  }
+}
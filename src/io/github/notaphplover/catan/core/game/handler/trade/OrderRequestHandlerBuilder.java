@@ -0,0 +1,7 @@
+package io.github.notaphplover.catan.core.game.handler.trade;
+
+import io.github.notaphplover.catan.core.game.handler.StandardRequestHandlerBuilder;
+import io.github.notaphplover.catan.core.request.trade.IOrderRequest;
+
+public class OrderRequestHandlerBuilder
+    extends StandardRequestHandlerBuilder<IOrderRequest, OrderRequestHandlerBuilder> {}
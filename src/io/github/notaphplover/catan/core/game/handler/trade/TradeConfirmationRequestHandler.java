@@ -30,7 +30,7 @@ public class TradeConfirmationRequestHandler
               .getCommandSender()
               .send(new Command(request.getPlayer(), CommandType.SEND_NORMAL_REQUEST));
 
-          request.getPlayer().emptyMissing();
+          hearth.getPlayerManager().deferEmptyMissing(request.getPlayer());
         });
 
     TradeConfirmationRequestHandlerBuilder builder =
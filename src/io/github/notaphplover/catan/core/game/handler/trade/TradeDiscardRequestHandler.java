@@ -30,7 +30,7 @@ public class TradeDiscardRequestHandler extends StandardRequestHandler<ITradeDis
               .getCommandSender()
               .send(new Command(request.getPlayer(), CommandType.SEND_NORMAL_REQUEST));
 
-          request.getPlayer().emptyMissing();
+          hearth.getPlayerManager().deferEmptyMissing(request.getPlayer());
         });
 
     TradeDiscardRequestHandlerBuilder builder =
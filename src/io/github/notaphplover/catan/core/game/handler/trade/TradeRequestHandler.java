@@ -2,15 +2,19 @@ package io.github.notaphplover.catan.core.game.handler.trade;
 
 import io.github.notaphplover.catan.core.command.Command;
 import io.github.notaphplover.catan.core.command.CommandType;
+import io.github.notaphplover.catan.core.command.ICommand;
 import io.github.notaphplover.catan.core.exception.NonNullInputException;
 import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
 import io.github.notaphplover.catan.core.game.GameState;
 import io.github.notaphplover.catan.core.game.handler.StandardRequestHandler;
 import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
+import io.github.notaphplover.catan.core.game.trade.ITradeManager;
 import io.github.notaphplover.catan.core.player.IPlayer;
 import io.github.notaphplover.catan.core.request.trade.ITradeRequest;
 import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesException;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 
@@ -27,17 +31,19 @@ public class TradeRequestHandler extends StandardRequestHandler<ITradeRequest> {
 
     afterSuccessActions.add(
         (ICatanGameHearth hearth, ITradeRequest request) -> {
-          IPlayer active = hearth.getPlayerManager().getActivePlayer();
+          ITradeManager tradeManager = hearth.getTradeManager();
+          IPlayer[] players = hearth.getPlayerManager().getPlayers();
 
-          for (IPlayer player : hearth.getPlayerManager().getPlayers()) {
-            if (!active.equals(player)) {
-              hearth
-                  .getCommandSender()
-                  .send(new Command(player, CommandType.SEND_TRADE_AGREEMENT_REQUEST));
+          List<ICommand> commands = new ArrayList<ICommand>(players.length - 1);
 
-              player.emptyMissing();
+          for (IPlayer player : players) {
+            if (tradeManager.isEligibleSeller(player)) {
+              commands.add(new Command(player, CommandType.SEND_TRADE_AGREEMENT_REQUEST));
+              hearth.getPlayerManager().deferEmptyMissing(player);
             }
           }
+
+          hearth.getCommandSender().sendAll(commands);
         });
 
     TradeRequestHandlerBuilder builder =
@@ -57,7 +63,12 @@ public class TradeRequestHandler extends StandardRequestHandler<ITradeRequest> {
     BiFunction<ICatanGameHearth, ITradeRequest, Boolean> preconditionsFullfilledAction =
         (ICatanGameHearth hearth, ITradeRequest request) -> {
           try {
-            hearth.getTradeManager().start(request.getPlayer(), request.getTrade());
+            hearth
+                .getTradeManager()
+                .start(
+                    request.getPlayer(),
+                    request.getTrade(),
+                    hearth.getPlayerManager().getPlayers());
             return true;
           } catch (NonNullInputException
               | NonVoidCollectionException
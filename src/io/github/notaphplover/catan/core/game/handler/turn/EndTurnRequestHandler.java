@@ -38,7 +38,7 @@ public class EndTurnRequestHandler extends StandardRequestHandler<IEndTurnReques
               .send(
                   new Command(hearth.getPlayerManager().getActivePlayer(), CommandType.START_TURN));
 
-          hearth.getPlayerManager().getActivePlayer().emptyMissing();
+          hearth.getPlayerManager().deferEmptyMissing(hearth.getPlayerManager().getActivePlayer());
         });
 
     EndTurnRequestHandlerBuilder builder =
@@ -39,7 +39,7 @@ public class StartTurnRequestHandler extends StandardRequestHandler<IStartTurnRe
               .getCommandSender()
               .send(new Command(request.getPlayer(), CommandType.SEND_NORMAL_REQUEST));
 
-          request.getPlayer().emptyMissing();
+          hearth.getPlayerManager().deferEmptyMissing(request.getPlayer());
         });
 
     StartTurnRequestHandlerBuilder builder =
@@ -2,6 +2,7 @@ package io.github.notaphplover.catan.core.game.hearth;
 
 import io.github.notaphplover.catan.core.board.ICatanBoard;
 import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.element.IBoardElementCache;
 import io.github.notaphplover.catan.core.board.structure.StructureType;
 import io.github.notaphplover.catan.core.command.ICommandSender;
 import io.github.notaphplover.catan.core.game.GameState;
@@ -22,10 +23,14 @@ public class CatanGameHearth implements ICatanGameHearth {
 
   private IResourceManagerProvider<ConnectionType> connectionCostProvider;
 
+  private IBoardElementCache elementCache;
+
   private Consumer<IRequest> errorHandler;
 
   private IGameLog gameLog;
 
+  private boolean headless;
+
   private INumberGenerator numberGenerator;
 
   private IPlayerManager playerManager;
@@ -45,8 +50,10 @@ public class CatanGameHearth implements ICatanGameHearth {
     this.board = builder.getBoard();
     this.commandSender = builder.getCommandSender();
     this.connectionCostProvider = builder.getConnectionCostProvider();
+    this.elementCache = builder.getElementCache();
     this.errorHandler = builder.getErrorHandler();
     this.gameLog = builder.getGameLog();
+    this.headless = false;
     this.numberGenerator = builder.getNumberGenerator();
     this.playerManager = builder.getPlayerManager();
     this.pointsCalculator = builder.getPointsCalculator();
@@ -71,6 +78,11 @@ public class CatanGameHearth implements ICatanGameHearth {
     return connectionCostProvider;
   }
 
+  @Override
+  public IBoardElementCache getElementCache() {
+    return elementCache;
+  }
+
   @Override
   public Consumer<IRequest> getErrorHandler() {
     return errorHandler;
@@ -116,6 +128,16 @@ public class CatanGameHearth implements ICatanGameHearth {
     return tradeManager;
   }
 
+  @Override
+  public boolean isHeadless() {
+    return headless;
+  }
+
+  @Override
+  public void setHeadless(boolean headless) {
+    this.headless = headless;
+  }
+
   @Override
   public void setState(GameState state) {
     this.state = state;
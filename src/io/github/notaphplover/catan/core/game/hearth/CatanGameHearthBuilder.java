@@ -2,6 +2,7 @@ package io.github.notaphplover.catan.core.game.hearth;
 
 import io.github.notaphplover.catan.core.board.ICatanBoard;
 import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.element.IBoardElementCache;
 import io.github.notaphplover.catan.core.board.structure.StructureType;
 import io.github.notaphplover.catan.core.command.ICommandSender;
 import io.github.notaphplover.catan.core.game.GameState;
@@ -22,6 +23,8 @@ public class CatanGameHearthBuilder implements ICatanGameHearthBuilder {
 
   private IResourceManagerProvider<ConnectionType> connectionCostProvider;
 
+  private IBoardElementCache elementCache;
+
   private Consumer<IRequest> errorHandler;
 
   private IGameLog gameLog;
@@ -55,6 +58,11 @@ public class CatanGameHearthBuilder implements ICatanGameHearthBuilder {
     return connectionCostProvider;
   }
 
+  @Override
+  public IBoardElementCache getElementCache() {
+    return elementCache;
+  }
+
   @Override
   public Consumer<IRequest> getErrorHandler() {
     return errorHandler;
@@ -122,6 +130,12 @@ public class CatanGameHearthBuilder implements ICatanGameHearthBuilder {
     return this;
   }
 
+  @Override
+  public ICatanGameHearthBuilder setElementCache(IBoardElementCache elementCache) {
+    this.elementCache = elementCache;
+    return this;
+  }
+
   @Override
   public ICatanGameHearthBuilder setErrorHandler(Consumer<IRequest> errorHandler) {
     this.errorHandler = errorHandler;
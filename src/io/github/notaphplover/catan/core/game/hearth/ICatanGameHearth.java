@@ -2,6 +2,7 @@ package io.github.notaphplover.catan.core.game.hearth;
 
 import io.github.notaphplover.catan.core.board.ICatanBoard;
 import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.element.IBoardElementCache;
 import io.github.notaphplover.catan.core.board.structure.StructureType;
 import io.github.notaphplover.catan.core.command.ICommandSender;
 import io.github.notaphplover.catan.core.game.GameState;
@@ -22,6 +23,13 @@ public interface ICatanGameHearth {
 
   IResourceManagerProvider<ConnectionType> getConnectionCostProvider();
 
+  /**
+   * Gets the cache of the board elements built by the players of the game.
+   *
+   * @return Element cache or null if elements are not cached.
+   */
+  IBoardElementCache getElementCache();
+
   Consumer<IRequest> getErrorHandler();
 
   IGameLog getGameLog();
@@ -40,5 +48,15 @@ public interface ICatanGameHearth {
 
   ITradeManager getTradeManager();
 
+  /**
+   * Determines if requests are processed without notifying anyone. Headless requests send no
+   * commands, do not report rejections and leave the missing requests of the players untouched.
+   *
+   * @return True if requests are processed headless.
+   */
+  boolean isHeadless();
+
+  void setHeadless(boolean headless);
+
   void setState(GameState state);
 }
@@ -2,6 +2,7 @@ package io.github.notaphplover.catan.core.game.hearth;
 
 import io.github.notaphplover.catan.core.board.ICatanBoard;
 import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.element.IBoardElementCache;
 import io.github.notaphplover.catan.core.board.structure.StructureType;
 import io.github.notaphplover.catan.core.command.ICommandSender;
 import io.github.notaphplover.catan.core.game.GameState;
@@ -22,6 +23,8 @@ public interface ICatanGameHearthBuilder {
 
   IResourceManagerProvider<ConnectionType> getConnectionCostProvider();
 
+  IBoardElementCache getElementCache();
+
   Consumer<IRequest> getErrorHandler();
 
   IGameLog getGameLog();
@@ -47,6 +50,8 @@ public interface ICatanGameHearthBuilder {
   ICatanGameHearthBuilder setConnectionCostProvider(
       IResourceManagerProvider<ConnectionType> connectionCostProvider);
 
+  ICatanGameHearthBuilder setElementCache(IBoardElementCache elementCache);
+
   ICatanGameHearthBuilder setErrorHandler(Consumer<IRequest> errorHandler);
 
   ICatanGameHearthBuilder setGameLog(IGameLog gameLog);
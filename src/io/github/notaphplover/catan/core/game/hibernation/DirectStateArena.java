@@ -0,0 +1,114 @@
+package io.github.notaphplover.catan.core.game.hibernation;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Off-heap state arena.
+ *
+ * <p>States are stored in power of two slots carved from direct memory chunks. Released slots are
+ * reused by states of the same size class, so no direct memory is allocated once the arena is warm.
+ * States larger than a chunk get their own direct buffer.
+ */
+public class DirectStateArena implements IStateArena {
+
+  private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+  private static final int MIN_SLOT_SHIFT = 6;
+
+  private ByteBuffer chunk;
+
+  private int chunkSize;
+
+  private List<ArrayDeque<ByteBuffer>> freeSlots;
+
+  private long storedBytes;
+
+  public DirectStateArena() {
+    this(DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Creates a direct state arena.
+   *
+   * @param chunkSize Size of the direct memory chunks. It is rounded up to a power of two.
+   */
+  public DirectStateArena(int chunkSize) {
+
+    this.chunkSize = Math.max(1 << MIN_SLOT_SHIFT, Integer.highestOneBit(chunkSize - 1) << 1);
+
+    int sizeClasses = getSizeClass(this.chunkSize) + 1;
+
+    freeSlots = new ArrayList<ArrayDeque<ByteBuffer>>(sizeClasses);
+
+    for (int i = 0; i < sizeClasses; ++i) {
+      freeSlots.add(new ArrayDeque<ByteBuffer>());
+    }
+  }
+
+  @Override
+  public synchronized long getStoredBytes() {
+    return storedBytes;
+  }
+
+  @Override
+  public synchronized void release(ByteBuffer state) {
+
+    storedBytes -= state.capacity();
+
+    if (state.capacity() <= chunkSize) {
+      freeSlots.get(getSizeClass(state.capacity())).push(state);
+    }
+  }
+
+  @Override
+  public synchronized ByteBuffer store(ByteBuffer state) {
+
+    ByteBuffer slot = allocate(state.remaining());
+
+    storedBytes += slot.capacity();
+
+    slot.clear();
+    slot.put(state);
+    slot.flip();
+
+    return slot;
+  }
+
+  private ByteBuffer allocate(int size) {
+
+    if (size > chunkSize) {
+      return ByteBuffer.allocateDirect(size);
+    }
+
+    int sizeClass = getSizeClass(size);
+
+    ArrayDeque<ByteBuffer> sizeClassSlots = freeSlots.get(sizeClass);
+
+    if (!sizeClassSlots.isEmpty()) {
+      return sizeClassSlots.pop();
+    }
+
+    int slotSize = 1 << (sizeClass + MIN_SLOT_SHIFT);
+
+    if (chunk == null || chunk.remaining() < slotSize) {
+      chunk = ByteBuffer.allocateDirect(chunkSize);
+    }
+
+    ByteBuffer slot = chunk.slice();
+    slot.limit(slotSize);
+    slot = slot.slice();
+
+    chunk.position(chunk.position() + slotSize);
+
+    return slot;
+  }
+
+  private static int getSizeClass(int size) {
+    int shift = 32 - Integer.numberOfLeadingZeros(Math.max(size, 1) - 1);
+
+    return Math.max(0, shift - MIN_SLOT_SHIFT);
+  }
+}
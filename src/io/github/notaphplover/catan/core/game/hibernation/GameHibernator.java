@@ -0,0 +1,141 @@
+package io.github.notaphplover.catan.core.game.hibernation;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.request.IRequest;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import java.util.function.LongSupplier;
+
+/**
+ * Game hibernator based on an access ordered map.
+ *
+ * <p>The eldest entry of the map is always the least recently used game, so both eviction policies
+ * only visit the games they hibernate. Games are hibernated in the thread calling the hibernator.
+ * Games processing requests through the hibernator are pinned and never evicted meanwhile, other
+ * requests must not overlap with hibernation. Evicted games which {@link ICatanGame#canHibernate()
+ * cannot be hibernated} are kept awake and untracked until they are used again.
+ */
+public class GameHibernator implements IGameHibernator {
+
+  private IStateArena arena;
+
+  private LinkedHashMap<ICatanGame, Long> awakeGames;
+
+  private LongSupplier clock;
+
+  private int maxAwakeGames;
+
+  private long maxIdleTime;
+
+  private HashMap<ICatanGame, Integer> pinnedGames;
+
+  public GameHibernator() throws NonNullInputException {
+    this(new GameHibernatorBuilder());
+  }
+
+  public GameHibernator(IGameHibernatorBuilder builder) throws NonNullInputException {
+
+    if (builder.getArena() == null || builder.getClock() == null) {
+      throw new NonNullInputException();
+    }
+
+    if (builder.getMaxAwakeGames() < 1) {
+      throw new IllegalArgumentException("At least one game must be kept awake");
+    }
+
+    if (builder.getMaxIdleTime() < 0) {
+      throw new IllegalArgumentException("Hibernation thresholds must not be negative");
+    }
+
+    arena = builder.getArena();
+    clock = builder.getClock();
+    maxAwakeGames = builder.getMaxAwakeGames();
+    maxIdleTime = builder.getMaxIdleTime();
+
+    awakeGames = new LinkedHashMap<ICatanGame, Long>(16, 0.75f, true);
+    pinnedGames = new HashMap<ICatanGame, Integer>();
+  }
+
+  @Override
+  public synchronized int getAwakeGames() {
+    return awakeGames.size();
+  }
+
+  @Override
+  public synchronized int hibernateIdle() {
+
+    long now = clock.getAsLong();
+    int hibernatedGames = 0;
+
+    Iterator<Entry<ICatanGame, Long>> iterator = awakeGames.entrySet().iterator();
+
+    while (iterator.hasNext()) {
+      Entry<ICatanGame, Long> entry = iterator.next();
+
+      if (now - entry.getValue() <= maxIdleTime) {
+        break;
+      }
+
+      ICatanGame game = entry.getKey();
+
+      if (pinnedGames.containsKey(game)) {
+        continue;
+      }
+
+      if (game.canHibernate()) {
+        game.hibernate(arena);
+        ++hibernatedGames;
+      }
+
+      iterator.remove();
+    }
+
+    return hibernatedGames;
+  }
+
+  @Override
+  public void processRequest(ICatanGame game, IRequest request) {
+    synchronized (this) {
+      touch(game);
+      pinnedGames.merge(game, 1, Integer::sum);
+    }
+
+    try {
+      game.processRequest(request);
+    } finally {
+      synchronized (this) {
+        pinnedGames.computeIfPresent(game, (pinnedGame, pins) -> pins == 1 ? null : pins - 1);
+      }
+    }
+  }
+
+  @Override
+  public synchronized void remove(ICatanGame game) {
+    awakeGames.remove(game);
+  }
+
+  @Override
+  public synchronized void touch(ICatanGame game) {
+
+    awakeGames.put(game, clock.getAsLong());
+
+    Iterator<ICatanGame> iterator = awakeGames.keySet().iterator();
+
+    while (awakeGames.size() > maxAwakeGames && iterator.hasNext()) {
+      ICatanGame eldestGame = iterator.next();
+
+      if (eldestGame == game || pinnedGames.containsKey(eldestGame)) {
+        continue;
+      }
+
+      if (eldestGame.canHibernate()) {
+        eldestGame.hibernate(arena);
+      }
+
+      iterator.remove();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.notaphplover.catan.core.game.hibernation;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class GameHibernatorBuilder implements IGameHibernatorBuilder {
+
+  private static final int DEFAULT_MAX_AWAKE_GAMES = 1024;
+
+  private static final long DEFAULT_MAX_IDLE_TIME = TimeUnit.MINUTES.toNanos(1);
+
+  private IStateArena arena;
+
+  private LongSupplier clock;
+
+  private int maxAwakeGames;
+
+  private long maxIdleTime;
+
+  public GameHibernatorBuilder() {
+    arena = new DirectStateArena();
+    clock = System::nanoTime;
+    maxAwakeGames = DEFAULT_MAX_AWAKE_GAMES;
+    maxIdleTime = DEFAULT_MAX_IDLE_TIME;
+  }
+
+  @Override
+  public IStateArena getArena() {
+    return arena;
+  }
+
+  @Override
+  public LongSupplier getClock() {
+    return clock;
+  }
+
+  @Override
+  public int getMaxAwakeGames() {
+    return maxAwakeGames;
+  }
+
+  @Override
+  public long getMaxIdleTime() {
+    return maxIdleTime;
+  }
+
+  @Override
+  public IGameHibernatorBuilder setArena(IStateArena arena) {
+    this.arena = arena;
+    return this;
+  }
+
+  @Override
+  public IGameHibernatorBuilder setClock(LongSupplier clock) {
+    this.clock = clock;
+    return this;
+  }
+
+  @Override
+  public IGameHibernatorBuilder setMaxAwakeGames(int maxAwakeGames) {
+    this.maxAwakeGames = maxAwakeGames;
+    return this;
+  }
+
+  @Override
+  public IGameHibernatorBuilder setMaxIdleTime(long maxIdleTime) {
+    this.maxIdleTime = maxIdleTime;
+    return this;
+  }
+}
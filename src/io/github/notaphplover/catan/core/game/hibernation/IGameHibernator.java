@@ -0,0 +1,53 @@
+package io.github.notaphplover.catan.core.game.hibernation;
+
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.request.IRequest;
+
+/**
+ * Tracks the games of a host and hibernates the least recently used ones.
+ *
+ * <p>Hibernated games are rehydrated by the game itself once it is accessed again. Requests should
+ * be processed through {@link #processRequest(ICatanGame, IRequest)} so the hibernator keeps track
+ * of the games in use.
+ */
+public interface IGameHibernator {
+
+  /**
+   * Gets the number of games tracked which are not hibernated.
+   *
+   * @return Awake games.
+   */
+  int getAwakeGames();
+
+  /**
+   * Hibernates every awake game idle for longer than the maximum idle time.
+   *
+   * @return Number of games hibernated.
+   */
+  int hibernateIdle();
+
+  /**
+   * Processes a request on a game marking the game as used.
+   *
+   * <p>If the maximum number of awake games is exceeded, the least recently used games are
+   * hibernated. The game is never hibernated while the request is processed.
+   *
+   * @param game Game to process the request.
+   * @param request Request to process.
+   */
+  void processRequest(ICatanGame game, IRequest request);
+
+  /**
+   * Stops tracking a game.
+   *
+   * @param game Game to forget.
+   */
+  void remove(ICatanGame game);
+
+  /**
+   * Marks a game as used.
+   *
+   * @param game Game used.
+   */
+  void touch(ICatanGame game);
+}
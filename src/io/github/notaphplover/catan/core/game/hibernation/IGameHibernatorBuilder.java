@@ -0,0 +1,34 @@
+package io.github.notaphplover.catan.core.game.hibernation;
+
+import java.util.function.LongSupplier;
+
+public interface IGameHibernatorBuilder {
+
+  IStateArena getArena();
+
+  LongSupplier getClock();
+
+  int getMaxAwakeGames();
+
+  long getMaxIdleTime();
+
+  IGameHibernatorBuilder setArena(IStateArena arena);
+
+  /**
+   * Sets the clock used to track idle games.
+   *
+   * @param clock Clock providing nanoseconds.
+   * @return This builder.
+   */
+  IGameHibernatorBuilder setClock(LongSupplier clock);
+
+  IGameHibernatorBuilder setMaxAwakeGames(int maxAwakeGames);
+
+  /**
+   * Sets the time a game can be idle before {@link IGameHibernator#hibernateIdle()} hibernates it.
+   *
+   * @param maxIdleTime Maximum idle time in nanoseconds.
+   * @return This builder.
+   */
+  IGameHibernatorBuilder setMaxIdleTime(long maxIdleTime);
+}
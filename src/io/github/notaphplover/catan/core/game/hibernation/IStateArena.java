@@ -0,0 +1,29 @@
+package io.github.notaphplover.catan.core.game.hibernation;
+
+import java.nio.ByteBuffer;
+
+/** Storage of encoded game states. */
+public interface IStateArena {
+
+  /**
+   * Gets the number of bytes held by the states stored.
+   *
+   * @return Bytes stored.
+   */
+  long getStoredBytes();
+
+  /**
+   * Releases a stored state. The buffer must not be used afterwards.
+   *
+   * @param state Buffer returned by {@link #store(ByteBuffer)}.
+   */
+  void release(ByteBuffer state);
+
+  /**
+   * Copies the remaining bytes of a state into the arena.
+   *
+   * @param state State to store.
+   * @return Buffer ready to be read holding the state.
+   */
+  ByteBuffer store(ByteBuffer state);
+}
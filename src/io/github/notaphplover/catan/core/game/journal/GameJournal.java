@@ -0,0 +1,205 @@
+package io.github.notaphplover.catan.core.game.journal;
+
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.exception.UnexpectedException;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
+import io.github.notaphplover.catan.core.game.log.IGameLog;
+import io.github.notaphplover.catan.core.game.log.ILogEntry;
+import io.github.notaphplover.catan.core.game.player.IPlayerManager;
+import io.github.notaphplover.catan.core.game.trade.ITradeManager;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.IBuildElementRequest;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.resource.IResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import java.util.Arrays;
+
+/**
+ * Undo journal based on frames stored in parallel arrays.
+ *
+ * <p>Every frame keeps the turn state, the game state, the log size, the resources of every player,
+ * the board cell targeted by build requests and a trade copy for trade requests. Board production
+ * and points are derived from the board, so restoring the cell restores them as well.
+ *
+ * <p>Production numbers drawn from the number generator, commands sent and missing requests
+ * registered on players are not reverted.
+ */
+public class GameJournal implements IGameJournal {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private static final int NO_ENTRY = -1;
+
+  private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+  private IBoardElement[] cells;
+
+  private int[] cellCoordinates;
+
+  private int[] entrySizes;
+
+  private int[] logSizes;
+
+  private int[] resources;
+
+  private int size;
+
+  private GameState[] states;
+
+  private ITradeManager[] trades;
+
+  private int[] turnNumbers;
+
+  private boolean[] turnsStarted;
+
+  public GameJournal() {
+    cells = new IBoardElement[DEFAULT_CAPACITY];
+    cellCoordinates = new int[DEFAULT_CAPACITY << 1];
+    entrySizes = new int[DEFAULT_CAPACITY];
+    logSizes = new int[DEFAULT_CAPACITY];
+    resources = new int[0];
+    size = 0;
+    states = new GameState[DEFAULT_CAPACITY];
+    trades = new ITradeManager[DEFAULT_CAPACITY];
+    turnNumbers = new int[DEFAULT_CAPACITY];
+    turnsStarted = new boolean[DEFAULT_CAPACITY];
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(cells, 0, size, null);
+    Arrays.fill(trades, 0, size, null);
+
+    size = 0;
+  }
+
+  @Override
+  public int record(ICatanGameHearth hearth, IRequest request) {
+
+    IPlayerManager playerManager = hearth.getPlayerManager();
+    IPlayer[] players = playerManager.getPlayers();
+    int frameResources = players.length * RESOURCE_TYPES.length;
+
+    ensureCapacity(size + 1, frameResources);
+
+    int turnNumber = playerManager.getTurnNumber();
+    IGameLog log = hearth.getGameLog();
+    ILogEntry entry = log.get(turnNumber);
+
+    turnNumbers[size] = turnNumber;
+    turnsStarted[size] = playerManager.isTurnStarted();
+    states[size] = hearth.getState();
+    logSizes[size] = log.size();
+    entrySizes[size] = entry == null ? NO_ENTRY : entry.size();
+
+    int offset = size * frameResources;
+    for (IPlayer player : players) {
+      IResourceManager resourceManager = player.getResourceManager();
+      for (ResourceType type : RESOURCE_TYPES) {
+        resources[offset++] = resourceManager.getResource(type);
+      }
+    }
+
+    if (request instanceof IBuildElementRequest) {
+      IBuildElementRequest buildRequest = (IBuildElementRequest) request;
+      cells[size] = hearth.getBoard().get(buildRequest.getX(), buildRequest.getY());
+      cellCoordinates[size << 1] = buildRequest.getX();
+      cellCoordinates[(size << 1) + 1] = buildRequest.getY();
+    } else {
+      cells[size] = null;
+    }
+
+    trades[size] = isTradeRequest(request) ? hearth.getTradeManager().copy() : null;
+
+    return size++;
+  }
+
+  @Override
+  public void rollback(ICatanGameHearth hearth, int token) {
+
+    if (token < 0 || token >= size) {
+      throw new IndexOutOfBoundsException(token);
+    }
+
+    while (size > token) {
+      restoreFrame(hearth, --size);
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private void ensureCapacity(int frames, int frameResources) {
+    if (frames > turnNumbers.length) {
+      int capacity = turnNumbers.length << 1;
+
+      cells = Arrays.copyOf(cells, capacity);
+      cellCoordinates = Arrays.copyOf(cellCoordinates, capacity << 1);
+      entrySizes = Arrays.copyOf(entrySizes, capacity);
+      logSizes = Arrays.copyOf(logSizes, capacity);
+      states = Arrays.copyOf(states, capacity);
+      trades = Arrays.copyOf(trades, capacity);
+      turnNumbers = Arrays.copyOf(turnNumbers, capacity);
+      turnsStarted = Arrays.copyOf(turnsStarted, capacity);
+    }
+
+    if (turnNumbers.length * frameResources > resources.length) {
+      resources = Arrays.copyOf(resources, turnNumbers.length * frameResources);
+    }
+  }
+
+  private boolean isTradeRequest(IRequest request) {
+    switch (request.getType()) {
+      case ORDER:
+      case ORDER_CANCEL:
+      case TRADE:
+      case TRADE_AGREEMENT:
+      case TRADE_CONFIRMATION:
+      case TRADE_DISCARD:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private void restoreFrame(ICatanGameHearth hearth, int frame) {
+
+    if (cells[frame] != null) {
+      try {
+        hearth
+            .getBoard()
+            .restore(cells[frame], cellCoordinates[frame << 1], cellCoordinates[(frame << 1) + 1]);
+      } catch (InvalidBoardElementException e) {
+        throw new UnexpectedException(e);
+      }
+      cells[frame] = null;
+    }
+
+    IPlayer[] players = hearth.getPlayerManager().getPlayers();
+    int offset = frame * players.length * RESOURCE_TYPES.length;
+    for (IPlayer player : players) {
+      IResourceManager resourceManager = player.getResourceManager();
+      for (ResourceType type : RESOURCE_TYPES) {
+        resourceManager.set(type, resources[offset++]);
+      }
+    }
+
+    if (trades[frame] != null) {
+      hearth.getTradeManager().restore(trades[frame]);
+      trades[frame] = null;
+    }
+
+    IGameLog log = hearth.getGameLog();
+    log.truncate(logSizes[frame]);
+    if (entrySizes[frame] != NO_ENTRY) {
+      log.get(turnNumbers[frame]).truncate(entrySizes[frame]);
+    }
+
+    hearth.getPlayerManager().setTurn(turnNumbers[frame], turnsStarted[frame]);
+    hearth.setState(states[frame]);
+  }
+}
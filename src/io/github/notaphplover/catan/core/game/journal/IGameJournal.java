@@ -0,0 +1,40 @@
+package io.github.notaphplover.catan.core.game.journal;
+
+import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
+import io.github.notaphplover.catan.core.request.IRequest;
+
+/**
+ * Represents an undo journal.
+ *
+ * <p>A journal records the state a request is able to modify before the request is processed, so
+ * the state can be restored later. Frames are restored in LIFO order.
+ */
+public interface IGameJournal {
+
+  /** Discards every frame recorded without restoring it. */
+  void clear();
+
+  /**
+   * Records the state of the game a request is able to modify.
+   *
+   * @param hearth Game hearth.
+   * @param request Request about to be processed.
+   * @return Token of the frame recorded.
+   */
+  int record(ICatanGameHearth hearth, IRequest request);
+
+  /**
+   * Restores the state recorded at a frame. Every frame recorded after it is discarded.
+   *
+   * @param hearth Game hearth.
+   * @param token Token of the frame to restore.
+   */
+  void rollback(ICatanGameHearth hearth, int token);
+
+  /**
+   * Gets the number of frames recorded.
+   *
+   * @return Number of frames recorded.
+   */
+  int size();
+}
@@ -17,6 +17,13 @@ public interface IGameLog {
    */
   ILogEntry get(int turn);
 
+  /**
+   * Creates an independent copy of the log.
+   *
+   * @return Log copy.
+   */
+  IGameLog copy();
+
   /**
    * Determines if at least a request of the specific type has been logged at the specified turn.
    *
@@ -40,4 +47,11 @@ public interface IGameLog {
    * @return Number of entries registered.
    */
   int size();
+
+  /**
+   * Removes every entry registered after the first ones.
+   *
+   * @param size Number of entries to keep.
+   */
+  void truncate(int size);
 }
@@ -6,7 +6,18 @@ public interface ILogEntry {
 
   public void add(IRequest request);
 
+  public ILogEntry copy();
+
   public int getProductionNumber();
 
   public Iterable<IRequest> getRequests();
+
+  public int size();
+
+  /**
+   * Removes every request registered after the first ones.
+   *
+   * @param size Number of requests to keep.
+   */
+  public void truncate(int size);
 }
@@ -6,6 +6,7 @@ import io.github.notaphplover.catan.core.request.IRequest;
 import io.github.notaphplover.catan.core.request.RequestType;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Map.Entry;
 import java.util.TreeMap;
 
 public class LinearGameLog implements IGameLog {
@@ -13,7 +14,7 @@ public class LinearGameLog implements IGameLog {
   private TreeMap<Integer, ILogEntry> entries;
 
   public LinearGameLog() throws NonNullInputException {
-    this(null);
+    this((Collection<ILogEntry>) null);
   }
 
   public LinearGameLog(Collection<ILogEntry> entriesCollection) throws NonNullInputException {
@@ -34,6 +35,20 @@ public class LinearGameLog implements IGameLog {
     }
   }
 
+  public LinearGameLog(LinearGameLog other) {
+
+    entries = new TreeMap<Integer, ILogEntry>();
+
+    for (Entry<Integer, ILogEntry> entry : other.entries.entrySet()) {
+      entries.put(entry.getKey(), entry.getValue().copy());
+    }
+  }
+
+  @Override
+  public IGameLog copy() {
+    return new LinearGameLog(this);
+  }
+
   @Override
   public ILogEntry get(int turn) {
     return entries.get(turn);
@@ -72,4 +87,9 @@ public class LinearGameLog implements IGameLog {
   public int size() {
     return entries.size();
   }
+
+  @Override
+  public void truncate(int size) {
+    entries.tailMap(size).clear();
+  }
 }
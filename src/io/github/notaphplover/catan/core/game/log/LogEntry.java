@@ -3,12 +3,13 @@ package io.github.notaphplover.catan.core.game.log;
 import io.github.notaphplover.catan.core.request.IRequest;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public class LogEntry implements ILogEntry {
 
   private int productionNumber;
 
-  private Collection<IRequest> requests;
+  private List<IRequest> requests;
 
   public LogEntry(int productionNumber, Collection<IRequest> requests) {
 
@@ -16,6 +17,11 @@ public class LogEntry implements ILogEntry {
     this.requests = new ArrayList<IRequest>(requests);
   }
 
+  @Override
+  public ILogEntry copy() {
+    return new LogEntry(productionNumber, requests);
+  }
+
   @Override
   public int getProductionNumber() {
     return productionNumber;
@@ -26,6 +32,16 @@ public class LogEntry implements ILogEntry {
     return requests;
   }
 
+  @Override
+  public int size() {
+    return requests.size();
+  }
+
+  @Override
+  public void truncate(int size) {
+    requests.subList(size, requests.size()).clear();
+  }
+
   @Override
   public void add(IRequest request) {
     requests.add(request);
@@ -0,0 +1,105 @@
+package io.github.notaphplover.catan.core.game.migration;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.UnexpectedException;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.codec.GameStateCodec;
+import io.github.notaphplover.catan.core.game.replication.IReplicationPrimary;
+import io.github.notaphplover.catan.core.game.replication.IReplicationSender;
+import io.github.notaphplover.catan.core.game.replication.ReplicationPrimary;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import java.nio.ByteBuffer;
+
+/**
+ * Source side of a game migration.
+ *
+ * <p>The game keeps processing requests while its snapshot is transferred, and those requests are
+ * forwarded to the target as replication records. The route is only paused by {@link #complete()},
+ * until the target catches up and takes it over.
+ */
+public class GameMigration implements IGameMigration {
+
+  private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+  private IReplicationPrimary primary;
+
+  private IGameRoute route;
+
+  private IReplicationSender transport;
+
+  public GameMigration(IGameRoute route, IReplicationSender transport)
+      throws NonNullInputException {
+
+    if (route == null || transport == null) {
+      throw new NonNullInputException();
+    }
+
+    this.route = route;
+    this.transport = transport;
+  }
+
+  @Override
+  public void complete() {
+    route.execute(
+        (ICatanGame game) -> {
+          route.pause();
+          primary.stop();
+
+          ByteBuffer message = ByteBuffer.allocate(Byte.BYTES + Long.BYTES);
+
+          message.put(MigrationMessage.HAND_OFF);
+          message.putLong(primary.getShippedSequence());
+          message.flip();
+
+          transport.send(message);
+        });
+  }
+
+  @Override
+  public void start() {
+    route.execute(
+        (ICatanGame game) -> {
+          transport.send(buildSnapshot(game));
+
+          try {
+            primary = new ReplicationPrimary(game, new RecordSender(transport));
+          } catch (NonNullInputException e) {
+            throw new UnexpectedException(e);
+          }
+
+          primary.start();
+        });
+  }
+
+  private static ByteBuffer buildSnapshot(ICatanGame game) {
+
+    IPlayer[] players = game.getPlayers();
+
+    ByteBuffer state =
+        game.encode(new GameStateCodec(game.getBoard().getTerrainProductionProvider()));
+
+    ByteBuffer message =
+        ByteBuffer.allocate(
+            Byte.BYTES
+                + Integer.BYTES
+                + players.length * Integer.BYTES * (1 + RESOURCE_TYPES.length)
+                + state.remaining());
+
+    message.put(MigrationMessage.SNAPSHOT);
+    message.putInt(players.length);
+
+    for (IPlayer player : players) {
+      message.putInt(player.getId());
+
+      for (ResourceType type : RESOURCE_TYPES) {
+        message.putInt(player.getResourceManager().getResource(type));
+      }
+    }
+
+    message.put(state);
+    message.flip();
+
+    return message;
+  }
+}
@@ -0,0 +1,106 @@
+package io.github.notaphplover.catan.core.game.migration;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.IRequest;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * Game route guarded by its own monitor.
+ *
+ * <p>Requests are processed while holding the monitor, so a switch is atomic with respect to them.
+ * Senders keep referencing the players of the previous game once the route is switched, so requests
+ * are translated to the players of the current game before being processed.
+ */
+public class GameRoute implements IGameRoute {
+
+  private ICatanGame game;
+
+  private Queue<IRequest> parkedRequests;
+
+  private boolean paused;
+
+  private IPlayer[] players;
+
+  public GameRoute(ICatanGame game) throws NonNullInputException {
+    if (game == null) {
+      throw new NonNullInputException();
+    }
+
+    this.game = game;
+
+    parkedRequests = new ArrayDeque<IRequest>();
+    paused = false;
+    players = game.getPlayers();
+  }
+
+  @Override
+  public synchronized void execute(Consumer<ICatanGame> action) {
+    action.accept(game);
+  }
+
+  @Override
+  public synchronized ICatanGame getGame() {
+    return game;
+  }
+
+  @Override
+  public synchronized boolean isPaused() {
+    return paused;
+  }
+
+  @Override
+  public synchronized void pause() {
+    paused = true;
+  }
+
+  @Override
+  public synchronized void processRequest(IRequest request) {
+    if (paused) {
+      parkedRequests.add(request);
+    } else {
+      game.processRequest(translate(request));
+    }
+  }
+
+  @Override
+  public synchronized void resume() {
+    paused = false;
+
+    IRequest request;
+
+    while ((request = parkedRequests.poll()) != null) {
+      game.processRequest(translate(request));
+    }
+  }
+
+  @Override
+  public synchronized void switchTo(ICatanGame newGame) {
+    game = newGame;
+    players = newGame.getPlayers();
+
+    resume();
+  }
+
+  private IRequest translate(IRequest request) {
+
+    IPlayer requester = request.getPlayer();
+
+    for (IPlayer player : players) {
+      if (player == requester) {
+        return request;
+      }
+    }
+
+    for (IPlayer player : players) {
+      if (player.equals(requester)) {
+        return request.withPlayer(player);
+      }
+    }
+
+    return request;
+  }
+}
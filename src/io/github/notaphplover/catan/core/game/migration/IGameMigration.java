@@ -0,0 +1,17 @@
+package io.github.notaphplover.catan.core.game.migration;
+
+public interface IGameMigration {
+
+  /**
+   * Pauses the route and hands the game off to the target.
+   *
+   * <p>Requests received from now on are parked until the target takes the route over.
+   */
+  void complete();
+
+  /**
+   * Sends a snapshot of the game to the target and starts forwarding the requests processed
+   * meanwhile.
+   */
+  void start();
+}
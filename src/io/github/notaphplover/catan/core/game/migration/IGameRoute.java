@@ -0,0 +1,48 @@
+package io.github.notaphplover.catan.core.game.migration;
+
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.request.IRequest;
+import java.util.function.Consumer;
+
+/**
+ * Entry point of the requests of a game.
+ *
+ * <p>The route owns the game processing its requests, so ownership can be switched without the
+ * senders of the requests noticing it.
+ */
+public interface IGameRoute {
+
+  /**
+   * Runs an action over the current game while no request is processed.
+   *
+   * @param action Action to run.
+   */
+  void execute(Consumer<ICatanGame> action);
+
+  ICatanGame getGame();
+
+  boolean isPaused();
+
+  /** Parks every request received until the route is resumed or switched. */
+  void pause();
+
+  /**
+   * Processes a request in the current game or parks it if the route is paused.
+   *
+   * <p>Requests of players of a previous game of the route are processed on behalf of the matching
+   * players of the current game.
+   *
+   * @param request Request to process.
+   */
+  void processRequest(IRequest request);
+
+  /** Processes the parked requests in the current game and stops parking requests. */
+  void resume();
+
+  /**
+   * Sets the game owning the route and processes the parked requests in it.
+   *
+   * @param game New game of the route. Its players must match the current ones.
+   */
+  void switchTo(ICatanGame game);
+}
@@ -0,0 +1,30 @@
+package io.github.notaphplover.catan.core.game.migration;
+
+import io.github.notaphplover.catan.core.game.ICatanGame;
+
+public interface IMigrationTarget {
+
+  /**
+   * Gets the game restored from the snapshot.
+   *
+   * @return Restored game or null if no snapshot is received.
+   */
+  ICatanGame getGame();
+
+  /**
+   * Determines if the target took the route over.
+   *
+   * @return true if the migration is completed.
+   */
+  boolean isCompleted();
+
+  /**
+   * Determines if the migration failed. The route is then resumed on the source game.
+   *
+   * @return true if the migration failed.
+   */
+  boolean isFailed();
+
+  /** Starts receiving migration messages. */
+  void start();
+}
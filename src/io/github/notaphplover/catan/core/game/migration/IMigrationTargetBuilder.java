@@ -0,0 +1,54 @@
+package io.github.notaphplover.catan.core.game.migration;
+
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.command.ICommandSender;
+import io.github.notaphplover.catan.core.game.codec.IGameStateCodec;
+import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
+import io.github.notaphplover.catan.core.game.replication.IReplicationReceiver;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.resource.provider.IResourceManagerProvider;
+import java.util.function.Consumer;
+
+public interface IMigrationTargetBuilder {
+
+  IGameStateCodec getCodec();
+
+  ICommandSender getCommandSender();
+
+  IResourceManagerProvider<ConnectionType> getConnectionCostProvider();
+
+  Consumer<IRequest> getErrorHandler();
+
+  INumberGenerator getNumberGenerator();
+
+  IGameRoute getRoute();
+
+  IResourceManagerProvider<StructureType> getStructureCostProvider();
+
+  IReplicationReceiver getTransport();
+
+  /**
+   * Sets the codec used to decode the snapshot. Terrains are restored with its production provider.
+   *
+   * @param codec Game state codec.
+   * @return This builder.
+   */
+  IMigrationTargetBuilder setCodec(IGameStateCodec codec);
+
+  IMigrationTargetBuilder setCommandSender(ICommandSender commandSender);
+
+  IMigrationTargetBuilder setConnectionCostProvider(
+      IResourceManagerProvider<ConnectionType> connectionCostProvider);
+
+  IMigrationTargetBuilder setErrorHandler(Consumer<IRequest> errorHandler);
+
+  IMigrationTargetBuilder setNumberGenerator(INumberGenerator numberGenerator);
+
+  IMigrationTargetBuilder setRoute(IGameRoute route);
+
+  IMigrationTargetBuilder setStructureCostProvider(
+      IResourceManagerProvider<StructureType> structureCostProvider);
+
+  IMigrationTargetBuilder setTransport(IReplicationReceiver transport);
+}
@@ -0,0 +1,20 @@
+package io.github.notaphplover.catan.core.game.migration;
+
+/**
+ * Kinds of migration messages.
+ *
+ * <p>Every message starts with its kind. A snapshot holds the amount of players, the id and the
+ * resources of every player and the encoded state of the game. A record holds a replication record
+ * of a request processed during the transfer. A hand off holds the sequence number of the last
+ * record sent.
+ */
+final class MigrationMessage {
+
+  static final byte HAND_OFF = 2;
+
+  static final byte RECORD = 1;
+
+  static final byte SNAPSHOT = 0;
+
+  private MigrationMessage() {}
+}
@@ -0,0 +1,209 @@
+package io.github.notaphplover.catan.core.game.migration;
+
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.command.ICommandSender;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.game.CatanGame;
+import io.github.notaphplover.catan.core.game.CatanGameBuilder;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.codec.IGameStateCodec;
+import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
+import io.github.notaphplover.catan.core.game.generator.ReplicatedNumberGenerator;
+import io.github.notaphplover.catan.core.game.player.PlayerManager;
+import io.github.notaphplover.catan.core.game.replication.IReplicationReceiver;
+import io.github.notaphplover.catan.core.game.replication.IReplicationStandby;
+import io.github.notaphplover.catan.core.game.replication.LoopbackReplicationTransport;
+import io.github.notaphplover.catan.core.game.replication.ReplicationStandby;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import io.github.notaphplover.catan.core.resource.provider.IResourceManagerProvider;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Target side of a game migration.
+ *
+ * <p>The game is restored from the snapshot and it follows the source through a replication
+ * standby. Once the hand off arrives, the route is switched to the restored game if every record
+ * was applied, or resumed on the source game otherwise.
+ *
+ * <p>Replayed records are applied headless, so the restored game sends no command and reports no
+ * error until it takes the route over.
+ */
+public class MigrationTarget implements IMigrationTarget, Consumer<ByteBuffer> {
+
+  private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+  private IGameStateCodec codec;
+
+  private ICommandSender commandSender;
+
+  private volatile boolean completed;
+
+  private IResourceManagerProvider<ConnectionType> connectionCostProvider;
+
+  private Consumer<IRequest> errorHandler;
+
+  private volatile boolean failed;
+
+  private volatile ICatanGame game;
+
+  private INumberGenerator numberGenerator;
+
+  private LoopbackReplicationTransport records;
+
+  private IGameRoute route;
+
+  private IReplicationStandby standby;
+
+  private IResourceManagerProvider<StructureType> structureCostProvider;
+
+  private IReplicationReceiver transport;
+
+  /**
+   * Creates a migration target.
+   *
+   * @param builder Builder providing the route, the transport of the migration messages and the
+   *     parts of the restored game not included in the snapshot.
+   * @throws NonNullInputException if any part of the builder is null.
+   */
+  public MigrationTarget(IMigrationTargetBuilder builder) throws NonNullInputException {
+
+    if (builder.getCodec() == null
+        || builder.getCommandSender() == null
+        || builder.getConnectionCostProvider() == null
+        || builder.getErrorHandler() == null
+        || builder.getNumberGenerator() == null
+        || builder.getRoute() == null
+        || builder.getStructureCostProvider() == null
+        || builder.getTransport() == null) {
+      throw new NonNullInputException();
+    }
+
+    codec = builder.getCodec();
+    commandSender = builder.getCommandSender();
+    connectionCostProvider = builder.getConnectionCostProvider();
+    errorHandler = builder.getErrorHandler();
+    numberGenerator = builder.getNumberGenerator();
+    route = builder.getRoute();
+    structureCostProvider = builder.getStructureCostProvider();
+    transport = builder.getTransport();
+
+    completed = false;
+    failed = false;
+    records = new LoopbackReplicationTransport();
+  }
+
+  @Override
+  public synchronized void accept(ByteBuffer message) {
+
+    byte kind = message.get();
+
+    if (completed) {
+      return;
+    }
+
+    if (failed) {
+      if (kind == MigrationMessage.HAND_OFF) {
+        route.resume();
+      }
+
+      return;
+    }
+
+    switch (kind) {
+      case MigrationMessage.SNAPSHOT:
+        restore(message);
+        break;
+      case MigrationMessage.RECORD:
+        if (standby != null) {
+          records.send(message);
+          records.deliver();
+        }
+        break;
+      case MigrationMessage.HAND_OFF:
+        handOff(message.getLong());
+        break;
+      default:
+        throw new IllegalArgumentException("Unexpected migration message");
+    }
+  }
+
+  @Override
+  public ICatanGame getGame() {
+    return game;
+  }
+
+  @Override
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  @Override
+  public boolean isFailed() {
+    return failed;
+  }
+
+  @Override
+  public void start() {
+    transport.setReceiver(this);
+  }
+
+  private void handOff(long sequence) {
+    if (standby == null || standby.isDiverged() || standby.getAppliedSequence() != sequence) {
+      failed = true;
+      route.resume();
+      return;
+    }
+
+    ICatanGame promotedGame = standby.promote();
+
+    route.switchTo(promotedGame);
+    completed = true;
+  }
+
+  private void restore(ByteBuffer message) {
+
+    IPlayer[] players = new IPlayer[message.getInt()];
+
+    for (int i = 0; i < players.length; ++i) {
+      int id = message.getInt();
+      ResourceManager resourceManager = new ResourceManager();
+
+      for (ResourceType type : RESOURCE_TYPES) {
+        resourceManager.set(type, message.getInt());
+      }
+
+      players[i] = new Player(id, resourceManager);
+    }
+
+    ReplicatedNumberGenerator replicatedNumberGenerator =
+        new ReplicatedNumberGenerator(numberGenerator);
+
+    try {
+      game =
+          new CatanGame(
+              new CatanGameBuilder()
+                  .setCommandSender(commandSender)
+                  .setConnectionCostProvider(connectionCostProvider)
+                  .setErrorHandler(errorHandler)
+                  .setNumberGenerator(replicatedNumberGenerator)
+                  .setPlayerManager(new PlayerManager(players, 0, false))
+                  .setStructureCostProvider(structureCostProvider),
+              codec,
+              message);
+
+      standby = new ReplicationStandby(game, replicatedNumberGenerator, records);
+    } catch (NonNullInputException | NonVoidCollectionException e) {
+      failed = true;
+      return;
+    }
+
+    standby.start();
+  }
+}
@@ -0,0 +1,129 @@
+package io.github.notaphplover.catan.core.game.migration;
+
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.command.ICommandSender;
+import io.github.notaphplover.catan.core.game.codec.GameStateCodec;
+import io.github.notaphplover.catan.core.game.codec.IGameStateCodec;
+import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
+import io.github.notaphplover.catan.core.game.replication.IReplicationReceiver;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.resource.provider.DefaultConnectionCostProvider;
+import io.github.notaphplover.catan.core.resource.provider.DefaultStructureCostProvider;
+import io.github.notaphplover.catan.core.resource.provider.IResourceManagerProvider;
+import java.util.function.Consumer;
+
+public class MigrationTargetBuilder implements IMigrationTargetBuilder {
+
+  private IGameStateCodec codec;
+
+  private ICommandSender commandSender;
+
+  private IResourceManagerProvider<ConnectionType> connectionCostProvider;
+
+  private Consumer<IRequest> errorHandler;
+
+  private INumberGenerator numberGenerator;
+
+  private IGameRoute route;
+
+  private IResourceManagerProvider<StructureType> structureCostProvider;
+
+  private IReplicationReceiver transport;
+
+  public MigrationTargetBuilder() {
+    codec = new GameStateCodec();
+    connectionCostProvider = new DefaultConnectionCostProvider();
+    structureCostProvider = new DefaultStructureCostProvider();
+  }
+
+  @Override
+  public IGameStateCodec getCodec() {
+    return codec;
+  }
+
+  @Override
+  public ICommandSender getCommandSender() {
+    return commandSender;
+  }
+
+  @Override
+  public IResourceManagerProvider<ConnectionType> getConnectionCostProvider() {
+    return connectionCostProvider;
+  }
+
+  @Override
+  public Consumer<IRequest> getErrorHandler() {
+    return errorHandler;
+  }
+
+  @Override
+  public INumberGenerator getNumberGenerator() {
+    return numberGenerator;
+  }
+
+  @Override
+  public IGameRoute getRoute() {
+    return route;
+  }
+
+  @Override
+  public IResourceManagerProvider<StructureType> getStructureCostProvider() {
+    return structureCostProvider;
+  }
+
+  @Override
+  public IReplicationReceiver getTransport() {
+    return transport;
+  }
+
+  @Override
+  public IMigrationTargetBuilder setCodec(IGameStateCodec codec) {
+    this.codec = codec;
+    return this;
+  }
+
+  @Override
+  public IMigrationTargetBuilder setCommandSender(ICommandSender commandSender) {
+    this.commandSender = commandSender;
+    return this;
+  }
+
+  @Override
+  public IMigrationTargetBuilder setConnectionCostProvider(
+      IResourceManagerProvider<ConnectionType> connectionCostProvider) {
+    this.connectionCostProvider = connectionCostProvider;
+    return this;
+  }
+
+  @Override
+  public IMigrationTargetBuilder setErrorHandler(Consumer<IRequest> errorHandler) {
+    this.errorHandler = errorHandler;
+    return this;
+  }
+
+  @Override
+  public IMigrationTargetBuilder setNumberGenerator(INumberGenerator numberGenerator) {
+    this.numberGenerator = numberGenerator;
+    return this;
+  }
+
+  @Override
+  public IMigrationTargetBuilder setRoute(IGameRoute route) {
+    this.route = route;
+    return this;
+  }
+
+  @Override
+  public IMigrationTargetBuilder setStructureCostProvider(
+      IResourceManagerProvider<StructureType> structureCostProvider) {
+    this.structureCostProvider = structureCostProvider;
+    return this;
+  }
+
+  @Override
+  public IMigrationTargetBuilder setTransport(IReplicationReceiver transport) {
+    this.transport = transport;
+    return this;
+  }
+}
@@ -0,0 +1,35 @@
+package io.github.notaphplover.catan.core.game.migration;
+
+import io.github.notaphplover.catan.core.game.replication.IReplicationSender;
+import java.nio.ByteBuffer;
+
+/** Sender wrapping replication records into migration messages. */
+class RecordSender implements IReplicationSender {
+
+  private ByteBuffer message;
+
+  private IReplicationSender sender;
+
+  RecordSender(IReplicationSender sender) {
+    this.sender = sender;
+
+    message = ByteBuffer.allocate(0);
+  }
+
+  @Override
+  public void send(ByteBuffer record) {
+
+    int messageBytes = Byte.BYTES + record.remaining();
+
+    if (message.capacity() < messageBytes) {
+      message = ByteBuffer.allocate(Math.max(message.capacity() << 1, messageBytes));
+    }
+
+    message.clear();
+    message.put(MigrationMessage.RECORD);
+    message.put(record);
+    message.flip();
+
+    sender.send(message);
+  }
+}
@@ -0,0 +1,35 @@
+package io.github.notaphplover.catan.core.game.move;
+
+/**
+ * Represents a reusable buffer of encoded moves.
+ *
+ * <p>Moves are encoded as primitive integers (see {@link Move}) so the buffer can be filled without
+ * allocating request instances.
+ */
+public interface IMoveBuffer {
+
+  /**
+   * Appends a move.
+   *
+   * @param move Encoded move.
+   */
+  void add(int move);
+
+  /** Removes every move, keeping the allocated capacity. */
+  void clear();
+
+  /**
+   * Gets the move at the specified position.
+   *
+   * @param index Position of the move.
+   * @return Encoded move.
+   */
+  int get(int index);
+
+  /**
+   * Gets the number of moves stored.
+   *
+   * @return Number of moves stored.
+   */
+  int size();
+}
@@ -0,0 +1,18 @@
+package io.github.notaphplover.catan.core.game.move;
+
+import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
+import io.github.notaphplover.catan.core.player.IPlayer;
+
+public interface IMoveGenerator {
+
+  /**
+   * Appends every legal move of a player to a buffer.
+   *
+   * <p>Trade related moves are not generated.
+   *
+   * @param hearth Game hearth.
+   * @param player Player whose moves are generated.
+   * @param buffer Buffer to fill. It is not cleared before appending moves.
+   */
+  void generate(ICatanGameHearth hearth, IPlayer player, IMoveBuffer buffer);
+}
@@ -0,0 +1,81 @@
+package io.github.notaphplover.catan.core.game.move;
+
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.BuildConnectionRequest;
+import io.github.notaphplover.catan.core.request.BuildInitialConnectionRequest;
+import io.github.notaphplover.catan.core.request.BuildInitialStructureRequest;
+import io.github.notaphplover.catan.core.request.BuildStructureRequest;
+import io.github.notaphplover.catan.core.request.EndTurnRequest;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.request.RequestType;
+import io.github.notaphplover.catan.core.request.StartTurnRequest;
+import io.github.notaphplover.catan.core.request.UpgradeStructureRequest;
+
+/**
+ * Encodes moves as primitive integers.
+ *
+ * <p>The request type ordinal is stored in the highest byte, followed by twelve bits for each
+ * coordinate.
+ */
+public final class Move {
+
+  private static final int COORDINATE_BITS = 12;
+
+  private static final int COORDINATE_MASK = (1 << COORDINATE_BITS) - 1;
+
+  private static final int TYPE_SHIFT = COORDINATE_BITS << 1;
+
+  private static final RequestType[] TYPES = RequestType.values();
+
+  private Move() {}
+
+  public static int encode(RequestType type, int x, int y) {
+    return (type.ordinal() << TYPE_SHIFT)
+        | ((x & COORDINATE_MASK) << COORDINATE_BITS)
+        | (y & COORDINATE_MASK);
+  }
+
+  public static RequestType getType(int move) {
+    return TYPES[move >>> TYPE_SHIFT];
+  }
+
+  public static int getX(int move) {
+    return (move >>> COORDINATE_BITS) & COORDINATE_MASK;
+  }
+
+  public static int getY(int move) {
+    return move & COORDINATE_MASK;
+  }
+
+  /**
+   * Builds the request represented by a move.
+   *
+   * @param player Player performing the request.
+   * @param move Encoded move.
+   * @return Request represented by the move.
+   */
+  public static IRequest toRequest(IPlayer player, int move) {
+    switch (getType(move)) {
+      case BUILD_CONNECTION:
+        return new BuildConnectionRequest(player, ConnectionType.ROAD, getX(move), getY(move));
+      case BUILD_INITIAL_CONNECTION:
+        return new BuildInitialConnectionRequest(
+            player, ConnectionType.ROAD, getX(move), getY(move));
+      case BUILD_INITIAL_STRUCTURE:
+        return new BuildInitialStructureRequest(
+            player, StructureType.SETTLEMENT, getX(move), getY(move));
+      case BUILD_STRUCTURE:
+        return new BuildStructureRequest(player, StructureType.SETTLEMENT, getX(move), getY(move));
+      case END_TURN:
+        return new EndTurnRequest(player);
+      case START_TURN:
+        return new StartTurnRequest(player);
+      case UPGRADE_STRUCTURE:
+        return new UpgradeStructureRequest(player, StructureType.CITY, getX(move), getY(move));
+      default:
+        throw new IllegalArgumentException("Unsupported move type: " + getType(move));
+    }
+  }
+}
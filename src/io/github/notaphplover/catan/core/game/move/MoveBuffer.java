@@ -0,0 +1,49 @@
+package io.github.notaphplover.catan.core.game.move;
+
+import java.util.Arrays;
+
+public class MoveBuffer implements IMoveBuffer {
+
+  private static final int DEFAULT_CAPACITY = 64;
+
+  private int[] moves;
+
+  private int size;
+
+  public MoveBuffer() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public MoveBuffer(int capacity) {
+    moves = new int[Math.max(1, capacity)];
+    size = 0;
+  }
+
+  @Override
+  public void add(int move) {
+    if (size == moves.length) {
+      moves = Arrays.copyOf(moves, moves.length << 1);
+    }
+
+    moves[size++] = move;
+  }
+
+  @Override
+  public void clear() {
+    size = 0;
+  }
+
+  @Override
+  public int get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+
+    return moves[index];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+}
@@ -0,0 +1,172 @@
+package io.github.notaphplover.catan.core.game.move;
+
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.connection.IBoardConnection;
+import io.github.notaphplover.catan.core.board.structure.IBoardStructure;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.board.terrain.IBoardTerrain;
+import io.github.notaphplover.catan.core.board.terrain.TerrainType;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.hearth.ICatanGameHearth;
+import io.github.notaphplover.catan.core.game.player.IPlayerManager;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.RequestType;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+
+/**
+ * Generates the legal moves of a player.
+ *
+ * <p>The rules applied mirror the preconditions of the request handlers. Board cells are visited
+ * following the board parity layout, so only structure points and connection points are checked.
+ */
+public class MoveGenerator implements IMoveGenerator {
+
+  @Override
+  public void generate(ICatanGameHearth hearth, IPlayer player, IMoveBuffer buffer) {
+
+    IPlayerManager playerManager = hearth.getPlayerManager();
+
+    if (hearth.getState() == GameState.ENDED
+        || player == null
+        || !playerManager.getActivePlayer().equals(player)) {
+      return;
+    }
+
+    if (!playerManager.isTurnStarted()) {
+      buffer.add(Move.encode(RequestType.START_TURN, 0, 0));
+      return;
+    }
+
+    switch (hearth.getState()) {
+      case FOUNDATION:
+        generateFoundationMoves(hearth, buffer);
+        break;
+      case NORMAL:
+        generateNormalMoves(hearth, player, buffer);
+        break;
+      default:
+        break;
+    }
+
+    if (hearth.getTradeManager().getTrade() == null) {
+      buffer.add(Move.encode(RequestType.END_TURN, 0, 0));
+    }
+  }
+
+  private void generateConnectionMoves(
+      ICatanBoard board,
+      IPlayer player,
+      RequestType type,
+      boolean checkConnected,
+      IMoveBuffer buffer) {
+
+    int width = board.getWidth();
+    int height = board.getHeight();
+
+    for (int x = 0; x < width; ++x) {
+      for (int y = 1 - (x & 1); y < height; y += 2) {
+        if (((IBoardConnection) board.get(x, y)).getType() == ConnectionType.VOID
+            && (!checkConnected || board.isConnectionConnected(player, x, y))) {
+          buffer.add(Move.encode(type, x, y));
+        }
+      }
+    }
+  }
+
+  private void generateFoundationMoves(ICatanGameHearth hearth, IMoveBuffer buffer) {
+
+    IPlayerManager playerManager = hearth.getPlayerManager();
+    int turn = playerManager.getTurnNumber();
+    boolean structureTurn = (turn / playerManager.getPlayers().length) % 2 == 0;
+
+    if (structureTurn) {
+      if (!hearth.getGameLog().isRequestPerformedAt(turn, RequestType.BUILD_INITIAL_STRUCTURE)) {
+        generateStructureMoves(
+            hearth.getBoard(), null, RequestType.BUILD_INITIAL_STRUCTURE, false, buffer);
+      }
+    } else if (!hearth
+        .getGameLog()
+        .isRequestPerformedAt(turn, RequestType.BUILD_INITIAL_CONNECTION)) {
+      generateConnectionMoves(
+          hearth.getBoard(), null, RequestType.BUILD_INITIAL_CONNECTION, false, buffer);
+    }
+  }
+
+  private void generateNormalMoves(ICatanGameHearth hearth, IPlayer player, IMoveBuffer buffer) {
+
+    ICatanBoard board = hearth.getBoard();
+    IResourceStorage resources = player.getResourceManager();
+
+    if (resources.canSubstract(
+        hearth.getStructureCostProvider().getResourceManager(StructureType.SETTLEMENT))) {
+      generateStructureMoves(board, player, RequestType.BUILD_STRUCTURE, true, buffer);
+    }
+
+    if (resources.canSubstract(
+        hearth.getStructureCostProvider().getResourceManager(StructureType.CITY))) {
+      generateUpgradeMoves(board, player, buffer);
+    }
+
+    if (resources.canSubstract(
+        hearth.getConnectionCostProvider().getResourceManager(ConnectionType.ROAD))) {
+      generateConnectionMoves(board, player, RequestType.BUILD_CONNECTION, true, buffer);
+    }
+  }
+
+  private void generateStructureMoves(
+      ICatanBoard board,
+      IPlayer player,
+      RequestType type,
+      boolean checkConnected,
+      IMoveBuffer buffer) {
+
+    int width = board.getWidth();
+    int height = board.getHeight();
+
+    for (int x = 0; x < width; x += 2) {
+      for (int y = 0; y < height; y += 2) {
+        if (((IBoardStructure) board.get(x, y)).getType() == StructureType.NONE
+            && isNonVoidTerrainCloseTo(board, x, y)
+            && (!checkConnected || board.isStructurePointConnected(player, x, y))) {
+          buffer.add(Move.encode(type, x, y));
+        }
+      }
+    }
+  }
+
+  private void generateUpgradeMoves(ICatanBoard board, IPlayer player, IMoveBuffer buffer) {
+
+    int width = board.getWidth();
+    int height = board.getHeight();
+
+    for (int x = 0; x < width; x += 2) {
+      for (int y = 0; y < height; y += 2) {
+        IBoardStructure structure = (IBoardStructure) board.get(x, y);
+
+        if (structure.getType() == StructureType.SETTLEMENT
+            && player.equals(structure.getOwner())
+            && board.isStructurePointConnected(player, x, y)) {
+          buffer.add(Move.encode(RequestType.UPGRADE_STRUCTURE, x, y));
+        }
+      }
+    }
+  }
+
+  private boolean isNonVoidTerrainCloseTo(ICatanBoard board, int x, int y) {
+
+    boolean hasLeft = x > 0;
+    boolean hasRight = x + 1 < board.getWidth();
+    boolean hasTop = y > 0;
+    boolean hasBottom = y + 1 < board.getHeight();
+
+    return (hasLeft && hasTop && isNonVoidTerrain(board, x - 1, y - 1))
+        || (hasLeft && hasBottom && isNonVoidTerrain(board, x - 1, y + 1))
+        || (hasRight && hasTop && isNonVoidTerrain(board, x + 1, y - 1))
+        || (hasRight && hasBottom && isNonVoidTerrain(board, x + 1, y + 1));
+  }
+
+  private boolean isNonVoidTerrain(ICatanBoard board, int x, int y) {
+    return ((IBoardTerrain) board.get(x, y)).getType() != TerrainType.NONE;
+  }
+}
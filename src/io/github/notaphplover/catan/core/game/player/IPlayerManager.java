@@ -1,18 +1,60 @@
 package io.github.notaphplover.catan.core.game.player;
 
 import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.journal.IEventJournal;
 
 public interface IPlayerManager {
 
+  /**
+   * Marks a player to have its missing requests emptied by {@link #emptyDeferredMissing()}, once
+   * the commands sent to it are flushed.
+   *
+   * @param player Player of the game.
+   */
+  void deferEmptyMissing(IPlayer player);
+
+  /** Empties the missing requests of the players marked since the last call. */
+  void emptyDeferredMissing();
+
   IPlayer getActivePlayer();
 
+  /**
+   * Gets the journal every player of the game reads its missing requests from.
+   *
+   * @return Event journal of the game.
+   */
+  IEventJournal getEventJournal();
+
+  /**
+   * Gets the Zobrist hash of the active player and the turn started flag.
+   *
+   * @return Hash of the turn state.
+   */
+  long getHash();
+
   IPlayer[] getPlayers();
 
   int getTurnNumber();
 
+  /**
+   * Gets the dense index of a player of the game.
+   *
+   * @param player Player.
+   * @return Index of the player or {@link IPlayer#NO_INDEX} if the player is not part of the game.
+   */
+  int indexOf(IPlayer player);
+
   boolean isTurnStarted();
 
   void passTurn();
 
+  /**
+   * Sets the turn state.
+   *
+   * @param turnNumber Turn number.
+   * @param turnStarted True if the turn is started.
+   */
+  void setTurn(int turnNumber, boolean turnStarted);
+
   void switchTurnStarted();
 }
@@ -3,10 +3,20 @@ package io.github.notaphplover.catan.core.game.player;
 import io.github.notaphplover.catan.core.exception.NonNullInputException;
 import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
 import io.github.notaphplover.catan.core.game.exception.InvalidTurnIndexException;
+import io.github.notaphplover.catan.core.hash.ZobristKeys;
 import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.PlayerSlots;
+import io.github.notaphplover.catan.core.player.journal.EventJournal;
+import io.github.notaphplover.catan.core.player.journal.IEventJournal;
 
 public class PlayerManager implements IPlayerManager {
 
+  private boolean[] deferredMissing;
+
+  private IEventJournal eventJournal;
+
+  private long hash;
+
   private IPlayer[] players;
 
   private int turnNumber;
@@ -15,18 +25,87 @@ public class PlayerManager implements IPlayerManager {
 
   public PlayerManager(IPlayer[] players, int turnNumber, boolean turnStarted)
       throws NonNullInputException, NonVoidCollectionException {
+    this(players, turnNumber, turnStarted, new EventJournal());
+  }
+
+  /**
+   * Creates a player manager attaching its players to an event journal.
+   *
+   * <p>The manager owns its players: each one takes its position as index and reads its missing
+   * requests from the journal, so players must not be shared between managers.
+   *
+   * @param players Players of the game.
+   * @param turnNumber Current turn number.
+   * @param turnStarted Determines if the current turn is started.
+   * @param eventJournal Journal the players read their missing requests from.
+   * @throws NonNullInputException if the players or the journal are null.
+   * @throws NonVoidCollectionException if there are no players.
+   */
+  public PlayerManager(
+      IPlayer[] players, int turnNumber, boolean turnStarted, IEventJournal eventJournal)
+      throws NonNullInputException, NonVoidCollectionException {
     checkPlayers(players);
     checkTurnIndex(players, turnNumber);
 
+    if (eventJournal == null) {
+      throw new NonNullInputException();
+    }
+
     this.players = players;
     this.turnNumber = turnNumber;
     this.turnStarted = turnStarted;
+
+    attachPlayers(eventJournal);
+    updateHash();
+  }
+
+  /**
+   * Creates a player manager with the turn state of other one.
+   *
+   * @param other Player manager to copy the turn state from.
+   * @param players Players of the new manager, in the same order.
+   */
+  public PlayerManager(IPlayerManager other, IPlayer[] players) {
+    this.players = players;
+    this.turnNumber = other.getTurnNumber();
+    this.turnStarted = other.isTurnStarted();
+
+    attachPlayers(
+        new EventJournal(
+            other.getEventJournal().getCapacity(), other.getEventJournal().getOverflowPolicy()));
+    updateHash();
+  }
+
+  public void deferEmptyMissing(IPlayer player) {
+    int index = indexOf(player);
+
+    if (index != IPlayer.NO_INDEX) {
+      deferredMissing[index] = true;
+    }
+  }
+
+  public void emptyDeferredMissing() {
+
+    for (int i = 0; i < deferredMissing.length; ++i) {
+      if (deferredMissing[i]) {
+        deferredMissing[i] = false;
+        players[i].emptyMissing();
+      }
+    }
   }
 
   public IPlayer getActivePlayer() {
     return players[getTurnIndex()];
   }
 
+  public IEventJournal getEventJournal() {
+    return eventJournal;
+  }
+
+  public long getHash() {
+    return hash;
+  }
+
   public IPlayer[] getPlayers() {
     return players;
   }
@@ -35,16 +114,43 @@ public class PlayerManager implements IPlayerManager {
     return turnNumber;
   }
 
+  public int indexOf(IPlayer player) {
+    return PlayerSlots.indexOf(players, player);
+  }
+
   public boolean isTurnStarted() {
     return turnStarted;
   }
 
   public void passTurn() {
     ++turnNumber;
+
+    updateHash();
+  }
+
+  public void setTurn(int turnNumber, boolean turnStarted) {
+    checkTurnIndex(players, turnNumber);
+
+    this.turnNumber = turnNumber;
+    this.turnStarted = turnStarted;
+
+    updateHash();
   }
 
   public void switchTurnStarted() {
     turnStarted = !turnStarted;
+
+    hash ^= ZobristKeys.turnStarted(true);
+  }
+
+  private void attachPlayers(IEventJournal eventJournal) {
+    this.deferredMissing = new boolean[players.length];
+    this.eventJournal = eventJournal;
+
+    for (int i = 0; i < players.length; ++i) {
+      players[i].setIndex(i);
+      players[i].attach(eventJournal);
+    }
   }
 
   private void checkPlayers(IPlayer[] players)
@@ -72,4 +178,9 @@ public class PlayerManager implements IPlayerManager {
   private int getTurnIndex() {
     return turnNumber % players.length;
   }
+
+  private void updateHash() {
+    hash =
+        ZobristKeys.activePlayer(getActivePlayer().getId()) ^ ZobristKeys.turnStarted(turnStarted);
+  }
 }
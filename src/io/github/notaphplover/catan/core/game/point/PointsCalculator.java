@@ -7,6 +7,7 @@ import io.github.notaphplover.catan.core.board.structure.IBoardStructure;
 import io.github.notaphplover.catan.core.board.structure.StructureType;
 import io.github.notaphplover.catan.core.game.ICatanGame;
 import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.PlayerSlots;
 import java.util.Map;
 import java.util.TreeMap;
 
@@ -23,39 +24,69 @@ public class PointsCalculator implements IPointsCalculator {
 
   @Override
   public Map<IPlayer, Integer> getPoints() {
-    Map<IPlayer, Integer> pointsMap = new TreeMap<IPlayer, Integer>();
-
-    for (IPlayer player : game.getPlayers()) {
-      pointsMap.put(player, 0);
-    }
+    IPlayer[] players = game.getPlayers();
+    int[] points = new int[players.length];
 
     ICatanBoard board = game.getBoard();
 
     for (int i = 0; i < board.getWidth(); ++i) {
-      for (int j = 0; j < board.getWidth(); ++j) {
-        computePoints(pointsMap, board.get(i, j));
+      for (int j = 0; j < board.getHeight(); ++j) {
+        computePoints(players, points, board.get(i, j));
       }
     }
 
+    Map<IPlayer, Integer> pointsMap = new TreeMap<IPlayer, Integer>();
+
+    for (int i = 0; i < players.length; ++i) {
+      pointsMap.put(players[i], points[i]);
+    }
+
     return pointsMap;
   }
 
-  private void computePoints(Map<IPlayer, Integer> pointsMap, IBoardElement element) {
-    if (element.getElementType() != BoardElementType.STRUCTURE) {
+  /**
+   * Gets the points an element grants to its owner.
+   *
+   * @param element Board element.
+   * @return Points granted by the element.
+   */
+  public static int getElementPoints(IBoardElement element) {
+    if (element == null || element.getElementType() != BoardElementType.STRUCTURE) {
+      return 0;
+    }
+
+    StructureType type = ((IBoardStructure) element).getType();
+
+    if (type == StructureType.SETTLEMENT) {
+      return POINTS_PER_SETTLEMENT;
+    }
+
+    if (type == StructureType.CITY) {
+      return POINTS_PER_CITY;
+    }
+
+    return 0;
+  }
+
+  private void computePoints(IPlayer[] players, int[] points, IBoardElement element) {
+    int elementPoints = getElementPoints(element);
+
+    if (elementPoints == 0) {
       return;
     }
 
     IBoardStructure structure = (IBoardStructure) element;
 
-    if (structure.getType() == StructureType.SETTLEMENT) {
-      pointsMap.put(
-          structure.getOwner(), pointsMap.get(structure.getOwner()) + POINTS_PER_SETTLEMENT);
+    if (structure.getOwner() == null) {
       return;
     }
 
-    if (structure.getType() == StructureType.CITY) {
-      pointsMap.put(structure.getOwner(), pointsMap.get(structure.getOwner()) + POINTS_PER_CITY);
+    int index = PlayerSlots.indexOf(players, structure.getOwner());
+
+    if (index == IPlayer.NO_INDEX) {
       return;
     }
+
+    points[index] += elementPoints;
   }
 }
@@ -0,0 +1,17 @@
+package io.github.notaphplover.catan.core.game.replication;
+
+public interface IReplicationPrimary {
+
+  /**
+   * Gets the sequence number of the last record sent.
+   *
+   * @return Sequence number of the last record or zero if no record is sent.
+   */
+  long getShippedSequence();
+
+  /** Starts shipping every accepted request of the game. */
+  void start();
+
+  /** Stops shipping requests. */
+  void stop();
+}
@@ -0,0 +1,15 @@
+package io.github.notaphplover.catan.core.game.replication;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/** Receiving end of a replication transport. */
+public interface IReplicationReceiver {
+
+  /**
+   * Sets the receiver of the records sent.
+   *
+   * @param receiver Receiver of the records.
+   */
+  void setReceiver(Consumer<ByteBuffer> receiver);
+}
@@ -0,0 +1,17 @@
+package io.github.notaphplover.catan.core.game.replication;
+
+import java.nio.ByteBuffer;
+
+/** Sending end of a replication transport. */
+public interface IReplicationSender {
+
+  /**
+   * Sends a record.
+   *
+   * <p>The record is read from its position to its limit and it is reused by the sender once this
+   * method returns, so transports delivering records later must copy them.
+   *
+   * @param record Record to send.
+   */
+  void send(ByteBuffer record);
+}
@@ -0,0 +1,31 @@
+package io.github.notaphplover.catan.core.game.replication;
+
+import io.github.notaphplover.catan.core.game.ICatanGame;
+
+public interface IReplicationStandby {
+
+  /**
+   * Gets the sequence number of the last record applied.
+   *
+   * @return Sequence number of the last record applied or zero if no record is applied.
+   */
+  long getAppliedSequence();
+
+  /**
+   * Determines if the standby stopped following the primary because a record was missed or its hash
+   * did not match.
+   *
+   * @return true if the standby diverged.
+   */
+  boolean isDiverged();
+
+  /**
+   * Stops following the primary and hands the replica over.
+   *
+   * @return Replica game, ready to process requests on its own.
+   */
+  ICatanGame promote();
+
+  /** Starts receiving records from the transport. */
+  void start();
+}
@@ -0,0 +1,4 @@
+package io.github.notaphplover.catan.core.game.replication;
+
+/** Transport of replication records from a primary game to its standby. */
+public interface IReplicationTransport extends IReplicationReceiver, IReplicationSender {}
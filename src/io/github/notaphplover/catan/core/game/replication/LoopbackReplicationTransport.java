@@ -0,0 +1,78 @@
+package io.github.notaphplover.catan.core.game.replication;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * In process transport.
+ *
+ * <p>Records are queued when they are sent and handed to the receiver by {@link #deliver()}, so the
+ * primary and the standby may run in different threads and the lag of the standby can be
+ * controlled.
+ */
+public class LoopbackReplicationTransport implements IReplicationTransport {
+
+  private Queue<ByteBuffer> pendingRecords;
+
+  private volatile Consumer<ByteBuffer> receiver;
+
+  public LoopbackReplicationTransport() {
+    pendingRecords = new ConcurrentLinkedQueue<ByteBuffer>();
+  }
+
+  /**
+   * Delivers every pending record to the receiver.
+   *
+   * @return Amount of records delivered.
+   */
+  public int deliver() {
+    return deliver(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Delivers pending records to the receiver.
+   *
+   * @param maxRecords Maximum amount of records to deliver.
+   * @return Amount of records delivered.
+   */
+  public int deliver(int maxRecords) {
+
+    Consumer<ByteBuffer> currentReceiver = receiver;
+
+    if (currentReceiver == null) {
+      return 0;
+    }
+
+    int delivered = 0;
+    ByteBuffer record;
+
+    while (delivered < maxRecords && (record = pendingRecords.poll()) != null) {
+      currentReceiver.accept(record);
+      ++delivered;
+    }
+
+    return delivered;
+  }
+
+  public int getPendingRecords() {
+    return pendingRecords.size();
+  }
+
+  @Override
+  public void send(ByteBuffer record) {
+
+    ByteBuffer copy = ByteBuffer.allocate(record.remaining());
+
+    copy.put(record.duplicate());
+    copy.flip();
+
+    pendingRecords.add(copy);
+  }
+
+  @Override
+  public void setReceiver(Consumer<ByteBuffer> receiver) {
+    this.receiver = receiver;
+  }
+}
@@ -0,0 +1,86 @@
+package io.github.notaphplover.catan.core.game.replication;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.codec.GameStateCodec;
+import io.github.notaphplover.catan.core.game.codec.IGameStateCodec;
+import io.github.notaphplover.catan.core.game.delta.IGameDelta;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Primary side of a replicated game.
+ *
+ * <p>Every accepted request is shipped as a record once the game processes it. Records are built in
+ * the thread processing the requests of the game.
+ */
+public class ReplicationPrimary implements IReplicationPrimary, Consumer<IGameDelta> {
+
+  private static final int DEFAULT_CAPACITY = 256;
+
+  private IGameStateCodec codec;
+
+  private ICatanGame game;
+
+  private ByteBuffer record;
+
+  private volatile long shippedSequence;
+
+  private IReplicationSender transport;
+
+  public ReplicationPrimary(ICatanGame game, IReplicationSender transport)
+      throws NonNullInputException {
+
+    if (game == null || transport == null) {
+      throw new NonNullInputException();
+    }
+
+    this.game = game;
+    this.transport = transport;
+
+    codec = new GameStateCodec(game.getBoard().getTerrainProductionProvider());
+    record = ByteBuffer.allocate(DEFAULT_CAPACITY);
+    shippedSequence = 0L;
+  }
+
+  @Override
+  public void accept(IGameDelta delta) {
+
+    ByteBuffer encodedRequest = codec.encodeRequest(delta.getRequest(), game.getPlayers());
+
+    int recordBytes = ReplicationRecord.HEADER_BYTES + encodedRequest.remaining();
+
+    if (record.capacity() < recordBytes) {
+      record = ByteBuffer.allocate(Math.max(record.capacity() << 1, recordBytes));
+    }
+
+    long sequence = shippedSequence + 1;
+
+    record.clear();
+    record.putLong(sequence);
+    record.putLong(delta.getHash());
+    record.put((byte) (delta.isLogEntryCreated() ? 1 : 0));
+    record.putInt(delta.getProductionNumber());
+    record.put(encodedRequest);
+    record.flip();
+
+    transport.send(record);
+
+    shippedSequence = sequence;
+  }
+
+  @Override
+  public long getShippedSequence() {
+    return shippedSequence;
+  }
+
+  @Override
+  public void start() {
+    game.addDeltaListener(this);
+  }
+
+  @Override
+  public void stop() {
+    game.removeDeltaListener(this);
+  }
+}
@@ -0,0 +1,15 @@
+package io.github.notaphplover.catan.core.game.replication;
+
+/**
+ * Layout of replication records.
+ *
+ * <p>A record is made of the sequence number of the request, the hash of the primary game once the
+ * request is processed, a flag telling if a log entry is created, the production number of the
+ * created entry and the request encoded by the game state codec.
+ */
+final class ReplicationRecord {
+
+  static final int HEADER_BYTES = Long.BYTES + Long.BYTES + Byte.BYTES + Integer.BYTES;
+
+  private ReplicationRecord() {}
+}
@@ -0,0 +1,120 @@
+package io.github.notaphplover.catan.core.game.replication;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.codec.GameStateCodec;
+import io.github.notaphplover.catan.core.game.codec.IGameStateCodec;
+import io.github.notaphplover.catan.core.game.generator.ReplicatedNumberGenerator;
+import io.github.notaphplover.catan.core.request.IRequest;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * Standby side of a replicated game.
+ *
+ * <p>The replica must start at the same state of the primary game and it must draw its production
+ * numbers from the provided generator. Records are applied headless to the replica, so it sends no
+ * command and keeps no missing request, feeding the generator with the production numbers of the
+ * primary game. The resulting hash is checked against the primary one.
+ */
+public class ReplicationStandby implements IReplicationStandby, Consumer<ByteBuffer> {
+
+  private volatile long appliedSequence;
+
+  private IGameStateCodec codec;
+
+  private volatile boolean diverged;
+
+  private ICatanGame game;
+
+  private ReplicatedNumberGenerator numberGenerator;
+
+  private boolean promoted;
+
+  private IReplicationReceiver transport;
+
+  /**
+   * Creates a standby.
+   *
+   * @param game Replica game.
+   * @param numberGenerator Number generator of the replica game.
+   * @param transport Transport of the records.
+   * @throws NonNullInputException if any argument is null.
+   */
+  public ReplicationStandby(
+      ICatanGame game, ReplicatedNumberGenerator numberGenerator, IReplicationReceiver transport)
+      throws NonNullInputException {
+
+    if (game == null || numberGenerator == null || transport == null) {
+      throw new NonNullInputException();
+    }
+
+    this.game = game;
+    this.numberGenerator = numberGenerator;
+    this.transport = transport;
+
+    appliedSequence = 0L;
+    codec = new GameStateCodec(game.getBoard().getTerrainProductionProvider());
+    diverged = false;
+    promoted = false;
+  }
+
+  @Override
+  public synchronized void accept(ByteBuffer record) {
+
+    if (diverged || promoted) {
+      return;
+    }
+
+    long sequence = record.getLong();
+
+    if (sequence != appliedSequence + 1) {
+      diverged = true;
+      return;
+    }
+
+    long hash = record.getLong();
+    boolean logEntryCreated = record.get() != 0;
+    int productionNumber = record.getInt();
+
+    IRequest request = codec.decodeRequest(record, game.getPlayers());
+
+    if (logEntryCreated) {
+      numberGenerator.offer(productionNumber);
+    }
+
+    game.apply(request);
+    game.commit();
+
+    if (game.getHash() != hash) {
+      diverged = true;
+      return;
+    }
+
+    appliedSequence = sequence;
+  }
+
+  @Override
+  public long getAppliedSequence() {
+    return appliedSequence;
+  }
+
+  @Override
+  public boolean isDiverged() {
+    return diverged;
+  }
+
+  @Override
+  public synchronized ICatanGame promote() {
+    promoted = true;
+
+    transport.setReceiver(null);
+
+    return game;
+  }
+
+  @Override
+  public void start() {
+    transport.setReceiver(this);
+  }
+}
@@ -0,0 +1,61 @@
+package io.github.notaphplover.catan.core.game.snapshot;
+
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.game.delta.IGameDelta;
+
+/**
+ * Board snapshot stored by columns.
+ *
+ * <p>Building a snapshot from a delta copies only the columns with changed cells, the rest are
+ * shared with the previous snapshot. Board elements are immutable, so they are shared too.
+ */
+public class BoardSnapshot implements IBoardSnapshot {
+
+  private IBoardElement[][] columns;
+
+  public BoardSnapshot(ICatanBoard board) {
+    columns = new IBoardElement[board.getWidth()][];
+
+    for (int x = 0; x < columns.length; ++x) {
+      columns[x] = new IBoardElement[board.getHeight()];
+
+      for (int y = 0; y < columns[x].length; ++y) {
+        columns[x][y] = board.get(x, y);
+      }
+    }
+  }
+
+  public BoardSnapshot(BoardSnapshot previous, IGameDelta delta) {
+    columns = previous.columns.clone();
+
+    for (int i = 0; i < delta.getCellsChanged(); ++i) {
+      int x = delta.getCellX(i);
+
+      if (columns[x] == previous.columns[x]) {
+        columns[x] = columns[x].clone();
+      }
+
+      columns[x][delta.getCellY(i)] = delta.getCellElement(i);
+    }
+  }
+
+  @Override
+  public IBoardElement get(int x, int y) {
+    return columns[x][y];
+  }
+
+  @Override
+  public int getHeight() {
+    return columns.length == 0 ? 0 : columns[0].length;
+  }
+
+  @Override
+  public int getWidth() {
+    return columns.length;
+  }
+
+  boolean isColumnShared(BoardSnapshot other, int x) {
+    return columns[x] == other.columns[x];
+  }
+}
@@ -0,0 +1,71 @@
+package io.github.notaphplover.catan.core.game.snapshot;
+
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.player.IPlayer;
+
+/** Game snapshot built by a {@link GameSnapshotPublisher}. */
+public final class GameSnapshot implements IGameSnapshot {
+
+  int activePlayer;
+
+  BoardSnapshot board;
+
+  long hash;
+
+  PlayerSnapshot[] players;
+
+  GameState state;
+
+  int turnNumber;
+
+  boolean turnStarted;
+
+  long version;
+
+  GameSnapshot() {}
+
+  @Override
+  public IPlayerSnapshot getActivePlayer() {
+    return activePlayer == IPlayer.NO_INDEX ? null : players[activePlayer];
+  }
+
+  @Override
+  public IBoardSnapshot getBoard() {
+    return board;
+  }
+
+  @Override
+  public long getHash() {
+    return hash;
+  }
+
+  @Override
+  public IPlayerSnapshot getPlayer(int index) {
+    return players[index];
+  }
+
+  @Override
+  public int getPlayerCount() {
+    return players.length;
+  }
+
+  @Override
+  public GameState getState() {
+    return state;
+  }
+
+  @Override
+  public int getTurnNumber() {
+    return turnNumber;
+  }
+
+  @Override
+  public long getVersion() {
+    return version;
+  }
+
+  @Override
+  public boolean isTurnStarted() {
+    return turnStarted;
+  }
+}
@@ -0,0 +1,215 @@
+package io.github.notaphplover.catan.core.game.snapshot;
+
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.board.element.IOwnedElement;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.delta.IGameDelta;
+import io.github.notaphplover.catan.core.game.point.PointsCalculator;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.PlayerSlots;
+import io.github.notaphplover.catan.core.resource.IResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Snapshot publisher fed by the deltas of a game.
+ *
+ * <p>Every delta produces a new snapshot sharing the board columns and the players left untouched
+ * by the request. Points are updated from the changed cells instead of scanning the board.
+ * Snapshots are published through a volatile reference, so readers never block the game thread.
+ */
+public class GameSnapshotPublisher implements IGameSnapshotPublisher, Consumer<IGameDelta> {
+
+  private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+  private ICatanGame game;
+
+  private IPlayer[] players;
+
+  private volatile GameSnapshot snapshot;
+
+  /**
+   * Creates a publisher. It must be created in the thread processing the requests of the game.
+   *
+   * @param game Game to publish.
+   * @throws NonNullInputException if the game is null.
+   */
+  public GameSnapshotPublisher(ICatanGame game) throws NonNullInputException {
+    if (game == null) {
+      throw new NonNullInputException();
+    }
+
+    this.game = game;
+
+    players = game.getPlayers();
+    snapshot = buildSnapshot(0L);
+  }
+
+  @Override
+  public void accept(IGameDelta delta) {
+    GameSnapshot previous = snapshot;
+    GameSnapshot next = new GameSnapshot();
+
+    next.board =
+        delta.getCellsChanged() == 0 ? previous.board : new BoardSnapshot(previous.board, delta);
+    next.players = updatePlayers(previous, delta);
+
+    next.activePlayer = PlayerSlots.indexOf(players, game.getActivePlayer());
+    next.hash = delta.getHash();
+    next.state = delta.getState();
+    next.turnNumber = delta.getTurnNumber();
+    next.turnStarted = delta.isTurnStarted();
+    next.version = previous.version + 1;
+
+    snapshot = next;
+  }
+
+  @Override
+  public IGameSnapshot getSnapshot() {
+    return snapshot;
+  }
+
+  @Override
+  public void refresh() {
+    snapshot = buildSnapshot(snapshot.version + 1);
+  }
+
+  @Override
+  public void start() {
+    game.addDeltaListener(this);
+  }
+
+  @Override
+  public void stop() {
+    game.removeDeltaListener(this);
+  }
+
+  private GameSnapshot buildSnapshot(long version) {
+
+    GameSnapshot next = new GameSnapshot();
+
+    Map<IPlayer, Integer> points = game.getPoints();
+
+    next.players = new PlayerSnapshot[players.length];
+
+    for (int i = 0; i < players.length; ++i) {
+      IResourceManager resourceManager = players[i].getResourceManager();
+      int[] resources = new int[RESOURCE_TYPES.length];
+
+      for (ResourceType type : RESOURCE_TYPES) {
+        resources[type.ordinal()] = resourceManager.getResource(type);
+      }
+
+      Integer playerPoints = points.get(players[i]);
+
+      next.players[i] =
+          new PlayerSnapshot(
+              players[i].getId(), playerPoints == null ? 0 : playerPoints, resources);
+    }
+
+    next.activePlayer = PlayerSlots.indexOf(players, game.getActivePlayer());
+    next.board = new BoardSnapshot(game.getBoard());
+    next.hash = game.getHash();
+    next.state = game.getState();
+    next.turnNumber = game.getTurnNumber();
+    next.turnStarted = game.isTurnStarted();
+    next.version = version;
+
+    return next;
+  }
+
+  private int indexOfId(int id) {
+    for (int i = 0; i < players.length; ++i) {
+      if (players[i].getId() == id) {
+        return i;
+      }
+    }
+
+    return IPlayer.NO_INDEX;
+  }
+
+  private int indexOfOwner(IBoardElement element) {
+    if (!(element instanceof IOwnedElement)) {
+      return IPlayer.NO_INDEX;
+    }
+
+    IPlayer owner = ((IOwnedElement) element).getOwner();
+
+    return owner == null ? IPlayer.NO_INDEX : PlayerSlots.indexOf(players, owner);
+  }
+
+  private PlayerSnapshot[] updatePlayers(GameSnapshot previous, IGameDelta delta) {
+
+    int[] points = null;
+    int[][] resources = null;
+
+    for (int i = 0; i < delta.getCellsChanged(); ++i) {
+      IBoardElement previousElement = previous.board.get(delta.getCellX(i), delta.getCellY(i));
+      IBoardElement element = delta.getCellElement(i);
+
+      int previousOwner = indexOfOwner(previousElement);
+      int owner = indexOfOwner(element);
+
+      if (previousOwner == IPlayer.NO_INDEX && owner == IPlayer.NO_INDEX) {
+        continue;
+      }
+
+      if (points == null) {
+        points = new int[players.length];
+
+        for (int j = 0; j < players.length; ++j) {
+          points[j] = previous.players[j].getPoints();
+        }
+      }
+
+      if (previousOwner != IPlayer.NO_INDEX) {
+        points[previousOwner] -= PointsCalculator.getElementPoints(previousElement);
+      }
+
+      if (owner != IPlayer.NO_INDEX) {
+        points[owner] += PointsCalculator.getElementPoints(element);
+      }
+    }
+
+    for (int i = 0; i < delta.getResourcesChanged(); ++i) {
+      int index = indexOfId(delta.getResourcePlayerId(i));
+
+      if (index == IPlayer.NO_INDEX) {
+        continue;
+      }
+
+      if (resources == null) {
+        resources = new int[players.length][];
+      }
+
+      if (resources[index] == null) {
+        resources[index] = previous.players[index].getResources();
+      }
+
+      resources[index][delta.getResourceType(i).ordinal()] = delta.getResourceValue(i);
+    }
+
+    if (points == null && resources == null) {
+      return previous.players;
+    }
+
+    PlayerSnapshot[] next = previous.players.clone();
+
+    for (int i = 0; i < next.length; ++i) {
+      boolean pointsChanged = points != null && points[i] != next[i].getPoints();
+      boolean resourcesChanged = resources != null && resources[i] != null;
+
+      if (pointsChanged || resourcesChanged) {
+        next[i] =
+            new PlayerSnapshot(
+                next[i].getId(),
+                points == null ? next[i].getPoints() : points[i],
+                resourcesChanged ? resources[i] : next[i].getResources());
+      }
+    }
+
+    return next;
+  }
+}
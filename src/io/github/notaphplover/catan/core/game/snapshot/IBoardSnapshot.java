@@ -0,0 +1,12 @@
+package io.github.notaphplover.catan.core.game.snapshot;
+
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+
+public interface IBoardSnapshot {
+
+  IBoardElement get(int x, int y);
+
+  int getHeight();
+
+  int getWidth();
+}
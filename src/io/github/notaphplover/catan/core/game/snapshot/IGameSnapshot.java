@@ -0,0 +1,45 @@
+package io.github.notaphplover.catan.core.game.snapshot;
+
+import io.github.notaphplover.catan.core.game.GameState;
+
+/**
+ * Immutable view of a game once a request is processed.
+ *
+ * <p>Snapshots can be read from any thread while the game keeps processing requests.
+ */
+public interface IGameSnapshot {
+
+  /**
+   * Gets the active player.
+   *
+   * @return Snapshot of the active player.
+   */
+  IPlayerSnapshot getActivePlayer();
+
+  IBoardSnapshot getBoard();
+
+  long getHash();
+
+  /**
+   * Gets a player by its dense index.
+   *
+   * @param index Index of the player.
+   * @return Snapshot of the player.
+   */
+  IPlayerSnapshot getPlayer(int index);
+
+  int getPlayerCount();
+
+  GameState getState();
+
+  int getTurnNumber();
+
+  /**
+   * Gets the amount of snapshots published before this one.
+   *
+   * @return Version of the snapshot.
+   */
+  long getVersion();
+
+  boolean isTurnStarted();
+}
@@ -0,0 +1,25 @@
+package io.github.notaphplover.catan.core.game.snapshot;
+
+public interface IGameSnapshotPublisher {
+
+  /**
+   * Gets the last snapshot published. It can be called from any thread.
+   *
+   * @return Last snapshot published.
+   */
+  IGameSnapshot getSnapshot();
+
+  /**
+   * Publishes a snapshot built from the whole game.
+   *
+   * <p>This is intended for changes which are not notified as deltas, like undone requests. It must
+   * be called from the thread processing the requests of the game.
+   */
+  void refresh();
+
+  /** Starts publishing a snapshot after every accepted request. */
+  void start();
+
+  /** Stops publishing snapshots. The last snapshot is kept. */
+  void stop();
+}
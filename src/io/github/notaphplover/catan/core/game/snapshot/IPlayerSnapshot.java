@@ -0,0 +1,14 @@
+package io.github.notaphplover.catan.core.game.snapshot;
+
+import io.github.notaphplover.catan.core.resource.ResourceType;
+
+public interface IPlayerSnapshot {
+
+  int getId();
+
+  int getPoints();
+
+  int getResource(ResourceType type);
+
+  int getResourcesQuantity();
+}
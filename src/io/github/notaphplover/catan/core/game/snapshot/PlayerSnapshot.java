@@ -0,0 +1,48 @@
+package io.github.notaphplover.catan.core.game.snapshot;
+
+import io.github.notaphplover.catan.core.resource.ResourceType;
+
+public final class PlayerSnapshot implements IPlayerSnapshot {
+
+  private int id;
+
+  private int points;
+
+  private int[] resources;
+
+  PlayerSnapshot(int id, int points, int[] resources) {
+    this.id = id;
+    this.points = points;
+    this.resources = resources;
+  }
+
+  @Override
+  public int getId() {
+    return id;
+  }
+
+  @Override
+  public int getPoints() {
+    return points;
+  }
+
+  @Override
+  public int getResource(ResourceType type) {
+    return resources[type.ordinal()];
+  }
+
+  @Override
+  public int getResourcesQuantity() {
+    int quantity = 0;
+
+    for (int resource : resources) {
+      quantity += resource;
+    }
+
+    return quantity;
+  }
+
+  int[] getResources() {
+    return resources.clone();
+  }
+}
@@ -0,0 +1,38 @@
+package io.github.notaphplover.catan.core.game.trade;
+
+import io.github.notaphplover.catan.core.player.IPlayer;
+
+class CollectedAgreement {
+
+  private ITradeAgreement agreement;
+
+  private int exchange;
+
+  private IPlayer seller;
+
+  private long sequence;
+
+  public CollectedAgreement(
+      ITradeAgreement agreement, IPlayer seller, int exchange, long sequence) {
+    this.agreement = agreement;
+    this.exchange = exchange;
+    this.seller = seller;
+    this.sequence = sequence;
+  }
+
+  public ITradeAgreement getAgreement() {
+    return agreement;
+  }
+
+  public int getExchange() {
+    return exchange;
+  }
+
+  public IPlayer getSeller() {
+    return seller;
+  }
+
+  public long getSequence() {
+    return sequence;
+  }
+}
@@ -0,0 +1,44 @@
+package io.github.notaphplover.catan.core.game.trade;
+
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+
+/** Packs exchange vectors into long keys, twelve bits per resource type. */
+public final class ExchangeKeys {
+
+  public static final int MAX_AMOUNT = 0xFFF;
+
+  public static final long NO_KEY = -1L;
+
+  private static final int BITS_PER_RESOURCE = 12;
+
+  private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+  private ExchangeKeys() {}
+
+  /**
+   * Packs an exchange.
+   *
+   * @param exchange Exchange to pack.
+   * @return Packed key or {@link #NO_KEY} if an amount exceeds {@link #MAX_AMOUNT}.
+   */
+  public static long pack(IResourceStorage exchange) {
+    long key = 0L;
+
+    for (ResourceType type : RESOURCE_TYPES) {
+      int amount = exchange.getResource(type);
+
+      if (amount < 0 || amount > MAX_AMOUNT) {
+        return NO_KEY;
+      }
+
+      key |= ((long) amount) << (type.ordinal() * BITS_PER_RESOURCE);
+    }
+
+    return key;
+  }
+
+  public static int unpack(long key, ResourceType type) {
+    return (int) (key >>> (type.ordinal() * BITS_PER_RESOURCE)) & MAX_AMOUNT;
+  }
+}
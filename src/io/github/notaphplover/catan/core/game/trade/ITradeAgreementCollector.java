@@ -0,0 +1,45 @@
+package io.github.notaphplover.catan.core.game.trade;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.exception.AgreementAlreadyProposedException;
+import io.github.notaphplover.catan.core.game.exception.InvalidReferenceException;
+import io.github.notaphplover.catan.core.game.exception.NoCurrentTradeException;
+import io.github.notaphplover.catan.core.game.exception.NotAnAcceptableExchangeException;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesException;
+import java.util.function.BiConsumer;
+
+/**
+ * Intake of the agreements of a trade. Agreements may be offered from any thread without locks; the
+ * thread owning the game drains them into agreement requests, so they are processed like any other
+ * request.
+ */
+public interface ITradeAgreementCollector {
+
+  /**
+   * Offers an agreement.
+   *
+   * @param player Player proposing the agreement.
+   * @param agreement Agreement to offer.
+   * @throws NonNullInputException if the player or the agreement are null.
+   * @throws NoCurrentTradeException if the trade of the collector is over.
+   * @throws InvalidReferenceException if the agreement does not refer to the trade.
+   * @throws NotAnAcceptableExchangeException if the exchange is not acceptable.
+   * @throws NotEnoughtResourcesException if the player could not pay the trade when it started.
+   * @throws AgreementAlreadyProposedException if the player already offered the exchange.
+   */
+  void offer(IPlayer player, ITradeAgreement agreement)
+      throws NonNullInputException, NoCurrentTradeException, InvalidReferenceException,
+          NotAnAcceptableExchangeException, NotEnoughtResourcesException,
+          AgreementAlreadyProposedException;
+
+  /**
+   * Hands the agreements offered since the last call to a consumer, by arrival. Only the thread
+   * owning the game may call it.
+   *
+   * @param consumer Consumer of the seller and the agreement of each offer.
+   */
+  void drainTo(BiConsumer<IPlayer, ITradeAgreement> consumer);
+
+  ITrade getTrade();
+}
@@ -6,9 +6,11 @@ import io.github.notaphplover.catan.core.game.exception.AgreementAlreadyProposed
 import io.github.notaphplover.catan.core.game.exception.InvalidReferenceException;
 import io.github.notaphplover.catan.core.game.exception.NoCurrentTradeException;
 import io.github.notaphplover.catan.core.game.exception.NotAnAcceptableExchangeException;
+import io.github.notaphplover.catan.core.game.trade.order.IOrderBook;
 import io.github.notaphplover.catan.core.player.IPlayer;
 import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesException;
 import java.util.Collection;
+import java.util.function.UnaryOperator;
 
 public interface ITradeManager {
 
@@ -16,6 +18,21 @@ public interface ITradeManager {
       throws NonNullInputException, NotAnAcceptableExchangeException, InvalidReferenceException,
           NoCurrentTradeException, NotEnoughtResourcesException, AgreementAlreadyProposedException;
 
+  /**
+   * Creates an independent copy of the current trade state.
+   *
+   * @return Trade manager copy.
+   */
+  ITradeManager copy();
+
+  /**
+   * Creates an independent copy of the current trade state replacing its players.
+   *
+   * @param playerMapper Function providing the player of the copy for each player.
+   * @return Trade manager copy.
+   */
+  ITradeManager copy(UnaryOperator<IPlayer> playerMapper);
+
   ITradeAgreement confirm(ITradeConfirmation confirmation)
       throws InvalidReferenceException, NoCurrentTradeException;
 
@@ -24,10 +41,104 @@ public interface ITradeManager {
 
   Collection<ITradeAgreement> getAgreements() throws NoCurrentTradeException;
 
+  /**
+   * Gets the lock free intake of agreements of the current trade.
+   *
+   * @return Agreement collector or null if there is no trade or the trade was not started with the
+   *     players of the game.
+   */
+  ITradeAgreementCollector getAgreementCollector();
+
+  /**
+   * Gets the number of an agreement of the current trade. Agreements are numbered in registration
+   * order, increasing through the whole game.
+   *
+   * @param agreement Agreement reference.
+   * @return Number of the agreement or {@link TradeBook#NO_AGREEMENT} if it is not registered.
+   */
+  long getAgreementNumber(IReference agreement);
+
   IPlayer getBuyer();
 
+  /**
+   * Gets the number the next registered agreement receives.
+   *
+   * @return Next agreement number.
+   */
+  long getNextAgreementNumber();
+
+  /**
+   * Gets the book of orders. Orders are independent of the current trade.
+   *
+   * @return Order book.
+   */
+  IOrderBook getOrderBook();
+
+  /**
+   * Gets the player who proposed an agreement of the current trade.
+   *
+   * @param agreement Agreement reference.
+   * @return Player who proposed the agreement or null if the agreement is not registered.
+   */
+  IPlayer getSeller(IReference agreement);
+
+  /**
+   * Determines whether a player can propose agreements to the current trade.
+   *
+   * @param player Player.
+   * @return True if there is a trade, the player is not the buyer and the player can pay the
+   *     requested resources.
+   */
+  boolean isEligibleSeller(IPlayer player);
+
+  /**
+   * Sets the trade state of a copy previously created.
+   *
+   * @param snapshot Trade manager copy.
+   */
+  void restore(ITradeManager snapshot);
+
+  /**
+   * Sets the current trade without any check.
+   *
+   * <p>This is intended to restore decoded trade states. Agreements are restored through {@link
+   * #restoreAgreement(IPlayer, ITradeAgreement)}.
+   *
+   * @param buyer Player who started the trade.
+   * @param trade Trade to set.
+   */
+  void restore(IPlayer buyer, ITrade trade);
+
+  /**
+   * Registers an agreement of the current trade without any check.
+   *
+   * @param seller Player who proposed the agreement.
+   * @param agreement Agreement to register.
+   */
+  void restoreAgreement(IPlayer seller, ITradeAgreement agreement);
+
+  /**
+   * Sets the number the next registered agreement receives without any check.
+   *
+   * @param agreementNumber Next agreement number.
+   */
+  void restoreNextAgreementNumber(long agreementNumber);
+
   ITrade getTrade();
 
   void start(IPlayer player, ITrade trade)
       throws NonNullInputException, NonVoidCollectionException, NotEnoughtResourcesException;
+
+  /**
+   * Starts a trade, computing once which players can pay its requested resources.
+   *
+   * @param player Player who starts the trade.
+   * @param trade Trade to start.
+   * @param players Players of the game, by index.
+   * @throws NonNullInputException if any argument is null.
+   * @throws NonVoidCollectionException if the trade has no acceptable exchanges.
+   * @throws NotEnoughtResourcesException if the player cannot pay an acceptable exchange.
+   */
+  void start(IPlayer player, ITrade trade, IPlayer[] players)
+      throws NonNullInputException, NonVoidCollectionException, NotEnoughtResourcesException;
 }
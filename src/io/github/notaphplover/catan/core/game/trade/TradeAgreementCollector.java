@@ -0,0 +1,221 @@
+package io.github.notaphplover.catan.core.game.trade;
+
+import io.github.notaphplover.catan.core.collection.LongIntHashMap;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.exception.AgreementAlreadyProposedException;
+import io.github.notaphplover.catan.core.game.exception.InvalidReferenceException;
+import io.github.notaphplover.catan.core.game.exception.NoCurrentTradeException;
+import io.github.notaphplover.catan.core.game.exception.NotAnAcceptableExchangeException;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.PlayerSlots;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+
+/**
+ * Agreement collector with one slot per exchange and player. Offers claim their slot with a compare
+ * and set, so concurrent offers of different players never wait for each other.
+ *
+ * <p>Every structure read by {@link #offer(IPlayer, ITradeAgreement)} is built before the collector
+ * is published and never modified afterwards.
+ */
+public class TradeAgreementCollector implements ITradeAgreementCollector {
+
+  private static final Comparator<CollectedAgreement> ARRIVAL_ORDER =
+      Comparator.comparingLong(CollectedAgreement::getSequence);
+
+  private volatile boolean closed;
+
+  private boolean[] drained;
+
+  private TradeEligibility eligibility;
+
+  private LongIntHashMap exchangeIndex;
+
+  private IResourceStorage[] exchanges;
+
+  private IPlayer[] players;
+
+  private AtomicLong sequence;
+
+  private AtomicReferenceArray<CollectedAgreement> slots;
+
+  private ITrade trade;
+
+  /**
+   * Creates a collector for the current trade of a book.
+   *
+   * @param trade Trade of the collector.
+   * @param book Book with the exchanges of the trade.
+   * @param eligibility Players able to pay the trade.
+   * @param players Players of the game, by index.
+   */
+  public TradeAgreementCollector(
+      ITrade trade, TradeBook book, TradeEligibility eligibility, IPlayer[] players) {
+
+    this.closed = false;
+    this.eligibility = eligibility;
+    this.exchangeIndex = new LongIntHashMap(TradeBook.NO_EXCHANGE, book.getExchangeCount());
+    this.exchanges = new IResourceStorage[book.getExchangeCount()];
+    this.players = players.clone();
+    this.sequence = new AtomicLong();
+    this.slots = new AtomicReferenceArray<CollectedAgreement>(exchanges.length * players.length);
+    this.drained = new boolean[slots.length()];
+    this.trade = trade;
+
+    for (int i = 0; i < exchanges.length; ++i) {
+      exchanges[i] = book.getExchange(i);
+
+      long key = ExchangeKeys.pack(exchanges[i]);
+
+      if (key != ExchangeKeys.NO_KEY) {
+        exchangeIndex.put(key, i);
+      }
+    }
+  }
+
+  @Override
+  public ITrade getTrade() {
+    return trade;
+  }
+
+  @Override
+  public void offer(IPlayer player, ITradeAgreement agreement)
+      throws NonNullInputException, NoCurrentTradeException, InvalidReferenceException,
+          NotAnAcceptableExchangeException, NotEnoughtResourcesException,
+          AgreementAlreadyProposedException {
+
+    if (player == null || agreement == null) {
+      throw new NonNullInputException();
+    }
+
+    if (closed) {
+      throw new NoCurrentTradeException();
+    }
+
+    if (!trade.getId().equals(agreement.getTrade().getId())) {
+      throw new InvalidReferenceException(trade, agreement.getTrade());
+    }
+
+    int exchange = indexOfExchange(agreement.getExchange());
+    if (exchange == TradeBook.NO_EXCHANGE) {
+      throw new NotAnAcceptableExchangeException(trade);
+    }
+
+    if (!eligibility.isEligible(player)) {
+      throw new NotEnoughtResourcesException();
+    }
+
+    int slot = exchange * players.length + PlayerSlots.indexOf(players, player);
+
+    CollectedAgreement collected =
+        new CollectedAgreement(agreement, player, exchange, sequence.getAndIncrement());
+
+    if (!slots.compareAndSet(slot, null, collected)) {
+      throw new AgreementAlreadyProposedException(agreement, player);
+    }
+  }
+
+  @Override
+  public void drainTo(BiConsumer<IPlayer, ITradeAgreement> consumer) {
+
+    List<CollectedAgreement> collected = null;
+
+    for (int i = 0; i < drained.length; ++i) {
+      if (drained[i]) {
+        continue;
+      }
+
+      CollectedAgreement agreement = slots.get(i);
+
+      if (agreement != null) {
+        if (collected == null) {
+          collected = new ArrayList<CollectedAgreement>();
+        }
+
+        collected.add(agreement);
+        drained[i] = true;
+      }
+    }
+
+    if (collected == null) {
+      return;
+    }
+
+    collected.sort(ARRIVAL_ORDER);
+
+    for (CollectedAgreement agreement : collected) {
+      consumer.accept(agreement.getSeller(), agreement.getAgreement());
+    }
+  }
+
+  /**
+   * Takes the slot of an agreement registered by the owner of the trade. The slot is taken unless
+   * it already holds the agreement, which is not handed to {@link #drainTo(BiConsumer)} anymore.
+   *
+   * @param player Player proposing the agreement.
+   * @param agreement Agreement to register.
+   * @param exchange Index of the exchange of the agreement.
+   * @throws AgreementAlreadyProposedException if the player offered another agreement for the
+   *     exchange.
+   */
+  void claim(IPlayer player, ITradeAgreement agreement, int exchange)
+      throws AgreementAlreadyProposedException {
+
+    int slot = exchange * players.length + PlayerSlots.indexOf(players, player);
+
+    slots.compareAndSet(
+        slot,
+        null,
+        new CollectedAgreement(agreement, player, exchange, sequence.getAndIncrement()));
+
+    if (slots.get(slot).getAgreement() != agreement) {
+      throw new AgreementAlreadyProposedException(agreement, player);
+    }
+
+    drained[slot] = true;
+  }
+
+  /** Rejects any further offer. */
+  void close() {
+    closed = true;
+  }
+
+  /**
+   * Frees the slots of the drained agreements missing in a book, so their players can propose again
+   * once the agreements are undone.
+   *
+   * @param book Book of the trade.
+   */
+  void release(TradeBook book) {
+
+    for (int i = 0; i < drained.length; ++i) {
+      if (drained[i] && !book.hasProposed(players[i % players.length], i / players.length)) {
+        slots.set(i, null);
+        drained[i] = false;
+      }
+    }
+  }
+
+  private int indexOfExchange(IResourceStorage exchange) {
+
+    long key = ExchangeKeys.pack(exchange);
+
+    if (key != ExchangeKeys.NO_KEY) {
+      return exchangeIndex.get(key);
+    }
+
+    for (int i = 0; i < exchanges.length; ++i) {
+      if (exchanges[i].equals(exchange)) {
+        return i;
+      }
+    }
+
+    return TradeBook.NO_EXCHANGE;
+  }
+}
@@ -0,0 +1,250 @@
+package io.github.notaphplover.catan.core.game.trade;
+
+import io.github.notaphplover.catan.core.collection.LongIntHashMap;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * Exchanges and agreements of a trade. Exchanges are indexed by their packed key and agreements
+ * receive per game monotonic numbers.
+ */
+public class TradeBook {
+
+  public static final long NO_AGREEMENT = -1L;
+
+  public static final int NO_EXCHANGE = -1;
+
+  private static final int INITIAL_AGREEMENT_TABLE_SIZE = 16;
+
+  private ArrayList<ITradeAgreement> agreements;
+
+  private int[] agreementTable;
+
+  private LongIntHashMap exchangeIndex;
+
+  private ArrayList<IResourceStorage> exchanges;
+
+  private ArrayList<ArrayList<IPlayer>> exchangeSellers;
+
+  private long firstAgreementNumber;
+
+  private long nextAgreementNumber;
+
+  private ArrayList<IPlayer> sellers;
+
+  public TradeBook() {
+    agreements = new ArrayList<ITradeAgreement>();
+    agreementTable = new int[INITIAL_AGREEMENT_TABLE_SIZE];
+    exchangeIndex = new LongIntHashMap(NO_EXCHANGE);
+    exchanges = new ArrayList<IResourceStorage>();
+    exchangeSellers = new ArrayList<ArrayList<IPlayer>>();
+    firstAgreementNumber = 0L;
+    nextAgreementNumber = 0L;
+    sellers = new ArrayList<IPlayer>();
+  }
+
+  public TradeBook(TradeBook other, UnaryOperator<IPlayer> playerMapper) {
+    agreements = new ArrayList<ITradeAgreement>(other.agreements);
+    agreementTable = other.agreementTable.clone();
+    exchangeIndex = new LongIntHashMap(other.exchangeIndex);
+    exchanges = new ArrayList<IResourceStorage>(other.exchanges);
+    exchangeSellers = new ArrayList<ArrayList<IPlayer>>(other.exchangeSellers.size());
+    firstAgreementNumber = other.firstAgreementNumber;
+    nextAgreementNumber = other.nextAgreementNumber;
+    sellers = new ArrayList<IPlayer>(other.sellers.size());
+
+    for (ArrayList<IPlayer> otherExchangeSellers : other.exchangeSellers) {
+      ArrayList<IPlayer> copy = new ArrayList<IPlayer>(otherExchangeSellers.size());
+
+      for (IPlayer seller : otherExchangeSellers) {
+        copy.add(playerMapper.apply(seller));
+      }
+
+      exchangeSellers.add(copy);
+    }
+
+    for (IPlayer seller : other.sellers) {
+      sellers.add(playerMapper.apply(seller));
+    }
+  }
+
+  /**
+   * Registers an agreement. An agreement with the id of a registered one replaces it, keeping its
+   * number.
+   *
+   * @param seller Player proposing the agreement.
+   * @param agreement Agreement.
+   * @param exchange Slot of the exchange of the agreement.
+   * @return Number of the agreement.
+   */
+  public long addAgreement(IPlayer seller, ITradeAgreement agreement, int exchange) {
+
+    int tableSlot = findAgreementTableSlot(agreement.getId());
+
+    if (agreementTable[tableSlot] != 0) {
+      int agreementSlot = agreementTable[tableSlot] - 1;
+
+      exchangeSellers
+          .get(indexOfExchange(agreements.get(agreementSlot).getExchange()))
+          .remove(sellers.get(agreementSlot));
+      exchangeSellers.get(exchange).add(seller);
+
+      agreements.set(agreementSlot, agreement);
+      sellers.set(agreementSlot, seller);
+
+      return firstAgreementNumber + agreementSlot;
+    }
+
+    if (agreements.isEmpty()) {
+      firstAgreementNumber = nextAgreementNumber;
+    }
+
+    exchangeSellers.get(exchange).add(seller);
+
+    agreements.add(agreement);
+    sellers.add(seller);
+    agreementTable[tableSlot] = agreements.size();
+
+    if (agreements.size() * 2 > agreementTable.length) {
+      rebuildAgreementTable(agreementTable.length << 1);
+    }
+
+    return nextAgreementNumber++;
+  }
+
+  /**
+   * Registers an exchange.
+   *
+   * @param exchange Exchange.
+   * @return Slot of the exchange.
+   */
+  public int addExchange(IResourceStorage exchange) {
+
+    int slot = indexOfExchange(exchange);
+
+    if (slot != NO_EXCHANGE) {
+      return slot;
+    }
+
+    slot = exchanges.size();
+
+    exchanges.add(exchange);
+    exchangeSellers.add(new ArrayList<IPlayer>());
+
+    long key = ExchangeKeys.pack(exchange);
+
+    if (key != ExchangeKeys.NO_KEY) {
+      exchangeIndex.put(key, slot);
+    }
+
+    return slot;
+  }
+
+  /** Removes every exchange and agreement. Agreement numbers keep increasing. */
+  public void clear() {
+    agreements.clear();
+    Arrays.fill(agreementTable, 0);
+    exchangeIndex.clear();
+    exchanges.clear();
+    exchangeSellers.clear();
+    sellers.clear();
+  }
+
+  public ITradeAgreement getAgreement(UUID id) {
+    int agreementSlot = agreementTable[findAgreementTableSlot(id)] - 1;
+
+    return agreementSlot < 0 ? null : agreements.get(agreementSlot);
+  }
+
+  public long getAgreementNumber(UUID id) {
+    int agreementSlot = agreementTable[findAgreementTableSlot(id)] - 1;
+
+    return agreementSlot < 0 ? NO_AGREEMENT : firstAgreementNumber + agreementSlot;
+  }
+
+  /**
+   * Gets the agreements in registration order.
+   *
+   * @return View of the agreements. It is not a copy.
+   */
+  public List<ITradeAgreement> getAgreements() {
+    return Collections.unmodifiableList(agreements);
+  }
+
+  public IResourceStorage getExchange(int exchange) {
+    return exchanges.get(exchange);
+  }
+
+  public int getExchangeCount() {
+    return exchanges.size();
+  }
+
+  public long getNextAgreementNumber() {
+    return nextAgreementNumber;
+  }
+
+  public IPlayer getSeller(UUID id) {
+    int agreementSlot = agreementTable[findAgreementTableSlot(id)] - 1;
+
+    return agreementSlot < 0 ? null : sellers.get(agreementSlot);
+  }
+
+  public boolean hasProposed(IPlayer player, int exchange) {
+    return exchangeSellers.get(exchange).contains(player);
+  }
+
+  public int indexOfExchange(IResourceStorage exchange) {
+
+    long key = ExchangeKeys.pack(exchange);
+
+    if (key != ExchangeKeys.NO_KEY) {
+      return exchangeIndex.get(key);
+    }
+
+    for (int i = 0; i < exchanges.size(); ++i) {
+      if (exchanges.get(i).equals(exchange)) {
+        return i;
+      }
+    }
+
+    return NO_EXCHANGE;
+  }
+
+  public void setNextAgreementNumber(long nextAgreementNumber) {
+    this.nextAgreementNumber = nextAgreementNumber;
+  }
+
+  private int findAgreementTableSlot(UUID id) {
+    int mask = agreementTable.length - 1;
+    int slot = hash(id) & mask;
+
+    while (agreementTable[slot] != 0
+        && !agreements.get(agreementTable[slot] - 1).getId().equals(id)) {
+      slot = (slot + 1) & mask;
+    }
+
+    return slot;
+  }
+
+  private void rebuildAgreementTable(int size) {
+    agreementTable = new int[size];
+
+    for (int i = 0; i < agreements.size(); ++i) {
+      agreementTable[findAgreementTableSlot(agreements.get(i).getId())] = i + 1;
+    }
+  }
+
+  private static int hash(UUID id) {
+    long bits = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+    bits ^= bits >>> 33;
+    bits *= 0xff51afd7ed558ccdL;
+
+    return (int) (bits ^ (bits >>> 33));
+  }
+}
@@ -0,0 +1,82 @@
+package io.github.notaphplover.catan.core.game.trade;
+
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.PlayerSlots;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import java.util.function.UnaryOperator;
+
+/**
+ * Bitmask of the players able to pay the requested resources of a trade, indexed by player slot. It
+ * is computed once, when the trade starts.
+ */
+public class TradeEligibility {
+
+  private static final ResourceType[] RESOURCE_TYPES = ResourceType.values();
+
+  private long[] eligible;
+
+  private IPlayer[] players;
+
+  /**
+   * Computes the players able to pay the requested resources of a trade.
+   *
+   * @param buyer Player who started the trade. It is never eligible.
+   * @param requestedResources Resources requested by the buyer.
+   * @param players Players by slot.
+   */
+  public TradeEligibility(IPlayer buyer, IResourceStorage requestedResources, IPlayer[] players) {
+
+    this.eligible = new long[(players.length + Long.SIZE - 1) / Long.SIZE];
+    this.players = players.clone();
+
+    int[] requested = new int[RESOURCE_TYPES.length];
+
+    for (ResourceType type : RESOURCE_TYPES) {
+      requested[type.ordinal()] = requestedResources.getResource(type);
+    }
+
+    for (int i = 0; i < players.length; ++i) {
+      if (!players[i].equals(buyer) && canPay(players[i].getResourceManager(), requested)) {
+        eligible[i / Long.SIZE] |= 1L << i;
+      }
+    }
+  }
+
+  public TradeEligibility(TradeEligibility other, UnaryOperator<IPlayer> playerMapper) {
+
+    eligible = other.eligible.clone();
+    players = new IPlayer[other.players.length];
+
+    for (int i = 0; i < players.length; ++i) {
+      players[i] = playerMapper.apply(other.players[i]);
+    }
+  }
+
+  public int getEligibleCount() {
+    int count = 0;
+
+    for (long word : eligible) {
+      count += Long.bitCount(word);
+    }
+
+    return count;
+  }
+
+  public boolean isEligible(IPlayer player) {
+    int slot = PlayerSlots.indexOf(players, player);
+
+    return slot != IPlayer.NO_INDEX && (eligible[slot / Long.SIZE] & (1L << slot)) != 0;
+  }
+
+  private static boolean canPay(IResourceStorage resources, int[] requested) {
+
+    for (ResourceType type : RESOURCE_TYPES) {
+      if (resources.getResource(type) < requested[type.ordinal()]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
@@ -8,35 +8,41 @@ import io.github.notaphplover.catan.core.game.exception.InvalidReferenceExceptio
 import io.github.notaphplover.catan.core.game.exception.NoCurrentTradeException;
 import io.github.notaphplover.catan.core.game.exception.NotAnAcceptableExchangeException;
 import io.github.notaphplover.catan.core.game.exception.PendingTradeException;
+import io.github.notaphplover.catan.core.game.trade.order.IOrderBook;
+import io.github.notaphplover.catan.core.game.trade.order.OrderBook;
 import io.github.notaphplover.catan.core.player.IPlayer;
 import io.github.notaphplover.catan.core.resource.IResourceStorage;
 import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesException;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.TreeMap;
-import java.util.TreeSet;
-import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 public class TradeManager implements ITradeManager {
 
-  private TreeMap<UUID, IPlayer> agreementToPlayerMap;
-
-  private TreeMap<IResourceStorage, Collection<IPlayer>> exchangeToPlayersMap;
+  private TradeBook book;
 
   private IPlayer buyer;
 
-  private ITrade trade;
+  private volatile TradeAgreementCollector collector;
+
+  private TradeEligibility eligibility;
 
-  private TreeMap<UUID, ITradeAgreement> tradeAgreements;
+  private IOrderBook orderBook;
 
-  private TreeSet<IResourceStorage> tradeExchangesSet;
+  private ITrade trade;
 
   public TradeManager() {
 
-    agreementToPlayerMap = new TreeMap<UUID, IPlayer>();
-    exchangeToPlayersMap = new TreeMap<IResourceStorage, Collection<IPlayer>>();
-    tradeAgreements = new TreeMap<UUID, ITradeAgreement>();
-    tradeExchangesSet = new TreeSet<IResourceStorage>();
+    book = new TradeBook();
+    orderBook = new OrderBook();
+  }
+
+  public TradeManager(TradeManager other) {
+    this(other, UnaryOperator.identity());
+  }
+
+  public TradeManager(TradeManager other, UnaryOperator<IPlayer> playerMapper) {
+
+    copyFrom(other, playerMapper);
   }
 
   @Override
@@ -56,22 +62,35 @@ public class TradeManager implements ITradeManager {
       throw new InvalidReferenceException(trade, agreement.getTrade());
     }
 
-    if (!tradeExchangesSet.contains(agreement.getExchange())) {
+    int exchange = book.indexOfExchange(agreement.getExchange());
+    if (exchange == TradeBook.NO_EXCHANGE) {
       throw new NotAnAcceptableExchangeException(trade);
     }
 
-    Collection<IPlayer> exchangePlayers = exchangeToPlayersMap.get(agreement.getExchange());
-    if (exchangePlayers.contains(player)) {
+    if (book.hasProposed(player, exchange)) {
       throw new AgreementAlreadyProposedException(agreement, player);
     }
 
-    if (!player.getResourceManager().canSubstract(trade.getRequestedResources())) {
+    if ((eligibility != null && !eligibility.isEligible(player))
+        || !player.getResourceManager().canSubstract(trade.getRequestedResources())) {
       throw new NotEnoughtResourcesException();
     }
 
-    agreementToPlayerMap.put(agreement.getId(), player);
-    exchangePlayers.add(player);
-    tradeAgreements.put(agreement.getId(), agreement);
+    if (collector != null) {
+      collector.claim(player, agreement, exchange);
+    }
+
+    book.addAgreement(player, agreement, exchange);
+  }
+
+  @Override
+  public ITradeManager copy() {
+    return new TradeManager(this);
+  }
+
+  @Override
+  public ITradeManager copy(UnaryOperator<IPlayer> playerMapper) {
+    return new TradeManager(this, playerMapper);
   }
 
   @Override
@@ -82,13 +101,13 @@ public class TradeManager implements ITradeManager {
       throw new NoCurrentTradeException();
     }
 
-    ITradeAgreement agreement = tradeAgreements.get(confirmation.getAgreement().getId());
+    ITradeAgreement agreement = book.getAgreement(confirmation.getAgreement().getId());
 
     if (agreement == null) {
       throw new InvalidReferenceException(confirmation.getAgreement());
     }
 
-    IPlayer seller = agreementToPlayerMap.get(agreement.getId());
+    IPlayer seller = book.getSeller(agreement.getId());
 
     try {
       buyer.getResourceManager().substract(agreement.getExchange());
@@ -131,7 +150,17 @@ public class TradeManager implements ITradeManager {
       throw new NoCurrentTradeException();
     }
 
-    return tradeAgreements.values();
+    return book.getAgreements();
+  }
+
+  @Override
+  public ITradeAgreementCollector getAgreementCollector() {
+    return collector;
+  }
+
+  @Override
+  public long getAgreementNumber(IReference agreement) {
+    return book.getAgreementNumber(agreement.getId());
   }
 
   @Override
@@ -139,11 +168,73 @@ public class TradeManager implements ITradeManager {
     return buyer;
   }
 
+  @Override
+  public long getNextAgreementNumber() {
+    return book.getNextAgreementNumber();
+  }
+
+  @Override
+  public IOrderBook getOrderBook() {
+    return orderBook;
+  }
+
+  @Override
+  public IPlayer getSeller(IReference agreement) {
+    return book.getSeller(agreement.getId());
+  }
+
   @Override
   public ITrade getTrade() {
     return trade;
   }
 
+  @Override
+  public boolean isEligibleSeller(IPlayer player) {
+
+    if (trade == null || player.equals(buyer)) {
+      return false;
+    }
+
+    if (eligibility != null) {
+      return eligibility.isEligible(player);
+    }
+
+    return player.getResourceManager().canSubstract(trade.getRequestedResources());
+  }
+
+  @Override
+  public void restore(ITradeManager snapshot) {
+    if (!(snapshot instanceof TradeManager)) {
+      throw new IllegalArgumentException("Unexpected trade manager snapshot");
+    }
+
+    copyFrom((TradeManager) snapshot, UnaryOperator.identity());
+  }
+
+  @Override
+  public void restore(IPlayer buyer, ITrade trade) {
+
+    clear();
+
+    this.buyer = buyer;
+    this.trade = trade;
+
+    for (IResourceStorage exchange : trade.getAcceptableExchanges()) {
+      book.addExchange(exchange);
+    }
+  }
+
+  @Override
+  public void restoreAgreement(IPlayer seller, ITradeAgreement agreement) {
+
+    book.addAgreement(seller, agreement, book.indexOfExchange(agreement.getExchange()));
+  }
+
+  @Override
+  public void restoreNextAgreementNumber(long agreementNumber) {
+    book.setNextAgreementNumber(agreementNumber);
+  }
+
   @Override
   public void start(IPlayer player, ITrade trade)
       throws NonNullInputException, NonVoidCollectionException, NotEnoughtResourcesException {
@@ -159,23 +250,63 @@ public class TradeManager implements ITradeManager {
     buyer = player;
     this.trade = trade;
 
-    clearMaps();
+    book.clear();
     processTradeExchanges();
   }
 
+  @Override
+  public void start(IPlayer player, ITrade trade, IPlayer[] players)
+      throws NonNullInputException, NonVoidCollectionException, NotEnoughtResourcesException {
+
+    if (players == null) {
+      throw new NonNullInputException();
+    }
+
+    start(player, trade);
+
+    if (trade.getRequestedResources() == null) {
+      return;
+    }
+
+    eligibility = new TradeEligibility(player, trade.getRequestedResources(), players);
+    collector = new TradeAgreementCollector(trade, book, eligibility, players);
+  }
+
   private void clear() {
 
     buyer = null;
+    closeCollector();
+    eligibility = null;
     trade = null;
-    clearMaps();
+    book.clear();
+  }
+
+  private void closeCollector() {
+
+    if (collector != null) {
+      collector.close();
+      collector = null;
+    }
   }
 
-  private void clearMaps() {
+  private void copyFrom(TradeManager other, UnaryOperator<IPlayer> playerMapper) {
+
+    if (collector != null
+        && (other.trade == null || !collector.getTrade().getId().equals(other.trade.getId()))) {
+      closeCollector();
+    }
+
+    book = new TradeBook(other.book, playerMapper);
+
+    if (collector != null) {
+      collector.release(book);
+    }
 
-    agreementToPlayerMap.clear();
-    exchangeToPlayersMap.clear();
-    tradeAgreements.clear();
-    tradeExchangesSet.clear();
+    buyer = other.buyer == null ? null : playerMapper.apply(other.buyer);
+    eligibility =
+        other.eligibility == null ? null : new TradeEligibility(other.eligibility, playerMapper);
+    orderBook = other.orderBook.copy(playerMapper);
+    trade = other.trade;
   }
 
   private void processTradeExchanges()
@@ -198,8 +329,7 @@ public class TradeManager implements ITradeManager {
         throw new NotEnoughtResourcesException();
       }
 
-      exchangeToPlayersMap.put(exchange, new ArrayList<IPlayer>());
-      tradeExchangesSet.add(exchange);
+      book.addExchange(exchange);
     }
   }
 }
@@ -0,0 +1,17 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+import io.github.notaphplover.catan.core.player.IPlayer;
+
+public interface IOpenOrder {
+
+  IOrder getOrder();
+
+  IPlayer getOwner();
+
+  /**
+   * Gets the quantity of the order not filled yet.
+   *
+   * @return Base resources to buy or sell.
+   */
+  int getRemaining();
+}
@@ -0,0 +1,31 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+import io.github.notaphplover.catan.core.game.trade.IReference;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+
+/**
+ * Order of a resource pair. Bids buy base resources paying quote resources and asks sell base
+ * resources for quote resources.
+ */
+public interface IOrder extends IReference {
+
+  ResourceType getBase();
+
+  /**
+   * Gets the price of the order.
+   *
+   * @return Quote resources per base resource.
+   */
+  int getPrice();
+
+  /**
+   * Gets the quantity of the order.
+   *
+   * @return Base resources to buy or sell.
+   */
+  int getQuantity();
+
+  ResourceType getQuote();
+
+  OrderSide getSide();
+}
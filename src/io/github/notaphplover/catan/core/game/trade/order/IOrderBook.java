@@ -0,0 +1,77 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.exception.InvalidOrderException;
+import io.github.notaphplover.catan.core.game.exception.InvalidReferenceException;
+import io.github.notaphplover.catan.core.game.trade.IReference;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesException;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Book of orders of every resource pair. Orders are matched with price-time priority and the
+ * resources they may spend are held in escrow until they are filled or cancelled.
+ */
+public interface IOrderBook {
+
+  /**
+   * Cancels an open order, giving its escrow back to its owner.
+   *
+   * @param player Player cancelling the order.
+   * @param order Order reference.
+   * @return Order cancelled.
+   * @throws NonNullInputException if the player or the order are null.
+   * @throws InvalidReferenceException if the order is not open or it is not owned by the player.
+   */
+  IOrder cancel(IPlayer player, IReference order)
+      throws NonNullInputException, InvalidReferenceException;
+
+  /**
+   * Creates an independent copy of the book replacing its players.
+   *
+   * @param playerMapper Function providing the player of the copy for each player.
+   * @return Order book copy.
+   */
+  IOrderBook copy(UnaryOperator<IPlayer> playerMapper);
+
+  /**
+   * Gets the open orders.
+   *
+   * @return Open orders, sorted by arrival.
+   */
+  List<IOpenOrder> getOpenOrders();
+
+  /**
+   * Gets the quantity of an order not filled yet.
+   *
+   * @param order Order reference.
+   * @return Remaining quantity or zero if the order is not open.
+   */
+  int getOpenQuantity(IReference order);
+
+  /**
+   * Posts an order, filling it against compatible orders of the book. The remaining quantity stays
+   * in the book.
+   *
+   * @param player Player posting the order.
+   * @param order Order to post.
+   * @return Fills, in matching order.
+   * @throws NonNullInputException if the player or any order field is null.
+   * @throws InvalidOrderException if the order is malformed or already open.
+   * @throws NotEnoughtResourcesException if the player cannot pay the escrow of the order.
+   */
+  List<IOrderFill> post(IPlayer player, IOrder order)
+      throws NonNullInputException, InvalidOrderException, NotEnoughtResourcesException;
+
+  /**
+   * Adds an open order without any check, escrow or matching.
+   *
+   * <p>This is intended to restore decoded order books. Orders must be restored by arrival.
+   *
+   * @param owner Owner of the order.
+   * @param order Order.
+   * @param remaining Quantity not filled yet.
+   */
+  void restoreOrder(IPlayer owner, IOrder order, int remaining);
+}
@@ -0,0 +1,8 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+import io.github.notaphplover.catan.core.game.trade.IReference;
+
+public interface IOrderCancel extends IReference {
+
+  IReference getOrder();
+}
@@ -0,0 +1,23 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+import io.github.notaphplover.catan.core.player.IPlayer;
+
+public interface IOrderFill {
+
+  IOrder getAsk();
+
+  IOrder getBid();
+
+  IPlayer getBuyer();
+
+  /**
+   * Gets the price of the fill, the price of the order resting in the book.
+   *
+   * @return Quote resources paid per base resource.
+   */
+  int getPrice();
+
+  int getQuantity();
+
+  IPlayer getSeller();
+}
@@ -0,0 +1,44 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+import io.github.notaphplover.catan.core.player.IPlayer;
+
+class OpenOrder implements IOpenOrder {
+
+  private IOrder order;
+
+  private IPlayer owner;
+
+  private int remaining;
+
+  private long sequence;
+
+  public OpenOrder(IOrder order, IPlayer owner, int remaining, long sequence) {
+    this.order = order;
+    this.owner = owner;
+    this.remaining = remaining;
+    this.sequence = sequence;
+  }
+
+  @Override
+  public IOrder getOrder() {
+    return order;
+  }
+
+  @Override
+  public IPlayer getOwner() {
+    return owner;
+  }
+
+  @Override
+  public int getRemaining() {
+    return remaining;
+  }
+
+  public long getSequence() {
+    return sequence;
+  }
+
+  public void setRemaining(int remaining) {
+    this.remaining = remaining;
+  }
+}
@@ -0,0 +1,54 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+import io.github.notaphplover.catan.core.game.trade.Reference;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import java.util.UUID;
+
+public class Order extends Reference implements IOrder {
+
+  private ResourceType base;
+
+  private int price;
+
+  private int quantity;
+
+  private ResourceType quote;
+
+  private OrderSide side;
+
+  public Order(
+      UUID id, OrderSide side, ResourceType base, ResourceType quote, int quantity, int price) {
+    super(id);
+
+    this.base = base;
+    this.price = price;
+    this.quantity = quantity;
+    this.quote = quote;
+    this.side = side;
+  }
+
+  @Override
+  public ResourceType getBase() {
+    return base;
+  }
+
+  @Override
+  public int getPrice() {
+    return price;
+  }
+
+  @Override
+  public int getQuantity() {
+    return quantity;
+  }
+
+  @Override
+  public ResourceType getQuote() {
+    return quote;
+  }
+
+  @Override
+  public OrderSide getSide() {
+    return side;
+  }
+}
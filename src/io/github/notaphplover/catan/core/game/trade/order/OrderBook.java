@@ -0,0 +1,278 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.exception.InvalidOrderException;
+import io.github.notaphplover.catan.core.game.exception.InvalidReferenceException;
+import io.github.notaphplover.catan.core.game.trade.IReference;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.resource.IResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+public class OrderBook implements IOrderBook {
+
+  private static final Comparator<OpenOrder> ARRIVAL_PRIORITY =
+      Comparator.comparingLong(OpenOrder::getSequence);
+
+  private static final Comparator<OpenOrder> ASK_PRIORITY =
+      Comparator.comparingInt((OpenOrder order) -> order.getOrder().getPrice())
+          .thenComparing(ARRIVAL_PRIORITY);
+
+  private static final Comparator<OpenOrder> BID_PRIORITY =
+      Comparator.comparingInt((OpenOrder order) -> -order.getOrder().getPrice())
+          .thenComparing(ARRIVAL_PRIORITY);
+
+  private static final int RESOURCE_TYPES = ResourceType.values().length;
+
+  private static final int MARKETS = RESOURCE_TYPES * RESOURCE_TYPES;
+
+  private List<PriorityQueue<OpenOrder>> asks;
+
+  private List<PriorityQueue<OpenOrder>> bids;
+
+  private long nextSequence;
+
+  private HashMap<UUID, OpenOrder> openOrders;
+
+  public OrderBook() {
+    asks = new ArrayList<PriorityQueue<OpenOrder>>(Collections.nCopies(MARKETS, null));
+    bids = new ArrayList<PriorityQueue<OpenOrder>>(Collections.nCopies(MARKETS, null));
+    nextSequence = 0L;
+    openOrders = new HashMap<UUID, OpenOrder>();
+  }
+
+  public OrderBook(OrderBook other, UnaryOperator<IPlayer> playerMapper) {
+    this();
+
+    for (OpenOrder order : other.getSortedOpenOrders()) {
+      insert(
+          new OpenOrder(
+              order.getOrder(),
+              playerMapper.apply(order.getOwner()),
+              order.getRemaining(),
+              order.getSequence()));
+    }
+
+    nextSequence = other.nextSequence;
+  }
+
+  @Override
+  public IOrder cancel(IPlayer player, IReference order)
+      throws NonNullInputException, InvalidReferenceException {
+
+    if (player == null || order == null) {
+      throw new NonNullInputException();
+    }
+
+    OpenOrder openOrder = openOrders.get(order.getId());
+
+    if (openOrder == null || !openOrder.getOwner().equals(player)) {
+      throw new InvalidReferenceException(order);
+    }
+
+    IOrder cancelledOrder = openOrder.getOrder();
+
+    if (cancelledOrder.getSide() == OrderSide.BID) {
+      give(player, cancelledOrder.getQuote(), openOrder.getRemaining() * cancelledOrder.getPrice());
+    } else {
+      give(player, cancelledOrder.getBase(), openOrder.getRemaining());
+    }
+
+    openOrder.setRemaining(0);
+    openOrders.remove(order.getId());
+
+    return cancelledOrder;
+  }
+
+  @Override
+  public IOrderBook copy(UnaryOperator<IPlayer> playerMapper) {
+    return new OrderBook(this, playerMapper);
+  }
+
+  @Override
+  public List<IOpenOrder> getOpenOrders() {
+    return new ArrayList<IOpenOrder>(getSortedOpenOrders());
+  }
+
+  @Override
+  public int getOpenQuantity(IReference order) {
+    OpenOrder openOrder = openOrders.get(order.getId());
+
+    return openOrder == null ? 0 : openOrder.getRemaining();
+  }
+
+  @Override
+  public List<IOrderFill> post(IPlayer player, IOrder order)
+      throws NonNullInputException, InvalidOrderException, NotEnoughtResourcesException {
+
+    checkOrder(player, order);
+
+    ResourceType escrowType;
+    int escrow;
+
+    if (order.getSide() == OrderSide.BID) {
+      escrowType = order.getQuote();
+      escrow = order.getQuantity() * order.getPrice();
+    } else {
+      escrowType = order.getBase();
+      escrow = order.getQuantity();
+    }
+
+    IResourceManager resourceManager = player.getResourceManager();
+
+    if (resourceManager.getResource(escrowType) < escrow) {
+      throw new NotEnoughtResourcesException();
+    }
+
+    resourceManager.set(escrowType, resourceManager.getResource(escrowType) - escrow);
+
+    OpenOrder incoming = new OpenOrder(order, player, order.getQuantity(), nextSequence++);
+    List<IOrderFill> fills = match(incoming);
+
+    if (incoming.getRemaining() > 0) {
+      insert(incoming);
+    }
+
+    return fills;
+  }
+
+  @Override
+  public void restoreOrder(IPlayer owner, IOrder order, int remaining) {
+    insert(new OpenOrder(order, owner, remaining, nextSequence++));
+  }
+
+  private void checkOrder(IPlayer player, IOrder order)
+      throws NonNullInputException, InvalidOrderException {
+
+    if (player == null
+        || order == null
+        || order.getId() == null
+        || order.getSide() == null
+        || order.getBase() == null
+        || order.getQuote() == null) {
+      throw new NonNullInputException();
+    }
+
+    if (order.getBase() == order.getQuote()
+        || order.getPrice() <= 0
+        || order.getQuantity() <= 0
+        || (long) order.getPrice() * order.getQuantity() > Integer.MAX_VALUE
+        || openOrders.containsKey(order.getId())) {
+      throw new InvalidOrderException(order);
+    }
+  }
+
+  private boolean crosses(OpenOrder incoming, OpenOrder resting) {
+    return incoming.getOrder().getSide() == OrderSide.BID
+        ? incoming.getOrder().getPrice() >= resting.getOrder().getPrice()
+        : incoming.getOrder().getPrice() <= resting.getOrder().getPrice();
+  }
+
+  private PriorityQueue<OpenOrder> getQueue(OrderSide side, IOrder order, boolean create) {
+    List<PriorityQueue<OpenOrder>> queues = side == OrderSide.BID ? bids : asks;
+    int market = order.getBase().ordinal() * RESOURCE_TYPES + order.getQuote().ordinal();
+
+    PriorityQueue<OpenOrder> queue = queues.get(market);
+
+    if (queue == null && create) {
+      queue = new PriorityQueue<OpenOrder>(side == OrderSide.BID ? BID_PRIORITY : ASK_PRIORITY);
+      queues.set(market, queue);
+    }
+
+    return queue;
+  }
+
+  private List<OpenOrder> getSortedOpenOrders() {
+    List<OpenOrder> orders = new ArrayList<OpenOrder>(openOrders.values());
+    orders.sort(ARRIVAL_PRIORITY);
+
+    return orders;
+  }
+
+  private void give(IPlayer player, ResourceType type, int amount) {
+    IResourceManager resourceManager = player.getResourceManager();
+
+    resourceManager.set(type, resourceManager.getResource(type) + amount);
+  }
+
+  private void insert(OpenOrder order) {
+    getQueue(order.getOrder().getSide(), order.getOrder(), true).add(order);
+    openOrders.put(order.getOrder().getId(), order);
+  }
+
+  private List<IOrderFill> match(OpenOrder incoming) {
+
+    OrderSide restingSide =
+        incoming.getOrder().getSide() == OrderSide.BID ? OrderSide.ASK : OrderSide.BID;
+    PriorityQueue<OpenOrder> resting = getQueue(restingSide, incoming.getOrder(), false);
+
+    List<IOrderFill> fills = new ArrayList<IOrderFill>();
+
+    while (incoming.getRemaining() > 0 && resting != null) {
+      OpenOrder best = peekOpen(resting);
+
+      if (best == null || !crosses(incoming, best)) {
+        break;
+      }
+
+      int quantity = Math.min(incoming.getRemaining(), best.getRemaining());
+      int price = best.getOrder().getPrice();
+
+      if (incoming.getOrder().getSide() == OrderSide.BID) {
+        settle(incoming, best, quantity, price);
+        fills.add(new OrderFill(incoming, best, quantity, price));
+      } else {
+        settle(best, incoming, quantity, price);
+        fills.add(new OrderFill(best, incoming, quantity, price));
+      }
+
+      incoming.setRemaining(incoming.getRemaining() - quantity);
+      best.setRemaining(best.getRemaining() - quantity);
+
+      if (best.getRemaining() == 0) {
+        resting.poll();
+        openOrders.remove(best.getOrder().getId());
+      }
+    }
+
+    return fills;
+  }
+
+  /**
+   * Gets the best order of a queue, dropping the cancelled ones found on top of it.
+   *
+   * @param queue Queue of orders.
+   * @return Best open order or null if there is none.
+   */
+  private OpenOrder peekOpen(PriorityQueue<OpenOrder> queue) {
+    OpenOrder order = queue.peek();
+
+    while (order != null && order.getRemaining() == 0) {
+      queue.poll();
+      order = queue.peek();
+    }
+
+    return order;
+  }
+
+  private void settle(OpenOrder bid, OpenOrder ask, int quantity, int price) {
+    IOrder bidOrder = bid.getOrder();
+
+    give(bid.getOwner(), bidOrder.getBase(), quantity);
+    give(ask.getOwner(), bidOrder.getQuote(), quantity * price);
+
+    int refund = (bidOrder.getPrice() - price) * quantity;
+
+    if (refund > 0) {
+      give(bid.getOwner(), bidOrder.getQuote(), refund);
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+import io.github.notaphplover.catan.core.game.trade.IReference;
+import io.github.notaphplover.catan.core.game.trade.Reference;
+import java.util.UUID;
+
+public class OrderCancel extends Reference implements IOrderCancel {
+
+  private IReference order;
+
+  public OrderCancel(UUID id, IReference order) {
+    super(id);
+
+    this.order = order;
+  }
+
+  @Override
+  public IReference getOrder() {
+    return order;
+  }
+}
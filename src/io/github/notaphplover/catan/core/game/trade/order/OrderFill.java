@@ -0,0 +1,57 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+import io.github.notaphplover.catan.core.player.IPlayer;
+
+public class OrderFill implements IOrderFill {
+
+  private IOrder ask;
+
+  private IOrder bid;
+
+  private IPlayer buyer;
+
+  private int price;
+
+  private int quantity;
+
+  private IPlayer seller;
+
+  public OrderFill(IOpenOrder bid, IOpenOrder ask, int quantity, int price) {
+    this.ask = ask.getOrder();
+    this.bid = bid.getOrder();
+    this.buyer = bid.getOwner();
+    this.price = price;
+    this.quantity = quantity;
+    this.seller = ask.getOwner();
+  }
+
+  @Override
+  public IOrder getAsk() {
+    return ask;
+  }
+
+  @Override
+  public IOrder getBid() {
+    return bid;
+  }
+
+  @Override
+  public IPlayer getBuyer() {
+    return buyer;
+  }
+
+  @Override
+  public int getPrice() {
+    return price;
+  }
+
+  @Override
+  public int getQuantity() {
+    return quantity;
+  }
+
+  @Override
+  public IPlayer getSeller() {
+    return seller;
+  }
+}
@@ -0,0 +1,6 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+public enum OrderSide {
+  ASK,
+  BID,
+}
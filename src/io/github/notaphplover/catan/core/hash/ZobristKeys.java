@@ -0,0 +1,117 @@
+package io.github.notaphplover.catan.core.hash;
+
+import io.github.notaphplover.catan.core.board.connection.IBoardConnection;
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.board.element.IOwnedElement;
+import io.github.notaphplover.catan.core.board.structure.IBoardStructure;
+import io.github.notaphplover.catan.core.board.terrain.IBoardTerrain;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+
+/**
+ * Zobrist keys of the game state components.
+ *
+ * <p>Keys are derived on the fly by mixing the packed component values, so boards of any size and
+ * any number of players are supported without random tables. Every component kind uses a different
+ * domain constant to avoid collisions between kinds.
+ */
+public final class ZobristKeys {
+
+  private static final long ACTIVE_PLAYER_DOMAIN = 0x2545f4914f6cdd1dL;
+
+  private static final long CELL_DOMAIN = 0x9e3779b97f4a7c15L;
+
+  private static final long PLAYER_DOMAIN = 0xd1b54a32d192ed03L;
+
+  private static final long RESOURCE_DOMAIN = 0x8cb92ba72f3d8dd7L;
+
+  private static final long STATE_DOMAIN = 0xaef17502108ef2d9L;
+
+  private static final long TURN_STARTED_KEY = mix(0x6a09e667f3bcc909L);
+
+  private ZobristKeys() {}
+
+  public static long activePlayer(int playerId) {
+    return mix(ACTIVE_PLAYER_DOMAIN + playerId);
+  }
+
+  /**
+   * Gets the key of an element placed at a board position.
+   *
+   * @param x X coordinate of the element.
+   * @param y Y coordinate of the element.
+   * @param element Board element.
+   * @return Key of the element at the position.
+   */
+  public static long cell(int x, int y, IBoardElement element) {
+
+    int ownerId = -1;
+    if (element instanceof IOwnedElement && ((IOwnedElement) element).getOwner() != null) {
+      ownerId = ((IOwnedElement) element).getOwner().getId();
+    }
+
+    long packedPosition = ((long) x << 32) | (y & 0xffffffffL);
+    long packedElement =
+        ((long) element.getElementType().ordinal() << 40)
+            | ((getSubtypeOrdinal(element) & 0xffL) << 32)
+            | (ownerId & 0xffffffffL);
+
+    return mix(CELL_DOMAIN ^ mix(packedPosition) ^ mix(~packedElement));
+  }
+
+  /**
+   * Mixes a value using the splitmix64 finalizer.
+   *
+   * @param value Value to mix.
+   * @return Mixed value.
+   */
+  public static long mix(long value) {
+    value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+    value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+    return value ^ (value >>> 31);
+  }
+
+  /**
+   * Gets the key of the resources of a player.
+   *
+   * @param playerId Player id.
+   * @param resourcesHash Hash of the resources of the player.
+   * @return Key of the resources of the player.
+   */
+  public static long player(int playerId, long resourcesHash) {
+    return mix(resourcesHash ^ mix(PLAYER_DOMAIN + playerId));
+  }
+
+  public static long resource(ResourceType type, int quantity) {
+    return mix(RESOURCE_DOMAIN + (((long) type.ordinal() << 32) | (quantity & 0xffffffffL)));
+  }
+
+  public static long state(GameState state) {
+    return mix(STATE_DOMAIN + state.ordinal());
+  }
+
+  public static long turnStarted(boolean turnStarted) {
+    return turnStarted ? TURN_STARTED_KEY : 0L;
+  }
+
+  private static int getSubtypeOrdinal(IBoardElement element) {
+    Enum<?> subtype;
+
+    switch (element.getElementType()) {
+      case CONNECTION:
+        subtype = ((IBoardConnection) element).getType();
+        break;
+      case STRUCTURE:
+        subtype = ((IBoardStructure) element).getType();
+        break;
+      case TERRAIN:
+        subtype = ((IBoardTerrain) element).getType();
+        break;
+      default:
+        subtype = null;
+        break;
+    }
+
+    return subtype == null ? -1 : subtype.ordinal();
+  }
+}
@@ -1,17 +1,59 @@
 package io.github.notaphplover.catan.core.player;
 
+import io.github.notaphplover.catan.core.player.journal.IEventJournal;
 import io.github.notaphplover.catan.core.request.IRequest;
 import io.github.notaphplover.catan.core.resource.IResourceManager;
 import java.util.Collection;
 
 public interface IPlayer extends Comparable<IPlayer> {
+
+  /** Index of a player not managed by any game. */
+  int NO_INDEX = -1;
+
+  /**
+   * Reads the missing requests of the player from a journal.
+   *
+   * <p>Requests missed before attaching the journal are discarded, and the previous journal stops
+   * keeping requests for the player. Once a journal is shared by several players, a request
+   * appended to it is missed by all of them.
+   *
+   * @param journal Journal to read from.
+   */
+  void attach(IEventJournal journal);
+
   int getId();
 
+  /**
+   * Gets the dense index of the player, from 0 to n-1, in the game managing it.
+   *
+   * @return Index of the player or {@link #NO_INDEX} if it has not been assigned.
+   */
+  int getIndex();
+
   IResourceManager getResourceManager();
 
   void emptyMissing();
 
+  /**
+   * Gets the requests missed by the player.
+   *
+   * <p>Players are created without a journal and miss nothing until they are attached to one, which
+   * is done by the player manager of their game.
+   *
+   * @return View of the missing requests. It is not a copy.
+   */
   Collection<IRequest> getMissing();
 
+  /**
+   * Registers a request as missed.
+   *
+   * @param request Request missed.
+   * @deprecated Games append the requests missed by their players to the journal they share, see
+   *     {@link #attach(IEventJournal)}. The request is appended to the journal of the player, so it
+   *     is missed by every player sharing it. A player without journal is attached to a new one.
+   */
+  @Deprecated
   void registerMiss(IRequest request);
+
+  void setIndex(int index);
 }
@@ -1,23 +1,45 @@
 package io.github.notaphplover.catan.core.player;
 
+import io.github.notaphplover.catan.core.player.journal.EventJournal;
+import io.github.notaphplover.catan.core.player.journal.IEventJournal;
 import io.github.notaphplover.catan.core.request.IRequest;
 import io.github.notaphplover.catan.core.resource.IResourceManager;
 import io.github.notaphplover.catan.core.resource.ResourceManager;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Collections;
 
 public class Player implements IPlayer {
 
   private int id;
 
-  private LinkedList<IRequest> missingRequests;
+  private int index;
+
+  private IEventJournal journal;
+
+  private Collection<IRequest> missingRequests;
+
+  private int reader;
 
   private IResourceManager resourceManager;
 
   public Player(int id, IResourceManager resourceManager) {
     this.id = id;
-    missingRequests = new LinkedList<>();
+    this.index = NO_INDEX;
     this.resourceManager = new ResourceManager(resourceManager);
+
+    missingRequests = Collections.emptyList();
+  }
+
+  @Override
+  public void attach(IEventJournal journal) {
+    if (this.journal != null) {
+      this.journal.unregister(reader);
+    }
+
+    this.journal = journal;
+
+    reader = journal.register();
+    missingRequests = journal.view(reader);
   }
 
   @Override
@@ -37,7 +59,9 @@ public class Player implements IPlayer {
 
   @Override
   public void emptyMissing() {
-    this.missingRequests.clear();
+    if (journal != null) {
+      journal.consume(reader);
+    }
   }
 
   @Override
@@ -50,14 +74,29 @@ public class Player implements IPlayer {
     return id;
   }
 
+  @Override
+  public int getIndex() {
+    return index;
+  }
+
   @Override
   public IResourceManager getResourceManager() {
     return resourceManager;
   }
 
+  @Deprecated
   @Override
   public void registerMiss(IRequest request) {
 
-    this.missingRequests.add(request);
+    if (journal == null) {
+      attach(new EventJournal());
+    }
+
+    journal.append(request);
+  }
+
+  @Override
+  public void setIndex(int index) {
+    this.index = index;
   }
 }
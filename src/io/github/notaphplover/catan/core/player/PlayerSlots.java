@@ -0,0 +1,91 @@
+package io.github.notaphplover.catan.core.player;
+
+import java.util.Arrays;
+
+/**
+ * Dense slots of players. A player takes the slot of its index whenever it is free, so lookups of
+ * players of the same game are a single array access.
+ */
+public class PlayerSlots {
+
+  private static final IPlayer[] NO_PLAYERS = new IPlayer[0];
+
+  private IPlayer[] players;
+
+  public PlayerSlots() {
+    players = NO_PLAYERS;
+  }
+
+  public PlayerSlots(PlayerSlots other) {
+    players = other.players.clone();
+  }
+
+  /**
+   * Finds the slot of a player in an array of players.
+   *
+   * @param players Players, ideally ordered by index.
+   * @param player Player to find.
+   * @return Slot of the player or {@link IPlayer#NO_INDEX} if the player is not found.
+   */
+  public static int indexOf(IPlayer[] players, IPlayer player) {
+
+    int index = player.getIndex();
+
+    if (index >= 0 && index < players.length && player.equals(players[index])) {
+      return index;
+    }
+
+    for (int i = 0; i < players.length; ++i) {
+      if (player.equals(players[i])) {
+        return i;
+      }
+    }
+
+    return IPlayer.NO_INDEX;
+  }
+
+  /**
+   * Finds the slot of a player, taking a new one if the player has none.
+   *
+   * @param player Player.
+   * @return Slot of the player.
+   */
+  public int claim(IPlayer player) {
+
+    int slot = indexOf(players, player);
+
+    if (slot != IPlayer.NO_INDEX) {
+      return slot;
+    }
+
+    slot = player.getIndex();
+
+    if (slot < 0 || (slot < players.length && players[slot] != null)) {
+      slot = players.length;
+    }
+
+    if (slot >= players.length) {
+      players = Arrays.copyOf(players, slot + 1);
+    }
+
+    players[slot] = player;
+
+    return slot;
+  }
+
+  public IPlayer get(int slot) {
+    return players[slot];
+  }
+
+  public int indexOf(IPlayer player) {
+    return indexOf(players, player);
+  }
+
+  public int size() {
+    return players.length;
+  }
+
+  public IPlayer[] toArray() {
+    return players.clone();
+  }
+}
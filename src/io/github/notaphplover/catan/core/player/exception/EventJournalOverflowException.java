@@ -0,0 +1,10 @@
+package io.github.notaphplover.catan.core.player.exception;
+
+public class EventJournalOverflowException extends RuntimeException {
+
+  private static final long serialVersionUID = -2035470912851360178L;
+
+  public EventJournalOverflowException(int capacity) {
+    super(String.format("The event journal can not hold more than %d unread requests.", capacity));
+  }
+}
@@ -0,0 +1,255 @@
+package io.github.notaphplover.catan.core.player.journal;
+
+import io.github.notaphplover.catan.core.player.exception.EventJournalOverflowException;
+import io.github.notaphplover.catan.core.request.IRequest;
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Ring buffer event journal.
+ *
+ * <p>Requests are identified by a monotonic sequence. Each reader keeps the sequence of its first
+ * unread request, so the journal only holds the requests the slowest reader has not consumed. The
+ * buffer is allocated once the first request is appended.
+ */
+public class EventJournal implements IEventJournal {
+
+  private static final int DEFAULT_CAPACITY = 64;
+
+  private static final long[] NO_CURSORS = new long[0];
+
+  private static final IRequest[] NO_REQUESTS = new IRequest[0];
+
+  private static final long RELEASED = Long.MAX_VALUE;
+
+  private IRequest[] buffer;
+
+  private int capacity;
+
+  private long[] cursors;
+
+  private long head;
+
+  private int mask;
+
+  private OverflowPolicy overflowPolicy;
+
+  private int readers;
+
+  public EventJournal() {
+    this(DEFAULT_CAPACITY, OverflowPolicy.DROP_OLDEST);
+  }
+
+  /**
+   * Creates an event journal.
+   *
+   * @param capacity Initial capacity. It is rounded up to a power of two.
+   * @param overflowPolicy Behavior once the journal is full.
+   */
+  public EventJournal(int capacity, OverflowPolicy overflowPolicy) {
+
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Expected a positive capacity");
+    }
+
+    if (overflowPolicy == null) {
+      throw new IllegalArgumentException("Expected an overflow policy");
+    }
+
+    int roundedCapacity = Integer.highestOneBit(capacity);
+    if (roundedCapacity < capacity) {
+      roundedCapacity <<= 1;
+    }
+
+    buffer = NO_REQUESTS;
+    this.capacity = roundedCapacity;
+    cursors = NO_CURSORS;
+    head = 0L;
+    mask = roundedCapacity - 1;
+    this.overflowPolicy = overflowPolicy;
+    readers = 0;
+  }
+
+  @Override
+  public void append(IRequest request) {
+
+    if (readers == 0) {
+      return;
+    }
+
+    if (buffer.length == 0) {
+      buffer = new IRequest[capacity];
+    }
+
+    long tail = getTail();
+
+    if (head - tail == buffer.length) {
+      switch (overflowPolicy) {
+        case DROP_OLDEST:
+          dropOldest(tail);
+          break;
+        case GROW:
+          grow(tail);
+          break;
+        default:
+          throw new EventJournalOverflowException(buffer.length);
+      }
+    }
+
+    buffer[(int) (head & mask)] = request;
+    ++head;
+  }
+
+  @Override
+  public void consume(int reader) {
+    long tail = getTail();
+
+    cursors[reader] = head;
+
+    releaseFrom(tail);
+  }
+
+  @Override
+  public int getCapacity() {
+    return capacity;
+  }
+
+  @Override
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  @Override
+  public int register() {
+    ++readers;
+
+    for (int i = 0; i < cursors.length; ++i) {
+      if (cursors[i] == RELEASED) {
+        cursors[i] = head;
+
+        return i;
+      }
+    }
+
+    cursors = Arrays.copyOf(cursors, cursors.length + 1);
+    cursors[cursors.length - 1] = head;
+
+    return cursors.length - 1;
+  }
+
+  @Override
+  public int size(int reader) {
+    return (int) (head - cursors[reader]);
+  }
+
+  @Override
+  public void unregister(int reader) {
+    long tail = getTail();
+
+    cursors[reader] = RELEASED;
+    --readers;
+
+    releaseFrom(tail);
+  }
+
+  @Override
+  public Collection<IRequest> view(int reader) {
+    if (reader < 0 || reader >= cursors.length) {
+      throw new IndexOutOfBoundsException(reader);
+    }
+
+    return new ReaderView(reader);
+  }
+
+  private void dropOldest(long tail) {
+    for (int i = 0; i < cursors.length; ++i) {
+      if (cursors[i] == tail) {
+        ++cursors[i];
+      }
+    }
+
+    buffer[(int) (tail & mask)] = null;
+  }
+
+  private long getTail() {
+    long tail = head;
+
+    for (long cursor : cursors) {
+      tail = Math.min(tail, cursor);
+    }
+
+    return tail;
+  }
+
+  private void grow(long tail) {
+    IRequest[] newBuffer = new IRequest[buffer.length << 1];
+    capacity = newBuffer.length;
+    int newMask = newBuffer.length - 1;
+
+    for (long sequence = tail; sequence < head; ++sequence) {
+      newBuffer[(int) (sequence & newMask)] = buffer[(int) (sequence & mask)];
+    }
+
+    buffer = newBuffer;
+    mask = newMask;
+  }
+
+  private void releaseFrom(long oldTail) {
+    long tail = getTail();
+
+    for (long sequence = oldTail; sequence < tail; ++sequence) {
+      buffer[(int) (sequence & mask)] = null;
+    }
+  }
+
+  private class ReaderView extends AbstractCollection<IRequest> {
+
+    private final int reader;
+
+    private ReaderView(int reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public void clear() {
+      consume(reader);
+    }
+
+    @Override
+    public Iterator<IRequest> iterator() {
+      return new Iterator<IRequest>() {
+
+        private long sequence = cursors[reader];
+
+        private final long start = sequence;
+
+        @Override
+        public boolean hasNext() {
+          return sequence < head;
+        }
+
+        @Override
+        public IRequest next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+
+          if (cursors[reader] > start) {
+            throw new ConcurrentModificationException();
+          }
+
+          return buffer[(int) (sequence++ & mask)];
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return EventJournal.this.size(reader);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package io.github.notaphplover.catan.core.player.journal;
+
+import io.github.notaphplover.catan.core.request.IRequest;
+import java.util.Collection;
+
+/**
+ * Represents a journal of requests shared by several readers.
+ *
+ * <p>Every reader has its own cursor. Requests are kept until every reader has consumed them.
+ */
+public interface IEventJournal {
+
+  /**
+   * Appends a request to the journal.
+   *
+   * @param request Request to append.
+   * @throws io.github.notaphplover.catan.core.player.exception.EventJournalOverflowException if the
+   *     journal is full and its overflow policy is {@link OverflowPolicy#THROW}.
+   */
+  void append(IRequest request);
+
+  /**
+   * Marks every request appended as read by a reader.
+   *
+   * @param reader Reader.
+   */
+  void consume(int reader);
+
+  int getCapacity();
+
+  OverflowPolicy getOverflowPolicy();
+
+  /**
+   * Registers a new reader. The reader starts with no unread request.
+   *
+   * @return Reader registered.
+   */
+  int register();
+
+  /**
+   * Unregisters a reader, releasing the requests only it had not read. The reader must not be used
+   * afterwards, and its identifier may be handed to a later reader.
+   *
+   * @param reader Reader.
+   */
+  void unregister(int reader);
+
+  /**
+   * Gets the amount of requests not read by a reader.
+   *
+   * @param reader Reader.
+   * @return Amount of unread requests.
+   */
+  int size(int reader);
+
+  /**
+   * Gets a view of the requests not read by a reader.
+   *
+   * <p>The view does not copy the requests and reflects later appends and consumptions.
+   *
+   * @param reader Reader.
+   * @return Unread requests.
+   */
+  Collection<IRequest> view(int reader);
+}
@@ -0,0 +1,11 @@
+package io.github.notaphplover.catan.core.player.journal;
+
+/** Represents the behavior of an event journal once its slowest reader fills it. */
+public enum OverflowPolicy {
+  /** The oldest unread request is discarded for the slowest readers. */
+  DROP_OLDEST,
+  /** The journal doubles its capacity, without any bound. */
+  GROW,
+  /** The append is rejected. */
+  THROW
+}
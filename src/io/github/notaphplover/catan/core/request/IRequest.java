@@ -6,4 +6,12 @@ public interface IRequest {
   IPlayer getPlayer();
 
   RequestType getType();
+
+  /**
+   * Creates a copy of this request sent by another player.
+   *
+   * @param player Player sending the copy.
+   * @return Copy of the request.
+   */
+  IRequest withPlayer(IPlayer player);
 }
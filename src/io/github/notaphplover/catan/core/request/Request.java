@@ -1,8 +1,9 @@
 package io.github.notaphplover.catan.core.request;
 
+import io.github.notaphplover.catan.core.exception.UnexpectedException;
 import io.github.notaphplover.catan.core.player.IPlayer;
 
-public abstract class Request implements IRequest {
+public abstract class Request implements IRequest, Cloneable {
   private IPlayer player;
 
   private RequestType type;
@@ -21,4 +22,16 @@ public abstract class Request implements IRequest {
   public RequestType getType() {
     return type;
   }
+
+  @Override
+  public Request withPlayer(IPlayer player) {
+    try {
+      Request request = (Request) clone();
+      request.player = player;
+
+      return request;
+    } catch (CloneNotSupportedException e) {
+      throw new UnexpectedException(e);
+    }
+  }
 }
@@ -6,6 +6,8 @@ public enum RequestType {
   BUILD_INITIAL_STRUCTURE,
   BUILD_STRUCTURE,
   END_TURN,
+  ORDER,
+  ORDER_CANCEL,
   START_TURN,
   TRADE,
   TRADE_AGREEMENT,
@@ -0,0 +1,8 @@
+package io.github.notaphplover.catan.core.request.trade;
+
+import io.github.notaphplover.catan.core.game.trade.order.IOrderCancel;
+import io.github.notaphplover.catan.core.request.IRequest;
+
+public interface IOrderCancelRequest extends IRequest {
+  IOrderCancel getCancel();
+}
@@ -0,0 +1,8 @@
+package io.github.notaphplover.catan.core.request.trade;
+
+import io.github.notaphplover.catan.core.game.trade.order.IOrder;
+import io.github.notaphplover.catan.core.request.IRequest;
+
+public interface IOrderRequest extends IRequest {
+  IOrder getOrder();
+}
@@ -0,0 +1,22 @@
+package io.github.notaphplover.catan.core.request.trade;
+
+import io.github.notaphplover.catan.core.game.trade.order.IOrderCancel;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.Request;
+import io.github.notaphplover.catan.core.request.RequestType;
+
+public class OrderCancelRequest extends Request implements IOrderCancelRequest {
+
+  private IOrderCancel cancel;
+
+  public OrderCancelRequest(IPlayer player, IOrderCancel cancel) {
+    super(player, RequestType.ORDER_CANCEL);
+
+    this.cancel = cancel;
+  }
+
+  @Override
+  public IOrderCancel getCancel() {
+    return cancel;
+  }
+}
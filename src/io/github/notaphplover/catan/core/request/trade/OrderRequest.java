@@ -0,0 +1,22 @@
+package io.github.notaphplover.catan.core.request.trade;
+
+import io.github.notaphplover.catan.core.game.trade.order.IOrder;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.Request;
+import io.github.notaphplover.catan.core.request.RequestType;
+
+public class OrderRequest extends Request implements IOrderRequest {
+
+  private IOrder order;
+
+  public OrderRequest(IPlayer player, IOrder order) {
+    super(player, RequestType.ORDER);
+
+    this.order = order;
+  }
+
+  @Override
+  public IOrder getOrder() {
+    return order;
+  }
+}
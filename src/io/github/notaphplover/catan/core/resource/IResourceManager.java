@@ -6,5 +6,13 @@ public interface IResourceManager extends IResourceStorage {
 
   void add(IResourceStorage resourceManager);
 
+  /**
+   * Sets the quantity of a resource.
+   *
+   * @param type Resource type.
+   * @param quantity New quantity of the resource.
+   */
+  void set(ResourceType type, int quantity);
+
   void substract(IResourceStorage resourceManager) throws NotEnoughtResourcesException;
 }
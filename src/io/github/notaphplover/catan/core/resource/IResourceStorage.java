@@ -4,6 +4,13 @@ public interface IResourceStorage extends Comparable<IResourceStorage> {
 
   boolean canSubstract(IResourceStorage resources);
 
+  /**
+   * Gets the Zobrist hash of the resource quantities.
+   *
+   * @return Hash of the resource quantities.
+   */
+  long getHash();
+
   int getResourcesQuantity();
 
   int getResource(ResourceType type);
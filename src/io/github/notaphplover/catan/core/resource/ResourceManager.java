@@ -30,6 +30,10 @@ public class ResourceManager extends ResourceStorage implements IResourceManager
     }
   }
 
+  public void set(ResourceType type, int quantity) {
+    setResource(type, quantity);
+  }
+
   public void add(IResourceStorage resourceManager) {
 
     for (ResourceType resourceType : ResourceType.values()) {
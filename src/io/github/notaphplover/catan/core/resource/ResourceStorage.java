@@ -1,5 +1,6 @@
 package io.github.notaphplover.catan.core.resource;
 
+import io.github.notaphplover.catan.core.hash.ZobristKeys;
 import io.github.notaphplover.catan.core.resource.exception.NegativeNumberException;
 import java.util.Map;
 import java.util.TreeMap;
@@ -8,15 +9,19 @@ public class ResourceStorage implements IResourceStorage {
 
   protected int resourceQuantity;
 
+  private long hash;
+
   private TreeMap<ResourceType, Integer> resources;
 
   public ResourceStorage() {
 
     resources = new TreeMap<ResourceType, Integer>();
     resourceQuantity = 0;
+    hash = 0L;
 
     for (ResourceType resourceType : ResourceType.values()) {
       resources.put(resourceType, 0);
+      hash ^= ZobristKeys.resource(resourceType, 0);
     }
   }
 
@@ -79,6 +84,11 @@ public class ResourceStorage implements IResourceStorage {
     return true;
   }
 
+  @Override
+  public long getHash() {
+    return hash;
+  }
+
   public int getResource(ResourceType type) {
     return resources.get(type);
   }
@@ -95,6 +105,7 @@ public class ResourceStorage implements IResourceStorage {
 
     int oldQuantity = resources.get(type);
     resourceQuantity += newQuantity - oldQuantity;
+    hash ^= ZobristKeys.resource(type, oldQuantity) ^ ZobristKeys.resource(type, newQuantity);
 
     resources.put(type, newQuantity);
   }
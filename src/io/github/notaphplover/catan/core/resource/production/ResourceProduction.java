@@ -1,30 +1,56 @@
 package io.github.notaphplover.catan.core.resource.production;
 
 import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.PlayerSlots;
 import io.github.notaphplover.catan.core.resource.IResourceStorage;
 import io.github.notaphplover.catan.core.resource.ResourceManager;
 import io.github.notaphplover.catan.core.resource.ResourceStorage;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TreeMap;
 
 public class ResourceProduction implements IResourceProduction {
 
+  private IPlayer[] players;
+
   private int productionNumber;
 
-  private TreeMap<IPlayer, IResourceStorage> resourceStorageMap;
+  private IResourceStorage[] resourceStorages;
 
   public ResourceProduction(
       int productionNumber, Map<IPlayer, ? extends IResourceStorage> resourceStorageMap) {
 
     this.productionNumber = productionNumber;
 
-    initStorageMap(resourceStorageMap);
+    initStorages(resourceStorageMap);
+  }
+
+  /**
+   * Creates a resource production from storages indexed by player slot.
+   *
+   * @param productionNumber Production number.
+   * @param players Players by slot.
+   * @param resourceStorages Storages by slot. Missing or null storages mean no production.
+   */
+  public ResourceProduction(
+      int productionNumber, IPlayer[] players, IResourceStorage[] resourceStorages) {
+
+    this.productionNumber = productionNumber;
+    this.players = players.clone();
+    this.resourceStorages = new IResourceStorage[players.length];
+
+    for (int i = 0; i < players.length && i < resourceStorages.length; ++i) {
+      if (resourceStorages[i] != null) {
+        this.resourceStorages[i] = new ResourceStorage(resourceStorages[i]);
+      }
+    }
   }
 
   @Override
   public IResourceStorage getProduction(IPlayer player) {
-    IResourceStorage playerProduction = resourceStorageMap.get(player);
+    int slot = PlayerSlots.indexOf(players, player);
+
+    IResourceStorage playerProduction = slot == IPlayer.NO_INDEX ? null : resourceStorages[slot];
 
     if (playerProduction == null) {
       playerProduction = new ResourceManager();
@@ -38,11 +64,21 @@ public class ResourceProduction implements IResourceProduction {
     return productionNumber;
   }
 
-  private void initStorageMap(Map<IPlayer, ? extends IResourceStorage> resourceStorageMap) {
-    this.resourceStorageMap = new TreeMap<IPlayer, IResourceStorage>();
+  private void initStorages(Map<IPlayer, ? extends IResourceStorage> resourceStorageMap) {
+    PlayerSlots slots = new PlayerSlots();
+    IResourceStorage[] storages = new IResourceStorage[resourceStorageMap.size()];
 
     for (Entry<IPlayer, ? extends IResourceStorage> entry : resourceStorageMap.entrySet()) {
-      this.resourceStorageMap.put(entry.getKey(), new ResourceStorage(entry.getValue()));
+      int slot = slots.claim(entry.getKey());
+
+      if (slot >= storages.length) {
+        storages = Arrays.copyOf(storages, slot + 1);
+      }
+
+      storages[slot] = new ResourceStorage(entry.getValue());
     }
+
+    players = slots.toArray();
+    resourceStorages = Arrays.copyOf(storages, players.length);
   }
 }
@@ -0,0 +1,15 @@
+package io.github.notaphplover.catan.core.timer;
+
+public interface ITimeout {
+
+  /**
+   * Cancels the timeout.
+   *
+   * @return true if the timeout was pending and it will never run.
+   */
+  boolean cancel();
+
+  boolean isCancelled();
+
+  boolean isExpired();
+}
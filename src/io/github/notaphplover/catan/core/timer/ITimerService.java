@@ -0,0 +1,22 @@
+package io.github.notaphplover.catan.core.timer;
+
+import java.util.concurrent.TimeUnit;
+
+public interface ITimerService {
+
+  /**
+   * Schedules a task. It can be called from any thread.
+   *
+   * @param task Task to run once the delay elapses.
+   * @param delay Delay of the task.
+   * @param unit Time unit of the delay.
+   * @return Timeout of the task.
+   */
+  ITimeout schedule(Runnable task, long delay, TimeUnit unit);
+
+  /** Starts the thread running expired tasks. */
+  void start();
+
+  /** Stops the thread running expired tasks. Pending tasks are kept. */
+  void stop();
+}
@@ -0,0 +1,259 @@
+package io.github.notaphplover.catan.core.timer;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Hierarchical timing wheel.
+ *
+ * <p>Each level has {@link #SLOTS} buckets, every bucket of a level spanning a whole revolution of
+ * the level below it. Timeouts are linked into the bucket of their deadline, and buckets of upper
+ * levels are cascaded into lower ones once the wheel reaches them, so scheduling and cancelling are
+ * constant time regardless of the amount of timeouts.
+ *
+ * <p>Timeouts are scheduled and cancelled from any thread through lock free queues. Buckets are
+ * only touched by the thread advancing the wheel, either the one started by {@link #start()} or the
+ * one calling {@link #expireTimeouts()}. Expired tasks run in that thread, so they must be short.
+ */
+public class TimingWheel implements ITimerService {
+
+  public static final int LEVELS = 4;
+
+  private static final int SLOT_BITS = 6;
+
+  public static final int SLOTS = 1 << SLOT_BITS;
+
+  private static final int SLOT_MASK = SLOTS - 1;
+
+  /** Amount of ticks covered by the whole wheel. */
+  private static final long RANGE = 1L << (SLOT_BITS * LEVELS);
+
+  private WheelTimeout[][] buckets;
+
+  private Queue<WheelTimeout> cancelledTimeouts;
+
+  private LongSupplier clock;
+
+  private long currentTick;
+
+  private Queue<WheelTimeout> scheduledTimeouts;
+
+  private long startTime;
+
+  private long tickDuration;
+
+  private volatile Thread worker;
+
+  public TimingWheel(long tickDuration, TimeUnit unit) throws NonNullInputException {
+    this(tickDuration, unit, System::nanoTime);
+  }
+
+  /**
+   * Creates a timing wheel.
+   *
+   * @param tickDuration Duration of a tick.
+   * @param unit Time unit of the tick duration.
+   * @param clock Clock providing nanoseconds.
+   * @throws NonNullInputException if the unit or the clock are null.
+   */
+  public TimingWheel(long tickDuration, TimeUnit unit, LongSupplier clock)
+      throws NonNullInputException {
+
+    if (unit == null || clock == null) {
+      throw new NonNullInputException();
+    }
+
+    if (tickDuration <= 0) {
+      throw new IllegalArgumentException("Tick duration must be positive");
+    }
+
+    this.clock = clock;
+    this.tickDuration = unit.toNanos(tickDuration);
+
+    buckets = new WheelTimeout[LEVELS][SLOTS];
+
+    for (WheelTimeout[] level : buckets) {
+      for (int i = 0; i < SLOTS; ++i) {
+        level[i] = new WheelTimeout();
+      }
+    }
+
+    cancelledTimeouts = new ConcurrentLinkedQueue<WheelTimeout>();
+    currentTick = 0L;
+    scheduledTimeouts = new ConcurrentLinkedQueue<WheelTimeout>();
+    startTime = clock.getAsLong();
+  }
+
+  /**
+   * Advances the wheel up to the current time, running the timeouts expired meanwhile.
+   *
+   * @return Amount of tasks run.
+   */
+  public synchronized int expireTimeouts() {
+
+    long targetTick = (clock.getAsLong() - startTime) / tickDuration;
+
+    int tasksRun = 0;
+
+    while (currentTick < targetTick) {
+      ++currentTick;
+
+      transferTimeouts();
+      cascade();
+
+      tasksRun += expireBucket(buckets[0][(int) (currentTick & SLOT_MASK)]);
+    }
+
+    transferTimeouts();
+
+    return tasksRun + expireBucket(buckets[0][(int) (currentTick & SLOT_MASK)]);
+  }
+
+  @Override
+  public ITimeout schedule(Runnable task, long delay, TimeUnit unit) {
+
+    long elapsed = clock.getAsLong() - startTime + unit.toNanos(Math.max(0L, delay));
+
+    WheelTimeout timeout =
+        new WheelTimeout(this, task, (elapsed + tickDuration - 1) / tickDuration);
+
+    scheduledTimeouts.add(timeout);
+
+    return timeout;
+  }
+
+  @Override
+  public synchronized void start() {
+    if (worker != null) {
+      return;
+    }
+
+    worker = new Thread(this::run, "timing-wheel");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  @Override
+  public void stop() {
+    Thread stoppedWorker;
+
+    synchronized (this) {
+      stoppedWorker = worker;
+      worker = null;
+    }
+
+    if (stoppedWorker == null || stoppedWorker == Thread.currentThread()) {
+      return;
+    }
+
+    LockSupport.unpark(stoppedWorker);
+
+    try {
+      stoppedWorker.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  void cancelled(WheelTimeout timeout) {
+    cancelledTimeouts.add(timeout);
+  }
+
+  private void cascade() {
+    for (int level = 1; level < LEVELS; ++level) {
+      if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+        return;
+      }
+
+      WheelTimeout sentinel =
+          buckets[level][(int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK)];
+
+      while (sentinel.next != sentinel) {
+        WheelTimeout timeout = sentinel.next;
+
+        timeout.unlink();
+        link(timeout);
+      }
+    }
+  }
+
+  private int expireBucket(WheelTimeout sentinel) {
+
+    int tasksRun = 0;
+
+    while (sentinel.next != sentinel) {
+      WheelTimeout timeout = sentinel.next;
+
+      timeout.unlink();
+
+      try {
+        if (timeout.expire()) {
+          ++tasksRun;
+        }
+      } catch (RuntimeException e) {
+        ++tasksRun;
+
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+      }
+    }
+
+    return tasksRun;
+  }
+
+  private void link(WheelTimeout timeout) {
+
+    long deadline = Math.max(timeout.deadline, currentTick);
+    long remaining = deadline - currentTick;
+
+    if (remaining >= RANGE) {
+      deadline = currentTick + RANGE - 1;
+      remaining = RANGE - 1;
+    }
+
+    int level = 0;
+
+    while (level < LEVELS - 1 && remaining >= 1L << (SLOT_BITS * (level + 1))) {
+      ++level;
+    }
+
+    timeout.link(buckets[level][(int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK)]);
+  }
+
+  private void run() {
+    while (worker == Thread.currentThread()) {
+      expireTimeouts();
+
+      long nextTickTime;
+
+      synchronized (this) {
+        nextTickTime = startTime + (currentTick + 1) * tickDuration;
+      }
+
+      long waitTime = nextTickTime - clock.getAsLong();
+
+      if (waitTime > 0) {
+        LockSupport.parkNanos(this, waitTime);
+      }
+    }
+  }
+
+  private void transferTimeouts() {
+
+    WheelTimeout timeout;
+
+    while ((timeout = cancelledTimeouts.poll()) != null) {
+      timeout.unlink();
+    }
+
+    while ((timeout = scheduledTimeouts.poll()) != null) {
+      if (!timeout.isCancelled()) {
+        link(timeout);
+      }
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package io.github.notaphplover.catan.core.timer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class WheelTimeout implements ITimeout {
+
+  private static final int CANCELLED = 1;
+
+  private static final int EXPIRED = 2;
+
+  private static final int PENDING = 0;
+
+  private TimingWheel wheel;
+
+  private AtomicInteger status;
+
+  private Runnable task;
+
+  /** Tick at which the task must run. */
+  long deadline;
+
+  WheelTimeout next;
+
+  WheelTimeout previous;
+
+  /** Sentinel of the bucket holding the timeout or null if it is not linked. */
+  WheelTimeout bucket;
+
+  WheelTimeout() {
+    this(null, null, 0L);
+
+    next = this;
+    previous = this;
+  }
+
+  WheelTimeout(TimingWheel wheel, Runnable task, long deadline) {
+    this.deadline = deadline;
+    this.task = task;
+    this.wheel = wheel;
+
+    status = new AtomicInteger(PENDING);
+  }
+
+  @Override
+  public boolean cancel() {
+    if (!status.compareAndSet(PENDING, CANCELLED)) {
+      return false;
+    }
+
+    wheel.cancelled(this);
+
+    return true;
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return status.get() == CANCELLED;
+  }
+
+  @Override
+  public boolean isExpired() {
+    return status.get() == EXPIRED;
+  }
+
+  boolean expire() {
+    if (!status.compareAndSet(PENDING, EXPIRED)) {
+      return false;
+    }
+
+    task.run();
+
+    return true;
+  }
+
+  void link(WheelTimeout sentinel) {
+    bucket = sentinel;
+    previous = sentinel.previous;
+    next = sentinel;
+    sentinel.previous.next = this;
+    sentinel.previous = this;
+  }
+
+  void unlink() {
+    if (bucket == null) {
+      return;
+    }
+
+    previous.next = next;
+    next.previous = previous;
+    bucket = null;
+    next = null;
+    previous = null;
+  }
+}
@@ -0,0 +1,23 @@
+package io.github.notaphplover.catan.core.tournament;
+
+import io.github.notaphplover.catan.core.agent.IAgent;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.IRequest;
+import java.util.function.Consumer;
+
+public interface IAgentFactory {
+
+  /**
+   * Creates the agent of a seat.
+   *
+   * <p>Agents are created and called in the thread running the game, so they must not block.
+   *
+   * @param player Player of the seat.
+   * @param game Game played.
+   * @param requestSink Consumer the agent sends its requests to.
+   * @param seed Seed to be used by the agent.
+   * @return Agent created.
+   */
+  IAgent create(IPlayer player, ICatanGame game, Consumer<IRequest> requestSink, long seed);
+}
@@ -0,0 +1,42 @@
+package io.github.notaphplover.catan.core.tournament;
+
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+public interface ITournamentRunnerBuilder {
+
+  IAgentFactory[] getAgentFactories();
+
+  Supplier<ICatanBoard> getBoardSupplier();
+
+  int getGames();
+
+  int getMaxRequests();
+
+  LongFunction<INumberGenerator> getNumberGeneratorFactory();
+
+  int getParallelism();
+
+  int getPointsToWin();
+
+  long getSeed();
+
+  ITournamentRunnerBuilder setAgentFactories(IAgentFactory[] agentFactories);
+
+  ITournamentRunnerBuilder setBoardSupplier(Supplier<ICatanBoard> boardSupplier);
+
+  ITournamentRunnerBuilder setGames(int games);
+
+  ITournamentRunnerBuilder setMaxRequests(int maxRequests);
+
+  ITournamentRunnerBuilder setNumberGeneratorFactory(
+      LongFunction<INumberGenerator> numberGeneratorFactory);
+
+  ITournamentRunnerBuilder setParallelism(int parallelism);
+
+  ITournamentRunnerBuilder setPointsToWin(int pointsToWin);
+
+  ITournamentRunnerBuilder setSeed(long seed);
+}
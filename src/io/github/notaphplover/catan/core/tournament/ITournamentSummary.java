@@ -0,0 +1,26 @@
+package io.github.notaphplover.catan.core.tournament;
+
+public interface ITournamentSummary {
+
+  long getElapsedNanos();
+
+  int getFinishedGames();
+
+  int getGames();
+
+  int getMaxTurns();
+
+  double getMeanTurns();
+
+  int getMinTurns();
+
+  double getRequestsPerSecond();
+
+  long getTotalRequests();
+
+  long getTotalTurns();
+
+  int getWins(int seat);
+
+  double getWinRate(int seat);
+}
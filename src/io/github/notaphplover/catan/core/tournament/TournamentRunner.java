@@ -0,0 +1,214 @@
+package io.github.notaphplover.catan.core.tournament;
+
+import io.github.notaphplover.catan.core.agent.IAgent;
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.command.Command;
+import io.github.notaphplover.catan.core.command.CommandType;
+import io.github.notaphplover.catan.core.command.ICommand;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.exception.UnexpectedException;
+import io.github.notaphplover.catan.core.game.CatanGame;
+import io.github.notaphplover.catan.core.game.CatanGameBuilder;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.exception.InvalidLogException;
+import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
+import io.github.notaphplover.catan.core.game.log.LinearGameLog;
+import io.github.notaphplover.catan.core.game.player.PlayerManager;
+import io.github.notaphplover.catan.core.hash.ZobristKeys;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Plays headless games between agents.
+ *
+ * <p>Games are split in slices run in a {@link ForkJoinPool}. Every slice builds its own games,
+ * agents and summary, so workers do not share any mutable state until the summaries are merged. The
+ * result of a game only depends on the tournament seed and the game index.
+ */
+public class TournamentRunner {
+
+  private static final int SLICES_PER_WORKER = 4;
+
+  private IAgentFactory[] agentFactories;
+
+  private Supplier<ICatanBoard> boardSupplier;
+
+  private int games;
+
+  private int maxRequests;
+
+  private LongFunction<INumberGenerator> numberGeneratorFactory;
+
+  private int parallelism;
+
+  private int pointsToWin;
+
+  private long seed;
+
+  public TournamentRunner(ITournamentRunnerBuilder builder)
+      throws NonNullInputException, NonVoidCollectionException {
+
+    if (builder.getAgentFactories() == null
+        || builder.getBoardSupplier() == null
+        || builder.getNumberGeneratorFactory() == null) {
+      throw new NonNullInputException();
+    }
+
+    if (builder.getAgentFactories().length == 0) {
+      throw new NonVoidCollectionException();
+    }
+
+    agentFactories = builder.getAgentFactories().clone();
+    boardSupplier = builder.getBoardSupplier();
+    games = builder.getGames();
+    maxRequests = builder.getMaxRequests();
+    numberGeneratorFactory = builder.getNumberGeneratorFactory();
+    parallelism = Math.max(1, builder.getParallelism());
+    pointsToWin = builder.getPointsToWin();
+    seed = builder.getSeed();
+  }
+
+  /**
+   * Plays every game of the tournament.
+   *
+   * @return Summary of the tournament.
+   */
+  public ITournamentSummary run() {
+
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+    try {
+      long start = System.nanoTime();
+
+      List<Future<TournamentSummary>> results = pool.invokeAll(buildSlices());
+
+      TournamentSummary summary = new TournamentSummary(agentFactories.length);
+
+      for (Future<TournamentSummary> result : results) {
+        summary.merge(result.get());
+      }
+
+      summary.setElapsedNanos(System.nanoTime() - start);
+
+      return summary;
+    } catch (ExecutionException e) {
+      throw new UnexpectedException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new UnexpectedException(e);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private List<Callable<TournamentSummary>> buildSlices() {
+
+    int slices = Math.max(1, Math.min(games, parallelism * SLICES_PER_WORKER));
+
+    List<Callable<TournamentSummary>> tasks = new ArrayList<Callable<TournamentSummary>>(slices);
+
+    for (int i = 0; i < slices; ++i) {
+      final int firstGame = (int) ((long) games * i / slices);
+      final int lastGame = (int) ((long) games * (i + 1) / slices);
+
+      tasks.add(() -> playSlice(firstGame, lastGame));
+    }
+
+    return tasks;
+  }
+
+  private CatanGame buildGame(
+      IPlayer[] players, INumberGenerator numberGenerator, ArrayDeque<ICommand> commands) {
+
+    try {
+      return new CatanGame(
+          new CatanGameBuilder()
+              .setBoard(boardSupplier.get())
+              .setCommandSender(commands::add)
+              .setErrorHandler(
+                  (IRequest request) ->
+                      commands.add(
+                          new Command(request.getPlayer(), CommandType.SEND_NORMAL_REQUEST)))
+              .setGameLog(new LinearGameLog())
+              .setNumberGenerator(numberGenerator)
+              .setPlayerManager(new PlayerManager(players, 0, false))
+              .setPointsToWin(pointsToWin)
+              .setState(GameState.FOUNDATION));
+    } catch (NonNullInputException | NonVoidCollectionException | InvalidLogException e) {
+      throw new UnexpectedException(e);
+    }
+  }
+
+  private void playGame(int gameIndex, TournamentSummary summary) {
+
+    SplittableRandom random =
+        new SplittableRandom(ZobristKeys.mix(seed + ZobristKeys.mix(gameIndex)));
+
+    IPlayer[] players = new IPlayer[agentFactories.length];
+
+    for (int i = 0; i < players.length; ++i) {
+      players[i] = new Player(i, new ResourceManager());
+    }
+
+    ArrayDeque<ICommand> commands = new ArrayDeque<ICommand>();
+    ArrayDeque<IRequest> requests = new ArrayDeque<IRequest>();
+
+    CatanGame game = buildGame(players, numberGeneratorFactory.apply(random.nextLong()), commands);
+
+    IAgent[] agents = new IAgent[players.length];
+
+    for (int i = 0; i < players.length; ++i) {
+      agents[i] = agentFactories[i].create(players[i], game, requests::add, random.nextLong());
+    }
+
+    commands.add(new Command(game.getActivePlayer(), CommandType.START_TURN));
+
+    int processedRequests = 0;
+
+    while (processedRequests < maxRequests && game.getState() != GameState.ENDED) {
+      IRequest request = requests.poll();
+
+      if (request != null) {
+        game.processRequest(request);
+        ++processedRequests;
+        continue;
+      }
+
+      ICommand command = commands.poll();
+
+      if (command == null) {
+        break;
+      }
+
+      agents[command.getDestinatary().getId()].handle(command);
+    }
+
+    int winnerSeat = game.getState() == GameState.ENDED ? game.getActivePlayer().getId() : -1;
+
+    summary.registerGame(winnerSeat, game.getTurnNumber() + 1, processedRequests);
+  }
+
+  private TournamentSummary playSlice(int firstGame, int lastGame) {
+
+    TournamentSummary summary = new TournamentSummary(agentFactories.length);
+
+    for (int i = firstGame; i < lastGame; ++i) {
+      playGame(i, summary);
+    }
+
+    return summary;
+  }
+}
@@ -0,0 +1,121 @@
+package io.github.notaphplover.catan.core.tournament;
+
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.game.generator.CatanSplittableGenerator;
+import io.github.notaphplover.catan.core.game.generator.INumberGenerator;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+public class TournamentRunnerBuilder implements ITournamentRunnerBuilder {
+
+  private static final int DEFAULT_MAX_REQUESTS = 10000;
+
+  private static final int DEFAULT_POINTS_TO_WIN = 10;
+
+  private IAgentFactory[] agentFactories;
+  private Supplier<ICatanBoard> boardSupplier;
+  private int games;
+  private int maxRequests;
+  private LongFunction<INumberGenerator> numberGeneratorFactory;
+  private int parallelism;
+  private int pointsToWin;
+  private long seed;
+
+  public TournamentRunnerBuilder() {
+    games = 0;
+    maxRequests = DEFAULT_MAX_REQUESTS;
+    numberGeneratorFactory = (long generatorSeed) -> new CatanSplittableGenerator(generatorSeed);
+    parallelism = Runtime.getRuntime().availableProcessors();
+    pointsToWin = DEFAULT_POINTS_TO_WIN;
+    seed = 0L;
+  }
+
+  @Override
+  public IAgentFactory[] getAgentFactories() {
+    return agentFactories;
+  }
+
+  @Override
+  public ITournamentRunnerBuilder setAgentFactories(IAgentFactory[] agentFactories) {
+    this.agentFactories = agentFactories;
+    return this;
+  }
+
+  @Override
+  public Supplier<ICatanBoard> getBoardSupplier() {
+    return boardSupplier;
+  }
+
+  @Override
+  public ITournamentRunnerBuilder setBoardSupplier(Supplier<ICatanBoard> boardSupplier) {
+    this.boardSupplier = boardSupplier;
+    return this;
+  }
+
+  @Override
+  public int getGames() {
+    return games;
+  }
+
+  @Override
+  public ITournamentRunnerBuilder setGames(int games) {
+    this.games = games;
+    return this;
+  }
+
+  @Override
+  public int getMaxRequests() {
+    return maxRequests;
+  }
+
+  @Override
+  public ITournamentRunnerBuilder setMaxRequests(int maxRequests) {
+    this.maxRequests = maxRequests;
+    return this;
+  }
+
+  @Override
+  public LongFunction<INumberGenerator> getNumberGeneratorFactory() {
+    return numberGeneratorFactory;
+  }
+
+  @Override
+  public ITournamentRunnerBuilder setNumberGeneratorFactory(
+      LongFunction<INumberGenerator> numberGeneratorFactory) {
+    this.numberGeneratorFactory = numberGeneratorFactory;
+    return this;
+  }
+
+  @Override
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  @Override
+  public ITournamentRunnerBuilder setParallelism(int parallelism) {
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  @Override
+  public int getPointsToWin() {
+    return pointsToWin;
+  }
+
+  @Override
+  public ITournamentRunnerBuilder setPointsToWin(int pointsToWin) {
+    this.pointsToWin = pointsToWin;
+    return this;
+  }
+
+  @Override
+  public long getSeed() {
+    return seed;
+  }
+
+  @Override
+  public ITournamentRunnerBuilder setSeed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+}
@@ -0,0 +1,140 @@
+package io.github.notaphplover.catan.core.tournament;
+
+public class TournamentSummary implements ITournamentSummary {
+
+  private static final double NANOS_PER_SECOND = 1e9;
+
+  private long elapsedNanos;
+
+  private int finishedGames;
+
+  private int games;
+
+  private int maxTurns;
+
+  private int minTurns;
+
+  private long totalRequests;
+
+  private long totalTurns;
+
+  private int[] wins;
+
+  public TournamentSummary(int seats) {
+    elapsedNanos = 0L;
+    finishedGames = 0;
+    games = 0;
+    maxTurns = 0;
+    minTurns = 0;
+    totalRequests = 0L;
+    totalTurns = 0L;
+    wins = new int[seats];
+  }
+
+  @Override
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  @Override
+  public int getFinishedGames() {
+    return finishedGames;
+  }
+
+  @Override
+  public int getGames() {
+    return games;
+  }
+
+  @Override
+  public int getMaxTurns() {
+    return maxTurns;
+  }
+
+  @Override
+  public double getMeanTurns() {
+    return games == 0 ? 0d : (double) totalTurns / games;
+  }
+
+  @Override
+  public int getMinTurns() {
+    return minTurns;
+  }
+
+  @Override
+  public double getRequestsPerSecond() {
+    return elapsedNanos == 0L ? 0d : totalRequests * NANOS_PER_SECOND / elapsedNanos;
+  }
+
+  @Override
+  public long getTotalRequests() {
+    return totalRequests;
+  }
+
+  @Override
+  public long getTotalTurns() {
+    return totalTurns;
+  }
+
+  @Override
+  public int getWins(int seat) {
+    return wins[seat];
+  }
+
+  @Override
+  public double getWinRate(int seat) {
+    return games == 0 ? 0d : (double) wins[seat] / games;
+  }
+
+  /**
+   * Adds the results of other summary.
+   *
+   * <p>Elapsed time is not merged, since summaries are expected to be computed in parallel.
+   *
+   * @param other Summary to merge.
+   */
+  public void merge(TournamentSummary other) {
+
+    if (other.games == 0) {
+      return;
+    }
+
+    minTurns = games == 0 ? other.minTurns : Math.min(minTurns, other.minTurns);
+    maxTurns = Math.max(maxTurns, other.maxTurns);
+
+    finishedGames += other.finishedGames;
+    games += other.games;
+    totalRequests += other.totalRequests;
+    totalTurns += other.totalTurns;
+
+    for (int i = 0; i < wins.length; ++i) {
+      wins[i] += other.wins[i];
+    }
+  }
+
+  /**
+   * Registers the result of a game.
+   *
+   * @param winnerSeat Seat of the winner or a negative number if the game was not finished.
+   * @param turns Number of turns played.
+   * @param requests Number of requests processed.
+   */
+  public void registerGame(int winnerSeat, int turns, long requests) {
+
+    minTurns = games == 0 ? turns : Math.min(minTurns, turns);
+    maxTurns = Math.max(maxTurns, turns);
+
+    ++games;
+    totalRequests += requests;
+    totalTurns += turns;
+
+    if (winnerSeat >= 0) {
+      ++finishedGames;
+      ++wins[winnerSeat];
+    }
+  }
+
+  public void setElapsedNanos(long elapsedNanos) {
+    this.elapsedNanos = elapsedNanos;
+  }
+}
@@ -2,13 +2,17 @@ package io.github.notaphplover.catan.core.agent;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import io.github.notaphplover.catan.core.command.Command;
 import io.github.notaphplover.catan.core.command.CommandType;
 import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.delta.IGameDelta;
 import io.github.notaphplover.catan.core.player.IPlayer;
 import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.player.journal.EventJournal;
+import io.github.notaphplover.catan.core.player.journal.IEventJournal;
 import io.github.notaphplover.catan.core.request.IRequest;
 import io.github.notaphplover.catan.core.request.MinimunRequest;
 import io.github.notaphplover.catan.core.request.RequestType;
@@ -38,11 +42,37 @@ public class AgentTest {
 
       IRequest missingRequest = new MinimunRequest(player, RequestType.BUILD_CONNECTION);
 
-      player.registerMiss(missingRequest);
+      IEventJournal journal = new EventJournal();
+
+      player.attach(journal);
+      journal.append(missingRequest);
 
       agent.handle(new Command(player, CommandType.DIE));
 
       verify(game).processRequest(missingRequest);
     }
+
+    @DisplayName("It should not replay pending requests once synced through deltas")
+    @Test
+    public void itShouldNotReplayPendingRequestsOnceSyncedThroughDeltas() {
+
+      ICatanGame game = Mockito.mock(ICatanGame.class);
+      IGameDelta delta = Mockito.mock(IGameDelta.class);
+
+      Agent agent = new MininumAgent(game);
+
+      IPlayer player = new Player(0, new ResourceManager());
+
+      IEventJournal journal = new EventJournal();
+
+      player.attach(journal);
+      journal.append(new MinimunRequest(player, RequestType.BUILD_CONNECTION));
+
+      agent.sync(delta);
+      agent.handle(new Command(player, CommandType.DIE));
+
+      verify(game).sync(delta);
+      verify(game, never()).processRequest(any(IRequest.class));
+    }
   }
 }
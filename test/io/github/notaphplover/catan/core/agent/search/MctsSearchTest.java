@@ -0,0 +1,144 @@
+package io.github.notaphplover.catan.core.agent.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.agent.MctsAgent;
+import io.github.notaphplover.catan.core.agent.RandomAgent;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.game.CatanGame;
+import io.github.notaphplover.catan.core.game.CatanGameForTest;
+import io.github.notaphplover.catan.core.game.move.IMoveBuffer;
+import io.github.notaphplover.catan.core.game.move.Move;
+import io.github.notaphplover.catan.core.game.move.MoveBuffer;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.request.RequestType;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.tournament.IAgentFactory;
+import io.github.notaphplover.catan.core.tournament.ITournamentSummary;
+import io.github.notaphplover.catan.core.tournament.TournamentRunner;
+import io.github.notaphplover.catan.core.tournament.TournamentRunnerBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class MctsSearchTest {
+
+  private static final long TIME_BUDGET_NANOS = 60000000000L;
+
+  @DisplayName("It must search a legal move without modifying the game")
+  @Tag(value = "MctsSearch")
+  @Test
+  public void itMustSearchALegalMoveWithoutModifyingTheGame() throws NonNullInputException {
+
+    CatanGame game = buildStartedGame();
+    IPlayer player = game.getActivePlayer();
+
+    long hash = game.getHash();
+
+    MctsSearch search = new MctsSearch(buildSearchBuilder(3L));
+    int move = search.search(game, player);
+
+    IMoveBuffer buffer = new MoveBuffer();
+    game.generateMoves(player, buffer);
+
+    boolean legal = false;
+    for (int i = 0; i < buffer.size(); ++i) {
+      legal |= buffer.get(i) == move;
+    }
+
+    assertTrue(legal);
+    assertEquals(hash, game.getHash());
+    assertEquals(64, search.getLastIterations());
+  }
+
+  @DisplayName("It must search with an unbounded time budget")
+  @Tag(value = "MctsSearch")
+  @Test
+  public void itMustSearchWithAnUnboundedTimeBudget() throws NonNullInputException {
+
+    CatanGame game = buildStartedGame();
+
+    MctsSearch search = new MctsSearch(buildSearchBuilder(3L).setTimeBudgetNanos(Long.MAX_VALUE));
+    search.search(game, game.getActivePlayer());
+
+    assertEquals(64, search.getLastIterations());
+  }
+
+  @DisplayName("It must search reproducibly")
+  @Tag(value = "MctsSearch")
+  @Test
+  public void itMustSearchReproducibly() throws NonNullInputException {
+
+    CatanGame game = buildStartedGame();
+
+    assertEquals(
+        new MctsSearch(buildSearchBuilder(5L)).search(game, game.getActivePlayer()),
+        new MctsSearch(buildSearchBuilder(5L)).search(game, game.getActivePlayer()));
+  }
+
+  @DisplayName("It must play games as an agent")
+  @Tag(value = "MctsSearch")
+  @Test
+  public void itMustPlayGamesAsAnAgent() throws NonNullInputException, NonVoidCollectionException {
+
+    IAgentFactory mctsAgentFactory =
+        (player, game, requestSink, agentSeed) -> {
+          try {
+            return new MctsAgent(
+                player,
+                game,
+                requestSink,
+                new MctsSearch(
+                    buildSearchBuilder(agentSeed)
+                        .setMaxIterations(16)
+                        .setMaxRolloutRequests(100)
+                        .setParallelism(1)));
+          } catch (NonNullInputException e) {
+            throw new IllegalStateException(e);
+          }
+        };
+    IAgentFactory randomAgentFactory =
+        (player, game, requestSink, agentSeed) ->
+            new RandomAgent(player, game, requestSink, agentSeed);
+
+    ITournamentSummary summary =
+        new TournamentRunner(
+                new TournamentRunnerBuilder()
+                    .setAgentFactories(new IAgentFactory[] {mctsAgentFactory, randomAgentFactory})
+                    .setBoardSupplier(CatanGameForTest::buildProductiveBoard)
+                    .setGames(2)
+                    .setMaxRequests(2000)
+                    .setParallelism(2)
+                    .setPointsToWin(4)
+                    .setSeed(3L))
+            .run();
+
+    assertEquals(2, summary.getGames());
+    assertEquals(summary.getFinishedGames(), summary.getWins(0) + summary.getWins(1));
+    assertTrue(summary.getTotalRequests() > 0);
+  }
+
+  private CatanGame buildStartedGame() {
+
+    IPlayer[] players =
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())};
+
+    CatanGame game = CatanGameForTest.buildProductiveGame(players, 7L, 4);
+
+    game.processRequest(Move.toRequest(players[0], Move.encode(RequestType.START_TURN, 0, 0)));
+
+    return game;
+  }
+
+  private IMctsSearchBuilder buildSearchBuilder(long seed) {
+    return new MctsSearchBuilder()
+        .setMaxIterations(64)
+        .setMaxRolloutRequests(200)
+        .setParallelism(2)
+        .setSeed(seed)
+        .setTimeBudgetNanos(TIME_BUDGET_NANOS);
+  }
+}
@@ -0,0 +1,80 @@
+package io.github.notaphplover.catan.core.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.board.structure.BoardStructure;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.CatanGameForTest;
+import io.github.notaphplover.catan.core.game.generator.CatanSplittableGenerator;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class ExpectedIncomeTrackerTest {
+
+  private static final double DELTA = 0.000001d;
+
+  @DisplayName("It must track the expected income on builds, upgrades and restores")
+  @Tag(value = "ExpectedIncomeTracker")
+  @Test
+  public void itMustTrackTheExpectedIncomeOnBuildsUpgradesAndRestores()
+      throws InvalidBoardElementException, NonNullInputException {
+
+    IPlayer player = new Player(0, new ResourceManager());
+    ICatanBoard board = CatanGameForTest.buildProductiveBoard();
+
+    IExpectedIncomeTracker tracker =
+        new ExpectedIncomeTracker(board, new CatanSplittableGenerator(0L));
+
+    assertEquals(0d, tracker.getExpectedIncome(player), DELTA);
+
+    board.build(buildStructure(player, StructureType.SETTLEMENT), 2, 2);
+
+    assertEquals(6d / 36d, tracker.getExpectedIncome(player, ResourceType.GRAIN), DELTA);
+    assertEquals(5d / 36d, tracker.getExpectedIncome(player, ResourceType.WOOL), DELTA);
+    assertEquals(2d / 36d, tracker.getExpectedIncome(player, ResourceType.LUMBER), DELTA);
+    assertEquals(13d / 36d, tracker.getExpectedIncome(player), DELTA);
+
+    board.upgrade(buildStructure(player, StructureType.CITY), 2, 2);
+
+    assertEquals(12d / 36d, tracker.getExpectedIncome(player, ResourceType.GRAIN), DELTA);
+    assertEquals(26d / 36d, tracker.getExpectedIncome(player), DELTA);
+
+    board.restore(buildStructure(null, StructureType.NONE), 2, 2);
+
+    assertEquals(0d, tracker.getExpectedIncome(player), DELTA);
+  }
+
+  @DisplayName("It must start in sync with the board and stop once detached")
+  @Tag(value = "ExpectedIncomeTracker")
+  @Test
+  public void itMustStartInSyncWithTheBoardAndStopOnceDetached()
+      throws InvalidBoardElementException, NonNullInputException {
+
+    IPlayer player = new Player(0, new ResourceManager());
+    ICatanBoard board = CatanGameForTest.buildProductiveBoard();
+
+    board.build(buildStructure(player, StructureType.SETTLEMENT), 2, 2);
+
+    IExpectedIncomeTracker tracker =
+        new ExpectedIncomeTracker(board, new CatanSplittableGenerator(0L));
+
+    assertEquals(13d / 36d, tracker.getExpectedIncome(player), DELTA);
+
+    tracker.detach();
+    board.upgrade(buildStructure(player, StructureType.CITY), 2, 2);
+
+    assertEquals(13d / 36d, tracker.getExpectedIncome(player), DELTA);
+  }
+
+  private BoardStructure buildStructure(IPlayer player, StructureType type) {
+    return new BoardStructure(player, new ResourceManager(), type);
+  }
+}
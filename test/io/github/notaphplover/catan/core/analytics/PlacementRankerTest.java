@@ -0,0 +1,80 @@
+package io.github.notaphplover.catan.core.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.board.structure.BoardStructure;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.CatanGameForTest;
+import io.github.notaphplover.catan.core.game.generator.CatanSplittableGenerator;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.resource.provider.DefaultTerrainProductionProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class PlacementRankerTest {
+
+  private static final double DELTA = 0.000001d;
+
+  @DisplayName("It must rank every spot by score")
+  @Tag(value = "PlacementRanker")
+  @Test
+  public void itMustRankEverySpotByScore() throws NonNullInputException {
+
+    IPlacementRanker ranker = buildRanker(CatanGameForTest.buildProductiveBoard());
+
+    assertEquals(25, ranker.getAvailableSpots());
+    assertEquals(16d / 36d, ranker.getScore(2, 2), DELTA);
+    assertEquals(0d, ranker.getScore(1, 1), DELTA);
+
+    for (int rank = 0; rank < ranker.getAvailableSpots(); ++rank) {
+      assertEquals(ranker.getScore(ranker.getX(rank), ranker.getY(rank)), ranker.getScore(rank));
+
+      if (rank > 0) {
+        assertTrue(ranker.getScore(rank - 1) >= ranker.getScore(rank));
+      }
+    }
+  }
+
+  @DisplayName("It must update the ranking on builds and restores")
+  @Tag(value = "PlacementRanker")
+  @Test
+  public void itMustUpdateTheRankingOnBuildsAndRestores()
+      throws InvalidBoardElementException, NonNullInputException {
+
+    IPlayer player = new Player(0, new ResourceManager());
+    ICatanBoard board = CatanGameForTest.buildProductiveBoard();
+    IPlacementRanker ranker = buildRanker(board);
+
+    int bestX = ranker.getX(0);
+    int bestY = ranker.getY(0);
+    double secondScore = ranker.getScore(1);
+
+    board.build(
+        new BoardStructure(player, new ResourceManager(), StructureType.SETTLEMENT), bestX, bestY);
+
+    assertEquals(24, ranker.getAvailableSpots());
+    assertFalse(ranker.isAvailable(bestX, bestY));
+    assertEquals(secondScore, ranker.getScore(0));
+
+    board.restore(
+        new BoardStructure(null, new ResourceManager(), StructureType.NONE), bestX, bestY);
+
+    assertEquals(25, ranker.getAvailableSpots());
+    assertTrue(ranker.isAvailable(bestX, bestY));
+    assertEquals(bestX, ranker.getX(0));
+    assertEquals(bestY, ranker.getY(0));
+  }
+
+  private IPlacementRanker buildRanker(ICatanBoard board) throws NonNullInputException {
+    return new PlacementRanker(
+        board, new CatanSplittableGenerator(0L), new DefaultTerrainProductionProvider());
+  }
+}
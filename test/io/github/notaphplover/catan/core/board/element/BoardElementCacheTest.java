@@ -0,0 +1,83 @@
+package io.github.notaphplover.catan.core.board.element;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.connection.IBoardConnection;
+import io.github.notaphplover.catan.core.board.structure.IBoardStructure;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.resource.provider.DefaultConnectionCostProvider;
+import io.github.notaphplover.catan.core.resource.provider.DefaultStructureCostProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class BoardElementCacheTest {
+
+  @DisplayName("It must provide canonical structures")
+  @Tag(value = "BoardElementCache")
+  @Test
+  public void itMustProvideCanonicalStructures() {
+
+    IPlayer player = new Player(0, new ResourceManager());
+    DefaultStructureCostProvider costProvider = new DefaultStructureCostProvider();
+
+    IBoardElementCache cache =
+        new BoardElementCache(
+            new IPlayer[] {player}, costProvider, new DefaultConnectionCostProvider());
+
+    IBoardStructure structure = cache.getStructure(player, StructureType.SETTLEMENT);
+
+    assertSame(structure, cache.getStructure(player, StructureType.SETTLEMENT));
+    assertSame(
+        structure,
+        cache.getStructure(new Player(0, new ResourceManager()), StructureType.SETTLEMENT));
+    assertSame(player, structure.getOwner());
+    assertEquals(StructureType.SETTLEMENT, structure.getType());
+    assertSame(costProvider.getResourceManager(StructureType.SETTLEMENT), structure.getCost());
+    assertNotSame(structure, cache.getStructure(player, StructureType.CITY));
+  }
+
+  @DisplayName("It must provide canonical connections without owner")
+  @Tag(value = "BoardElementCache")
+  @Test
+  public void itMustProvideCanonicalConnectionsWithoutOwner() {
+
+    IBoardElementCache cache =
+        new BoardElementCache(
+            new IPlayer[] {new Player(0, new ResourceManager())},
+            new DefaultStructureCostProvider(),
+            new DefaultConnectionCostProvider());
+
+    IBoardConnection connection = cache.getConnection(null, ConnectionType.VOID);
+
+    assertSame(connection, cache.getConnection(null, ConnectionType.VOID));
+    assertNull(connection.getOwner());
+    assertEquals(ConnectionType.VOID, connection.getType());
+  }
+
+  @DisplayName("It must build elements of unknown owners")
+  @Tag(value = "BoardElementCache")
+  @Test
+  public void itMustBuildElementsOfUnknownOwners() {
+
+    IBoardElementCache cache =
+        new BoardElementCache(
+            new IPlayer[] {new Player(0, new ResourceManager())},
+            new DefaultStructureCostProvider(),
+            new DefaultConnectionCostProvider());
+
+    IPlayer stranger = new Player(1, new ResourceManager());
+
+    IBoardConnection connection = cache.getConnection(stranger, ConnectionType.ROAD);
+
+    assertSame(stranger, connection.getOwner());
+    assertNotSame(connection, cache.getConnection(stranger, ConnectionType.ROAD));
+  }
+}
@@ -0,0 +1,49 @@
+package io.github.notaphplover.catan.core.collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class LongIntHashMapTest {
+
+  @DisplayName("It must keep its entries when growing")
+  @Tag(value = "LongIntHashMap")
+  @Test
+  public void itMustKeepItsEntriesWhenGrowing() {
+    LongIntHashMap map = new LongIntHashMap(-1);
+
+    for (int i = 0; i < 1000; ++i) {
+      assertEquals(-1, map.put(i * 4096L, i));
+    }
+
+    assertEquals(1000, map.size());
+
+    for (int i = 0; i < 1000; ++i) {
+      assertEquals(i, map.get(i * 4096L));
+    }
+
+    assertEquals(-1, map.get(1L));
+  }
+
+  @DisplayName("It must replace values and clear its entries")
+  @Tag(value = "LongIntHashMap")
+  @Test
+  public void itMustReplaceValuesAndClearItsEntries() {
+    LongIntHashMap map = new LongIntHashMap(-1);
+
+    map.put(0L, 3);
+
+    assertEquals(3, map.put(0L, 5));
+    assertEquals(5, map.get(0L));
+    assertTrue(map.containsKey(0L));
+
+    map.clear();
+
+    assertFalse(map.containsKey(0L));
+    assertEquals(0, map.size());
+  }
+}
@@ -0,0 +1,212 @@
+package io.github.notaphplover.catan.core.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class BufferedCommandSenderTest {
+
+  @DisplayName("It must not accept a null target")
+  @Tag("BufferedCommandSender")
+  @Test
+  public void itMustNotAcceptANullTarget() {
+    assertThrows(NonNullInputException.class, () -> new BufferedCommandSender(null));
+  }
+
+  @DisplayName("It must deliver commands in order once flushed")
+  @Tag("BufferedCommandSender")
+  @Test
+  public void itMustDeliverCommandsInOrderOnceFlushed() throws NonNullInputException {
+
+    List<List<ICommand>> batches = new ArrayList<List<ICommand>>();
+    ICommandSender target = buildTarget(batches);
+    BufferedCommandSender sender = new BufferedCommandSender(target);
+
+    IPlayer firstPlayer = new Player(0, new ResourceManager());
+    IPlayer secondPlayer = new Player(1, new ResourceManager());
+
+    ICommand firstCommand = new Command(firstPlayer, CommandType.START_TURN);
+    ICommand secondCommand = new Command(secondPlayer, CommandType.SEND_NORMAL_REQUEST);
+
+    sender.send(firstCommand);
+    sender.send(secondCommand);
+
+    assertTrue(batches.isEmpty());
+
+    sender.flush();
+    sender.flush();
+
+    assertEquals(1, batches.size());
+    assertEquals(List.of(firstCommand, secondCommand), batches.get(0));
+  }
+
+  @DisplayName("It must coalesce repeated commands of a batch")
+  @Tag("BufferedCommandSender")
+  @Test
+  public void itMustCoalesceRepeatedCommandsOfABatch() throws NonNullInputException {
+
+    List<List<ICommand>> batches = new ArrayList<List<ICommand>>();
+    BufferedCommandSender sender = new BufferedCommandSender(buildTarget(batches));
+
+    IPlayer player = new Player(0, new ResourceManager());
+
+    ICommand command = new Command(player, CommandType.SEND_NORMAL_REQUEST);
+
+    sender.send(command);
+    sender.send(new Command(new Player(0, new ResourceManager()), CommandType.SEND_NORMAL_REQUEST));
+    sender.send(new Command(player, CommandType.START_TURN));
+    sender.flush();
+
+    sender.send(new Command(player, CommandType.SEND_NORMAL_REQUEST));
+    sender.flush();
+
+    assertEquals(2, batches.size());
+    assertEquals(2, batches.get(0).size());
+    assertSame(command, batches.get(0).get(0));
+    assertEquals(1, batches.get(1).size());
+  }
+
+  @DisplayName("It must deliver batches through its executor")
+  @Tag("BufferedCommandSender")
+  @Test
+  public void itMustDeliverBatchesThroughItsExecutor() throws NonNullInputException {
+
+    List<List<ICommand>> batches = new ArrayList<List<ICommand>>();
+    Queue<Runnable> tasks = new LinkedList<Runnable>();
+    BufferedCommandSender sender = new BufferedCommandSender(buildTarget(batches), tasks::add);
+
+    IPlayer player = new Player(0, new ResourceManager());
+
+    sender.send(new Command(player, CommandType.START_TURN));
+    sender.flush();
+    sender.send(new Command(player, CommandType.SEND_NORMAL_REQUEST));
+    sender.flush();
+
+    assertTrue(batches.isEmpty());
+    assertEquals(1, tasks.size());
+
+    tasks.poll().run();
+
+    assertEquals(2, batches.size());
+    assertSame(CommandType.START_TURN, batches.get(0).get(0).getType());
+    assertSame(CommandType.SEND_NORMAL_REQUEST, batches.get(1).get(0).getType());
+  }
+
+  @DisplayName("It must keep delivering batches after a delivery fails")
+  @Tag("BufferedCommandSender")
+  @Test
+  public void itMustKeepDeliveringBatchesAfterADeliveryFails() throws NonNullInputException {
+
+    List<List<ICommand>> batches = new ArrayList<List<ICommand>>();
+    ICommandSender target = buildTarget(batches);
+    Queue<Runnable> tasks = new LinkedList<Runnable>();
+
+    BufferedCommandSender sender =
+        new BufferedCommandSender(
+            new ICommandSender() {
+
+              @Override
+              public void send(ICommand command) {
+                target.send(command);
+              }
+
+              @Override
+              public void sendAll(List<ICommand> commands) {
+                if (commands.get(0).getType() == CommandType.DIE) {
+                  throw new IllegalStateException();
+                }
+
+                target.sendAll(commands);
+              }
+            },
+            tasks::add);
+
+    IPlayer player = new Player(0, new ResourceManager());
+
+    sender.send(new Command(player, CommandType.DIE));
+    sender.flush();
+
+    assertThrows(IllegalStateException.class, () -> tasks.poll().run());
+
+    sender.send(new Command(player, CommandType.START_TURN));
+    sender.flush();
+
+    assertEquals(1, tasks.size());
+
+    tasks.poll().run();
+
+    assertEquals(1, batches.size());
+    assertSame(CommandType.START_TURN, batches.get(0).get(0).getType());
+  }
+
+  @DisplayName("It must keep delivering batches after its executor rejects them")
+  @Tag("BufferedCommandSender")
+  @Test
+  public void itMustKeepDeliveringBatchesAfterItsExecutorRejectsThem()
+      throws NonNullInputException {
+
+    List<List<ICommand>> batches = new ArrayList<List<ICommand>>();
+    Queue<Runnable> tasks = new LinkedList<Runnable>();
+    AtomicBoolean rejecting = new AtomicBoolean(true);
+
+    BufferedCommandSender sender =
+        new BufferedCommandSender(
+            buildTarget(batches),
+            (task) -> {
+              if (rejecting.get()) {
+                throw new RejectedExecutionException();
+              }
+
+              tasks.add(task);
+            });
+
+    IPlayer player = new Player(0, new ResourceManager());
+
+    sender.send(new Command(player, CommandType.START_TURN));
+
+    assertThrows(RejectedExecutionException.class, () -> sender.flush());
+
+    rejecting.set(false);
+
+    sender.send(new Command(player, CommandType.SEND_NORMAL_REQUEST));
+    sender.flush();
+
+    assertEquals(1, tasks.size());
+
+    tasks.poll().run();
+
+    assertEquals(2, batches.size());
+    assertSame(CommandType.START_TURN, batches.get(0).get(0).getType());
+    assertSame(CommandType.SEND_NORMAL_REQUEST, batches.get(1).get(0).getType());
+  }
+
+  private static ICommandSender buildTarget(List<List<ICommand>> batches) {
+    return new ICommandSender() {
+
+      @Override
+      public void send(ICommand command) {
+        batches.add(List.of(command));
+      }
+
+      @Override
+      public void sendAll(List<ICommand> commands) {
+        batches.add(commands);
+      }
+    };
+  }
+}
@@ -0,0 +1,175 @@
+package io.github.notaphplover.catan.core.game;
+
+import io.github.notaphplover.catan.core.board.CatanBoard;
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.connection.BoardConnection;
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardDimensionsException;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.board.structure.BoardStructure;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.board.terrain.BoardTerrain;
+import io.github.notaphplover.catan.core.board.terrain.TerrainType;
+import io.github.notaphplover.catan.core.command.ICommandSender;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.exception.UnexpectedException;
+import io.github.notaphplover.catan.core.game.exception.InvalidLogException;
+import io.github.notaphplover.catan.core.game.generator.CatanSplittableGenerator;
+import io.github.notaphplover.catan.core.game.generator.ConstantNumberGenerator;
+import io.github.notaphplover.catan.core.game.log.ILogEntry;
+import io.github.notaphplover.catan.core.game.log.LinearGameLog;
+import io.github.notaphplover.catan.core.game.log.LogEntry;
+import io.github.notaphplover.catan.core.game.player.PlayerManager;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import io.github.notaphplover.catan.core.resource.provider.DefaultTerrainProductionProvider;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Builds small games for tests.
+ *
+ * <p>The board is a 5x5 board with a single mountains terrain at (1, 3) producing on 6 and a road
+ * of the first player at (1, 2).
+ */
+public class CatanGameForTest {
+
+  public static final int PRODUCTION_NUMBER = 6;
+
+  private CatanGameForTest() {}
+
+  public static ICatanBoard buildBoard(IPlayer player)
+      throws InvalidBoardDimensionsException, InvalidBoardElementException {
+
+    IBoardElement[][] elements = new IBoardElement[5][5];
+
+    for (int x = 0; x < 5; ++x) {
+      for (int y = 0; y < 5; ++y) {
+        if ((x + y) % 2 == 1) {
+          elements[x][y] = new BoardConnection(null, new ResourceManager(), ConnectionType.VOID);
+        } else if (x % 2 == 0) {
+          elements[x][y] = new BoardStructure(null, new ResourceManager(), StructureType.NONE);
+        } else {
+          elements[x][y] = new BoardTerrain(0, TerrainType.NONE);
+        }
+      }
+    }
+
+    elements[1][3] = new BoardTerrain(PRODUCTION_NUMBER, TerrainType.MOUNTAINS);
+    elements[1][2] = new BoardConnection(player, new ResourceManager(), ConnectionType.ROAD);
+
+    return new CatanBoard(5, 5, elements, new DefaultTerrainProductionProvider());
+  }
+
+  /**
+   * Builds a 9x9 board with sixteen productive terrains and no built elements.
+   *
+   * @return Board built.
+   */
+  public static ICatanBoard buildProductiveBoard() {
+
+    TerrainType[] terrainTypes = {
+      TerrainType.FIELDS,
+      TerrainType.FOREST,
+      TerrainType.HILLS,
+      TerrainType.MOUNTAINS,
+      TerrainType.PASTURE
+    };
+    int[] productionNumbers = {2, 3, 4, 5, 6, 8, 9, 10, 11, 12};
+
+    IBoardElement[][] elements = new IBoardElement[9][9];
+    int terrainIndex = 0;
+
+    for (int x = 0; x < 9; ++x) {
+      for (int y = 0; y < 9; ++y) {
+        if ((x + y) % 2 == 1) {
+          elements[x][y] = new BoardConnection(null, new ResourceManager(), ConnectionType.VOID);
+        } else if (x % 2 == 0) {
+          elements[x][y] = new BoardStructure(null, new ResourceManager(), StructureType.NONE);
+        } else {
+          elements[x][y] =
+              new BoardTerrain(
+                  productionNumbers[terrainIndex % productionNumbers.length],
+                  terrainTypes[terrainIndex % terrainTypes.length]);
+          ++terrainIndex;
+        }
+      }
+    }
+
+    try {
+      return new CatanBoard(9, 9, elements, new DefaultTerrainProductionProvider());
+    } catch (InvalidBoardDimensionsException | InvalidBoardElementException e) {
+      throw new UnexpectedException(e);
+    }
+  }
+
+  public static CatanGame buildGame(
+      IPlayer[] players,
+      GameState state,
+      boolean turnStarted,
+      ICommandSender commandSender,
+      Consumer<IRequest> errorHandler)
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    Collection<ILogEntry> entries = new ArrayList<ILogEntry>();
+
+    if (turnStarted) {
+      entries.add(new LogEntry(PRODUCTION_NUMBER, new ArrayList<IRequest>()));
+    }
+
+    return new CatanGame(
+        new CatanGameBuilder()
+            .setBoard(buildBoard(players[0]))
+            .setCommandSender(commandSender)
+            .setErrorHandler(errorHandler)
+            .setGameLog(new LinearGameLog(entries))
+            .setNumberGenerator(new ConstantNumberGenerator(PRODUCTION_NUMBER))
+            .setPlayerManager(new PlayerManager(players, 0, turnStarted))
+            .setPointsToWin(10)
+            .setState(state));
+  }
+
+  /**
+   * Builds a game at the foundation phase over a productive board.
+   *
+   * @param players Players of the game.
+   * @param seed Seed of the number generator.
+   * @param pointsToWin Points required to win.
+   * @return Game built.
+   */
+  public static CatanGame buildProductiveGame(IPlayer[] players, long seed, int pointsToWin) {
+
+    try {
+      return new CatanGame(
+          new CatanGameBuilder()
+              .setBoard(buildProductiveBoard())
+              .setCommandSender((command) -> {})
+              .setErrorHandler((request) -> {})
+              .setGameLog(new LinearGameLog())
+              .setNumberGenerator(new CatanSplittableGenerator(seed))
+              .setPlayerManager(new PlayerManager(players, 0, false))
+              .setPointsToWin(pointsToWin)
+              .setState(GameState.FOUNDATION));
+    } catch (NonNullInputException | NonVoidCollectionException | InvalidLogException e) {
+      throw new UnexpectedException(e);
+    }
+  }
+
+  public static ResourceManager buildResourceManager(int quantity) {
+    Map<ResourceType, Integer> resources = new TreeMap<ResourceType, Integer>();
+
+    for (ResourceType type : ResourceType.values()) {
+      resources.put(type, quantity);
+    }
+
+    return new ResourceManager(resources);
+  }
+}
@@ -2,6 +2,7 @@ package io.github.notaphplover.catan.core.game;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -27,24 +28,37 @@ import io.github.notaphplover.catan.core.board.structure.StructureType;
 import io.github.notaphplover.catan.core.board.terrain.BoardTerrain;
 import io.github.notaphplover.catan.core.board.terrain.IBoardTerrain;
 import io.github.notaphplover.catan.core.board.terrain.TerrainType;
+import io.github.notaphplover.catan.core.command.BufferedCommandSender;
 import io.github.notaphplover.catan.core.command.ICommand;
 import io.github.notaphplover.catan.core.command.ICommandSender;
 import io.github.notaphplover.catan.core.exception.NonNullInputException;
 import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.game.delta.IGameDelta;
+import io.github.notaphplover.catan.core.game.exception.AgreementAlreadyProposedException;
 import io.github.notaphplover.catan.core.game.exception.InvalidLogException;
 import io.github.notaphplover.catan.core.game.generator.CatanRandomGenerator;
 import io.github.notaphplover.catan.core.game.generator.ConstantNumberGenerator;
+import io.github.notaphplover.catan.core.game.hibernation.DirectStateArena;
+import io.github.notaphplover.catan.core.game.hibernation.IStateArena;
 import io.github.notaphplover.catan.core.game.log.IGameLog;
 import io.github.notaphplover.catan.core.game.log.ILogEntry;
 import io.github.notaphplover.catan.core.game.log.LinearGameLog;
 import io.github.notaphplover.catan.core.game.log.LogEntry;
+import io.github.notaphplover.catan.core.game.move.IMoveBuffer;
+import io.github.notaphplover.catan.core.game.move.Move;
+import io.github.notaphplover.catan.core.game.move.MoveBuffer;
 import io.github.notaphplover.catan.core.game.player.PlayerManager;
 import io.github.notaphplover.catan.core.game.trade.ITrade;
 import io.github.notaphplover.catan.core.game.trade.ITradeAgreement;
+import io.github.notaphplover.catan.core.game.trade.ITradeAgreementCollector;
 import io.github.notaphplover.catan.core.game.trade.Trade;
 import io.github.notaphplover.catan.core.game.trade.TradeAgreement;
 import io.github.notaphplover.catan.core.game.trade.TradeConfirmation;
 import io.github.notaphplover.catan.core.game.trade.TradeDiscard;
+import io.github.notaphplover.catan.core.game.trade.order.IOrder;
+import io.github.notaphplover.catan.core.game.trade.order.Order;
+import io.github.notaphplover.catan.core.game.trade.order.OrderCancel;
+import io.github.notaphplover.catan.core.game.trade.order.OrderSide;
 import io.github.notaphplover.catan.core.player.IPlayer;
 import io.github.notaphplover.catan.core.player.Player;
 import io.github.notaphplover.catan.core.request.BuildConnectionRequest;
@@ -55,6 +69,8 @@ import io.github.notaphplover.catan.core.request.EndTurnRequest;
 import io.github.notaphplover.catan.core.request.IRequest;
 import io.github.notaphplover.catan.core.request.StartTurnRequest;
 import io.github.notaphplover.catan.core.request.UpgradeStructureRequest;
+import io.github.notaphplover.catan.core.request.trade.OrderCancelRequest;
+import io.github.notaphplover.catan.core.request.trade.OrderRequest;
 import io.github.notaphplover.catan.core.request.trade.TradeAgreementRequest;
 import io.github.notaphplover.catan.core.request.trade.TradeConfirmationRequest;
 import io.github.notaphplover.catan.core.request.trade.TradeDiscardRequest;
@@ -66,7 +82,9 @@ import io.github.notaphplover.catan.core.resource.ResourceType;
 import io.github.notaphplover.catan.core.resource.provider.DefaultTerrainProductionProvider;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.SplittableRandom;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -2835,6 +2853,150 @@ public class CatanGameTest {
     assertEquals(expectedResources, player.getResourceManager());
   }
 
+  @DisplayName("It must compute the same hash on replicas processing the same requests")
+  @Tag(value = "CatanBoardEngine")
+  @Test
+  public void itMustComputeTheSameHashOnReplicasProcessingTheSameRequests()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(10));
+    IPlayer replicaPlayer1 = new Player(0, CatanGameForTest.buildResourceManager(10));
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1}, GameState.NORMAL, false, (command) -> {}, (request) -> {});
+    CatanGame replica =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {replicaPlayer1},
+            GameState.NORMAL,
+            false,
+            (command) -> {},
+            (request) -> {});
+
+    assertEquals(game.getHash(), replica.getHash());
+
+    long initialHash = game.getHash();
+
+    game.processRequest(new StartTurnRequest(player1));
+    game.processRequest(new BuildStructureRequest(player1, StructureType.SETTLEMENT, 0, 2));
+
+    assertNotEquals(initialHash, game.getHash());
+    assertNotEquals(game.getHash(), replica.getHash());
+
+    replica.processRequest(new StartTurnRequest(replicaPlayer1));
+    replica.processRequest(
+        new BuildStructureRequest(replicaPlayer1, StructureType.SETTLEMENT, 0, 2));
+
+    assertEquals(game.getHash(), replica.getHash());
+  }
+
+  @DisplayName("It must restore the hash when a request is undone")
+  @Tag(value = "CatanBoardEngine")
+  @Test
+  public void itMustRestoreTheHashWhenARequestIsUndone()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(10));
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1}, GameState.NORMAL, false, (command) -> {}, (request) -> {});
+
+    long initialHash = game.getHash();
+
+    int token = game.apply(new StartTurnRequest(player1));
+    game.apply(new BuildStructureRequest(player1, StructureType.SETTLEMENT, 0, 2));
+    game.apply(new UpgradeStructureRequest(player1, StructureType.CITY, 0, 2));
+
+    assertNotEquals(initialHash, game.getHash());
+
+    game.undo(token);
+
+    assertEquals(initialHash, game.getHash());
+  }
+
+  @DisplayName("It must fork an independent game")
+  @Tag(value = "CatanBoardEngine")
+  @Test
+  public void itMustForkAnIndependentGame()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(10));
+    IPlayer player2 = new Player(1, CatanGameForTest.buildResourceManager(10));
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1, player2},
+            GameState.NORMAL,
+            false,
+            (command) -> {},
+            (request) -> {});
+
+    game.processRequest(new StartTurnRequest(player1));
+    game.processRequest(new BuildStructureRequest(player1, StructureType.SETTLEMENT, 0, 2));
+
+    long hash = game.getHash();
+
+    ICatanGame fork = game.fork();
+
+    assertEquals(hash, fork.getHash());
+
+    IPlayer forkPlayer1 = fork.getActivePlayer();
+
+    fork.processRequest(new UpgradeStructureRequest(forkPlayer1, StructureType.CITY, 0, 2));
+    fork.processRequest(new EndTurnRequest(forkPlayer1));
+    fork.processRequest(new StartTurnRequest(fork.getActivePlayer()));
+
+    assertNotEquals(hash, fork.getHash());
+    assertEquals(hash, game.getHash());
+    assertEquals(1, fork.getTurnNumber());
+    assertEquals(0, game.getTurnNumber());
+    assertEquals(StructureType.SETTLEMENT, ((IBoardStructure) game.getBoard().get(0, 2)).getType());
+    assertEquals(StructureType.CITY, ((IBoardStructure) fork.getBoard().get(0, 2)).getType());
+
+    game.processRequest(new UpgradeStructureRequest(player1, StructureType.CITY, 0, 2));
+    game.processRequest(new EndTurnRequest(player1));
+    game.processRequest(new StartTurnRequest(player2));
+
+    assertEquals(game.getHash(), fork.getHash());
+    assertSame(game.getBoard().get(0, 2), fork.getBoard().get(0, 2));
+  }
+
+  @DisplayName("It must undo requests applied to a fork")
+  @Tag(value = "CatanBoardEngine")
+  @Test
+  public void itMustUndoRequestsAppliedToAFork()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(10));
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1}, GameState.NORMAL, false, (command) -> {}, (request) -> {});
+
+    game.processRequest(new StartTurnRequest(player1));
+
+    long hash = game.getHash();
+
+    ICatanGame fork = game.fork();
+    IPlayer forkPlayer1 = fork.getActivePlayer();
+
+    assertThrows(IndexOutOfBoundsException.class, () -> fork.undo(0));
+
+    int token = fork.apply(new BuildStructureRequest(forkPlayer1, StructureType.SETTLEMENT, 0, 2));
+
+    assertNotEquals(hash, fork.getHash());
+
+    fork.undo(token);
+
+    assertEquals(hash, fork.getHash());
+    assertEquals(hash, game.getHash());
+  }
+
   private IBoardTerrain buildMountainTerrain() {
     return new BoardTerrain(6, TerrainType.MOUNTAINS);
   }
@@ -2897,4 +3059,440 @@ public class CatanGameTest {
   private IBoardConnection buildVoidConnection() {
     return new BoardConnection(null, new ResourceManager(), ConnectionType.VOID);
   }
+
+  @DisplayName("It must apply requests without notifying anyone")
+  @Tag(value = "CatanGame")
+  @Test
+  public void itMustApplyRequestsWithoutNotifyingAnyone()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(5));
+    IPlayer player2 = new Player(1, CatanGameForTest.buildResourceManager(5));
+
+    List<ICommand> commands = new ArrayList<ICommand>();
+    List<IRequest> errors = new ArrayList<IRequest>();
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1, player2}, GameState.NORMAL, false, commands::add, errors::add);
+
+    game.processRequest(new EndTurnRequest(player2));
+
+    assertEquals(1, errors.size());
+
+    int token = game.apply(new StartTurnRequest(player1));
+
+    game.apply(new EndTurnRequest(player2));
+    game.apply(new EndTurnRequest(player1));
+
+    assertEquals(0, commands.size());
+    assertEquals(1, errors.size());
+    assertEquals(0, player1.getMissing().size());
+    assertEquals(0, player2.getMissing().size());
+
+    game.undo(token);
+
+    assertFalse(game.isTurnStarted());
+    assertEquals(player1, game.getActivePlayer());
+  }
+
+  @DisplayName("It must keep a replica in sync through deltas")
+  @Tag(value = "CatanGame")
+  @Test
+  public void itMustKeepAReplicaInSyncThroughDeltas() {
+
+    IPlayer[] players =
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())};
+
+    CatanGame game = CatanGameForTest.buildProductiveGame(players, 3L, 6);
+    ICatanGame replica = game.fork();
+
+    List<IGameDelta> deltas = new ArrayList<IGameDelta>();
+
+    game.addDeltaListener(replica::sync);
+    game.addDeltaListener(deltas::add);
+
+    SplittableRandom random = new SplittableRandom(5L);
+    IMoveBuffer buffer = new MoveBuffer();
+
+    for (int i = 0; i < 500 && game.getState() != GameState.ENDED; ++i) {
+      IPlayer activePlayer = game.getActivePlayer();
+
+      buffer.clear();
+      game.generateMoves(activePlayer, buffer);
+
+      int processedDeltas = deltas.size();
+
+      game.processRequest(new EndTurnRequest(players[1 - activePlayer.getId()]));
+
+      assertEquals(processedDeltas, deltas.size());
+
+      game.processRequest(Move.toRequest(activePlayer, buffer.get(random.nextInt(buffer.size()))));
+
+      assertEquals(processedDeltas + 1, deltas.size());
+      assertEquals(game.getHash(), deltas.get(processedDeltas).getHash());
+      assertEquals(game.getHash(), replica.getHash());
+    }
+
+    assertEquals(game.getTurnNumber(), replica.getTurnNumber());
+    assertEquals(game.getState(), replica.getState());
+    assertEquals(game.getPoints(), replica.getPoints());
+    assertEquals(
+        game.getLog(game.getTurnNumber()).size(), replica.getLog(game.getTurnNumber()).size());
+  }
+
+  @DisplayName("It must keep its state through hibernation")
+  @Tag(value = "CatanGame")
+  @Test
+  public void itMustKeepItsStateThroughHibernation() {
+
+    IPlayer[] players =
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())};
+
+    CatanGame game = CatanGameForTest.buildProductiveGame(players, 3L, 6);
+    ICatanGame replica = game.fork();
+    IStateArena arena = new DirectStateArena();
+
+    game.addDeltaListener(replica::sync);
+
+    SplittableRandom random = new SplittableRandom(7L);
+    IMoveBuffer buffer = new MoveBuffer();
+
+    for (int i = 0; i < 300 && game.getState() != GameState.ENDED; ++i) {
+      IPlayer activePlayer = game.getActivePlayer();
+
+      game.hibernate(arena);
+
+      assertTrue(game.isHibernated());
+      assertTrue(arena.getStoredBytes() > 0);
+      assertSame(activePlayer, game.getActivePlayer());
+      assertEquals(replica.getTurnNumber(), game.getTurnNumber());
+
+      buffer.clear();
+      game.generateMoves(activePlayer, buffer);
+
+      assertFalse(game.isHibernated());
+      assertEquals(0L, arena.getStoredBytes());
+      assertEquals(replica.getHash(), game.getHash());
+
+      game.processRequest(Move.toRequest(activePlayer, buffer.get(random.nextInt(buffer.size()))));
+
+      assertEquals(game.getHash(), replica.getHash());
+    }
+
+    game.hibernate(arena);
+
+    assertEquals(replica.getPoints(), game.getPoints());
+    assertEquals(replica.getLog(0).size(), game.getLog(0).size());
+  }
+
+  @DisplayName("It must keep a pending trade through hibernation")
+  @Tag(value = "CatanGame")
+  @Test
+  public void itMustKeepAPendingTradeThroughHibernation()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(1));
+    IPlayer player2 = new Player(1, CatanGameForTest.buildResourceManager(1));
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1, player2},
+            GameState.NORMAL,
+            true,
+            (command) -> {},
+            (request) -> {});
+
+    Map<ResourceType, Integer> requestedResourcesMap = new TreeMap<ResourceType, Integer>();
+    requestedResourcesMap.put(ResourceType.ORE, 1);
+
+    Map<ResourceType, Integer> exchangeMap = new TreeMap<ResourceType, Integer>();
+    exchangeMap.put(ResourceType.GRAIN, 1);
+
+    Collection<IResourceStorage> acceptableExchanges = new ArrayList<IResourceStorage>();
+    acceptableExchanges.add(new ResourceStorage(exchangeMap));
+
+    ITrade trade =
+        new Trade(
+            UUID.randomUUID(), acceptableExchanges, new ResourceStorage(requestedResourcesMap));
+    ITradeAgreement tradeAgreement =
+        new TradeAgreement(UUID.randomUUID(), new ResourceStorage(exchangeMap), trade);
+
+    game.processRequest(new TradeRequest(player1, trade));
+    game.processRequest(new TradeAgreementRequest(player2, tradeAgreement));
+
+    long hash = game.getHash();
+
+    game.hibernate(new DirectStateArena());
+
+    game.processRequest(
+        new TradeConfirmationRequest(
+            player1, new TradeConfirmation(UUID.randomUUID(), tradeAgreement)));
+
+    assertEquals(2, player1.getResourceManager().getResource(ResourceType.ORE));
+    assertEquals(0, player1.getResourceManager().getResource(ResourceType.GRAIN));
+    assertEquals(0, player2.getResourceManager().getResource(ResourceType.ORE));
+    assertEquals(2, player2.getResourceManager().getResource(ResourceType.GRAIN));
+    assertNotEquals(hash, game.getHash());
+    assertEquals(3, game.getLog(0).size());
+  }
+
+  @DisplayName("It must not substract resources on a rejected build structure request")
+  @Tag(value = "CatanGame")
+  @Test
+  public void itMustNotSubstractResourcesOnARejectedBuildStructureRequest()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(10));
+    IPlayer player2 = new Player(1, CatanGameForTest.buildResourceManager(10));
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1, player2},
+            GameState.NORMAL,
+            true,
+            (command) -> {},
+            (request) -> {});
+
+    game.processRequest(new BuildStructureRequest(player1, StructureType.SETTLEMENT, 0, 2));
+
+    int resources = game.getActivePlayer().getResourceManager().getResourcesQuantity();
+
+    game.processRequest(new BuildStructureRequest(player1, StructureType.SETTLEMENT, 0, 2));
+
+    assertEquals(resources, game.getActivePlayer().getResourceManager().getResourcesQuantity());
+  }
+
+  @DisplayName("It must not stream applied requests")
+  @Tag(value = "CatanGame")
+  @Test
+  public void itMustNotStreamAppliedRequests() {
+
+    IPlayer[] players =
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())};
+
+    CatanGame game = CatanGameForTest.buildProductiveGame(players, 3L, 6);
+    ICatanGame replica = game.fork();
+
+    List<IGameDelta> deltas = new ArrayList<IGameDelta>();
+
+    game.addDeltaListener(replica::sync);
+    game.addDeltaListener(deltas::add);
+
+    SplittableRandom random = new SplittableRandom(5L);
+    IMoveBuffer buffer = new MoveBuffer();
+
+    for (int i = 0; i < 100 && game.getState() != GameState.ENDED; ++i) {
+      IPlayer activePlayer = game.getActivePlayer();
+
+      buffer.clear();
+      game.generateMoves(activePlayer, buffer);
+
+      int move = buffer.get(random.nextInt(buffer.size()));
+      int processedDeltas = deltas.size();
+      long hash = game.getHash();
+
+      game.undo(game.apply(Move.toRequest(activePlayer, move)));
+
+      assertEquals(processedDeltas, deltas.size());
+      assertEquals(hash, game.getHash());
+
+      game.processRequest(Move.toRequest(activePlayer, move));
+
+      assertEquals(game.getHash(), replica.getHash());
+    }
+  }
+
+  @DisplayName("It must match orders of a book kept through hibernation")
+  @Tag(value = "CatanGame")
+  @Test
+  public void itMustMatchOrdersOfABookKeptThroughHibernation()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(10));
+    IPlayer player2 = new Player(1, CatanGameForTest.buildResourceManager(10));
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1, player2},
+            GameState.NORMAL,
+            true,
+            (command) -> {},
+            (request) -> fail());
+
+    IOrder ask =
+        new Order(UUID.randomUUID(), OrderSide.ASK, ResourceType.WOOL, ResourceType.GRAIN, 2, 1);
+
+    game.processRequest(new OrderRequest(player2, ask));
+
+    assertEquals(8, player2.getResourceManager().getResource(ResourceType.WOOL));
+
+    game.hibernate(new DirectStateArena());
+
+    game.processRequest(
+        new OrderRequest(
+            player1,
+            new Order(
+                UUID.randomUUID(), OrderSide.BID, ResourceType.WOOL, ResourceType.GRAIN, 1, 2)));
+
+    assertEquals(11, player1.getResourceManager().getResource(ResourceType.WOOL));
+    assertEquals(9, player1.getResourceManager().getResource(ResourceType.GRAIN));
+    assertEquals(11, player2.getResourceManager().getResource(ResourceType.GRAIN));
+
+    game.processRequest(new OrderCancelRequest(player2, new OrderCancel(UUID.randomUUID(), ask)));
+
+    assertEquals(9, player2.getResourceManager().getResource(ResourceType.WOOL));
+    assertEquals(3, game.getLog(0).size());
+  }
+
+  @DisplayName("It must process collected agreements as logged requests")
+  @Tag(value = "CatanGame")
+  @Test
+  public void itMustProcessCollectedAgreementsAsLoggedRequests() throws Exception {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(5));
+    IPlayer player2 = new Player(1, CatanGameForTest.buildResourceManager(5));
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1, player2},
+            GameState.NORMAL,
+            true,
+            (command) -> {},
+            (request) -> {});
+
+    List<IGameDelta> deltas = new ArrayList<IGameDelta>();
+
+    game.addDeltaListener(deltas::add);
+
+    Map<ResourceType, Integer> requestedResourcesMap = new TreeMap<ResourceType, Integer>();
+    requestedResourcesMap.put(ResourceType.ORE, 1);
+
+    Map<ResourceType, Integer> resourcesMap = new TreeMap<ResourceType, Integer>();
+    resourcesMap.put(ResourceType.GRAIN, 1);
+
+    IResourceStorage exchange = new ResourceStorage(resourcesMap);
+    Collection<IResourceStorage> acceptableExchanges = new ArrayList<IResourceStorage>();
+    acceptableExchanges.add(exchange);
+
+    ITrade trade =
+        new Trade(
+            UUID.randomUUID(), acceptableExchanges, new ResourceStorage(requestedResourcesMap));
+
+    game.processRequest(new TradeRequest(player1, trade));
+
+    ITradeAgreementCollector collector = game.getAgreementCollector();
+
+    collector.offer(player2, new TradeAgreement(UUID.randomUUID(), exchange, trade));
+
+    assertEquals(1, game.getLog(0).size());
+    assertEquals(1, deltas.size());
+
+    game.collectAgreements();
+    game.collectAgreements();
+
+    assertEquals(2, game.getLog(0).size());
+    assertEquals(2, deltas.size());
+
+    int token =
+        game.apply(
+            new TradeAgreementRequest(
+                player2, new TradeAgreement(UUID.randomUUID(), exchange, trade)));
+
+    game.undo(token);
+
+    assertSame(collector, game.getAgreementCollector());
+    assertEquals(2, game.getLog(0).size());
+  }
+
+  @DisplayName("It must let players propose again once their agreement is undone")
+  @Tag(value = "CatanGame")
+  @Test
+  public void itMustLetPlayersProposeAgainOnceTheirAgreementIsUndone() throws Exception {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(5));
+    IPlayer player2 = new Player(1, CatanGameForTest.buildResourceManager(5));
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1, player2},
+            GameState.NORMAL,
+            true,
+            (command) -> {},
+            (request) -> {});
+
+    IResourceStorage exchange = new ResourceStorage(Map.of(ResourceType.GRAIN, 1));
+
+    ITrade trade =
+        new Trade(
+            UUID.randomUUID(), List.of(exchange), new ResourceStorage(Map.of(ResourceType.ORE, 1)));
+
+    game.processRequest(new TradeRequest(player1, trade));
+
+    ITradeAgreementCollector collector = game.getAgreementCollector();
+
+    assertFalse(game.canHibernate());
+
+    int token =
+        game.apply(
+            new TradeAgreementRequest(
+                player2, new TradeAgreement(UUID.randomUUID(), exchange, trade)));
+
+    assertThrows(
+        AgreementAlreadyProposedException.class,
+        () -> collector.offer(player2, new TradeAgreement(UUID.randomUUID(), exchange, trade)));
+
+    game.undo(token);
+
+    collector.offer(player2, new TradeAgreement(UUID.randomUUID(), exchange, trade));
+    game.collectAgreements();
+
+    assertEquals(2, game.getLog(0).size());
+  }
+
+  @DisplayName("It must keep the missing requests of notified players until commands are flushed")
+  @Tag(value = "CatanGame")
+  @Test
+  public void itMustKeepTheMissingRequestsOfNotifiedPlayersUntilCommandsAreFlushed()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(5));
+    IPlayer player2 = new Player(1, CatanGameForTest.buildResourceManager(5));
+
+    List<Integer> deliveredMissing = new ArrayList<Integer>();
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1, player2},
+            GameState.NORMAL,
+            true,
+            new BufferedCommandSender(
+                (command) -> deliveredMissing.add(command.getDestinatary().getMissing().size())),
+            (request) -> {});
+
+    Map<ResourceType, Integer> requestedResourcesMap = new TreeMap<ResourceType, Integer>();
+    requestedResourcesMap.put(ResourceType.ORE, 1);
+
+    Map<ResourceType, Integer> resourcesMap = new TreeMap<ResourceType, Integer>();
+    resourcesMap.put(ResourceType.GRAIN, 1);
+
+    Collection<IResourceStorage> acceptableExchanges = new ArrayList<IResourceStorage>();
+    acceptableExchanges.add(new ResourceStorage(resourcesMap));
+
+    game.processRequest(
+        new TradeRequest(
+            player1,
+            new Trade(
+                UUID.randomUUID(),
+                acceptableExchanges,
+                new ResourceStorage(requestedResourcesMap))));
+
+    assertEquals(List.of(1), deliveredMissing);
+    assertEquals(0, player2.getMissing().size());
+  }
 }
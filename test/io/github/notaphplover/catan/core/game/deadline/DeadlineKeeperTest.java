@@ -0,0 +1,137 @@
+package io.github.notaphplover.catan.core.game.deadline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardDimensionsException;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.game.CatanGame;
+import io.github.notaphplover.catan.core.game.CatanGameForTest;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.exception.InvalidLogException;
+import io.github.notaphplover.catan.core.game.log.ILogEntry;
+import io.github.notaphplover.catan.core.game.trade.Trade;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.request.RequestType;
+import io.github.notaphplover.catan.core.request.trade.TradeRequest;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import io.github.notaphplover.catan.core.timer.TimingWheel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class DeadlineKeeperTest {
+
+  @DisplayName("It must not accept a null timer")
+  @Tag(value = "DeadlineKeeper")
+  @Test
+  public void itMustNotAcceptANullTimer() {
+    assertThrows(
+        NonNullInputException.class, () -> new DeadlineKeeper(new DeadlineKeeperBuilder()));
+  }
+
+  @DisplayName("It must discard expired trades and end expired turns")
+  @Tag(value = "DeadlineKeeper")
+  @Test
+  public void itMustDiscardExpiredTradesAndEndExpiredTurns()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, InvalidLogException,
+          NonNullInputException, NonVoidCollectionException {
+
+    IPlayer[] players =
+        new IPlayer[] {
+          new Player(0, CatanGameForTest.buildResourceManager(5)),
+          new Player(1, CatanGameForTest.buildResourceManager(5))
+        };
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            players, GameState.NORMAL, true, (command) -> {}, (request) -> {});
+
+    AtomicLong clock = new AtomicLong();
+
+    TimingWheel wheel = new TimingWheel(1L, TimeUnit.MILLISECONDS, clock::get);
+
+    IDeadlineKeeper keeper =
+        new DeadlineKeeper(
+            new DeadlineKeeperBuilder()
+                .setTimer(wheel)
+                .setTradeTimeout(TimeUnit.MILLISECONDS.toNanos(10L))
+                .setTurnTimeout(TimeUnit.MILLISECONDS.toNanos(50L)));
+
+    keeper.watch(game);
+
+    clock.set(TimeUnit.MILLISECONDS.toNanos(5L));
+    wheel.expireTimeouts();
+
+    game.processRequest(new TradeRequest(players[0], buildTrade()));
+
+    assertEquals(1, game.getLog(0).size());
+
+    clock.set(TimeUnit.MILLISECONDS.toNanos(20L));
+    wheel.expireTimeouts();
+
+    assertEquals(2, game.getLog(0).size());
+    assertEquals(RequestType.TRADE_DISCARD, getLastRequestType(game.getLog(0)));
+    assertEquals(0, game.getTurnNumber());
+
+    clock.set(TimeUnit.MILLISECONDS.toNanos(60L));
+    wheel.expireTimeouts();
+
+    assertEquals(1, game.getTurnNumber());
+    assertEquals(players[1], game.getActivePlayer());
+
+    clock.set(TimeUnit.MILLISECONDS.toNanos(120L));
+    wheel.expireTimeouts();
+
+    assertEquals(2, game.getTurnNumber());
+    assertEquals(2, game.getLog(1).size());
+    assertEquals(RequestType.END_TURN, getLastRequestType(game.getLog(1)));
+
+    keeper.unwatch(game);
+
+    clock.set(TimeUnit.MILLISECONDS.toNanos(240L));
+    wheel.expireTimeouts();
+
+    assertEquals(2, game.getTurnNumber());
+    assertEquals(0, keeper.getWatchedGames());
+  }
+
+  private static RequestType getLastRequestType(ILogEntry entry) {
+
+    RequestType type = null;
+
+    for (IRequest request : entry.getRequests()) {
+      type = request.getType();
+    }
+
+    return type;
+  }
+
+  private static Trade buildTrade() throws NonNullInputException, NonVoidCollectionException {
+
+    Map<ResourceType, Integer> requestedResourcesMap = new TreeMap<ResourceType, Integer>();
+    requestedResourcesMap.put(ResourceType.ORE, 1);
+
+    Map<ResourceType, Integer> resourcesMap = new TreeMap<ResourceType, Integer>();
+    resourcesMap.put(ResourceType.GRAIN, 1);
+
+    Collection<IResourceStorage> acceptableExchanges = new ArrayList<IResourceStorage>();
+    acceptableExchanges.add(new ResourceStorage(resourcesMap));
+
+    return new Trade(
+        UUID.randomUUID(), acceptableExchanges, new ResourceStorage(requestedResourcesMap));
+  }
+}
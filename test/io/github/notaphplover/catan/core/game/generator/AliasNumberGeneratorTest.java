@@ -0,0 +1,115 @@
+package io.github.notaphplover.catan.core.game.generator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.resource.exception.NegativeNumberException;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class AliasNumberGeneratorTest {
+
+  private static final int SAMPLES = 100000;
+
+  @DisplayName("It must sample the given distribution")
+  @Tag(value = "AliasNumberGenerator")
+  @Test
+  public void itMustSampleTheGivenDistribution()
+      throws NonNullInputException, NonVoidCollectionException {
+
+    INumberGenerator generator = new AliasNumberGenerator(Map.of(4, 1f, 6, 3f, 8, 0f), 3L);
+
+    int fours = 0;
+    int sixes = 0;
+
+    for (int i = 0; i < SAMPLES; ++i) {
+      int productionNumber = generator.getNextProductionNumber();
+
+      assertTrue(productionNumber == 4 || productionNumber == 6);
+
+      if (productionNumber == 4) {
+        ++fours;
+      } else {
+        ++sixes;
+      }
+    }
+
+    assertEquals(0.25d, (double) fours / SAMPLES, 0.01d);
+    assertEquals(0.75d, (double) sixes / SAMPLES, 0.01d);
+  }
+
+  @DisplayName("It must expose a normalized unmodifiable distribution")
+  @Tag(value = "AliasNumberGenerator")
+  @Test
+  public void itMustExposeANormalizedUnmodifiableDistribution()
+      throws NonNullInputException, NonVoidCollectionException {
+
+    INumberGenerator generator = new AliasNumberGenerator(Map.of(4, 1f, 6, 3f), 3L);
+
+    Map<Integer, Float> distribution = generator.getProbabilityDistribution();
+
+    assertEquals(0.25f, distribution.get(4));
+    assertEquals(0.75f, distribution.get(6));
+    assertTrue(distribution == generator.getProbabilityDistribution());
+    assertThrows(UnsupportedOperationException.class, () -> distribution.put(8, 1f));
+  }
+
+  @DisplayName("It must split into reproducible generators")
+  @Tag(value = "AliasNumberGenerator")
+  @Test
+  public void itMustSplitIntoReproducibleGenerators()
+      throws NonNullInputException, NonVoidCollectionException {
+
+    Map<Integer, Float> distribution =
+        new CatanSplittableGenerator(0L).getProbabilityDistribution();
+
+    ISplittableNumberGenerator generator = new AliasNumberGenerator(distribution, 3L);
+    ISplittableNumberGenerator otherGenerator = new AliasNumberGenerator(distribution, 3L);
+
+    assertArrayEquals(sample(generator.split()), sample(otherGenerator.split()));
+    assertArrayEquals(sample(generator), sample(otherGenerator));
+  }
+
+  @DisplayName("It must reject invalid distributions")
+  @Tag(value = "AliasNumberGenerator")
+  @Test
+  public void itMustRejectInvalidDistributions() {
+
+    assertThrows(NonNullInputException.class, () -> new AliasNumberGenerator(null, 3L));
+    assertThrows(
+        NonVoidCollectionException.class, () -> new AliasNumberGenerator(Map.of(4, 0f), 3L));
+    assertThrows(NegativeNumberException.class, () -> new AliasNumberGenerator(Map.of(4, -1f), 3L));
+  }
+
+  @DisplayName("It must reject non finite weights")
+  @Tag(value = "AliasNumberGenerator")
+  @Test
+  public void itMustRejectNonFiniteWeights() {
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AliasNumberGenerator(Map.of(4, Float.NaN, 6, 1f), 3L));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AliasNumberGenerator(Map.of(4, Float.POSITIVE_INFINITY, 6, 1f), 3L));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new AliasNumberGenerator(Map.of(4, Float.NEGATIVE_INFINITY, 6, 1f), 3L));
+  }
+
+  private int[] sample(INumberGenerator generator) {
+    int[] numbers = new int[1000];
+
+    for (int i = 0; i < numbers.length; ++i) {
+      numbers[i] = generator.getNextProductionNumber();
+    }
+
+    return numbers;
+  }
+}
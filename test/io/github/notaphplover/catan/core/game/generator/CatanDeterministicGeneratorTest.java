@@ -0,0 +1,93 @@
+package io.github.notaphplover.catan.core.game.generator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class CatanDeterministicGeneratorTest {
+
+  private static final int SEQUENCE_LENGTH = 36;
+
+  @DisplayName("It must generate every outcome of two dice once per sequence")
+  @Tag(value = "CatanDeterministicGenerator")
+  @Test
+  public void itMustGenerateEveryOutcomeOfTwoDiceOncePerSequence() {
+
+    for (IDeterministicNumberGenerator generator :
+        new IDeterministicNumberGenerator[] {
+          new CatanDeterministicGenerator(5L), new CatanDeterministicGenerator(5L)
+        }) {
+      int[] counts = new int[13];
+
+      for (int i = 0; i < SEQUENCE_LENGTH; ++i) {
+        ++counts[generator.getNextProductionNumber()];
+      }
+
+      for (int productionNumber = 2; productionNumber <= 12; ++productionNumber) {
+        assertEquals(6 - Math.abs(7 - productionNumber), counts[productionNumber]);
+      }
+    }
+  }
+
+  @DisplayName("It must get production numbers relative to the next one")
+  @Tag(value = "CatanDeterministicGenerator")
+  @Test
+  public void itMustGetProductionNumbersRelativeToTheNextOne() {
+
+    IDeterministicNumberGenerator generator = new CatanDeterministicGenerator(5L);
+
+    int nextNumber = generator.getProductionNumber(1);
+    int previousNumber = generator.getProductionNumber(0);
+
+    generator.getNextProductionNumber();
+
+    assertEquals(nextNumber, generator.getProductionNumber(0));
+    assertEquals(previousNumber, generator.getProductionNumber(-1));
+    assertEquals(
+        generator.getProductionNumber(SEQUENCE_LENGTH + 2), generator.getProductionNumber(2));
+  }
+
+  @DisplayName("It must copy the production sequence window")
+  @Tag(value = "CatanDeterministicGenerator")
+  @Test
+  public void itMustCopyTheProductionSequenceWindow() {
+
+    IDeterministicNumberGenerator generator = new CatanDeterministicGenerator(5L);
+
+    generator.getNextProductionNumber();
+
+    int[] window = new int[generator.getPeriod() + 4];
+    generator.getProductionNumbers(-2, window, 1, window.length - 1);
+
+    assertEquals(SEQUENCE_LENGTH, generator.getPeriod());
+    assertEquals(0, window[0]);
+
+    for (int i = 1; i < window.length; ++i) {
+      assertEquals(generator.getProductionNumber(i - 3), window[i]);
+    }
+  }
+
+  @DisplayName("It must generate production numbers in bulk")
+  @Tag(value = "CatanDeterministicGenerator")
+  @Test
+  public void itMustGenerateProductionNumbersInBulk() {
+
+    IDeterministicNumberGenerator generator = new CatanDeterministicGenerator(5L);
+    IDeterministicNumberGenerator otherGenerator = new CatanDeterministicGenerator(5L);
+
+    int[] numbers = new int[SEQUENCE_LENGTH * 2 + 5];
+    int[] otherNumbers = new int[numbers.length];
+
+    generator.getNextProductionNumbers(numbers, 0, numbers.length);
+
+    for (int i = 0; i < otherNumbers.length; ++i) {
+      otherNumbers[i] = otherGenerator.getNextProductionNumber();
+    }
+
+    assertArrayEquals(otherNumbers, numbers);
+    assertEquals(otherGenerator.getNextProductionNumber(), generator.getNextProductionNumber());
+  }
+}
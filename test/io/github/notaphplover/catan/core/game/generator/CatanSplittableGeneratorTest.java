@@ -0,0 +1,78 @@
+package io.github.notaphplover.catan.core.game.generator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class CatanSplittableGeneratorTest {
+
+  private static final int SAMPLES = 1000;
+
+  @DisplayName("It must generate production numbers of two dice")
+  @Tag(value = "CatanSplittableGenerator")
+  @Test
+  public void itMustGenerateProductionNumbersOfTwoDice() {
+
+    INumberGenerator generator = new CatanSplittableGenerator(3L);
+
+    for (int i = 0; i < SAMPLES; ++i) {
+      int productionNumber = generator.getNextProductionNumber();
+
+      assertTrue(productionNumber >= 2 && productionNumber <= 12);
+    }
+  }
+
+  @DisplayName("It must generate the same sequence with the same seed")
+  @Tag(value = "CatanSplittableGenerator")
+  @Test
+  public void itMustGenerateTheSameSequenceWithTheSameSeed() {
+
+    assertArrayEquals(
+        sample(new CatanSplittableGenerator(3L)), sample(new CatanSplittableGenerator(3L)));
+  }
+
+  @DisplayName("It must split into reproducible independent generators")
+  @Tag(value = "CatanSplittableGenerator")
+  @Test
+  public void itMustSplitIntoReproducibleIndependentGenerators() {
+
+    ISplittableNumberGenerator generator = new CatanSplittableGenerator(3L);
+    ISplittableNumberGenerator otherGenerator = new CatanSplittableGenerator(3L);
+
+    int[] splitSample = sample(generator.split());
+
+    assertArrayEquals(splitSample, sample(otherGenerator.split()));
+    assertFalse(Arrays.equals(splitSample, sample(generator)));
+  }
+
+  @DisplayName("It must generate production numbers in bulk")
+  @Tag(value = "CatanSplittableGenerator")
+  @Test
+  public void itMustGenerateProductionNumbersInBulk() {
+
+    INumberGenerator generator = new CatanSplittableGenerator(3L);
+
+    int[] numbers = new int[SAMPLES + 2];
+    generator.getNextProductionNumbers(numbers, 1, SAMPLES);
+
+    int[] expected = new int[SAMPLES + 2];
+    System.arraycopy(sample(new CatanSplittableGenerator(3L)), 0, expected, 1, SAMPLES);
+
+    assertArrayEquals(expected, numbers);
+  }
+
+  private int[] sample(INumberGenerator generator) {
+    int[] numbers = new int[SAMPLES];
+
+    for (int i = 0; i < SAMPLES; ++i) {
+      numbers[i] = generator.getNextProductionNumber();
+    }
+
+    return numbers;
+  }
+}
@@ -20,6 +20,11 @@ public class ConstantNumberGenerator implements IDeterministicNumberGenerator {
     return Map.of(number, 1f);
   }
 
+  @Override
+  public int getPeriod() {
+    return 1;
+  }
+
   @Override
   public int getProductionNumber(int offset) {
     return number;
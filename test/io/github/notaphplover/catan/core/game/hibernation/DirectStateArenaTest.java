@@ -0,0 +1,77 @@
+package io.github.notaphplover.catan.core.game.hibernation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class DirectStateArenaTest {
+
+  @DisplayName("It must store a state off heap")
+  @Tag(value = "DirectStateArena")
+  @Test
+  public void itMustStoreAStateOffHeap() {
+
+    IStateArena arena = new DirectStateArena(1024);
+
+    ByteBuffer state = buildState(100);
+    ByteBuffer stored = arena.store(state);
+
+    assertTrue(stored.isDirect());
+    assertEquals(100, stored.remaining());
+    assertEquals(128L, arena.getStoredBytes());
+
+    for (int i = 0; i < 100; ++i) {
+      assertEquals((byte) i, stored.get(i));
+    }
+  }
+
+  @DisplayName("It must reuse released slots")
+  @Tag(value = "DirectStateArena")
+  @Test
+  public void itMustReuseReleasedSlots() {
+
+    IStateArena arena = new DirectStateArena(1024);
+
+    ByteBuffer stored = arena.store(buildState(100));
+
+    arena.release(stored);
+
+    assertEquals(0L, arena.getStoredBytes());
+    assertSame(stored, arena.store(buildState(70)));
+  }
+
+  @DisplayName("It must store states larger than a chunk")
+  @Tag(value = "DirectStateArena")
+  @Test
+  public void itMustStoreStatesLargerThanAChunk() {
+
+    IStateArena arena = new DirectStateArena(64);
+
+    ByteBuffer stored = arena.store(buildState(100));
+
+    assertEquals(100, stored.remaining());
+    assertEquals((byte) 99, stored.get(99));
+
+    arena.release(stored);
+
+    assertEquals(0L, arena.getStoredBytes());
+  }
+
+  private static ByteBuffer buildState(int size) {
+
+    ByteBuffer state = ByteBuffer.allocate(size);
+
+    for (int i = 0; i < size; ++i) {
+      state.put((byte) i);
+    }
+
+    state.flip();
+
+    return state;
+  }
+}
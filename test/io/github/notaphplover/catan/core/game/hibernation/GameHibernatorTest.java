@@ -0,0 +1,207 @@
+package io.github.notaphplover.catan.core.game.hibernation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.analytics.ExpectedIncomeTracker;
+import io.github.notaphplover.catan.core.analytics.IExpectedIncomeTracker;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardDimensionsException;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.game.CatanGame;
+import io.github.notaphplover.catan.core.game.CatanGameForTest;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.exception.InvalidLogException;
+import io.github.notaphplover.catan.core.game.generator.CatanSplittableGenerator;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.request.StartTurnRequest;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class GameHibernatorTest {
+
+  @DisplayName("It must not accept a null arena")
+  @Tag(value = "GameHibernator")
+  @Test
+  public void itMustNotAcceptANullArena() {
+    assertThrows(
+        NonNullInputException.class,
+        () -> new GameHibernator(new GameHibernatorBuilder().setArena(null)));
+  }
+
+  @DisplayName("It must hibernate the least recently used games")
+  @Tag(value = "GameHibernator")
+  @Test
+  public void itMustHibernateTheLeastRecentlyUsedGames() throws NonNullInputException {
+
+    IGameHibernator hibernator =
+        new GameHibernator(new GameHibernatorBuilder().setMaxAwakeGames(2));
+
+    CatanGame firstGame = buildGame();
+    CatanGame secondGame = buildGame();
+    CatanGame thirdGame = buildGame();
+
+    hibernator.touch(firstGame);
+    hibernator.touch(secondGame);
+    hibernator.touch(firstGame);
+    hibernator.touch(thirdGame);
+
+    assertEquals(2, hibernator.getAwakeGames());
+    assertFalse(firstGame.isHibernated());
+    assertTrue(secondGame.isHibernated());
+    assertFalse(thirdGame.isHibernated());
+
+    IPlayer player = secondGame.getActivePlayer();
+
+    hibernator.processRequest(secondGame, new StartTurnRequest(player));
+
+    assertFalse(secondGame.isHibernated());
+    assertTrue(firstGame.isHibernated());
+    assertTrue(secondGame.isTurnStarted());
+    assertEquals(1, secondGame.getLog(0).size());
+  }
+
+  @DisplayName("It must hibernate idle games")
+  @Tag(value = "GameHibernator")
+  @Test
+  public void itMustHibernateIdleGames() throws NonNullInputException {
+
+    AtomicLong clock = new AtomicLong();
+
+    IGameHibernator hibernator =
+        new GameHibernator(new GameHibernatorBuilder().setClock(clock::get).setMaxIdleTime(100L));
+
+    CatanGame firstGame = buildGame();
+    CatanGame secondGame = buildGame();
+
+    hibernator.touch(firstGame);
+    clock.set(50L);
+    hibernator.touch(secondGame);
+    clock.set(120L);
+
+    assertEquals(1, hibernator.hibernateIdle());
+    assertTrue(firstGame.isHibernated());
+    assertFalse(secondGame.isHibernated());
+    assertEquals(1, hibernator.getAwakeGames());
+
+    clock.set(200L);
+
+    assertEquals(1, hibernator.hibernateIdle());
+    assertTrue(secondGame.isHibernated());
+    assertEquals(0, hibernator.getAwakeGames());
+  }
+
+  @DisplayName("It must not hibernate games with board listeners")
+  @Tag(value = "GameHibernator")
+  @Test
+  public void itMustNotHibernateGamesWithBoardListeners() throws NonNullInputException {
+
+    AtomicLong clock = new AtomicLong();
+
+    IGameHibernator hibernator =
+        new GameHibernator(new GameHibernatorBuilder().setClock(clock::get).setMaxIdleTime(100L));
+
+    CatanGame trackedGame = buildGame();
+    CatanGame streamedGame = buildGame();
+
+    IExpectedIncomeTracker tracker =
+        new ExpectedIncomeTracker(trackedGame.getBoard(), new CatanSplittableGenerator(0L));
+    streamedGame.addDeltaListener(delta -> {});
+
+    assertFalse(trackedGame.canHibernate());
+    assertTrue(streamedGame.canHibernate());
+
+    hibernator.touch(trackedGame);
+    hibernator.touch(streamedGame);
+    clock.set(200L);
+
+    assertEquals(1, hibernator.hibernateIdle());
+    assertFalse(trackedGame.isHibernated());
+    assertTrue(streamedGame.isHibernated());
+    assertEquals(0, hibernator.getAwakeGames());
+
+    tracker.detach();
+    hibernator.touch(trackedGame);
+    clock.set(400L);
+
+    assertEquals(1, hibernator.hibernateIdle());
+    assertTrue(trackedGame.isHibernated());
+  }
+
+  @DisplayName("It must not accept a zero awake games limit")
+  @Tag(value = "GameHibernator")
+  @Test
+  public void itMustNotAcceptAZeroAwakeGamesLimit() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new GameHibernator(new GameHibernatorBuilder().setMaxAwakeGames(0)));
+  }
+
+  @DisplayName("It must not hibernate games processing requests")
+  @Tag(value = "GameHibernator")
+  @Test
+  public void itMustNotHibernateGamesProcessingRequests()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IGameHibernator hibernator =
+        new GameHibernator(new GameHibernatorBuilder().setMaxAwakeGames(1));
+
+    CatanGame otherGame = buildGame();
+
+    IPlayer player = new Player(0, CatanGameForTest.buildResourceManager(10));
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player},
+            GameState.NORMAL,
+            false,
+            (command) -> hibernator.touch(otherGame),
+            (request) -> {});
+
+    hibernator.processRequest(game, new StartTurnRequest(player));
+
+    assertFalse(game.isHibernated());
+    assertTrue(game.isTurnStarted());
+    assertEquals(2, hibernator.getAwakeGames());
+
+    hibernator.touch(otherGame);
+
+    assertTrue(game.isHibernated());
+    assertEquals(1, hibernator.getAwakeGames());
+  }
+
+  @DisplayName("It must not hibernate games with outstanding undo tokens")
+  @Tag(value = "GameHibernator")
+  @Test
+  public void itMustNotHibernateGamesWithOutstandingUndoTokens() throws NonNullInputException {
+
+    CatanGame game = buildGame();
+
+    int token = game.apply(new StartTurnRequest(game.getActivePlayer()));
+
+    assertFalse(game.canHibernate());
+
+    game.hibernate(new DirectStateArena());
+
+    assertFalse(game.isHibernated());
+
+    game.undo(token);
+
+    assertTrue(game.canHibernate());
+  }
+
+  private static CatanGame buildGame() {
+    return CatanGameForTest.buildProductiveGame(
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())},
+        0L,
+        6);
+  }
+}
@@ -0,0 +1,118 @@
+package io.github.notaphplover.catan.core.game.journal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.board.element.IOwnedElement;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardDimensionsException;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.game.CatanGame;
+import io.github.notaphplover.catan.core.game.CatanGameForTest;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.exception.InvalidLogException;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.request.BuildConnectionRequest;
+import io.github.notaphplover.catan.core.request.BuildStructureRequest;
+import io.github.notaphplover.catan.core.request.EndTurnRequest;
+import io.github.notaphplover.catan.core.request.StartTurnRequest;
+import io.github.notaphplover.catan.core.request.UpgradeStructureRequest;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceStorage;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class GameJournalTest {
+
+  @DisplayName("It must revert every request applied")
+  @Tag(value = "GameJournal")
+  @Test
+  public void itMustRevertEveryRequestApplied()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, CatanGameForTest.buildResourceManager(10));
+    IPlayer player2 = new Player(1, CatanGameForTest.buildResourceManager(10));
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            new IPlayer[] {player1, player2},
+            GameState.NORMAL,
+            false,
+            (command) -> {},
+            (request) -> {});
+
+    int buildToken = game.apply(new StartTurnRequest(player1));
+    game.apply(new BuildStructureRequest(player1, StructureType.SETTLEMENT, 0, 2));
+
+    ElementsSnapshot snapshot = new ElementsSnapshot(game.getBoard());
+    IResourceStorage resources1 = new ResourceStorage(player1.getResourceManager());
+    IResourceStorage production =
+        new ResourceStorage(
+            game.getBoard()
+                .getProduction(CatanGameForTest.PRODUCTION_NUMBER)
+                .getProduction(player1));
+    Map<IPlayer, Integer> points = game.getPoints();
+    int logEntrySize = game.getLog(0).size();
+
+    int token = game.apply(new UpgradeStructureRequest(player1, StructureType.CITY, 0, 2));
+    game.apply(new BuildConnectionRequest(player1, ConnectionType.ROAD, 2, 1));
+    game.apply(new BuildStructureRequest(player1, StructureType.SETTLEMENT, 2, 2));
+    game.apply(new EndTurnRequest(player1));
+    game.apply(new StartTurnRequest(player2));
+
+    assertEquals(1, game.getTurnNumber());
+    assertNotEquals(points, game.getPoints());
+
+    game.undo(token);
+
+    snapshot.assertSameElements(game.getBoard());
+    assertEquals(resources1, player1.getResourceManager());
+    assertEquals(
+        production,
+        game.getBoard().getProduction(CatanGameForTest.PRODUCTION_NUMBER).getProduction(player1));
+    assertEquals(points, game.getPoints());
+    assertEquals(logEntrySize, game.getLog(0).size());
+    assertEquals(0, game.getTurnNumber());
+    assertSame(player1, game.getActivePlayer());
+
+    game.undo(buildToken);
+
+    assertFalse(game.isTurnStarted());
+    assertSame(null, game.getLog(0));
+    assertSame(null, ((IOwnedElement) game.getBoard().get(0, 2)).getOwner());
+  }
+
+  private static class ElementsSnapshot {
+
+    private IBoardElement[][] elements;
+
+    public ElementsSnapshot(ICatanBoard board) {
+      elements = new IBoardElement[board.getWidth()][board.getHeight()];
+
+      for (int x = 0; x < board.getWidth(); ++x) {
+        for (int y = 0; y < board.getHeight(); ++y) {
+          elements[x][y] = board.get(x, y);
+        }
+      }
+    }
+
+    public void assertSameElements(ICatanBoard board) {
+      for (int x = 0; x < board.getWidth(); ++x) {
+        for (int y = 0; y < board.getHeight(); ++y) {
+          assertSame(elements[x][y], board.get(x, y));
+        }
+      }
+    }
+  }
+}
@@ -58,4 +58,21 @@ public class LinearGameLogTest {
 
     assertSame(entry, log.get(turn));
   }
+
+  @DisplayName("It must truncate its entries")
+  @Tag("LinearGameLogTest")
+  @Test
+  public void itMustTruncateItsEntries() throws NonNullInputException {
+
+    Collection<ILogEntry> entries = new ArrayList<ILogEntry>();
+    entries.add(new LogEntry(3, new ArrayList<IRequest>()));
+    entries.add(new LogEntry(4, new ArrayList<IRequest>()));
+
+    LinearGameLog log = new LinearGameLog(entries);
+
+    log.truncate(1);
+
+    assertSame(1, log.size());
+    assertSame(null, log.get(1));
+  }
 }
@@ -0,0 +1,304 @@
+package io.github.notaphplover.catan.core.game.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardDimensionsException;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.game.CatanGame;
+import io.github.notaphplover.catan.core.game.CatanGameForTest;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.exception.InvalidLogException;
+import io.github.notaphplover.catan.core.game.generator.CatanSplittableGenerator;
+import io.github.notaphplover.catan.core.game.move.IMoveBuffer;
+import io.github.notaphplover.catan.core.game.move.Move;
+import io.github.notaphplover.catan.core.game.move.MoveBuffer;
+import io.github.notaphplover.catan.core.game.replication.LoopbackReplicationTransport;
+import io.github.notaphplover.catan.core.game.trade.ITrade;
+import io.github.notaphplover.catan.core.game.trade.Trade;
+import io.github.notaphplover.catan.core.game.trade.TradeDiscard;
+import io.github.notaphplover.catan.core.game.trade.order.Order;
+import io.github.notaphplover.catan.core.game.trade.order.OrderSide;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.request.trade.OrderRequest;
+import io.github.notaphplover.catan.core.request.trade.TradeDiscardRequest;
+import io.github.notaphplover.catan.core.request.trade.TradeRequest;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class GameMigrationTest {
+
+  @DisplayName("It must move a running game to the target")
+  @Tag(value = "GameMigration")
+  @Test
+  public void itMustMoveARunningGameToTheTarget() throws NonNullInputException {
+
+    IPlayer[] players =
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())};
+
+    CatanGame game = CatanGameForTest.buildProductiveGame(players, 3L, 10);
+
+    IGameRoute route = new GameRoute(game);
+    SplittableRandom random = new SplittableRandom(5L);
+
+    for (int i = 0; i < 60; ++i) {
+      playRandomMove(route, random);
+    }
+
+    List<IRequest> targetErrors = new ArrayList<IRequest>();
+    LoopbackReplicationTransport transport = new LoopbackReplicationTransport();
+
+    IGameMigration migration = new GameMigration(route, transport);
+    IMigrationTarget target =
+        new MigrationTarget(
+            new MigrationTargetBuilder()
+                .setCommandSender((command) -> {})
+                .setErrorHandler(targetErrors::add)
+                .setNumberGenerator(new CatanSplittableGenerator(7L))
+                .setRoute(route)
+                .setTransport(transport));
+
+    target.start();
+    migration.start();
+
+    transport.deliver();
+
+    assertEquals(game.getHash(), target.getGame().getHash());
+
+    for (int i = 0; i < 20; ++i) {
+      playRandomMove(route, random);
+    }
+
+    transport.deliver(5);
+
+    migration.complete();
+
+    assertTrue(route.isPaused());
+    assertSame(game, route.getGame());
+
+    long handOffHash = game.getHash();
+
+    playRandomMove(route, random);
+
+    assertEquals(handOffHash, game.getHash());
+
+    transport.deliver();
+
+    assertTrue(target.isCompleted());
+    assertFalse(target.isFailed());
+    assertFalse(route.isPaused());
+    assertSame(target.getGame(), route.getGame());
+    assertNotEquals(handOffHash, target.getGame().getHash());
+    assertEquals(0, targetErrors.size());
+  }
+
+  @DisplayName("It must resume the source game when the target misses the snapshot")
+  @Tag(value = "GameMigration")
+  @Test
+  public void itMustResumeTheSourceGameWhenTheTargetMissesTheSnapshot()
+      throws NonNullInputException {
+
+    IPlayer[] players =
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())};
+
+    CatanGame game = CatanGameForTest.buildProductiveGame(players, 3L, 10);
+
+    IGameRoute route = new GameRoute(game);
+    LoopbackReplicationTransport transport = new LoopbackReplicationTransport();
+
+    IGameMigration migration = new GameMigration(route, transport);
+    IMigrationTarget target =
+        new MigrationTarget(
+            new MigrationTargetBuilder()
+                .setCommandSender((command) -> {})
+                .setErrorHandler((request) -> {})
+                .setNumberGenerator(new CatanSplittableGenerator(7L))
+                .setRoute(route)
+                .setTransport(transport));
+
+    migration.start();
+
+    transport.setReceiver((message) -> {});
+    transport.deliver();
+
+    target.start();
+
+    migration.complete();
+
+    long handOffHash = game.getHash();
+
+    playRandomMove(route, new SplittableRandom(5L));
+
+    transport.deliver();
+
+    assertTrue(target.isFailed());
+    assertFalse(route.isPaused());
+    assertSame(game, route.getGame());
+    assertNotEquals(handOffHash, game.getHash());
+  }
+
+  @DisplayName("It must not send the commands of replayed requests")
+  @Tag(value = "GameMigration")
+  @Test
+  public void itMustNotSendTheCommandsOfReplayedRequests()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, InvalidLogException,
+          NonNullInputException, NonVoidCollectionException {
+
+    IPlayer[] players =
+        new IPlayer[] {
+          new Player(0, CatanGameForTest.buildResourceManager(5)),
+          new Player(1, CatanGameForTest.buildResourceManager(5))
+        };
+
+    AtomicInteger sourceCommands = new AtomicInteger();
+    AtomicInteger targetCommands = new AtomicInteger();
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            players,
+            GameState.NORMAL,
+            true,
+            (command) -> sourceCommands.incrementAndGet(),
+            (request) -> {});
+
+    IGameRoute route = new GameRoute(game);
+    LoopbackReplicationTransport transport = new LoopbackReplicationTransport();
+
+    IGameMigration migration = new GameMigration(route, transport);
+    IMigrationTarget target =
+        new MigrationTarget(
+            new MigrationTargetBuilder()
+                .setCommandSender((command) -> targetCommands.incrementAndGet())
+                .setErrorHandler((request) -> {})
+                .setNumberGenerator(new CatanSplittableGenerator(7L))
+                .setRoute(route)
+                .setTransport(transport));
+
+    target.start();
+    migration.start();
+
+    ITrade trade = buildTrade();
+
+    route.processRequest(new TradeRequest(players[0], trade));
+    route.processRequest(
+        new TradeDiscardRequest(players[0], new TradeDiscard(UUID.randomUUID(), trade)));
+
+    migration.complete();
+    transport.deliver();
+
+    assertTrue(target.isCompleted());
+    assertEquals(2, sourceCommands.get());
+    assertEquals(0, targetCommands.get());
+
+    route.processRequest(new TradeRequest(players[0], buildTrade()));
+
+    assertEquals(2, sourceCommands.get());
+    assertEquals(1, targetCommands.get());
+  }
+
+  @DisplayName("It must process requests of the source players in the target game")
+  @Tag(value = "GameMigration")
+  @Test
+  public void itMustProcessRequestsOfTheSourcePlayersInTheTargetGame()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, InvalidLogException,
+          NonNullInputException, NonVoidCollectionException {
+
+    IPlayer[] players =
+        new IPlayer[] {
+          new Player(0, CatanGameForTest.buildResourceManager(5)),
+          new Player(1, CatanGameForTest.buildResourceManager(5))
+        };
+
+    CatanGame game =
+        CatanGameForTest.buildGame(
+            players, GameState.NORMAL, true, (command) -> {}, (request) -> {});
+
+    List<IRequest> targetErrors = new ArrayList<IRequest>();
+    IGameRoute route = new GameRoute(game);
+    LoopbackReplicationTransport transport = new LoopbackReplicationTransport();
+
+    IGameMigration migration = new GameMigration(route, transport);
+    IMigrationTarget target =
+        new MigrationTarget(
+            new MigrationTargetBuilder()
+                .setCommandSender((command) -> {})
+                .setErrorHandler(targetErrors::add)
+                .setNumberGenerator(new CatanSplittableGenerator(7L))
+                .setRoute(route)
+                .setTransport(transport));
+
+    target.start();
+    migration.start();
+    migration.complete();
+
+    route.processRequest(
+        new OrderRequest(
+            players[1],
+            new Order(
+                UUID.randomUUID(), OrderSide.ASK, ResourceType.WOOL, ResourceType.GRAIN, 2, 1)));
+
+    transport.deliver();
+
+    route.processRequest(
+        new OrderRequest(
+            players[1],
+            new Order(
+                UUID.randomUUID(), OrderSide.ASK, ResourceType.ORE, ResourceType.GRAIN, 1, 1)));
+
+    IPlayer targetPlayer = target.getGame().getPlayers()[1];
+
+    assertTrue(target.isCompleted());
+    assertEquals(0, targetErrors.size());
+    assertEquals(5, players[1].getResourceManager().getResource(ResourceType.WOOL));
+    assertEquals(5, players[1].getResourceManager().getResource(ResourceType.ORE));
+    assertEquals(3, targetPlayer.getResourceManager().getResource(ResourceType.WOOL));
+    assertEquals(4, targetPlayer.getResourceManager().getResource(ResourceType.ORE));
+  }
+
+  private static void playRandomMove(IGameRoute route, SplittableRandom random) {
+
+    ICatanGame game = route.getGame();
+    IPlayer activePlayer = game.getActivePlayer();
+    IMoveBuffer buffer = new MoveBuffer();
+
+    game.generateMoves(activePlayer, buffer);
+
+    route.processRequest(Move.toRequest(activePlayer, buffer.get(random.nextInt(buffer.size()))));
+  }
+
+  private static ITrade buildTrade() throws NonNullInputException, NonVoidCollectionException {
+
+    Map<ResourceType, Integer> requestedResourcesMap = new TreeMap<ResourceType, Integer>();
+    requestedResourcesMap.put(ResourceType.ORE, 1);
+
+    Map<ResourceType, Integer> resourcesMap = new TreeMap<ResourceType, Integer>();
+    resourcesMap.put(ResourceType.GRAIN, 1);
+
+    Collection<IResourceStorage> acceptableExchanges = new ArrayList<IResourceStorage>();
+    acceptableExchanges.add(new ResourceStorage(resourcesMap));
+
+    return new Trade(
+        UUID.randomUUID(), acceptableExchanges, new ResourceStorage(requestedResourcesMap));
+  }
+}
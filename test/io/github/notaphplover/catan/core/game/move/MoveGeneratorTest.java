@@ -0,0 +1,229 @@
+package io.github.notaphplover.catan.core.game.move;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.board.CatanBoard;
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.board.connection.BoardConnection;
+import io.github.notaphplover.catan.core.board.connection.ConnectionType;
+import io.github.notaphplover.catan.core.board.element.IBoardElement;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardDimensionsException;
+import io.github.notaphplover.catan.core.board.exception.InvalidBoardElementException;
+import io.github.notaphplover.catan.core.board.structure.BoardStructure;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.board.terrain.BoardTerrain;
+import io.github.notaphplover.catan.core.board.terrain.TerrainType;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.game.CatanGame;
+import io.github.notaphplover.catan.core.game.CatanGameBuilder;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.exception.InvalidLogException;
+import io.github.notaphplover.catan.core.game.generator.ConstantNumberGenerator;
+import io.github.notaphplover.catan.core.game.log.ILogEntry;
+import io.github.notaphplover.catan.core.game.log.LinearGameLog;
+import io.github.notaphplover.catan.core.game.log.LogEntry;
+import io.github.notaphplover.catan.core.game.player.PlayerManager;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.request.RequestType;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import io.github.notaphplover.catan.core.resource.provider.DefaultTerrainProductionProvider;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class MoveGeneratorTest {
+
+  @DisplayName("It must not generate moves for an unactive player")
+  @Tag(value = "MoveGenerator")
+  @Test
+  public void itMustNotGenerateMovesForAnUnactivePlayer()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, new ResourceManager());
+    IPlayer player2 = new Player(1, new ResourceManager());
+
+    CatanGame game =
+        buildGame(new IPlayer[] {player1, player2}, GameState.NORMAL, true, new AtomicBoolean());
+
+    IMoveBuffer buffer = new MoveBuffer();
+
+    game.generateMoves(player2, buffer);
+
+    assertEquals(0, buffer.size());
+  }
+
+  @DisplayName("It must only generate a start turn move if the turn is not started")
+  @Tag(value = "MoveGenerator")
+  @Test
+  public void itMustOnlyGenerateAStartTurnMoveIfTheTurnIsNotStarted()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, new ResourceManager());
+
+    CatanGame game =
+        buildGame(new IPlayer[] {player1}, GameState.NORMAL, false, new AtomicBoolean());
+
+    IMoveBuffer buffer = new MoveBuffer();
+
+    game.generateMoves(player1, buffer);
+
+    assertEquals(1, buffer.size());
+    assertEquals(RequestType.START_TURN, Move.getType(buffer.get(0)));
+  }
+
+  @DisplayName("It must generate initial structure moves close to non void terrains")
+  @Tag(value = "MoveGenerator")
+  @Test
+  public void itMustGenerateInitialStructureMovesCloseToNonVoidTerrains()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, new ResourceManager());
+
+    CatanGame game =
+        buildGame(new IPlayer[] {player1}, GameState.FOUNDATION, true, new AtomicBoolean());
+
+    IMoveBuffer buffer = new MoveBuffer();
+
+    game.generateMoves(player1, buffer);
+
+    assertEquals(5, buffer.size());
+    assertTrue(contains(buffer, Move.encode(RequestType.BUILD_INITIAL_STRUCTURE, 0, 2)));
+    assertTrue(contains(buffer, Move.encode(RequestType.BUILD_INITIAL_STRUCTURE, 0, 4)));
+    assertTrue(contains(buffer, Move.encode(RequestType.BUILD_INITIAL_STRUCTURE, 2, 2)));
+    assertTrue(contains(buffer, Move.encode(RequestType.BUILD_INITIAL_STRUCTURE, 2, 4)));
+    assertTrue(contains(buffer, Move.encode(RequestType.END_TURN, 0, 0)));
+  }
+
+  @DisplayName("It must generate connected normal moves")
+  @Tag(value = "MoveGenerator")
+  @Test
+  public void itMustGenerateConnectedNormalMoves()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, buildRichResourceManager());
+
+    CatanGame game =
+        buildGame(new IPlayer[] {player1}, GameState.NORMAL, true, new AtomicBoolean());
+
+    IMoveBuffer buffer = new MoveBuffer();
+
+    game.generateMoves(player1, buffer);
+
+    assertTrue(contains(buffer, Move.encode(RequestType.BUILD_STRUCTURE, 0, 2)));
+    assertTrue(contains(buffer, Move.encode(RequestType.BUILD_STRUCTURE, 2, 2)));
+    assertFalse(contains(buffer, Move.encode(RequestType.BUILD_STRUCTURE, 0, 4)));
+    assertTrue(contains(buffer, Move.encode(RequestType.BUILD_CONNECTION, 2, 1)));
+    assertFalse(contains(buffer, Move.encode(RequestType.BUILD_CONNECTION, 3, 4)));
+    assertTrue(contains(buffer, Move.encode(RequestType.END_TURN, 0, 0)));
+  }
+
+  @DisplayName("It must generate moves accepted by the game")
+  @Tag(value = "MoveGenerator")
+  @Test
+  public void itMustGenerateMovesAcceptedByTheGame()
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    IPlayer player1 = new Player(0, buildRichResourceManager());
+
+    CatanGame game =
+        buildGame(new IPlayer[] {player1}, GameState.NORMAL, true, new AtomicBoolean());
+
+    IMoveBuffer buffer = new MoveBuffer();
+
+    game.generateMoves(player1, buffer);
+
+    for (int i = 0; i < buffer.size(); ++i) {
+      AtomicBoolean requestFailed = new AtomicBoolean(false);
+      IPlayer player = new Player(0, buildRichResourceManager());
+
+      CatanGame freshGame =
+          buildGame(new IPlayer[] {player}, GameState.NORMAL, true, requestFailed);
+
+      freshGame.processRequest(Move.toRequest(player, buffer.get(i)));
+
+      assertFalse(requestFailed.get());
+    }
+  }
+
+  private CatanGame buildGame(
+      IPlayer[] players, GameState state, boolean turnStarted, AtomicBoolean requestFailed)
+      throws InvalidBoardDimensionsException, InvalidBoardElementException, NonNullInputException,
+          NonVoidCollectionException, InvalidLogException {
+
+    Collection<ILogEntry> entries = new ArrayList<ILogEntry>();
+
+    if (turnStarted) {
+      entries.add(new LogEntry(6, new ArrayList<IRequest>()));
+    }
+
+    return new CatanGame(
+        new CatanGameBuilder()
+            .setBoard(buildBoard(players[0]))
+            .setCommandSender((command) -> {})
+            .setErrorHandler((request) -> requestFailed.set(true))
+            .setGameLog(new LinearGameLog(entries))
+            .setNumberGenerator(new ConstantNumberGenerator(6))
+            .setPlayerManager(new PlayerManager(players, 0, turnStarted))
+            .setPointsToWin(10)
+            .setState(state));
+  }
+
+  private ICatanBoard buildBoard(IPlayer player)
+      throws InvalidBoardDimensionsException, InvalidBoardElementException {
+
+    IBoardElement[][] elements = new IBoardElement[5][5];
+
+    for (int x = 0; x < 5; ++x) {
+      for (int y = 0; y < 5; ++y) {
+        if ((x + y) % 2 == 1) {
+          elements[x][y] = new BoardConnection(null, new ResourceManager(), ConnectionType.VOID);
+        } else if (x % 2 == 0) {
+          elements[x][y] = new BoardStructure(null, new ResourceManager(), StructureType.NONE);
+        } else {
+          elements[x][y] = new BoardTerrain(0, TerrainType.NONE);
+        }
+      }
+    }
+
+    elements[1][3] = new BoardTerrain(6, TerrainType.MOUNTAINS);
+    elements[1][2] = new BoardConnection(player, new ResourceManager(), ConnectionType.ROAD);
+
+    return new CatanBoard(5, 5, elements, new DefaultTerrainProductionProvider());
+  }
+
+  private ResourceManager buildRichResourceManager() {
+    Map<ResourceType, Integer> resources = new TreeMap<ResourceType, Integer>();
+
+    for (ResourceType type : ResourceType.values()) {
+      resources.put(type, 10);
+    }
+
+    return new ResourceManager(resources);
+  }
+
+  private boolean contains(IMoveBuffer buffer, int move) {
+    for (int i = 0; i < buffer.size(); ++i) {
+      if (buffer.get(i) == move) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+}
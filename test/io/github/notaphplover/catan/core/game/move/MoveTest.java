@@ -0,0 +1,46 @@
+package io.github.notaphplover.catan.core.game.move;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.request.IBuildStructureRequest;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.request.RequestType;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class MoveTest {
+
+  @DisplayName("It must decode an encoded move")
+  @Tag(value = "Move")
+  @Test
+  public void itMustDecodeAnEncodedMove() {
+
+    int move = Move.encode(RequestType.UPGRADE_STRUCTURE, 10, 4);
+
+    assertSame(RequestType.UPGRADE_STRUCTURE, Move.getType(move));
+    assertEquals(10, Move.getX(move));
+    assertEquals(4, Move.getY(move));
+  }
+
+  @DisplayName("It must build the request represented by a move")
+  @Tag(value = "Move")
+  @Test
+  public void itMustBuildTheRequestRepresentedByAMove() {
+
+    IPlayer player = new Player(0, new ResourceManager());
+
+    IRequest request = Move.toRequest(player, Move.encode(RequestType.BUILD_STRUCTURE, 2, 4));
+
+    assertSame(player, request.getPlayer());
+    assertSame(RequestType.BUILD_STRUCTURE, request.getType());
+    assertTrue(request instanceof IBuildStructureRequest);
+    assertEquals(2, ((IBuildStructureRequest) request).getX());
+    assertEquals(4, ((IBuildStructureRequest) request).getY());
+  }
+}
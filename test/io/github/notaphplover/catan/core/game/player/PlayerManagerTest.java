@@ -0,0 +1,38 @@
+package io.github.notaphplover.catan.core.game.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class PlayerManagerTest {
+
+  @DisplayName("It must assign dense indexes to its players")
+  @Tag(value = "PlayerManager")
+  @Test
+  public void itMustAssignDenseIndexesToItsPlayers()
+      throws NonNullInputException, NonVoidCollectionException {
+    IPlayer[] players =
+        new IPlayer[] {
+          new Player(5, new ResourceManager()),
+          new Player(3, new ResourceManager()),
+          new Player(9, new ResourceManager()),
+        };
+
+    PlayerManager playerManager = new PlayerManager(players, 0, false);
+
+    for (int i = 0; i < players.length; ++i) {
+      assertEquals(i, players[i].getIndex());
+      assertEquals(i, playerManager.indexOf(players[i]));
+    }
+
+    assertEquals(1, playerManager.indexOf(new Player(3, new ResourceManager())));
+    assertEquals(IPlayer.NO_INDEX, playerManager.indexOf(new Player(4, new ResourceManager())));
+  }
+}
@@ -0,0 +1,179 @@
+package io.github.notaphplover.catan.core.game.replication;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.command.ICommand;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.CatanGame;
+import io.github.notaphplover.catan.core.game.CatanGameForTest;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.ICatanGame;
+import io.github.notaphplover.catan.core.game.generator.CatanSplittableGenerator;
+import io.github.notaphplover.catan.core.game.generator.ReplicatedNumberGenerator;
+import io.github.notaphplover.catan.core.game.move.IMoveBuffer;
+import io.github.notaphplover.catan.core.game.move.Move;
+import io.github.notaphplover.catan.core.game.move.MoveBuffer;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class ReplicationStandbyTest {
+
+  @DisplayName("It must follow the primary and take over its game")
+  @Tag(value = "ReplicationStandby")
+  @Test
+  public void itMustFollowThePrimaryAndTakeOverItsGame() throws NonNullInputException {
+
+    IPlayer[] players =
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())};
+
+    CatanGame game = CatanGameForTest.buildProductiveGame(players, 3L, 10);
+
+    ReplicatedNumberGenerator numberGenerator =
+        new ReplicatedNumberGenerator(new CatanSplittableGenerator(11L));
+
+    ICatanGame replica = game.fork((command) -> {}, (request) -> {}, numberGenerator);
+
+    LoopbackReplicationTransport transport = new LoopbackReplicationTransport();
+
+    IReplicationPrimary primary = new ReplicationPrimary(game, transport);
+    IReplicationStandby standby = new ReplicationStandby(replica, numberGenerator, transport);
+
+    primary.start();
+    standby.start();
+
+    SplittableRandom random = new SplittableRandom(5L);
+
+    for (int i = 0; i < 400 && game.getState() != GameState.ENDED; ++i) {
+      playRandomMove(game, random);
+
+      if (i % 7 == 0) {
+        transport.deliver();
+
+        assertEquals(primary.getShippedSequence(), standby.getAppliedSequence());
+        assertEquals(game.getHash(), replica.getHash());
+      }
+    }
+
+    assertTrue(primary.getShippedSequence() > 0L);
+
+    transport.deliver();
+
+    assertFalse(standby.isDiverged());
+    assertEquals(primary.getShippedSequence(), standby.getAppliedSequence());
+    assertEquals(game.getHash(), replica.getHash());
+    assertEquals(game.getTurnNumber(), replica.getTurnNumber());
+
+    ICatanGame promoted = standby.promote();
+
+    for (int i = 0; i < 20 && promoted.getState() != GameState.ENDED; ++i) {
+      playRandomMove(promoted, random);
+    }
+
+    assertEquals(0, numberGenerator.getPendingProductionNumbers());
+  }
+
+  @DisplayName("It must replay records without notifying the replica players")
+  @Tag(value = "ReplicationStandby")
+  @Test
+  public void itMustReplayRecordsWithoutNotifyingTheReplicaPlayers() throws NonNullInputException {
+
+    IPlayer[] players =
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())};
+
+    CatanGame game = CatanGameForTest.buildProductiveGame(players, 3L, 10);
+
+    ReplicatedNumberGenerator numberGenerator =
+        new ReplicatedNumberGenerator(new CatanSplittableGenerator(11L));
+
+    List<ICommand> commands = new ArrayList<ICommand>();
+    List<IRequest> errors = new ArrayList<IRequest>();
+
+    ICatanGame replica = game.fork(commands::add, errors::add, numberGenerator);
+
+    LoopbackReplicationTransport transport = new LoopbackReplicationTransport();
+
+    IReplicationPrimary primary = new ReplicationPrimary(game, transport);
+    IReplicationStandby standby = new ReplicationStandby(replica, numberGenerator, transport);
+
+    primary.start();
+    standby.start();
+
+    SplittableRandom random = new SplittableRandom(5L);
+
+    for (int i = 0; i < 40 && game.getState() != GameState.ENDED; ++i) {
+      playRandomMove(game, random);
+    }
+
+    transport.deliver();
+
+    assertFalse(standby.isDiverged());
+    assertEquals(game.getHash(), replica.getHash());
+    assertTrue(commands.isEmpty());
+    assertTrue(errors.isEmpty());
+
+    for (IPlayer player : replica.getPlayers()) {
+      assertTrue(player.getMissing().isEmpty());
+    }
+
+    assertTrue(replica.canHibernate());
+  }
+
+  @DisplayName("It must diverge when a record is missed")
+  @Tag(value = "ReplicationStandby")
+  @Test
+  public void itMustDivergeWhenARecordIsMissed() throws NonNullInputException {
+
+    IPlayer[] players =
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())};
+
+    CatanGame game = CatanGameForTest.buildProductiveGame(players, 3L, 10);
+
+    ReplicatedNumberGenerator numberGenerator =
+        new ReplicatedNumberGenerator(new CatanSplittableGenerator(11L));
+
+    ICatanGame replica = game.fork((command) -> {}, (request) -> {}, numberGenerator);
+
+    LoopbackReplicationTransport transport = new LoopbackReplicationTransport();
+
+    IReplicationPrimary primary = new ReplicationPrimary(game, transport);
+    IReplicationStandby standby = new ReplicationStandby(replica, numberGenerator, transport);
+
+    primary.start();
+
+    SplittableRandom random = new SplittableRandom(5L);
+
+    playRandomMove(game, random);
+
+    transport.setReceiver((record) -> {});
+    transport.deliver();
+
+    standby.start();
+
+    playRandomMove(game, random);
+
+    transport.deliver();
+
+    assertTrue(standby.isDiverged());
+    assertEquals(0L, standby.getAppliedSequence());
+  }
+
+  private static void playRandomMove(ICatanGame game, SplittableRandom random) {
+
+    IPlayer activePlayer = game.getActivePlayer();
+    IMoveBuffer buffer = new MoveBuffer();
+
+    game.generateMoves(activePlayer, buffer);
+
+    game.processRequest(Move.toRequest(activePlayer, buffer.get(random.nextInt(buffer.size()))));
+  }
+}
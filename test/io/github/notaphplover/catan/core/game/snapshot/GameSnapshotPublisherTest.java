@@ -0,0 +1,133 @@
+package io.github.notaphplover.catan.core.game.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.board.ICatanBoard;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.CatanGame;
+import io.github.notaphplover.catan.core.game.CatanGameForTest;
+import io.github.notaphplover.catan.core.game.GameState;
+import io.github.notaphplover.catan.core.game.move.IMoveBuffer;
+import io.github.notaphplover.catan.core.game.move.Move;
+import io.github.notaphplover.catan.core.game.move.MoveBuffer;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class GameSnapshotPublisherTest {
+
+  @DisplayName("It must publish snapshots matching the game")
+  @Tag(value = "GameSnapshotPublisher")
+  @Test
+  public void itMustPublishSnapshotsMatchingTheGame() throws NonNullInputException {
+
+    IPlayer[] players =
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())};
+
+    CatanGame game = CatanGameForTest.buildProductiveGame(players, 3L, 6);
+
+    IGameSnapshotPublisher publisher = new GameSnapshotPublisher(game);
+    publisher.start();
+
+    SplittableRandom random = new SplittableRandom(7L);
+    IMoveBuffer buffer = new MoveBuffer();
+
+    for (int i = 0; i < 300 && game.getState() != GameState.ENDED; ++i) {
+      IPlayer activePlayer = game.getActivePlayer();
+
+      buffer.clear();
+      game.generateMoves(activePlayer, buffer);
+
+      IGameSnapshot previous = publisher.getSnapshot();
+
+      game.processRequest(Move.toRequest(activePlayer, buffer.get(random.nextInt(buffer.size()))));
+
+      IGameSnapshot snapshot = publisher.getSnapshot();
+
+      assertTrue(snapshot.getVersion() - previous.getVersion() <= 1);
+      assertSnapshot(game, snapshot);
+    }
+
+    publisher.stop();
+  }
+
+  @DisplayName("It must share the columns of the board left untouched")
+  @Tag(value = "GameSnapshotPublisher")
+  @Test
+  public void itMustShareTheColumnsOfTheBoardLeftUntouched() throws NonNullInputException {
+
+    IPlayer[] players =
+        new IPlayer[] {new Player(0, new ResourceManager()), new Player(1, new ResourceManager())};
+
+    CatanGame game = CatanGameForTest.buildProductiveGame(players, 3L, 6);
+
+    IGameSnapshotPublisher publisher = new GameSnapshotPublisher(game);
+    publisher.start();
+
+    IPlayer activePlayer = game.getActivePlayer();
+    IMoveBuffer buffer = new MoveBuffer();
+
+    game.generateMoves(activePlayer, buffer);
+
+    int move = buffer.get(0);
+
+    BoardSnapshot previousBoard = (BoardSnapshot) publisher.getSnapshot().getBoard();
+
+    game.processRequest(Move.toRequest(activePlayer, move));
+
+    BoardSnapshot board = (BoardSnapshot) publisher.getSnapshot().getBoard();
+
+    for (int x = 0; x < board.getWidth(); ++x) {
+      if (x != Move.getX(move)) {
+        assertTrue(board.isColumnShared(previousBoard, x));
+      }
+    }
+
+    assertSame(
+        game.getBoard().get(Move.getX(move), Move.getY(move)),
+        board.get(Move.getX(move), Move.getY(move)));
+    assertEquals(
+        game.getPoints().get(activePlayer),
+        publisher.getSnapshot().getPlayer(activePlayer.getIndex()).getPoints());
+    assertEquals(1L, publisher.getSnapshot().getVersion());
+  }
+
+  private static void assertSnapshot(CatanGame game, IGameSnapshot snapshot) {
+
+    ICatanBoard board = game.getBoard();
+
+    for (int x = 0; x < board.getWidth(); ++x) {
+      for (int y = 0; y < board.getHeight(); ++y) {
+        assertSame(board.get(x, y), snapshot.getBoard().get(x, y));
+      }
+    }
+
+    Map<IPlayer, Integer> points = game.getPoints();
+    IPlayer[] players = game.getPlayers();
+
+    for (int i = 0; i < players.length; ++i) {
+      IPlayerSnapshot player = snapshot.getPlayer(i);
+
+      assertEquals(players[i].getId(), player.getId());
+      assertEquals(points.get(players[i]), player.getPoints());
+
+      for (ResourceType type : ResourceType.values()) {
+        assertEquals(players[i].getResourceManager().getResource(type), player.getResource(type));
+      }
+    }
+
+    assertEquals(game.getActivePlayer().getId(), snapshot.getActivePlayer().getId());
+    assertEquals(game.getHash(), snapshot.getHash());
+    assertEquals(game.getState(), snapshot.getState());
+    assertEquals(game.getTurnNumber(), snapshot.getTurnNumber());
+    assertEquals(game.isTurnStarted(), snapshot.isTurnStarted());
+  }
+}
@@ -0,0 +1,161 @@
+package io.github.notaphplover.catan.core.game.trade;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.game.exception.AgreementAlreadyProposedException;
+import io.github.notaphplover.catan.core.game.exception.NoCurrentTradeException;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.resource.IResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceStorage;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class TradeAgreementCollectorTest {
+
+  @DisplayName("It must collect agreements offered concurrently")
+  @Tag(value = "TradeAgreementCollector")
+  @Test
+  public void itMustCollectAgreementsOfferedConcurrently() throws Exception {
+
+    IPlayer[] players = buildPlayers(8);
+    TradeManager manager = startTrade(players);
+    ITrade trade = manager.getTrade();
+    ITradeAgreementCollector collector = manager.getAgreementCollector();
+
+    ExecutorService executor = Executors.newFixedThreadPool(players.length - 1);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> offers = new ArrayList<Future<?>>();
+
+    try {
+      for (int i = 1; i < players.length; ++i) {
+        IPlayer seller = players[i];
+
+        for (IResourceStorage exchange : trade.getAcceptableExchanges()) {
+          offers.add(
+              executor.submit(
+                  () -> {
+                    start.await();
+                    collector.offer(seller, new TradeAgreement(UUID.randomUUID(), exchange, trade));
+                    return null;
+                  }));
+        }
+      }
+
+      start.countDown();
+
+      for (Future<?> offer : offers) {
+        offer.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(0, manager.getAgreements().size());
+
+    List<IPlayer> sellers = new ArrayList<IPlayer>();
+    List<ITradeAgreement> agreements = new ArrayList<ITradeAgreement>();
+
+    collector.drainTo(
+        (seller, agreement) -> {
+          sellers.add(seller);
+          agreements.add(agreement);
+        });
+
+    for (int i = 0; i < agreements.size(); ++i) {
+      manager.addAgreement(sellers.get(i), agreements.get(i));
+    }
+
+    assertEquals(offers.size(), manager.getAgreements().size());
+
+    for (ITradeAgreement agreement : manager.getAgreements()) {
+      assertNotNull(manager.getSeller(agreement));
+    }
+  }
+
+  @DisplayName("It must reject repeated and late offers")
+  @Tag(value = "TradeAgreementCollector")
+  @Test
+  public void itMustRejectRepeatedAndLateOffers() throws Exception {
+
+    IPlayer[] players = buildPlayers(2);
+    TradeManager manager = startTrade(players);
+    ITrade trade = manager.getTrade();
+    ITradeAgreementCollector collector = manager.getAgreementCollector();
+    IResourceStorage exchange = trade.getAcceptableExchanges().iterator().next();
+
+    collector.offer(players[1], new TradeAgreement(UUID.randomUUID(), exchange, trade));
+
+    assertThrows(
+        AgreementAlreadyProposedException.class,
+        () ->
+            manager.addAgreement(
+                players[1], new TradeAgreement(UUID.randomUUID(), exchange, trade)));
+
+    manager.discard(new TradeDiscard(UUID.randomUUID(), trade));
+
+    assertNull(manager.getAgreementCollector());
+    assertThrows(
+        NoCurrentTradeException.class,
+        () -> collector.offer(players[1], new TradeAgreement(UUID.randomUUID(), exchange, trade)));
+  }
+
+  private IPlayer[] buildPlayers(int count) {
+    Map<ResourceType, Integer> resourcesMap = new TreeMap<ResourceType, Integer>();
+    resourcesMap.put(ResourceType.GRAIN, 2);
+    resourcesMap.put(ResourceType.ORE, 2);
+    resourcesMap.put(ResourceType.WOOL, 2);
+
+    IPlayer[] players = new IPlayer[count];
+
+    for (int i = 0; i < count; ++i) {
+      players[i] = new Player(i, new ResourceManager(resourcesMap));
+      players[i].setIndex(i);
+    }
+
+    return players;
+  }
+
+  private TradeManager startTrade(IPlayer[] players)
+      throws NonNullInputException, NonVoidCollectionException, NotEnoughtResourcesException {
+
+    Map<ResourceType, Integer> requestedResourcesMap = new TreeMap<ResourceType, Integer>();
+    requestedResourcesMap.put(ResourceType.ORE, 1);
+
+    Collection<IResourceStorage> acceptableExchanges = new ArrayList<IResourceStorage>();
+
+    for (ResourceType type : new ResourceType[] {ResourceType.GRAIN, ResourceType.WOOL}) {
+      Map<ResourceType, Integer> exchangeMap = new TreeMap<ResourceType, Integer>();
+      exchangeMap.put(type, 1);
+      acceptableExchanges.add(new ResourceStorage(exchangeMap));
+    }
+
+    TradeManager manager = new TradeManager();
+    manager.start(
+        players[0],
+        new Trade(
+            UUID.randomUUID(), acceptableExchanges, new ResourceStorage(requestedResourcesMap)),
+        players);
+
+    return manager;
+  }
+}
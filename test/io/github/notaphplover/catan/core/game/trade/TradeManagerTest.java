@@ -1,6 +1,7 @@
 package io.github.notaphplover.catan.core.game.trade;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -22,6 +23,7 @@ import io.github.notaphplover.catan.core.resource.ResourceType;
 import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.UUID;
@@ -414,6 +416,120 @@ public class TradeManagerTest {
     assertThrows(NotEnoughtResourcesException.class, () -> manager.start(player, trade));
   }
 
+  @DisplayName("It keeps the sellers able to pay the requested resources")
+  @Tag("TradeManager")
+  @Test
+  public void itKeepsTheSellersAbleToPayTheRequestedResources()
+      throws NonNullInputException, NonVoidCollectionException, NotEnoughtResourcesException {
+
+    Map<ResourceType, Integer> resourcesMap = new TreeMap<ResourceType, Integer>();
+    resourcesMap.put(ResourceType.GRAIN, 2);
+
+    Map<ResourceType, Integer> requestedResourcesMap = new TreeMap<ResourceType, Integer>();
+    requestedResourcesMap.put(ResourceType.ORE, 2);
+
+    IResourceStorage requestedResources = new ResourceStorage(requestedResourcesMap);
+
+    Collection<IResourceStorage> acceptableExchanges = new ArrayList<IResourceStorage>();
+    acceptableExchanges.add(new ResourceStorage(resourcesMap));
+
+    Trade trade = new Trade(UUID.randomUUID(), acceptableExchanges, requestedResources);
+    IPlayer buyer = new Player(0, new ResourceManager(resourcesMap));
+    IPlayer seller = new Player(1, new ResourceManager(requestedResources));
+    IPlayer poorPlayer = new Player(2, new ResourceManager());
+
+    TradeManager manager = new TradeManager();
+
+    manager.start(buyer, trade, new IPlayer[] {buyer, seller, poorPlayer});
+
+    assertFalse(manager.isEligibleSeller(buyer));
+    assertTrue(manager.isEligibleSeller(seller));
+    assertFalse(manager.isEligibleSeller(poorPlayer));
+
+    poorPlayer.getResourceManager().add(requestedResources);
+
+    assertThrows(
+        NotEnoughtResourcesException.class,
+        () ->
+            manager.addAgreement(
+                poorPlayer,
+                new TradeAgreement(
+                    UUID.randomUUID(), acceptableExchanges.iterator().next(), trade)));
+  }
+
+  @DisplayName("It numbers agreements through the whole game")
+  @Tag("TradeManager")
+  @Test
+  public void itNumbersAgreementsThroughTheWholeGame()
+      throws NonNullInputException, NonVoidCollectionException, NotEnoughtResourcesException,
+          NotAnAcceptableExchangeException, InvalidReferenceException, NoCurrentTradeException,
+          AgreementAlreadyProposedException {
+
+    TradeManager manager = createStandardTradeManager();
+
+    ITrade trade = manager.getTrade();
+    IPlayer buyer = manager.getBuyer();
+    IResourceStorage exchange = trade.getAcceptableExchanges().iterator().next();
+    IPlayer player = new Player(1, new ResourceManager(trade.getRequestedResources()));
+
+    ITradeAgreement firstAgreement = new TradeAgreement(UUID.randomUUID(), exchange, trade);
+    manager.addAgreement(player, firstAgreement);
+
+    assertEquals(0L, manager.getAgreementNumber(firstAgreement));
+
+    manager.discard(new TradeDiscard(UUID.randomUUID(), trade));
+    manager.start(buyer, trade);
+
+    ITradeAgreement secondAgreement = new TradeAgreement(UUID.randomUUID(), exchange, trade);
+    manager.addAgreement(player, secondAgreement);
+
+    assertEquals(TradeBook.NO_AGREEMENT, manager.getAgreementNumber(firstAgreement));
+    assertEquals(1L, manager.getAgreementNumber(secondAgreement));
+    assertEquals(2L, manager.getNextAgreementNumber());
+    assertSame(player, manager.getSeller(secondAgreement));
+  }
+
+  @DisplayName("It replaces agreements proposed again with a different exchange")
+  @Tag("TradeManager")
+  @Test
+  public void itReplacesAgreementsProposedAgainWithADifferentExchange()
+      throws NonNullInputException, NonVoidCollectionException, NotEnoughtResourcesException,
+          NotAnAcceptableExchangeException, InvalidReferenceException, NoCurrentTradeException,
+          AgreementAlreadyProposedException {
+
+    IResourceStorage firstExchange = new ResourceStorage(Map.of(ResourceType.GRAIN, 2));
+    IResourceStorage secondExchange = new ResourceStorage(Map.of(ResourceType.WOOL, 2));
+    IResourceStorage requestedResources = new ResourceStorage(Map.of(ResourceType.ORE, 2));
+
+    Trade trade =
+        new Trade(UUID.randomUUID(), List.of(firstExchange, secondExchange), requestedResources);
+    TradeManager manager = new TradeManager();
+
+    manager.start(
+        new Player(0, new ResourceManager(Map.of(ResourceType.GRAIN, 2, ResourceType.WOOL, 2))),
+        trade);
+
+    IPlayer player = new Player(1, new ResourceManager(requestedResources));
+    UUID agreementId = UUID.randomUUID();
+
+    manager.addAgreement(player, new TradeAgreement(agreementId, firstExchange, trade));
+
+    ITradeAgreement agreement = new TradeAgreement(agreementId, secondExchange, trade);
+    manager.addAgreement(player, agreement);
+
+    assertEquals(0L, manager.getAgreementNumber(agreement));
+    assertThrows(
+        AgreementAlreadyProposedException.class,
+        () ->
+            manager.addAgreement(
+                player, new TradeAgreement(UUID.randomUUID(), secondExchange, trade)));
+
+    ITradeAgreement otherAgreement = new TradeAgreement(UUID.randomUUID(), firstExchange, trade);
+    manager.addAgreement(player, otherAgreement);
+
+    assertEquals(1L, manager.getAgreementNumber(otherAgreement));
+  }
+
   @DisplayName("It starts a trade if no pending trades are found")
   @Tag("TradeManager")
   @Test
@@ -0,0 +1,121 @@
+package io.github.notaphplover.catan.core.game.trade.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.game.exception.InvalidOrderException;
+import io.github.notaphplover.catan.core.game.exception.InvalidReferenceException;
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import io.github.notaphplover.catan.core.resource.exception.NotEnoughtResourcesException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class OrderBookTest {
+
+  @DisplayName("It must fill orders with price-time priority")
+  @Tag(value = "OrderBook")
+  @Test
+  public void itMustFillOrdersWithPriceTimePriority()
+      throws NonNullInputException, InvalidOrderException, NotEnoughtResourcesException {
+
+    IPlayer firstSeller = buildPlayer(0);
+    IPlayer secondSeller = buildPlayer(1);
+    IPlayer cheapSeller = buildPlayer(2);
+    IPlayer buyer = buildPlayer(3);
+
+    OrderBook book = new OrderBook();
+
+    IOrder firstAsk = buildOrder(OrderSide.ASK, 2, 2);
+    IOrder secondAsk = buildOrder(OrderSide.ASK, 2, 2);
+    IOrder cheapAsk = buildOrder(OrderSide.ASK, 1, 1);
+
+    book.post(firstSeller, firstAsk);
+    book.post(secondSeller, secondAsk);
+    book.post(cheapSeller, cheapAsk);
+
+    List<IOrderFill> fills = book.post(buyer, buildOrder(OrderSide.BID, 3, 2));
+
+    assertEquals(2, fills.size());
+    assertSame(cheapAsk, fills.get(0).getAsk());
+    assertEquals(1, fills.get(0).getPrice());
+    assertSame(firstAsk, fills.get(1).getAsk());
+    assertEquals(2, fills.get(1).getQuantity());
+
+    assertEquals(13, buyer.getResourceManager().getResource(ResourceType.WOOL));
+    assertEquals(5, buyer.getResourceManager().getResource(ResourceType.GRAIN));
+    assertEquals(11, cheapSeller.getResourceManager().getResource(ResourceType.GRAIN));
+    assertEquals(14, firstSeller.getResourceManager().getResource(ResourceType.GRAIN));
+    assertEquals(0, book.getOpenQuantity(firstAsk));
+    assertEquals(2, book.getOpenQuantity(secondAsk));
+  }
+
+  @DisplayName("It must give the escrow back when an order is cancelled")
+  @Tag(value = "OrderBook")
+  @Test
+  public void itMustGiveTheEscrowBackWhenAnOrderIsCancelled()
+      throws NonNullInputException, InvalidOrderException, NotEnoughtResourcesException,
+          InvalidReferenceException {
+
+    IPlayer buyer = buildPlayer(0);
+    IPlayer seller = buildPlayer(1);
+
+    OrderBook book = new OrderBook();
+
+    IOrder bid = buildOrder(OrderSide.BID, 2, 3);
+
+    book.post(buyer, bid);
+
+    assertEquals(4, buyer.getResourceManager().getResource(ResourceType.GRAIN));
+    assertThrows(InvalidReferenceException.class, () -> book.cancel(seller, bid));
+
+    book.cancel(buyer, bid);
+
+    assertEquals(10, buyer.getResourceManager().getResource(ResourceType.GRAIN));
+    assertEquals(0, book.post(seller, buildOrder(OrderSide.ASK, 2, 1)).size());
+  }
+
+  @DisplayName("It must not post orders the player cannot pay")
+  @Tag(value = "OrderBook")
+  @Test
+  public void itMustNotPostOrdersThePlayerCannotPay() {
+
+    IPlayer buyer = buildPlayer(0);
+
+    OrderBook book = new OrderBook();
+
+    assertThrows(
+        NotEnoughtResourcesException.class,
+        () -> book.post(buyer, buildOrder(OrderSide.BID, 6, 2)));
+    assertThrows(
+        InvalidOrderException.class,
+        () ->
+            book.post(
+                buyer,
+                new Order(
+                    UUID.randomUUID(), OrderSide.BID, ResourceType.WOOL, ResourceType.WOOL, 1, 1)));
+    assertEquals(10, buyer.getResourceManager().getResource(ResourceType.GRAIN));
+  }
+
+  private IOrder buildOrder(OrderSide side, int quantity, int price) {
+    return new Order(
+        UUID.randomUUID(), side, ResourceType.WOOL, ResourceType.GRAIN, quantity, price);
+  }
+
+  private IPlayer buildPlayer(int id) {
+    Map<ResourceType, Integer> resources = new TreeMap<ResourceType, Integer>();
+    resources.put(ResourceType.GRAIN, 10);
+    resources.put(ResourceType.WOOL, 10);
+
+    return new Player(id, new ResourceManager(resources));
+  }
+}
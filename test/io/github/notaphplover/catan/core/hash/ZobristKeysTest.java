@@ -0,0 +1,58 @@
+package io.github.notaphplover.catan.core.hash;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import io.github.notaphplover.catan.core.board.structure.BoardStructure;
+import io.github.notaphplover.catan.core.board.structure.StructureType;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import io.github.notaphplover.catan.core.resource.ResourceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class ZobristKeysTest {
+
+  @DisplayName("It must distinguish cells by position, owner and type")
+  @Tag(value = "ZobristKeys")
+  @Test
+  public void itMustDistinguishCellsByPositionOwnerAndType() {
+
+    BoardStructure settlement =
+        new BoardStructure(
+            new Player(0, new ResourceManager()), new ResourceManager(), StructureType.SETTLEMENT);
+
+    long key = ZobristKeys.cell(0, 2, settlement);
+
+    assertEquals(key, ZobristKeys.cell(0, 2, settlement));
+    assertNotEquals(key, ZobristKeys.cell(2, 0, settlement));
+    assertNotEquals(
+        key,
+        ZobristKeys.cell(
+            0,
+            2,
+            new BoardStructure(
+                new Player(1, new ResourceManager()),
+                new ResourceManager(),
+                StructureType.SETTLEMENT)));
+    assertNotEquals(
+        key,
+        ZobristKeys.cell(
+            0,
+            2,
+            new BoardStructure(
+                new Player(0, new ResourceManager()), new ResourceManager(), StructureType.CITY)));
+  }
+
+  @DisplayName("It must distinguish resources by type and quantity")
+  @Tag(value = "ZobristKeys")
+  @Test
+  public void itMustDistinguishResourcesByTypeAndQuantity() {
+
+    long key = ZobristKeys.resource(ResourceType.ORE, 1);
+
+    assertNotEquals(key, ZobristKeys.resource(ResourceType.ORE, 2));
+    assertNotEquals(key, ZobristKeys.resource(ResourceType.WOOL, 1));
+  }
+}
@@ -0,0 +1,44 @@
+package io.github.notaphplover.catan.core.player;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class PlayerSlotsTest {
+
+  @DisplayName("It must claim the slot of the player index")
+  @Tag(value = "PlayerSlots")
+  @Test
+  public void itMustClaimTheSlotOfThePlayerIndex() {
+    IPlayer player = new Player(7, new ResourceManager());
+    player.setIndex(2);
+
+    PlayerSlots slots = new PlayerSlots();
+
+    assertEquals(2, slots.claim(player));
+    assertEquals(2, slots.claim(player));
+    assertSame(player, slots.get(2));
+    assertEquals(3, slots.size());
+  }
+
+  @DisplayName("It must find players whose index does not match their slot")
+  @Tag(value = "PlayerSlots")
+  @Test
+  public void itMustFindPlayersWhoseIndexDoesNotMatchTheirSlot() {
+    IPlayer first = new Player(0, new ResourceManager());
+    IPlayer second = new Player(1, new ResourceManager());
+    first.setIndex(1);
+    second.setIndex(1);
+
+    PlayerSlots slots = new PlayerSlots();
+    slots.claim(first);
+
+    assertEquals(2, slots.claim(second));
+    assertEquals(2, slots.indexOf(new Player(1, new ResourceManager())));
+    assertEquals(IPlayer.NO_INDEX, slots.indexOf(new Player(2, new ResourceManager())));
+  }
+}
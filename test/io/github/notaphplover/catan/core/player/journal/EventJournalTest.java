@@ -0,0 +1,202 @@
+package io.github.notaphplover.catan.core.player.journal;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.player.IPlayer;
+import io.github.notaphplover.catan.core.player.Player;
+import io.github.notaphplover.catan.core.player.exception.EventJournalOverflowException;
+import io.github.notaphplover.catan.core.request.IRequest;
+import io.github.notaphplover.catan.core.request.MinimunRequest;
+import io.github.notaphplover.catan.core.request.RequestType;
+import io.github.notaphplover.catan.core.resource.ResourceManager;
+import java.util.Collection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class EventJournalTest {
+
+  @DisplayName("It must provide the unread requests of every reader")
+  @Tag(value = "EventJournal")
+  @Test
+  public void itMustProvideTheUnreadRequestsOfEveryReader() {
+
+    IEventJournal journal = new EventJournal(2, OverflowPolicy.GROW);
+
+    int firstReader = journal.register();
+    int secondReader = journal.register();
+
+    Collection<IRequest> firstView = journal.view(firstReader);
+    IRequest[] requests = buildRequests(5);
+
+    for (IRequest request : requests) {
+      journal.append(request);
+    }
+
+    journal.consume(secondReader);
+    journal.append(requests[0]);
+
+    assertArrayEquals(
+        new IRequest[] {
+          requests[0], requests[1], requests[2], requests[3], requests[4], requests[0]
+        },
+        firstView.toArray());
+    assertEquals(1, journal.size(secondReader));
+    assertTrue(journal.getCapacity() >= 6);
+
+    journal.consume(firstReader);
+
+    assertTrue(firstView.isEmpty());
+  }
+
+  @DisplayName("It must drop the oldest requests of the slowest readers")
+  @Tag(value = "EventJournal")
+  @Test
+  public void itMustDropTheOldestRequestsOfTheSlowestReaders() {
+
+    IEventJournal journal = new EventJournal(2, OverflowPolicy.DROP_OLDEST);
+
+    int slowReader = journal.register();
+    int fastReader = journal.register();
+
+    IRequest[] requests = buildRequests(3);
+
+    journal.append(requests[0]);
+    journal.append(requests[1]);
+    journal.consume(fastReader);
+    journal.append(requests[2]);
+
+    assertEquals(2, journal.getCapacity());
+    assertArrayEquals(
+        new IRequest[] {requests[1], requests[2]}, journal.view(slowReader).toArray());
+    assertArrayEquals(new IRequest[] {requests[2]}, journal.view(fastReader).toArray());
+  }
+
+  @DisplayName("It must reject appends once full if the overflow policy is throw")
+  @Tag(value = "EventJournal")
+  @Test
+  public void itMustRejectAppendsOnceFullIfTheOverflowPolicyIsThrow() {
+
+    IEventJournal journal = new EventJournal(2, OverflowPolicy.THROW);
+
+    int reader = journal.register();
+
+    IRequest[] requests = buildRequests(3);
+
+    journal.append(requests[0]);
+    journal.append(requests[1]);
+
+    assertThrows(EventJournalOverflowException.class, () -> journal.append(requests[2]));
+
+    journal.consume(reader);
+    journal.append(requests[2]);
+
+    assertEquals(1, journal.size(reader));
+  }
+
+  @DisplayName("It must drop the oldest requests by default")
+  @Tag(value = "EventJournal")
+  @Test
+  public void itMustDropTheOldestRequestsByDefault() {
+
+    IEventJournal journal = new EventJournal();
+    int reader = journal.register();
+    int capacity = journal.getCapacity();
+
+    IRequest[] requests = buildRequests(capacity + 1);
+
+    for (IRequest request : requests) {
+      journal.append(request);
+    }
+
+    assertEquals(OverflowPolicy.DROP_OLDEST, journal.getOverflowPolicy());
+    assertEquals(capacity, journal.getCapacity());
+    assertEquals(capacity, journal.size(reader));
+    assertSame(requests[1], journal.view(reader).iterator().next());
+  }
+
+  @DisplayName("It must not keep requests for players without journal")
+  @Tag(value = "EventJournal")
+  @Test
+  public void itMustNotKeepRequestsForPlayersWithoutJournal() {
+
+    IPlayer player = new Player(0, new ResourceManager());
+
+    player.emptyMissing();
+
+    assertTrue(player.getMissing().isEmpty());
+  }
+
+  @DisplayName("It must share the missing requests of the players attached")
+  @Tag(value = "EventJournal")
+  @Test
+  public void itMustShareTheMissingRequestsOfThePlayersAttached() {
+
+    IEventJournal journal = new EventJournal();
+
+    IPlayer firstPlayer = new Player(0, new ResourceManager());
+    IPlayer secondPlayer = new Player(1, new ResourceManager());
+
+    firstPlayer.attach(journal);
+    secondPlayer.attach(journal);
+
+    IRequest request = buildRequests(1)[0];
+
+    journal.append(request);
+    firstPlayer.emptyMissing();
+
+    assertTrue(firstPlayer.getMissing().isEmpty());
+    assertArrayEquals(new IRequest[] {request}, secondPlayer.getMissing().toArray());
+  }
+
+  @DisplayName("It must release the requests of the players attached elsewhere")
+  @Tag(value = "EventJournal")
+  @Test
+  public void itMustReleaseTheRequestsOfThePlayersAttachedElsewhere() {
+
+    IEventJournal journal = new EventJournal(2, OverflowPolicy.THROW);
+
+    IPlayer firstPlayer = new Player(0, new ResourceManager());
+    IPlayer secondPlayer = new Player(1, new ResourceManager());
+
+    firstPlayer.attach(journal);
+    secondPlayer.attach(journal);
+
+    IRequest[] requests = buildRequests(4);
+
+    journal.append(requests[0]);
+    journal.append(requests[1]);
+
+    firstPlayer.emptyMissing();
+    secondPlayer.attach(new EventJournal());
+
+    journal.append(requests[2]);
+    journal.append(requests[3]);
+
+    assertArrayEquals(
+        new IRequest[] {requests[2], requests[3]}, firstPlayer.getMissing().toArray());
+    assertTrue(secondPlayer.getMissing().isEmpty());
+
+    firstPlayer.attach(new EventJournal());
+    journal.append(requests[0]);
+
+    assertEquals(0, journal.register());
+    assertEquals(0, journal.size(0));
+  }
+
+  private IRequest[] buildRequests(int size) {
+
+    IPlayer player = new Player(0, new ResourceManager());
+    IRequest[] requests = new IRequest[size];
+
+    for (int i = 0; i < size; ++i) {
+      requests[i] = new MinimunRequest(player, RequestType.END_TURN);
+    }
+
+    return requests;
+  }
+}
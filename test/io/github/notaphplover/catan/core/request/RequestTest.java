@@ -1,5 +1,6 @@
 package io.github.notaphplover.catan.core.request;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 import io.github.notaphplover.catan.core.player.IPlayer;
@@ -32,4 +33,22 @@ public class RequestTest {
 
     assertSame(requestType, request.getType());
   }
+
+  @DisplayName("It must copy itself for another player")
+  @Tag(value = "Request")
+  @Test
+  public void itMustCopyItselfForAnotherPlayer() {
+    IPlayer player = new Player(0, new ResourceManager());
+    IPlayer otherPlayer = new Player(0, new ResourceManager());
+
+    MinimunRequest request = new MinimunRequest(player, RequestType.BUILD_CONNECTION);
+
+    IRequest copy = request.withPlayer(otherPlayer);
+
+    assertNotSame(request, copy);
+    assertSame(otherPlayer, copy.getPlayer());
+    assertSame(player, request.getPlayer());
+    assertSame(request.getClass(), copy.getClass());
+    assertSame(request.getType(), copy.getType());
+  }
 }
@@ -0,0 +1,100 @@
+package io.github.notaphplover.catan.core.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class TimingWheelTest {
+
+  @DisplayName("It must run timeouts at their deadlines across levels")
+  @Tag(value = "TimingWheel")
+  @Test
+  public void itMustRunTimeoutsAtTheirDeadlinesAcrossLevels() throws NonNullInputException {
+
+    AtomicLong clock = new AtomicLong();
+
+    TimingWheel wheel = new TimingWheel(1L, TimeUnit.NANOSECONDS, clock::get);
+
+    long[] delays = new long[] {5L, 64L, 100L, 4096L, 5000L, 300000L};
+
+    List<Long> expirations = new ArrayList<Long>();
+
+    for (long delay : delays) {
+      wheel.schedule(() -> expirations.add(clock.get()), delay, TimeUnit.NANOSECONDS);
+    }
+
+    ITimeout cancelledTimeout =
+        wheel.schedule(() -> expirations.add(-1L), 70L, TimeUnit.NANOSECONDS);
+
+    assertTrue(cancelledTimeout.cancel());
+    assertFalse(cancelledTimeout.cancel());
+
+    for (long time = 1L; time <= 300000L; ++time) {
+      clock.set(time);
+      wheel.expireTimeouts();
+    }
+
+    assertEquals(delays.length, expirations.size());
+
+    for (int i = 0; i < delays.length; ++i) {
+      assertEquals(delays[i], expirations.get(i));
+    }
+
+    assertTrue(cancelledTimeout.isCancelled());
+  }
+
+  @DisplayName("It must run timeouts scheduled at the current tick")
+  @Tag(value = "TimingWheel")
+  @Test
+  public void itMustRunTimeoutsScheduledAtTheCurrentTick() throws NonNullInputException {
+
+    AtomicLong clock = new AtomicLong();
+
+    TimingWheel wheel = new TimingWheel(1L, TimeUnit.NANOSECONDS, clock::get);
+
+    List<Long> expirations = new ArrayList<Long>();
+
+    wheel.schedule(() -> expirations.add(clock.get()), 0L, TimeUnit.NANOSECONDS);
+
+    assertEquals(1, wheel.expireTimeouts());
+
+    clock.set(10L);
+    wheel.expireTimeouts();
+    wheel.schedule(() -> expirations.add(clock.get()), 0L, TimeUnit.NANOSECONDS);
+
+    assertEquals(1, wheel.expireTimeouts());
+    assertEquals(List.of(0L, 10L), expirations);
+  }
+
+  @DisplayName("It must run timeouts in the ticking thread")
+  @Tag(value = "TimingWheel")
+  @Test
+  public void itMustRunTimeoutsInTheTickingThread()
+      throws InterruptedException, NonNullInputException {
+
+    TimingWheel wheel = new TimingWheel(1L, TimeUnit.MILLISECONDS);
+
+    CountDownLatch latch = new CountDownLatch(1);
+
+    wheel.start();
+
+    try {
+      ITimeout timeout = wheel.schedule(latch::countDown, 5L, TimeUnit.MILLISECONDS);
+
+      assertTrue(latch.await(5L, TimeUnit.SECONDS));
+      assertTrue(timeout.isExpired());
+    } finally {
+      wheel.stop();
+    }
+  }
+}
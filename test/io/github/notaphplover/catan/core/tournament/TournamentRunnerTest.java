@@ -0,0 +1,62 @@
+package io.github.notaphplover.catan.core.tournament;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.github.notaphplover.catan.core.agent.RandomAgent;
+import io.github.notaphplover.catan.core.exception.NonNullInputException;
+import io.github.notaphplover.catan.core.exception.NonVoidCollectionException;
+import io.github.notaphplover.catan.core.game.CatanGameForTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+public class TournamentRunnerTest {
+
+  @DisplayName("It must play every game of the tournament")
+  @Tag(value = "TournamentRunner")
+  @Test
+  public void itMustPlayEveryGameOfTheTournament()
+      throws NonNullInputException, NonVoidCollectionException {
+
+    ITournamentSummary summary = new TournamentRunner(buildRunnerBuilder(7L)).run();
+
+    assertEquals(12, summary.getGames());
+    assertEquals(summary.getFinishedGames(), summary.getWins(0) + summary.getWins(1));
+    assertTrue(summary.getFinishedGames() > 0);
+    assertTrue(summary.getTotalRequests() > 0);
+    assertTrue(summary.getMinTurns() <= summary.getMaxTurns());
+  }
+
+  @DisplayName("It must play reproducible tournaments")
+  @Tag(value = "TournamentRunner")
+  @Test
+  public void itMustPlayReproducibleTournaments()
+      throws NonNullInputException, NonVoidCollectionException {
+
+    ITournamentSummary summary = new TournamentRunner(buildRunnerBuilder(11L)).run();
+    ITournamentSummary otherSummary =
+        new TournamentRunner(buildRunnerBuilder(11L).setParallelism(1)).run();
+
+    assertEquals(summary.getWins(0), otherSummary.getWins(0));
+    assertEquals(summary.getWins(1), otherSummary.getWins(1));
+    assertEquals(summary.getTotalRequests(), otherSummary.getTotalRequests());
+    assertEquals(summary.getTotalTurns(), otherSummary.getTotalTurns());
+  }
+
+  private ITournamentRunnerBuilder buildRunnerBuilder(long seed) {
+
+    IAgentFactory randomAgentFactory =
+        (player, game, requestSink, agentSeed) ->
+            new RandomAgent(player, game, requestSink, agentSeed);
+
+    return new TournamentRunnerBuilder()
+        .setAgentFactories(new IAgentFactory[] {randomAgentFactory, randomAgentFactory})
+        .setBoardSupplier(CatanGameForTest::buildProductiveBoard)
+        .setGames(12)
+        .setMaxRequests(5000)
+        .setParallelism(2)
+        .setPointsToWin(5)
+        .setSeed(seed);
+  }
+}